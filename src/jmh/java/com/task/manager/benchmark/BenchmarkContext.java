@@ -0,0 +1,103 @@
+package com.task.manager.benchmark;
+
+import java.net.URI;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import com.task.manager.ManagerApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Starts the application, by default without a web server, and with both data sources pointing at in-memory H2 databases,
+ * so benchmarks exercise the real service and repository stack without external infrastructure.
+ */
+public final class BenchmarkContext {
+
+    private static final String[] DEFAULT_PROPERTIES = {
+            "spring.datasource.main.url=jdbc:h2:mem:benchmark_main_db;DB_CLOSE_DELAY=-1",
+            "spring.datasource.backup.url=jdbc:h2:mem:benchmark_backup_db;DB_CLOSE_DELAY=-1",
+            "spring.datasource.backup.driver-class-name=org.h2.Driver",
+            "spring.datasource.backup.schema-location=classpath:schema-main.sql",
+            "logging.level.root=WARN"
+    };
+
+    private static final int SEED_BATCH_SIZE = 1_000_000;
+
+    private static final String SEED_TASKS_SQL = """
+            INSERT INTO task (id, title, description, status, assignee_id, created_at, updated_at, started_at, time_spent)
+            SELECT X, 'Task ' || X, 'Benchmark task',
+                   CASE MOD(X, 3) WHEN 0 THEN 'TODO' WHEN 1 THEN 'PAUSED' ELSE 'DONE' END,
+                   MOD(X, ?), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL, 0
+            FROM SYSTEM_RANGE(?, ?)
+            """;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @param properties additional application properties in {@code key=value} form, overriding the defaults
+     * @return running application context
+     */
+    public static ConfigurableApplicationContext start(final String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    /**
+     * Same as {@link #start(String...)} but with the embedded web server listening on a random port.
+     *
+     * @param properties additional application properties in {@code key=value} form, overriding the defaults
+     * @return running application context
+     */
+    public static ConfigurableApplicationContext startWebServer(final String... properties) {
+        return start(WebApplicationType.SERVLET, Stream.concat(Stream.of("server.port=0"), Stream.of(properties))
+                .toArray(String[]::new));
+    }
+
+    /**
+     * @param context application context started by {@link #startWebServer(String...)}
+     * @return base url of the task api
+     */
+    public static URI tasksUri(final ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/tasks");
+    }
+
+    private static ConfigurableApplicationContext start(final WebApplicationType webApplicationType,
+                                                        final String... properties) {
+        var args = Stream.concat(Stream.of(DEFAULT_PROPERTIES), Stream.of(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+
+        return new SpringApplicationBuilder(ManagerApplication.class)
+                .web(webApplicationType)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args);
+    }
+
+    /**
+     * @param context running application context
+     * @return JDBC template bound directly to the main data source
+     */
+    public static JdbcTemplate mainJdbcTemplate(final ConfigurableApplicationContext context) {
+        return new JdbcTemplate(context.getBean("mainDataSource", DataSource.class));
+    }
+
+    /**
+     * Inserts tasks with ids {@code 1..rows} spread evenly across {@code assignees} users, none of them in progress.
+     *
+     * @param jdbcTemplate template bound to the database to seed
+     * @param rows         number of tasks to insert
+     * @param assignees    number of distinct assignees
+     */
+    public static void seedTasks(final JdbcTemplate jdbcTemplate, final long rows, final long assignees) {
+        for (long from = 1; from <= rows; from += SEED_BATCH_SIZE) {
+            jdbcTemplate.update(SEED_TASKS_SQL, assignees, from, Math.min(rows, from + SEED_BATCH_SIZE - 1));
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE task_id_seq RESTART WITH " + (rows + 1));
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
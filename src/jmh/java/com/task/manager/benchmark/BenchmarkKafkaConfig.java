@@ -0,0 +1,25 @@
+package com.task.manager.benchmark;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.serializer.ToStringSerializer;
+
+/**
+ * Replaces the Kafka producer with an auto-completing mock so benchmarks keep the event serialization cost
+ * without needing a broker. Picked up by component scanning only when the benchmark sources are on the classpath.
+ */
+@Configuration
+public class BenchmarkKafkaConfig {
+
+    @Bean
+    public ProducerFactory<Object, Object> kafkaProducerFactory() {
+        var keySerializer = new ToStringSerializer<>();
+        var valueSerializer = new JsonSerializer<>();
+
+        return new MockProducerFactory<>(() -> new MockProducer<>(true, keySerializer, valueSerializer));
+    }
+}
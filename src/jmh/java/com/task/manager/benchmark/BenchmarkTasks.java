@@ -0,0 +1,35 @@
+package com.task.manager.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskStatus;
+
+public final class BenchmarkTasks {
+
+    private BenchmarkTasks() {
+    }
+
+    /**
+     * @param status    task status
+     * @param timeSpent time already accumulated by the task
+     * @param startedAt start of the current progress interval, or {@code null}
+     * @return detached task with all columns populated
+     */
+    public static Task task(final TaskStatus status, final Duration timeSpent, final Instant startedAt) {
+        var now = Instant.now();
+        var task = new Task();
+        task.setId(1L);
+        task.setAssigneeId(1L);
+        task.setTitle("Benchmark task");
+        task.setDescription("Benchmark task description");
+        task.setStatus(status);
+        task.setTimeSpent(timeSpent);
+        task.setStartedAt(startedAt);
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+
+        return task;
+    }
+}
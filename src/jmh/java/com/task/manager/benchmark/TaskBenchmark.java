@@ -0,0 +1,47 @@
+package com.task.manager.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskBenchmark {
+
+    private Task pausedTask;
+
+    private Task inProgressTask;
+
+    @Setup
+    public void setUp() {
+        pausedTask = BenchmarkTasks.task(TaskStatus.PAUSED, Duration.ofMinutes(95), null);
+        inProgressTask = BenchmarkTasks.task(TaskStatus.IN_PROGRESS, Duration.ofMinutes(95), Instant.now().minus(Duration.ofMinutes(30)));
+    }
+
+    @Benchmark
+    public Duration getCurrentTimeSpentOfPausedTask() {
+        return pausedTask.getCurrentTimeSpent();
+    }
+
+    @Benchmark
+    public Duration getCurrentTimeSpentOfInProgressTask() {
+        return inProgressTask.getCurrentTimeSpent();
+    }
+}
@@ -0,0 +1,94 @@
+package com.task.manager.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.mapper.TaskMapper;
+import com.task.manager.mapper.TaskMapperImpl;
+import com.task.manager.util.TimeSpentFormatter;
+import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskMapperBenchmark {
+
+    private static final int LIST_SIZE = 1000;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+
+    private Task todoTask;
+
+    private Task inProgressTask;
+
+    private List<Task> inProgressTasks;
+
+    @Setup
+    public void setUp() {
+        todoTask = BenchmarkTasks.task(TaskStatus.TODO, Duration.ofMinutes(95), null);
+        inProgressTask = BenchmarkTasks.task(TaskStatus.IN_PROGRESS, Duration.ofMinutes(95), Instant.now().minus(Duration.ofMinutes(30)));
+        inProgressTasks = new ArrayList<>(LIST_SIZE);
+
+        for (int index = 0; index < LIST_SIZE; index++) {
+            inProgressTasks.add(BenchmarkTasks.task(TaskStatus.IN_PROGRESS, Duration.ofMinutes(index),
+                    Instant.now().minus(Duration.ofSeconds(index))));
+        }
+    }
+
+    @Benchmark
+    public TaskDto fromTodoTask() {
+        return taskMapper.fromTask(todoTask);
+    }
+
+    @Benchmark
+    public TaskDto fromInProgressTask() {
+        return taskMapper.fromTask(inProgressTask);
+    }
+
+    /**
+     * Time spent the way the mapper computed it before, baseline for {@link #mapTimeSpent()}.
+     */
+    @Benchmark
+    public String mapTimeSpentWithDurationFormatUtils() {
+        return DurationFormatUtils.formatDuration(inProgressTask.getCurrentTimeSpent().toMillis(), "HH:mm:ss");
+    }
+
+    @Benchmark
+    public String mapTimeSpent() {
+        return TimeSpentFormatter.format(inProgressTask.getCurrentTimeSpentMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Clock read per task, the way a list was mapped before, baseline for {@link #fromInProgressTasksReadAtOnce()}.
+     */
+    @Benchmark
+    public List<TaskDto> fromInProgressTasksReadEach() {
+        return inProgressTasks.stream().map(taskMapper::fromTask).toList();
+    }
+
+    @Benchmark
+    public List<TaskDto> fromInProgressTasksReadAtOnce() {
+        var readAt = Instant.now();
+
+        return inProgressTasks.stream().map(task -> taskMapper.fromTask(task, readAt)).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.task.manager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.service.TaskPauseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Duration of one nightly pause run over a table where every task is in progress.
+ * Every task has its own assignee, since an assignee can have only one task in progress,
+ * and all tasks are put back in progress before each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class TaskPauseBenchmark {
+
+    @Param({"100000", "1000000"})
+    private long rows;
+
+    private ConfigurableApplicationContext context;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskPauseService taskPauseService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskPauseService = context.getBean(TaskPauseService.class);
+        jdbcTemplate = BenchmarkContext.mainJdbcTemplate(context);
+
+        BenchmarkContext.seedTasks(jdbcTemplate, rows, rows);
+    }
+
+    @Setup(Level.Iteration)
+    public void startAllTasks() {
+        jdbcTemplate.update("UPDATE task SET status = 'IN_PROGRESS', started_at = DATEADD(MINUTE, -30, LOCALTIMESTAMP)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long pauseInProgressTasks() {
+        return taskPauseService.pauseInProgressTasks();
+    }
+}
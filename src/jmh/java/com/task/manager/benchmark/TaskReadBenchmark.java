@@ -0,0 +1,116 @@
+package com.task.manager.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.domain.Task;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.mapper.TaskMapper;
+import com.task.manager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rows read per second by a task page read through managed entities and through constructor projections. Run with
+ * {@code -Djmh.args="TaskReadBenchmark -prof gc"} to get the bytes allocated per row as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskReadBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final Pageable PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    private static final String TASKS_PAGE_QUERY = "SELECT t FROM Task t WHERE t.id > :afterId ORDER BY t.id";
+
+    @Param({"0", "50000"})
+    private long afterId;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskRepository taskRepository;
+
+    private EntityManager entityManager;
+
+    private TaskMapper taskMapper;
+
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        taskMapper = context.getBean(TaskMapper.class);
+        readOnlyTransactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        BenchmarkContext.seedTasks(BenchmarkContext.mainJdbcTemplate(context), ROWS, ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Page read through managed entities the way it was before, baseline for {@link #readViewsPage()}. The query lives
+     * here since the application no longer reads task pages this way.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<TaskDto> readEntitiesPage() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            var readAt = Instant.now();
+
+            return entityManager.createQuery(TASKS_PAGE_QUERY, Task.class)
+                    .setParameter("afterId", afterId)
+                    .setMaxResults(PAGE_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()
+                    .map(task -> taskMapper.fromTask(task, readAt))
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<TaskDto> readViewsPage() {
+        return readOnlyTransactionTemplate.execute(status -> {
+            var readAt = Instant.now();
+
+            return taskRepository.findTaskViewsPage(afterId, null, null, null, null, null, null, PAGE).stream()
+                    .map(taskView -> taskMapper.fromTaskView(taskView, readAt))
+                    .toList();
+        });
+    }
+}
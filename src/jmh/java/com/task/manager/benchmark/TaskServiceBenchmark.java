@@ -0,0 +1,84 @@
+package com.task.manager.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import com.task.manager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Latency of the single task write paths of {@link TaskService} against the embedded H2 main database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TaskServiceBenchmark {
+
+    private static final long TASKS_PER_ASSIGNEE = 10;
+
+    @Param({"100000"})
+    private long rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private Long inProgressTaskId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+
+        BenchmarkContext.seedTasks(BenchmarkContext.mainJdbcTemplate(context), rows, rows / TASKS_PER_ASSIGNEE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createTask() {
+        var createTaskDto = new CreateTaskDto();
+        createTaskDto.setAssigneeId(ThreadLocalRandom.current().nextLong(1, rows / TASKS_PER_ASSIGNEE));
+        createTaskDto.setTitle("Benchmark task");
+        createTaskDto.setDescription("Benchmark task description");
+
+        return taskService.createTask(createTaskDto);
+    }
+
+    @Benchmark
+    public void updateTaskStatus() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+
+        if (inProgressTaskId == null) {
+            inProgressTaskId = ThreadLocalRandom.current().nextLong(1, rows + 1);
+            updateTaskStatusDto.setStatus(TaskStatus.IN_PROGRESS);
+            taskService.updateTaskStatus(inProgressTaskId, updateTaskStatusDto);
+        } else {
+            updateTaskStatusDto.setStatus(TaskStatus.PAUSED);
+            taskService.updateTaskStatus(inProgressTaskId, updateTaskStatusDto);
+            inProgressTaskId = null;
+        }
+    }
+}
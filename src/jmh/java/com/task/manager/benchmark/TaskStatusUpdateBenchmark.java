@@ -0,0 +1,84 @@
+package com.task.manager.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import com.task.manager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * p99 latency of {@link TaskService#updateTaskStatus} with and without the task indexes.
+ * Each invocation either starts a random task or pauses the task started by the previous one,
+ * so the in-progress lookup by assignee is part of every other call.
+ * The 10M rows run needs around 8 GB of heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class TaskStatusUpdateBenchmark {
+
+    private static final long TASKS_PER_ASSIGNEE = 10;
+
+    @Param({"1000000", "10000000"})
+    private long rows;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private Long inProgressTaskId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+
+        var jdbcTemplate = BenchmarkContext.mainJdbcTemplate(context);
+        if (!indexed) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_task_assignee_id_status");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_task_status_id");
+        }
+        BenchmarkContext.seedTasks(jdbcTemplate, rows, rows / TASKS_PER_ASSIGNEE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void updateTaskStatus() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+
+        if (inProgressTaskId == null) {
+            inProgressTaskId = ThreadLocalRandom.current().nextLong(1, rows + 1);
+            updateTaskStatusDto.setStatus(TaskStatus.IN_PROGRESS);
+            taskService.updateTaskStatus(inProgressTaskId, updateTaskStatusDto);
+        } else {
+            updateTaskStatusDto.setStatus(TaskStatus.PAUSED);
+            taskService.updateTaskStatus(inProgressTaskId, updateTaskStatusDto);
+            inProgressTaskId = null;
+        }
+    }
+}
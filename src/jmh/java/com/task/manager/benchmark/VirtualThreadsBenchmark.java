@@ -0,0 +1,123 @@
+package com.task.manager.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Throughput of the task listing endpoint over HTTP with requests handled on Tomcat's platform thread pool
+ * versus virtual threads. The client runs more concurrent requests than the platform pool has threads,
+ * so the platform mode queues in Tomcat while the virtual mode queues on the connection pool.
+ * Peak thread count and used memory of the whole benchmark JVM are reported as secondary results of every iteration,
+ * run with {@code -prof gc} for allocation rates. The virtual mode only differs from the platform one on Java 21+.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(400)
+public class VirtualThreadsBenchmark {
+
+    private static final long TASKS_PER_ASSIGNEE = 10;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"100000"})
+    private long rows;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private URI tasksUri;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.startWebServer("spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.main.pool.connection-timeout=30s");
+        httpClient = HttpClient.newHttpClient();
+        tasksUri = BenchmarkContext.tasksUri(context);
+
+        BenchmarkContext.seedTasks(BenchmarkContext.mainJdbcTemplate(context), rows, rows / TASKS_PER_ASSIGNEE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getTasks(final JvmCounters jvmCounters) throws Exception {
+        var assigneeId = ThreadLocalRandom.current().nextLong(rows / TASKS_PER_ASSIGNEE);
+        var request = HttpRequest.newBuilder(URI.create(tasksUri + "?assigneeId=" + assigneeId + "&limit=" + PAGE_SIZE))
+                .GET()
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * JMH zeroes the counters before every iteration and sums them over the benchmark threads, so only the first
+     * thread samples the JVM wide values once the iteration ends and the others report zero.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class JvmCounters {
+
+        public long peakThreads;
+
+        public long heapUsedMb;
+
+        public long nonHeapUsedMb;
+
+        private boolean sampling;
+
+        @Setup(Level.Trial)
+        public void setUp(final ThreadParams threadParams) {
+            sampling = threadParams.getThreadIndex() == 0;
+        }
+
+        @Setup(Level.Iteration)
+        public void resetPeakThreads() {
+            if (sampling) {
+                ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void sample() {
+            if (sampling) {
+                var memory = ManagementFactory.getMemoryMXBean();
+                peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+                heapUsedMb = memory.getHeapMemoryUsage().getUsed() >> 20;
+                nonHeapUsedMb = memory.getNonHeapMemoryUsage().getUsed() >> 20;
+            }
+        }
+    }
+}
@@ -1,30 +1,185 @@
 package com.task.manager.aop;
 
+import java.util.Optional;
+
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.util.DataAccessExceptionClassifier;
 import com.task.manager.util.DataSourceContext;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Log4j2
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class DataSourceFailoverAspect {
 
+    /**
+     * Transaction resource holding the pin of the data source the current transaction's connection is bound to.
+     */
+    private static final Object TRANSACTION_DATA_SOURCE_KEY = new Object();
+
+    private final DataSourceRoutingService dataSourceRoutingService;
+
+    private final DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    private final DataSourceMetricsService dataSourceMetricsService;
+
     @Around("execution(* com.task.manager.repository..*(..))")
     public Object handleDataSourceFailover(ProceedingJoinPoint joinPoint) throws Throwable {
-        try {
+        if (DataSourceContext.getCurrentDataSourceKey() != null) {
             return joinPoint.proceed();
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return proceedInTransaction(joinPoint);
+        }
+
+        var dataSourceKey = dataSourceRoutingService.selectDataSourceKey();
+        DataSourceContext.setCurrentDataSourceKey(dataSourceKey);
+
+        try {
+            return proceed(joinPoint, dataSourceKey);
         } catch (DataAccessException exc) {
-            log.error("Main data source failed, switching to backup: ", exc);
+            var failoverKey = DataAccessExceptionClassifier.isTransient(exc)
+                    ? dataSourceRoutingService.selectFailoverKey(dataSourceKey)
+                    : Optional.<String>empty();
 
-            DataSourceContext.switchDataSourceToBackup();
+            if (failoverKey.isEmpty()) {
+                throw exc;
+            }
 
-            return joinPoint.proceed();
+            log.warn("{} data source failed, retrying on {}: {}", dataSourceKey, failoverKey.get(), exc.getMessage());
+            DataSourceContext.setCurrentDataSourceKey(failoverKey.get());
+
+            return retry(joinPoint, failoverKey.get());
+        } finally {
+            DataSourceContext.clear();
+        }
+    }
+
+    /**
+     * A transaction keeps the connection it bound on its first statement until it completes, so a retry could not
+     * switch data sources and its outcome would be recorded against the wrong breaker. The data source is therefore
+     * selected once, before the first call of the transaction binds a connection, every later call of the
+     * transaction is routed and recorded against it, and a failure is left to the caller to retry as a whole.
+     */
+    private Object proceedInTransaction(final ProceedingJoinPoint joinPoint) throws Throwable {
+        var dataSourceKey = getTransactionDataSourceKey();
+
+        DataSourceContext.setCurrentDataSourceKey(dataSourceKey);
+
+        try {
+            return proceed(joinPoint, dataSourceKey);
         } finally {
             DataSourceContext.clear();
         }
     }
+
+    /**
+     * A transaction started with {@code REQUIRES_NEW} suspends the synchronizations of the outer one, which unbinds
+     * the outer pin until the outer transaction resumes, so the inner transaction selects a data source for its own
+     * read-only flag instead of inheriting one picked for the outer transaction, possibly a replica.
+     */
+    private String getTransactionDataSourceKey() {
+        var readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        var pin = (TransactionPin) TransactionSynchronizationManager.getResource(TRANSACTION_DATA_SOURCE_KEY);
+
+        if (pin != null && pin.readOnly == readOnly) {
+            return pin.dataSourceKey;
+        }
+
+        var dataSourceKey = dataSourceRoutingService.selectDataSourceKey();
+
+        if (pin != null) {
+            pin.pin(dataSourceKey, readOnly);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin = new TransactionPin(dataSourceKey, readOnly);
+            TransactionSynchronizationManager.bindResource(TRANSACTION_DATA_SOURCE_KEY, pin);
+            TransactionSynchronizationManager.registerSynchronization(pin);
+        }
+
+        return dataSourceKey;
+    }
+
+    private Object retry(final ProceedingJoinPoint joinPoint, final String dataSourceKey) throws Throwable {
+        var success = false;
+
+        try {
+            var result = proceed(joinPoint, dataSourceKey);
+            success = true;
+
+            return result;
+        } finally {
+            dataSourceMetricsService.recordRetry(success);
+        }
+    }
+
+    private Object proceed(final ProceedingJoinPoint joinPoint, final String dataSourceKey) throws Throwable {
+        var start = System.nanoTime();
+        var success = false;
+
+        try {
+            var result = joinPoint.proceed();
+            success = true;
+            dataSourceCircuitBreakerService.recordSuccess(dataSourceKey);
+
+            return result;
+        } catch (DataAccessException exc) {
+            if (DataAccessExceptionClassifier.isTransient(exc)) {
+                dataSourceCircuitBreakerService.recordFailure(dataSourceKey);
+            } else {
+                dataSourceCircuitBreakerService.recordSuccess(dataSourceKey);
+            }
+
+            throw exc;
+        } finally {
+            var durationNanos = System.nanoTime() - start;
+            dataSourceRoutingService.recordLatency(dataSourceKey, durationNanos);
+            dataSourceMetricsService.recordQuery(dataSourceKey, durationNanos, success);
+        }
+    }
+
+    /**
+     * Data source selected for a transaction, unbound while the transaction is suspended and once it completes.
+     */
+    private static final class TransactionPin implements TransactionSynchronization {
+
+        private String dataSourceKey;
+
+        private boolean readOnly;
+
+        private TransactionPin(final String dataSourceKey, final boolean readOnly) {
+            pin(dataSourceKey, readOnly);
+        }
+
+        private void pin(final String dataSourceKey, final boolean readOnly) {
+            this.dataSourceKey = dataSourceKey;
+            this.readOnly = readOnly;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_DATA_SOURCE_KEY);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_DATA_SOURCE_KEY, this);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_DATA_SOURCE_KEY);
+        }
+    }
 }
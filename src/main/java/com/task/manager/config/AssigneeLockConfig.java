@@ -0,0 +1,10 @@
+package com.task.manager.config;
+
+import com.task.manager.config.properties.AssigneeLockProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AssigneeLockProperties.class)
+public class AssigneeLockConfig {
+}
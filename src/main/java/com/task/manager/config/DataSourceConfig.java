@@ -1,65 +1,105 @@
 package com.task.manager.config;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
 import com.task.manager.config.properties.CustomDataSourceProperties;
+import com.task.manager.config.properties.DataSourceCircuitBreakerProperties;
+import com.task.manager.config.properties.ReadReplicaProperties;
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.datasource.init.DataSourceInitializer;
 import org.springframework.jdbc.datasource.init.DatabasePopulator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 
+@Log4j2
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(CustomDataSourceProperties.class)
+@EnableConfigurationProperties({CustomDataSourceProperties.class, DataSourceCircuitBreakerProperties.class, ReadReplicaProperties.class})
 public class DataSourceConfig {
 
     private static final String MAIN = "main";
     private static final String BACKUP = "backup";
+    private static final String REPLICA_PREFIX = "replica-";
+    private static final Map<String, String> STATEMENT_CACHE_SIZE_PROPERTIES = Map.of(
+            "org.postgresql.Driver", "preparedStatementCacheQueries",
+            "org.h2.Driver", "QUERY_CACHE_SIZE");
 
     private final CustomDataSourceProperties dataSourceProperties;
 
+    private final ResourceLoader resourceLoader;
+
     @Bean
     @Qualifier("mainDataSource")
-    public DataSource mainDataSource() {
-        return DataSourceBuilder.create()
-                .url(dataSourceProperties.getMain().getUrl())
-                .driverClassName(dataSourceProperties.getMain().getDriverClassName())
-                .username(dataSourceProperties.getMain().getUsername())
-                .password(dataSourceProperties.getMain().getPassword())
-                .build();
+    public HikariDataSource mainDataSource() {
+        return createDataSource(MAIN, dataSourceProperties.getMain());
     }
 
     @Bean
     @Qualifier("backupDataSource")
-    public DataSource backupDataSource() {
-        return DataSourceBuilder.create()
-                .url(dataSourceProperties.getBackup().getUrl())
-                .driverClassName(dataSourceProperties.getBackup().getDriverClassName())
-                .username(dataSourceProperties.getBackup().getUsername())
-                .password(dataSourceProperties.getBackup().getPassword())
-                .build();
+    public HikariDataSource backupDataSource() {
+        return createDataSource(BACKUP, dataSourceProperties.getBackup());
     }
 
     @Bean
-    @Primary
-    public DataSource routingDataSource(@Qualifier("mainDataSource") DataSource mainDataSource,
-            @Qualifier("backupDataSource") DataSource backupDataSource) {
-        RoutingDataSource routingDataSource = new RoutingDataSource();
-        routingDataSource.setTargetDataSources(Map.of(MAIN, mainDataSource, BACKUP, backupDataSource));
+    public ReplicaDataSources replicaDataSources(MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> replicaDataSources = new LinkedHashMap<>();
+        List<CustomDataSourceProperties.Target> replicas = dataSourceProperties.getReplicas();
+
+        for (int index = 0; index < replicas.size(); index++) {
+            HikariDataSource replicaDataSource = createDataSource(REPLICA_PREFIX + index, replicas.get(index));
+            replicaDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicaDataSources.put(replicaDataSource.getPoolName(), replicaDataSource);
+        }
+
+        return new ReplicaDataSources(replicaDataSources);
+    }
+
+    @Bean
+    public RoutingDataSource routingDataSource(@Qualifier("mainDataSource") DataSource mainDataSource,
+            @Qualifier("backupDataSource") DataSource backupDataSource, ReplicaDataSources replicaDataSources,
+            DataSourceRoutingService dataSourceRoutingService, DataSourceMetricsService dataSourceMetricsService) {
+        Map<Object, Object> targetDataSources = new HashMap<>(replicaDataSources.getDataSources());
+        targetDataSources.put(MAIN, mainDataSource);
+        targetDataSources.put(BACKUP, backupDataSource);
+
+        RoutingDataSource routingDataSource = new RoutingDataSource(dataSourceRoutingService, dataSourceMetricsService);
+        routingDataSource.setTargetDataSources(targetDataSources);
         routingDataSource.setDefaultTargetDataSource(mainDataSource);
 
         return routingDataSource;
     }
 
+    /**
+     * Defers taking a physical connection until the first statement, so routing sees whether the transaction is read
+     * only and which data source the repository call was pinned to.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
     @Bean
     public DataSourceInitializer mainDataSourceInitializer(@Qualifier("mainDataSource") DataSource mainDataSource) {
         DataSourceInitializer initializer = new DataSourceInitializer();
@@ -71,7 +111,7 @@ public class DataSourceConfig {
 
     private DatabasePopulator mainDatabasePopulator() {
         ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
-        populator.addScript(new ClassPathResource("schema-main.sql"));
+        populator.addScript(resourceLoader.getResource(dataSourceProperties.getMain().getSchemaLocation()));
 
         return populator;
     }
@@ -87,8 +127,69 @@ public class DataSourceConfig {
 
     private DatabasePopulator backupDatabasePopulator() {
         ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
-        populator.addScript(new ClassPathResource("schema-backup.sql"));
+        populator.addScript(resourceLoader.getResource(dataSourceProperties.getBackup().getSchemaLocation()));
 
         return populator;
     }
+
+    private HikariDataSource createDataSource(final String name, final CustomDataSourceProperties.Target properties) {
+        var pool = properties.getPool();
+
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .driverClassName(properties.getDriverClassName())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(pool.getMaxSize());
+        dataSource.setMinimumIdle(Math.min(pool.getMinIdle(), pool.getMaxSize()));
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        dataSource.setValidationTimeout(pool.getValidationTimeout().toMillis());
+        dataSource.setKeepaliveTime(pool.getKeepaliveTime().toMillis());
+        dataSource.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(pool.getMaxLifetime().toMillis());
+        dataSource.setLeakDetectionThreshold(pool.getLeakDetectionThreshold().toMillis());
+
+        var statementCacheSizeProperty = STATEMENT_CACHE_SIZE_PROPERTIES.get(properties.getDriverClassName());
+        if (pool.getStatementCacheSize() > 0 && statementCacheSizeProperty != null) {
+            dataSource.addDataSourceProperty(statementCacheSizeProperty, String.valueOf(pool.getStatementCacheSize()));
+        }
+        pool.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
+
+        if (pool.isWarmUp()) {
+            warmUp(dataSource);
+        }
+
+        return dataSource;
+    }
+
+    /**
+     * The first connection also starts the pool, which reports some failures, like a driver rejecting the url, as
+     * runtime exceptions. Either way the pool is left to be started by the first request instead of failing startup.
+     */
+    private void warmUp(final HikariDataSource dataSource) {
+        List<Connection> connections = new ArrayList<>();
+
+        try {
+            while (connections.size() < dataSource.getMinimumIdle()) {
+                connections.add(dataSource.getConnection());
+            }
+
+            log.info("Warmed up {} connections of {} pool", connections.size(), dataSource.getPoolName());
+        } catch (SQLException | RuntimeException exc) {
+            log.warn("Failed to warm up {} pool, connections will be opened on demand: ", dataSource.getPoolName(), exc);
+        } finally {
+            connections.forEach(this::close);
+        }
+    }
+
+    private void close(final Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException exc) {
+            log.warn("Failed to return warm up connection to the pool: ", exc);
+        }
+    }
 }
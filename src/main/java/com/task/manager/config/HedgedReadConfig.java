@@ -0,0 +1,25 @@
+package com.task.manager.config;
+
+import com.task.manager.config.properties.HedgedReadProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableConfigurationProperties(HedgedReadProperties.class)
+public class HedgedReadConfig {
+
+    private static final String THREAD_NAME_PREFIX = "task-hedged-read";
+
+    /**
+     * Runs both the primary and the hedged attempt of a read, so the caller can return with whichever answers first
+     * while the other one is still blocked on JDBC.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler hedgedReadScheduler(final HedgedReadProperties hedgedReadProperties) {
+        return Schedulers.newBoundedElastic(hedgedReadProperties.getThreads(), hedgedReadProperties.getQueuedCalls(),
+                THREAD_NAME_PREFIX);
+    }
+}
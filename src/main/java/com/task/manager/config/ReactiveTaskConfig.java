@@ -0,0 +1,25 @@
+package com.task.manager.config;
+
+import com.task.manager.config.properties.ReactiveTaskProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableConfigurationProperties(ReactiveTaskProperties.class)
+public class ReactiveTaskConfig {
+
+    private static final String THREAD_NAME_PREFIX = "task-reactive";
+
+    /**
+     * The only threads the reactive api blocks on JDBC with, sized to the connection pool, so a burst of requests
+     * waits in a bounded queue instead of holding a thread each.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler reactiveTaskScheduler(final ReactiveTaskProperties reactiveTaskProperties) {
+        return Schedulers.newBoundedElastic(reactiveTaskProperties.getThreads(), reactiveTaskProperties.getQueuedCalls(),
+                THREAD_NAME_PREFIX);
+    }
+}
@@ -0,0 +1,22 @@
+package com.task.manager.config;
+
+import java.util.Map;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pools of the read replicas keyed by their lookup keys, in configuration order.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> dataSources;
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
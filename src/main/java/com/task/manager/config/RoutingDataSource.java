@@ -1,12 +1,56 @@
 package com.task.manager.config;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.service.DataSourceRoutingService;
 import com.task.manager.util.DataSourceContext;
+import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
+@RequiredArgsConstructor
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
+    private final DataSourceRoutingService dataSourceRoutingService;
+
+    private final DataSourceMetricsService dataSourceMetricsService;
+
     @Override
     protected Object determineCurrentLookupKey() {
-        return DataSourceContext.getCurrentDataSourceKey();
+        var dataSourceKey = DataSourceContext.getCurrentDataSourceKey();
+
+        return dataSourceKey != null ? dataSourceKey : dataSourceRoutingService.selectDataSourceKey();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return acquireConnection(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return acquireConnection(() -> super.getConnection(username, password));
+    }
+
+    private Connection acquireConnection(final ConnectionSupplier connectionSupplier) throws SQLException {
+        var dataSourceKey = String.valueOf(determineCurrentLookupKey());
+        var start = System.nanoTime();
+        var success = false;
+
+        try {
+            var connection = connectionSupplier.get();
+            success = true;
+
+            return connection;
+        } finally {
+            dataSourceMetricsService.recordConnectionAcquire(dataSourceKey, System.nanoTime() - start, success);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
     }
 }
@@ -0,0 +1,10 @@
+package com.task.manager.config;
+
+import com.task.manager.config.properties.TaskChangeFeedProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TaskChangeFeedProperties.class)
+public class TaskChangeFeedConfig {
+}
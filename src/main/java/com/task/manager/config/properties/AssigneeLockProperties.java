@@ -0,0 +1,28 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.assignee-lock")
+public class AssigneeLockProperties {
+
+    /**
+     * Number of locks the assignees are spread over, rounded up to a power of two.
+     */
+    @Min(1)
+    private int stripes = 1024;
+
+    /**
+     * How long a transition waits for the lock of its assignee before going ahead without it,
+     * the database still rejects a second task in progress.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,20 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.assignee-summary")
+public class AssigneeSummaryProperties {
+
+    /**
+     * How often the summaries are rebuilt from the task table, bounds drift caused by changes made outside this instance.
+     */
+    @NotNull
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+}
@@ -1,8 +1,18 @@
 package com.task.manager.config.properties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -17,8 +27,15 @@ public class CustomDataSourceProperties {
     @NotNull
     private DataSource backup;
 
+    /**
+     * Read replicas of the main data source, read only transactions are routed to them.
+     */
+    @Valid
+    @NotNull
+    private List<Target> replicas = new ArrayList<>();
+
     @Data
-    public static class DataSource {
+    public static class Target {
 
         @NotBlank
         private String url;
@@ -31,5 +48,87 @@ public class CustomDataSourceProperties {
 
         @NotBlank
         private String password;
+
+        @Valid
+        @NotNull
+        private Pool pool = new Pool();
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class DataSource extends Target {
+
+        @NotBlank
+        private String schemaLocation;
+    }
+
+    @Data
+    public static class Pool {
+
+        /**
+         * Max number of connections in the pool, both idle and in use.
+         */
+        @Min(1)
+        private int maxSize = 10;
+
+        /**
+         * Min number of idle connections kept open, the same value as max size keeps the pool at a fixed size.
+         */
+        @Min(0)
+        private int minIdle = 10;
+
+        /**
+         * Max time to wait for a connection from the pool before failing, bounds how long a failover waits for a dead pool.
+         */
+        @NotNull
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Max time to wait for a connection to be validated as alive, must be less than the connection timeout.
+         */
+        @NotNull
+        private Duration validationTimeout = Duration.ofSeconds(5);
+
+        /**
+         * How often idle connections are validated to keep them from being dropped by the database or network, zero disables it.
+         */
+        @NotNull
+        private Duration keepaliveTime = Duration.ZERO;
+
+        /**
+         * Max time a connection may stay idle above min idle before it is closed.
+         */
+        @NotNull
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * Max lifetime of a connection, should be shorter than any connection time limit of the database.
+         */
+        @NotNull
+        private Duration maxLifetime = Duration.ofMinutes(30);
+
+        /**
+         * Time a connection may be out of the pool before a possible leak is logged, zero disables it.
+         */
+        @NotNull
+        private Duration leakDetectionThreshold = Duration.ZERO;
+
+        /**
+         * Number of prepared statements cached per connection by the driver, zero keeps the driver default.
+         */
+        @Min(0)
+        private int statementCacheSize;
+
+        /**
+         * Whether to open min idle connections on startup, so the first requests routed to the pool do not pay for them.
+         */
+        private boolean warmUp = true;
+
+        /**
+         * Additional driver specific connection properties.
+         */
+        @NotNull
+        private Map<String, String> dataSourceProperties = new HashMap<>();
     }
 }
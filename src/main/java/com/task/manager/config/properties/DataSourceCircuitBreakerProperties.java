@@ -0,0 +1,72 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.datasource.circuit-breaker")
+public class DataSourceCircuitBreakerProperties {
+
+    /**
+     * Percentage of failed calls within the window that opens the circuit.
+     */
+    @Min(1)
+    @Max(100)
+    private int failureRateThreshold = 50;
+
+    /**
+     * Min number of calls within the window before the failure rate is evaluated.
+     */
+    @Min(1)
+    private int minimumCalls = 10;
+
+    /**
+     * Length of the sliding window the failure rate is computed over.
+     */
+    @NotNull
+    private Duration window = Duration.ofSeconds(10);
+
+    /**
+     * Number of buckets the window is split into, old calls are forgotten one bucket at a time.
+     */
+    @Min(1)
+    private int windowBuckets = 10;
+
+    /**
+     * How long the circuit stays open before the data source is probed for the first time.
+     */
+    @NotNull
+    private Duration openDuration = Duration.ofSeconds(5);
+
+    /**
+     * Factor the open duration is multiplied by after every failed probe.
+     */
+    @DecimalMin("1.0")
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Upper bound of the open duration.
+     */
+    @NotNull
+    private Duration maxOpenDuration = Duration.ofMinutes(2);
+
+    /**
+     * How often open circuits are checked for a due probe.
+     */
+    @NotNull
+    private Duration probeInterval = Duration.ofSeconds(1);
+
+    /**
+     * Max time a probe waits for the database to validate a connection.
+     */
+    @NotNull
+    private Duration validationTimeout = Duration.ofSeconds(1);
+}
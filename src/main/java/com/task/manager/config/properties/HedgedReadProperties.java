@@ -0,0 +1,66 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.hedged-read")
+public class HedgedReadProperties {
+
+    /**
+     * Whether reads not answered by the primary within the hedge delay are sent to backup as well.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Percentile of the primary read latency a read waits for before it is hedged.
+     */
+    @DecimalMin("0.5")
+    @DecimalMax("0.999")
+    private double percentile = 0.95;
+
+    /**
+     * Lower bound of the hedge delay, keeps a fast primary from being hedged on noise.
+     */
+    @NotNull
+    private Duration minDelay = Duration.ofMillis(5);
+
+    /**
+     * Upper bound of the hedge delay, applies while the primary latency is not known yet.
+     */
+    @NotNull
+    private Duration maxDelay = Duration.ofMillis(200);
+
+    /**
+     * Max share of reads that may be hedged, so a degraded primary does not double the load of backup.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double budgetRatio = 0.05;
+
+    /**
+     * Max number of hedges saved up by quiet periods and spent in a burst.
+     */
+    @Min(1)
+    private int budgetBurst = 10;
+
+    /**
+     * Max number of threads running hedged reads, should not exceed the connection pool size.
+     */
+    @Min(1)
+    private int threads = 10;
+
+    /**
+     * Max number of reads waiting for a thread, further reads run unhedged on the calling thread.
+     */
+    @Min(1)
+    private int queuedCalls = 1000;
+}
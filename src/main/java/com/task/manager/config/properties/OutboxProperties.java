@@ -0,0 +1,45 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.outbox")
+public class OutboxProperties {
+
+    /**
+     * Delay between the end of one relay run and the start of the next one.
+     */
+    @NotNull
+    private Duration linger = Duration.ofMillis(200);
+
+    /**
+     * Max number of events read and published together.
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    /**
+     * How long the relay waits for a batch to be acknowledged before retrying the unacknowledged events.
+     */
+    @NotNull
+    private Duration publishTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Number of failed publish attempts after which an event is parked, so it no longer holds back later events.
+     */
+    @Min(1)
+    private int maxAttempts = 10;
+
+    /**
+     * Publisher used by the relay, either kafka or in-memory.
+     */
+    @NotNull
+    private String publisher = "kafka";
+}
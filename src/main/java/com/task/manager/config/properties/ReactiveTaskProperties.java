@@ -0,0 +1,32 @@
+package com.task.manager.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.reactive")
+public class ReactiveTaskProperties {
+
+    /**
+     * Max number of threads running database calls of the reactive api, should not exceed the connection pool size.
+     */
+    @Min(1)
+    private int threads = 10;
+
+    /**
+     * Max number of calls waiting for a thread, further calls are rejected with service unavailable.
+     */
+    @Min(1)
+    private int queuedCalls = 10_000;
+
+    /**
+     * Number of tasks read per query while streaming tasks, bounds the memory held by every stream.
+     */
+    @Min(1)
+    @Max(500)
+    private int pageSize = 100;
+}
@@ -0,0 +1,30 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    public enum Selection {
+        ROUND_ROBIN, LEAST_LATENCY
+    }
+
+    /**
+     * How a replica is chosen for a read only transaction.
+     */
+    @NotNull
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * How long reads of a client stay on the primary after its last write, should exceed the replication lag.
+     */
+    @NotNull
+    private Duration stickiness = Duration.ofSeconds(5);
+}
@@ -0,0 +1,27 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.cache")
+public class TaskCacheProperties {
+
+    /**
+     * Max number of tasks kept in the cache, the least recently used ones are evicted first.
+     */
+    @Min(1)
+    private long maxSize = 10_000;
+
+    /**
+     * How long a task stays in the cache after it was loaded, bounds staleness for changes made outside this instance.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(30);
+}
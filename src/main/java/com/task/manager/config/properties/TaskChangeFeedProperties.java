@@ -0,0 +1,28 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.change-feed")
+public class TaskChangeFeedProperties {
+
+    /**
+     * Number of latest events kept for reconnecting clients, also the most events a slow client can fall behind
+     * before its stream is closed.
+     */
+    @Min(1)
+    private int replaySize = 10_000;
+
+    /**
+     * How often a comment is sent on an idle stream, so proxies do not close it.
+     */
+    @NotNull
+    private Duration heartbeat = Duration.ofSeconds(15);
+}
@@ -0,0 +1,30 @@
+package com.task.manager.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.pause-job")
+public class TaskPauseJobProperties {
+
+    /**
+     * Number of disjoint id ranges the in progress tasks are split into.
+     */
+    @Min(1)
+    private int partitions = 4;
+
+    /**
+     * Number of partitions processed in parallel, should not exceed the connection pool size.
+     */
+    @Min(1)
+    private int threads = 4;
+
+    /**
+     * Max number of tasks paused by a single update statement.
+     */
+    @Min(1)
+    private int chunkSize = 500;
+}
@@ -0,0 +1,40 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.replication")
+public class TaskReplicationProperties {
+
+    /**
+     * Whether task changes are copied between the main and the backup data sources.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between the end of one replication run and the start of the next one, bounds the replication lag of an
+     * idle relay.
+     */
+    @NotNull
+    private Duration linger = Duration.ofMillis(200);
+
+    /**
+     * Max number of logged changes read and applied to the other data source in one transaction.
+     */
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Number of failed attempts to apply a logged change after which it is parked, so a change the other data source
+     * keeps rejecting no longer holds back the changes logged after it.
+     */
+    @Min(1)
+    private int maxAttempts = 10;
+}
@@ -0,0 +1,35 @@
+package com.task.manager.config.properties;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "task.status-coalescing")
+public class TaskStatusCoalescingProperties {
+
+    /**
+     * Whether pauses and restarts of a task in progress are folded in memory and written together, instead of being
+     * written one by one.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Delay between the end of one write of the folded transitions and the start of the next one, bounds how long
+     * the store and other instances lag behind the transitions made on this instance.
+     */
+    @NotNull
+    private Duration window = Duration.ofMillis(200);
+
+    /**
+     * Max number of tasks with folded transitions waiting to be written, transitions of further tasks are written
+     * right away.
+     */
+    @Min(1)
+    private int maxPendingTasks = 10000;
+}
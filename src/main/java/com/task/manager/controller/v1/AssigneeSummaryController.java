@@ -0,0 +1,32 @@
+package com.task.manager.controller.v1;
+
+import java.util.List;
+
+import com.task.manager.controller.v1.api.AssigneeSummaryApi;
+import com.task.manager.dto.AssigneeSummaryDto;
+import com.task.manager.service.AssigneeSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/assignees")
+public class AssigneeSummaryController implements AssigneeSummaryApi {
+
+    private final AssigneeSummaryService assigneeSummaryService;
+
+    @Override
+    @GetMapping("/summary")
+    public List<AssigneeSummaryDto> getSummaries() {
+        return assigneeSummaryService.getSummaries();
+    }
+
+    @Override
+    @GetMapping("/{assigneeId}/summary")
+    public AssigneeSummaryDto getSummary(@PathVariable Long assigneeId) {
+        return assigneeSummaryService.getSummary(assigneeId);
+    }
+}
@@ -1,9 +1,16 @@
 package com.task.manager.controller.v1;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import com.task.manager.dto.ErrorDto;
+import com.task.manager.exception.TaskChangeFeedGapException;
+import com.task.manager.exception.TaskConflictException;
 import com.task.manager.exception.TaskInProgressException;
 import com.task.manager.exception.TaskNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,9 +24,37 @@ public class GlobalExceptionHandler {
         return new ErrorDto(exc.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(TaskConflictException.class)
+    public ErrorDto handleTaskConflictException(TaskConflictException exc) {
+        return new ErrorDto(exc.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ErrorDto handleOptimisticLockingFailureException(OptimisticLockingFailureException exc) {
+        return new ErrorDto("Task was changed concurrently, retry with its current state");
+    }
+
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(TaskNotFoundException.class)
     public ErrorDto handleTaskNotFoundException(TaskNotFoundException exc) {
         return new ErrorDto(exc.getMessage());
     }
+
+    /**
+     * The change feed only produces event streams, so the content type is set explicitly to skip content negotiation.
+     */
+    @ExceptionHandler(TaskChangeFeedGapException.class)
+    public ResponseEntity<ErrorDto> handleTaskChangeFeedGapException(TaskChangeFeedGapException exc) {
+        return ResponseEntity.status(HttpStatus.GONE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorDto(exc.getMessage()));
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ErrorDto handleRejectedExecutionException(RejectedExecutionException exc) {
+        return new ErrorDto(exc.getMessage());
+    }
 }
@@ -0,0 +1,100 @@
+package com.task.manager.controller.v1;
+
+import java.util.List;
+
+import com.task.manager.controller.v1.api.ReactiveTaskApi;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskIdDto;
+import com.task.manager.dto.UpdateTaskDto;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import com.task.manager.service.ReactiveTaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reactive/tasks")
+public class ReactiveTaskController implements ReactiveTaskApi {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    @Override
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<TaskIdDto> createTask(@RequestBody CreateTaskDto createTaskDto) {
+        return reactiveTaskService.createTask(createTaskDto).map(TaskIdDto::new);
+    }
+
+    @Override
+    @PostMapping("/bulk")
+    public Mono<List<BulkItemResultDto>> createTasks(@RequestBody List<CreateTaskDto> createTaskDtos) {
+        return reactiveTaskService.createTasks(createTaskDtos);
+    }
+
+    @Override
+    @DeleteMapping("/{taskId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTask(@PathVariable Long taskId) {
+        return reactiveTaskService.deleteTask(taskId);
+    }
+
+    @Override
+    @PostMapping("/bulk/delete")
+    public Mono<List<BulkItemResultDto>> deleteTasks(@RequestBody List<Long> taskIds) {
+        return reactiveTaskService.deleteTasks(taskIds);
+    }
+
+    @Override
+    @PutMapping("/{taskId}/status")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> updateTaskStatus(@PathVariable Long taskId, @RequestBody UpdateTaskStatusDto updateTaskStatusDto) {
+        return reactiveTaskService.updateTaskStatus(taskId, updateTaskStatusDto);
+    }
+
+    @Override
+    @PatchMapping("/{taskId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> updateTask(@PathVariable Long taskId, @RequestBody UpdateTaskDto updateTaskDto) {
+        return reactiveTaskService.updateTask(taskId, updateTaskDto);
+    }
+
+    @Override
+    @PatchMapping("/bulk")
+    public Mono<List<BulkItemResultDto>> updateTasks(@RequestBody List<BulkUpdateTaskDto> bulkUpdateTaskDtos) {
+        return reactiveTaskService.updateTasks(bulkUpdateTaskDtos);
+    }
+
+    @Override
+    @GetMapping("/{taskId}")
+    public Mono<TaskDto> getTask(@PathVariable Long taskId,
+                                 @RequestParam(defaultValue = "false") boolean includeTimeSpentMillis) {
+        return reactiveTaskService.getTask(taskId)
+                .map(taskDto -> TaskController.includeTimeSpentMillis(taskDto, includeTimeSpentMillis));
+    }
+
+    @Override
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDto> getTasks(TaskFilterDto taskFilterDto, @RequestParam(required = false) Long cursor,
+                                  @RequestParam(defaultValue = "false") boolean includeTimeSpentMillis) {
+        return reactiveTaskService.getTasks(taskFilterDto, cursor)
+                .map(taskDto -> TaskController.includeTimeSpentMillis(taskDto, includeTimeSpentMillis));
+    }
+}
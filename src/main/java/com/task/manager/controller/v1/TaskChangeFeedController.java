@@ -0,0 +1,44 @@
+package com.task.manager.controller.v1;
+
+import com.task.manager.config.properties.TaskChangeFeedProperties;
+import com.task.manager.controller.v1.api.TaskChangeFeedApi;
+import com.task.manager.dto.TaskChangeEventDto;
+import com.task.manager.service.TaskChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tasks/changes")
+public class TaskChangeFeedController implements TaskChangeFeedApi {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final TaskChangeFeedService taskChangeFeedService;
+
+    private final TaskChangeFeedProperties taskChangeFeedProperties;
+
+    @Override
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskChangeEventDto>> getChanges(@RequestParam(required = false) Long assigneeId,
+                                                                @RequestParam(required = false) Long after,
+                                                                @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        var changes = taskChangeFeedService.getChanges(assigneeId, lastEventId != null ? lastEventId : after)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(String.valueOf(event.getSequence()))
+                        .event(event.getType().name())
+                        .build());
+        var heartbeats = Flux.interval(taskChangeFeedProperties.getHeartbeat())
+                .map(tick -> ServerSentEvent.<TaskChangeEventDto>builder().comment(HEARTBEAT_COMMENT).build());
+
+        return Flux.merge(changes, heartbeats);
+    }
+}
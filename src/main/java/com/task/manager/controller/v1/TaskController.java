@@ -1,16 +1,30 @@
 package com.task.manager.controller.v1;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.task.manager.controller.v1.api.TaskApi;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
 import com.task.manager.dto.TaskIdDto;
+import com.task.manager.dto.TaskPageDto;
 import com.task.manager.dto.UpdateTaskDto;
 import com.task.manager.dto.UpdateTaskStatusDto;
 import com.task.manager.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -19,16 +33,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/tasks")
 public class TaskController implements TaskApi {
 
+    private static final byte NEW_LINE = '\n';
+
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private static final long NO_LAST_MODIFIED = -1;
+
     private final TaskService taskService;
 
+    private final ObjectMapper objectMapper;
+
     @Override
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -38,6 +63,12 @@ public class TaskController implements TaskApi {
         return new TaskIdDto(taskId);
     }
 
+    @Override
+    @PostMapping("/bulk")
+    public List<BulkItemResultDto> createTasks(@RequestBody List<CreateTaskDto> createTaskDtos) {
+        return taskService.createTasks(createTaskDtos);
+    }
+
     @Override
     @DeleteMapping("/{taskId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -45,6 +76,12 @@ public class TaskController implements TaskApi {
         taskService.deleteTask(taskId);
     }
 
+    @Override
+    @PostMapping("/bulk/delete")
+    public List<BulkItemResultDto> deleteTasks(@RequestBody List<Long> taskIds) {
+        return taskService.deleteTasks(taskIds);
+    }
+
     @Override
     @PutMapping("/{taskId}/status")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -59,15 +96,94 @@ public class TaskController implements TaskApi {
         taskService.updateTask(taskId, updateTaskDto);
     }
 
+    @Override
+    @PatchMapping("/bulk")
+    public List<BulkItemResultDto> updateTasks(@RequestBody List<BulkUpdateTaskDto> bulkUpdateTaskDtos) {
+        return taskService.updateTasks(bulkUpdateTaskDtos);
+    }
+
+    /**
+     * The validators are checked before the task is loaded, so a client whose copy is current costs a single
+     * index lookup and gets no body.
+     */
     @Override
     @GetMapping("/{taskId}")
-    public TaskDto getTask(@PathVariable Long taskId) {
-        return taskService.getTask(taskId);
+    public TaskDto getTask(@PathVariable Long taskId,
+                           @RequestParam(defaultValue = "false") boolean includeTimeSpentMillis,
+                           WebRequest webRequest) {
+        var taskVersion = taskService.getTaskVersion(taskId);
+
+        if (webRequest.checkNotModified(taskETag(taskVersion), lastModified(taskVersion.getUpdatedAt()))) {
+            return null;
+        }
+
+        return includeTimeSpentMillis(taskService.getTask(taskId), includeTimeSpentMillis);
     }
 
     @Override
     @GetMapping
-    public List<TaskDto> getTasks() {
-        return taskService.getTasks();
+    public TaskPageDto getTasks(TaskFilterDto taskFilterDto,
+                                @RequestParam(required = false) Long cursor,
+                                @RequestParam(defaultValue = "50") int limit,
+                                @RequestParam(defaultValue = "false") boolean includeTimeSpentMillis,
+                                WebRequest webRequest) {
+        var tasksVersion = taskService.getTasksVersion(taskFilterDto, cursor);
+
+        if (webRequest.checkNotModified(tasksETag(tasksVersion), lastModified(tasksVersion.getLastUpdatedAt()))) {
+            return null;
+        }
+
+        var taskPageDto = taskService.getTasks(taskFilterDto, cursor, limit);
+        taskPageDto.getItems().forEach(taskDto -> includeTimeSpentMillis(taskDto, includeTimeSpentMillis));
+
+        return taskPageDto;
+    }
+
+    @Override
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasks(TaskFilterDto taskFilterDto,
+                                                             @RequestParam(defaultValue = "false") boolean includeTimeSpentMillis) {
+        var writer = objectMapper.writerFor(TaskDto.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        StreamingResponseBody responseBody = outputStream -> taskService.streamTasks(taskFilterDto, taskDto -> {
+            try {
+                writer.writeValue(outputStream, includeTimeSpentMillis(taskDto, includeTimeSpentMillis));
+                outputStream.write(NEW_LINE);
+            } catch (IOException exc) {
+                throw new UncheckedIOException(exc);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    static TaskDto includeTimeSpentMillis(final TaskDto taskDto, final boolean includeTimeSpentMillis) {
+        if (!includeTimeSpentMillis) {
+            taskDto.setTimeSpentMillis(null);
+        }
+
+        return taskDto;
+    }
+
+    /**
+     * Time spent of a task in progress grows on every read while its version stays the same, so its ETag is weak.
+     */
+    private static String taskETag(final TaskVersion taskVersion) {
+        var eTag = "\"" + taskVersion.getVersion() + "-" + lastModified(taskVersion.getUpdatedAt()) + "\"";
+
+        return taskVersion.getStatus() == TaskStatus.IN_PROGRESS ? WEAK_ETAG_PREFIX + eTag : eTag;
+    }
+
+    /**
+     * Weak, as the count and the latest update time identify the matching tasks rather than the exact page content.
+     */
+    private static String tasksETag(final TaskCollectionVersion tasksVersion) {
+        return WEAK_ETAG_PREFIX + "\"" + tasksVersion.getCount() + "-" + lastModified(tasksVersion.getLastUpdatedAt()) + "\"";
+    }
+
+    private static long lastModified(final Instant updatedAt) {
+        return updatedAt != null ? updatedAt.toEpochMilli() : NO_LAST_MODIFIED;
     }
 }
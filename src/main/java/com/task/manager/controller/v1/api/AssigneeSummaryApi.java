@@ -0,0 +1,27 @@
+package com.task.manager.controller.v1.api;
+
+import java.util.List;
+
+import com.task.manager.dto.AssigneeSummaryDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Assignee summary API", description = "API to get task totals per assignee")
+public interface AssigneeSummaryApi {
+
+    @Operation(summary = "Get summaries of all assignees", description = "Task count per status and total time spent "
+            + "of every assignee with tasks, ordered by assignee id. Served from counters, so the cost does not grow with "
+            + "the number of tasks. Changes made by other instances show up within the reconcile interval.")
+    @ApiResponse(responseCode = "200", description = "Response body")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    List<AssigneeSummaryDto> getSummaries();
+
+    @Operation(summary = "Get summary of assignee", description = "Same as the summaries of all assignees for one "
+            + "assignee, with zero counts when the assignee has no tasks")
+    @ApiResponse(responseCode = "200", description = "Response body")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    AssigneeSummaryDto getSummary(@Parameter(description = "Assignee id to get summary of") Long assigneeId);
+}
@@ -0,0 +1,109 @@
+package com.task.manager.controller.v1.api;
+
+import java.util.List;
+
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskIdDto;
+import com.task.manager.dto.UpdateTaskDto;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import org.springdoc.core.annotations.ParameterObject;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Reactive Task API", description = "Same operations as the Task API without holding a request thread "
+        + "while the database is queried. Calls over the queue limit are rejected with 503.")
+public interface ReactiveTaskApi {
+
+    @Operation(summary = "Create task")
+    @ApiResponse(responseCode = "201", description = "Response body")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<TaskIdDto> createTask(@RequestBody(description = "Task data for creating a new task") @Valid CreateTaskDto createTaskDto);
+
+    @Operation(summary = "Create tasks in bulk", description = "Creates up to 1000 tasks in one transaction. "
+            + "Invalid items are skipped and reported in the result, which has one entry per item in request order.")
+    @ApiResponse(responseCode = "200", description = "Result of every item")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<List<BulkItemResultDto>> createTasks(@RequestBody(description = "Data of the tasks to create")
+                                              @Size(max = TaskApi.MAX_BULK_SIZE) List<CreateTaskDto> createTaskDtos);
+
+    @Operation(summary = "Delete task")
+    @ApiResponse(responseCode = "204", description = "Success. No content")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<Void> deleteTask(@Parameter(description = "Task id to delete") Long taskId);
+
+    @Operation(summary = "Delete tasks in bulk", description = "Deletes up to 1000 tasks with a single statement. "
+            + "The result has one entry per id in request order.")
+    @ApiResponse(responseCode = "200", description = "Result of every item")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<List<BulkItemResultDto>> deleteTasks(@RequestBody(description = "Ids of the tasks to delete")
+                                              @Size(max = TaskApi.MAX_BULK_SIZE) List<Long> taskIds);
+
+    @Operation(summary = "Update task status")
+    @ApiResponse(responseCode = "204", description = "Success. No content")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "404", description = "Task not found")
+    @ApiResponse(responseCode = "409", description = "Task was changed concurrently or assignee already has a task in progress")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<Void> updateTaskStatus(@Parameter(description = "Task id to update status") Long taskId,
+                                @RequestBody(description = "Task status data for updating task status") @Valid UpdateTaskStatusDto updateTaskStatusDto);
+
+    @Operation(summary = "Update task")
+    @ApiResponse(responseCode = "204", description = "Success. No content")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "404", description = "Task not found")
+    @ApiResponse(responseCode = "409", description = "Task was changed concurrently or assignee already has a task in progress")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<Void> updateTask(@Parameter(description = "Task id to update") Long taskId,
+                          @RequestBody(description = "Task data for updating task") @Valid UpdateTaskDto updateTaskDto);
+
+    @Operation(summary = "Update tasks in bulk", description = "Updates up to 1000 tasks in one transaction. "
+            + "Items that are invalid, not found or conflicting are skipped and reported in the result, "
+            + "which has one entry per item in request order.")
+    @ApiResponse(responseCode = "200", description = "Result of every item")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<List<BulkItemResultDto>> updateTasks(@RequestBody(description = "Ids and new data of the tasks to update")
+                                              @Size(max = TaskApi.MAX_BULK_SIZE) List<BulkUpdateTaskDto> bulkUpdateTaskDtos);
+
+    @Operation(summary = "Get task")
+    @ApiResponse(responseCode = "200", description = "Response body")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "404", description = "Task not found")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Mono<TaskDto> getTask(@Parameter(description = "Task id to get") Long taskId,
+                          @Parameter(description = "Whether to include time spent in milliseconds") boolean includeTimeSpentMillis);
+
+    @Operation(summary = "Get tasks", description = "Streams all tasks matching the filter ordered by id "
+            + "as newline delimited JSON. The next page is only read once the client has consumed the previous one. "
+            + "Date range filters include the lower bound and exclude the upper bound.")
+    @ApiResponse(responseCode = "200", description = "Newline delimited JSON stream")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "503", description = "Too many pending calls")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Flux<TaskDto> getTasks(@ParameterObject TaskFilterDto taskFilterDto,
+                           @Parameter(description = "Id of the last task already received, to resume a stream") Long cursor,
+                           @Parameter(description = "Whether to include time spent in milliseconds") boolean includeTimeSpentMillis);
+}
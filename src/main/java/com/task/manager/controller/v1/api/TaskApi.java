@@ -2,9 +2,13 @@ package com.task.manager.controller.v1.api;
 
 import java.util.List;
 
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
 import com.task.manager.dto.TaskIdDto;
+import com.task.manager.dto.TaskPageDto;
 import com.task.manager.dto.UpdateTaskDto;
 import com.task.manager.dto.UpdateTaskStatusDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,26 +17,50 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Task API", description = "API to manage tasks")
 public interface TaskApi {
 
+    int MAX_BULK_SIZE = 1000;
+
     @Operation(summary = "Create task")
     @ApiResponse(responseCode = "201", description = "Response body")
     @ApiResponse(responseCode = "400", description = "Bad request")
     @ApiResponse(responseCode = "500", description = "Internal server error")
     TaskIdDto createTask(@RequestBody(description = "Task data for creating a new task") @Valid CreateTaskDto createTaskDto);
 
+    @Operation(summary = "Create tasks in bulk", description = "Creates up to 1000 tasks in one transaction. "
+            + "Invalid items are skipped and reported in the result, which has one entry per item in request order.")
+    @ApiResponse(responseCode = "200", description = "Result of every item")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    List<BulkItemResultDto> createTasks(@RequestBody(description = "Data of the tasks to create")
+                                        @Size(max = MAX_BULK_SIZE) List<CreateTaskDto> createTaskDtos);
+
     @Operation(summary = "Delete task")
     @ApiResponse(responseCode = "204", description = "Success. No content")
     @ApiResponse(responseCode = "400", description = "Bad request")
     @ApiResponse(responseCode = "500", description = "Internal server error")
     void deleteTask(@Parameter(description = "Task id to delete") Long taskId);
 
+    @Operation(summary = "Delete tasks in bulk", description = "Deletes up to 1000 tasks with a single statement. "
+            + "The result has one entry per id in request order.")
+    @ApiResponse(responseCode = "200", description = "Result of every item")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    List<BulkItemResultDto> deleteTasks(@RequestBody(description = "Ids of the tasks to delete")
+                                        @Size(max = MAX_BULK_SIZE) List<Long> taskIds);
+
     @Operation(summary = "Update task status")
     @ApiResponse(responseCode = "204", description = "Success. No content")
     @ApiResponse(responseCode = "400", description = "Bad request")
     @ApiResponse(responseCode = "404", description = "Task not found")
+    @ApiResponse(responseCode = "409", description = "Task was changed concurrently or assignee already has a task in progress")
     @ApiResponse(responseCode = "500", description = "Internal server error")
     void updateTaskStatus(@Parameter(description = "Task id to update status") Long taskId,
                           @RequestBody(description = "Task status data for updating task status") @Valid UpdateTaskStatusDto updateTaskStatusDto);
@@ -41,19 +69,48 @@ public interface TaskApi {
     @ApiResponse(responseCode = "204", description = "Success. No content")
     @ApiResponse(responseCode = "400", description = "Bad request")
     @ApiResponse(responseCode = "404", description = "Task not found")
+    @ApiResponse(responseCode = "409", description = "Task was changed concurrently or assignee already has a task in progress")
     @ApiResponse(responseCode = "500", description = "Internal server error")
     void updateTask(@Parameter(description = "Task id to update") Long taskId,
                     @RequestBody(description = "Task data for updating task") @Valid UpdateTaskDto updateTaskDto);
 
-    @Operation(summary = "Get task")
+    @Operation(summary = "Update tasks in bulk", description = "Updates up to 1000 tasks in one transaction. "
+            + "Items that are invalid, not found or conflicting are skipped and reported in the result, "
+            + "which has one entry per item in request order.")
+    @ApiResponse(responseCode = "200", description = "Result of every item")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    List<BulkItemResultDto> updateTasks(@RequestBody(description = "Ids and new data of the tasks to update")
+                                        @Size(max = MAX_BULK_SIZE) List<BulkUpdateTaskDto> bulkUpdateTaskDtos);
+
+    @Operation(summary = "Get task", description = "The response has an ETag derived from the task version and "
+            + "a Last-Modified header. The ETag of a task in progress is weak, its time spent keeps growing.")
     @ApiResponse(responseCode = "200", description = "Response body")
+    @ApiResponse(responseCode = "304", description = "Task did not change since the If-None-Match or If-Modified-Since validator")
     @ApiResponse(responseCode = "400", description = "Bad request")
     @ApiResponse(responseCode = "404", description = "Task not found")
     @ApiResponse(responseCode = "500", description = "Internal server error")
-    TaskDto getTask(@Parameter(description = "Task id to get") Long taskId);
+    TaskDto getTask(@Parameter(description = "Task id to get") Long taskId,
+                    @Parameter(description = "Whether to include time spent in milliseconds") boolean includeTimeSpentMillis,
+                    @Parameter(hidden = true) WebRequest webRequest);
 
-    @Operation(summary = "Get all tasks")
+    @Operation(summary = "Get page of tasks", description = "Keyset pagination ordered by task id. "
+            + "Date range filters include the lower bound and exclude the upper bound. The response has a weak ETag "
+            + "and a Last-Modified header that change when any task after the cursor matching the filter changes.")
     @ApiResponse(responseCode = "200", description = "Response body")
+    @ApiResponse(responseCode = "304", description = "Tasks did not change since the If-None-Match or If-Modified-Since validator")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    TaskPageDto getTasks(@ParameterObject TaskFilterDto taskFilterDto,
+                         @Parameter(description = "Next cursor returned with the previous page") Long cursor,
+                         @Parameter(description = "Max number of tasks in the page, up to 500") int limit,
+                         @Parameter(description = "Whether to include time spent in milliseconds") boolean includeTimeSpentMillis,
+                         @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(summary = "Stream tasks", description = "Streams all tasks matching the filter as newline delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Newline delimited JSON stream")
+    @ApiResponse(responseCode = "400", description = "Bad request")
     @ApiResponse(responseCode = "500", description = "Internal server error")
-    List<TaskDto> getTasks();
+    ResponseEntity<StreamingResponseBody> streamTasks(@ParameterObject TaskFilterDto taskFilterDto,
+                                                      @Parameter(description = "Whether to include time spent in milliseconds") boolean includeTimeSpentMillis);
 }
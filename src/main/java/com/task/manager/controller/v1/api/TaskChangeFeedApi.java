@@ -0,0 +1,27 @@
+package com.task.manager.controller.v1.api;
+
+import com.task.manager.dto.TaskChangeEventDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+@Tag(name = "Task change feed API", description = "API to follow task changes instead of polling")
+public interface TaskChangeFeedApi {
+
+    @Operation(summary = "Stream task changes", description = "Server-Sent Events stream of task changes made through "
+            + "this instance. Every event has its sequence as id and its change type as name. A reconnecting client sends "
+            + "the last id it has seen in the Last-Event-ID header, or the after parameter, and gets the changes it missed "
+            + "first. Idle streams get a comment every heartbeat interval.")
+    @ApiResponse(responseCode = "200", description = "Event stream")
+    @ApiResponse(responseCode = "400", description = "Bad request")
+    @ApiResponse(responseCode = "410", description = "Changes after the sequence are no longer available, "
+            + "the client has to reload the tasks and subscribe without a sequence")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    Flux<ServerSentEvent<TaskChangeEventDto>> getChanges(
+            @Parameter(description = "Only changes of tasks of this assignee, paused ranges are always sent") Long assigneeId,
+            @Parameter(description = "Sequence of the last event seen, the Last-Event-ID header takes precedence") Long after,
+            @Parameter(description = "Sequence of the last event seen, sent by EventSource on reconnect") Long lastEventId);
+}
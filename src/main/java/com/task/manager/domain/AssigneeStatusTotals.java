@@ -0,0 +1,21 @@
+package com.task.manager.domain;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeStatusTotals {
+
+    private Long assigneeId;
+
+    private TaskStatus status;
+
+    private long taskCount;
+
+    private Duration timeSpent;
+}
@@ -0,0 +1,37 @@
+package com.task.manager.domain;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Net result of status transitions of a task folded in memory, from the stored state of the task to its latest state.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescedTransition {
+
+    private TaskState storedState;
+
+    private TaskState state;
+
+    private int transitions;
+
+    private Instant transitionedAt;
+
+    /**
+     * @param newStatus      status the task is moved to
+     * @param transitionedAt moment of the transition
+     * @return net result with the transition folded in
+     */
+    public CoalescedTransition fold(final TaskStatus newStatus, final Instant transitionedAt) {
+        if (newStatus == state.getStatus()) {
+            return this;
+        }
+
+        return new CoalescedTransition(storedState, state.transition(newStatus, transitionedAt), transitions + 1, transitionedAt);
+    }
+}
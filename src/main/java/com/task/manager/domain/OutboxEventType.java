@@ -0,0 +1,15 @@
+package com.task.manager.domain;
+
+import com.task.manager.event.TaskCreatedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    TASK_CREATED("task-created", TaskCreatedEvent.class);
+
+    private final String topic;
+
+    private final Class<?> payloadType;
+}
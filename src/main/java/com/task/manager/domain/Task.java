@@ -12,7 +12,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Data
@@ -21,7 +23,8 @@ import lombok.Data;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column
@@ -49,6 +52,10 @@ public class Task {
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
 
+    @Version
+    @Column
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         final Instant now = Instant.now();
@@ -70,6 +77,16 @@ public class Task {
         return timeSpent;
     }
 
+    /**
+     * Same as {@link #getCurrentTimeSpent()} against a clock read once by the caller, without allocating durations.
+     *
+     * @param nowMillis current time in epoch milliseconds
+     * @return time spent in milliseconds
+     */
+    public long getCurrentTimeSpentMillis(final long nowMillis) {
+        return TimeSpent.currentMillis(status, timeSpent, startedAt, nowMillis);
+    }
+
     public void endProgress() {
         if (startedAt != null) {
             timeSpent = getCurrentTimeSpent();
@@ -0,0 +1,9 @@
+package com.task.manager.domain;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    TASKS_PAUSED
+}
@@ -0,0 +1,21 @@
+package com.task.manager.domain;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of tasks matching a filter and the latest update time among them. Any write to a matching task moves the
+ * update time and any delete changes the count, so together they tell whether the matching tasks changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCollectionVersion {
+
+    private Long count;
+
+    private Instant lastUpdatedAt;
+}
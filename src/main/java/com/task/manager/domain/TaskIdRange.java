@@ -0,0 +1,15 @@
+package com.task.manager.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskIdRange {
+
+    private Long minId;
+
+    private Long maxId;
+}
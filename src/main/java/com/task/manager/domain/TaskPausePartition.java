@@ -0,0 +1,42 @@
+package com.task.manager.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "task_pause_partition")
+public class TaskPausePartition {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "range_start")
+    private Long rangeStart;
+
+    @Column(name = "range_end")
+    private Long rangeEnd;
+
+    @Column(name = "last_processed_id")
+    private Long lastProcessedId;
+
+    @Column(name = "processed_tasks")
+    private Long processedTasks;
+
+    @Column
+    private boolean completed;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "paused_at")
+    private Instant pausedAt;
+}
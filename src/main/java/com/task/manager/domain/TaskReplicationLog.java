@@ -0,0 +1,45 @@
+package com.task.manager.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Marks a task changed on the data source the entry is stored in, the replication relay copies the current state of
+ * the task to the other data source and removes the entry.
+ */
+@Data
+@Entity
+@Table(name = "task_replication_log")
+public class TaskReplicationLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_replication_log_id_seq")
+    @SequenceGenerator(name = "task_replication_log_id_seq", sequenceName = "task_replication_log_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @Column
+    private int attempts;
+
+    @Column(name = "parked_at")
+    private Instant parkedAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = Instant.now();
+    }
+}
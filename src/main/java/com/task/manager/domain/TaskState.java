@@ -0,0 +1,63 @@
+package com.task.manager.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Part of a task that status transitions and assignee summaries depend on.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskState {
+
+    private Long id;
+
+    private Long assigneeId;
+
+    private TaskStatus status;
+
+    private Duration timeSpent;
+
+    private Instant startedAt;
+
+    public static TaskState fromTask(final Task task) {
+        return new TaskState(task.getId(), task.getAssigneeId(), task.getStatus(), task.getTimeSpent(), task.getStartedAt());
+    }
+
+    /**
+     * Same as the conditional update of {@code TaskRepositoryCustom#transitionStatus} does to the stored task.
+     *
+     * @param newStatus      status the task is moved to
+     * @param transitionedAt moment of the transition
+     * @return state of the task after the transition
+     */
+    public TaskState transition(final TaskStatus newStatus, final Instant transitionedAt) {
+        var endProgress = status == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.PAUSED;
+        var startProgress = newStatus == TaskStatus.IN_PROGRESS;
+        var newTimeSpent = endProgress && startedAt != null
+                ? getTimeSpentOrZero().plus(Duration.between(startedAt, transitionedAt))
+                : timeSpent;
+        var newStartedAt = startProgress ? transitionedAt : endProgress ? null : startedAt;
+
+        return new TaskState(id, assigneeId, newStatus, newTimeSpent, newStartedAt);
+    }
+
+    /**
+     * Same as {@link Task#getCurrentTimeSpentMillis(long)}.
+     *
+     * @param nowMillis current time in epoch milliseconds
+     * @return time spent in milliseconds
+     */
+    public long getCurrentTimeSpentMillis(final long nowMillis) {
+        return TimeSpent.currentMillis(status, timeSpent, startedAt, nowMillis);
+    }
+
+    public Duration getTimeSpentOrZero() {
+        return timeSpent != null ? timeSpent : Duration.ZERO;
+    }
+}
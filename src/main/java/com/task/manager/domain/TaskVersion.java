@@ -0,0 +1,22 @@
+package com.task.manager.domain;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Part of a task that HTTP validators of the task are derived from, every write changes the version and the update time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskVersion {
+
+    private TaskStatus status;
+
+    private Long version;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.task.manager.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Columns of a task the task api returns, read by a constructor expression so reads neither hydrate a managed entity
+ * nor keep anything in the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskView {
+
+    private Long id;
+
+    private Long assigneeId;
+
+    private String title;
+
+    private String description;
+
+    private TaskStatus status;
+
+    private Duration timeSpent;
+
+    private Instant startedAt;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    /**
+     * Same as {@link Task#getCurrentTimeSpentMillis(long)}.
+     *
+     * @param nowMillis current time in epoch milliseconds
+     * @return time spent in milliseconds
+     */
+    public long getCurrentTimeSpentMillis(final long nowMillis) {
+        return TimeSpent.currentMillis(status, timeSpent, startedAt, nowMillis);
+    }
+}
@@ -0,0 +1,31 @@
+package com.task.manager.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Time spent on a task as of a clock read once by the caller, shared by the entity and the projections of a task.
+ */
+final class TimeSpent {
+
+    private TimeSpent() {
+    }
+
+    /**
+     * @param status    status of the task
+     * @param timeSpent stored time spent, null counts as zero
+     * @param startedAt start of the current progress, null when the task is not in progress
+     * @param nowMillis current time in epoch milliseconds
+     * @return time spent in milliseconds, including the current progress of a task in progress
+     */
+    static long currentMillis(final TaskStatus status, final Duration timeSpent, final Instant startedAt,
+                              final long nowMillis) {
+        var timeSpentMillis = timeSpent != null ? timeSpent.toMillis() : 0;
+
+        if (status == TaskStatus.IN_PROGRESS && startedAt != null) {
+            return timeSpentMillis + nowMillis - startedAt.toEpochMilli();
+        }
+
+        return timeSpentMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package com.task.manager.dto;
+
+import java.util.Map;
+
+import com.task.manager.domain.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeSummaryDto {
+
+    private Long assigneeId;
+
+    private Map<TaskStatus, Long> taskCountByStatus;
+
+    private long taskCount;
+
+    private String timeSpent;
+}
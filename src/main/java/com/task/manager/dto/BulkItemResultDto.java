@@ -0,0 +1,19 @@
+package com.task.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDto {
+
+    private int index;
+
+    private Long taskId;
+
+    private BulkItemStatus status;
+
+    private String error;
+}
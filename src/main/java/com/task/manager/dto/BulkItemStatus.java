@@ -0,0 +1,10 @@
+package com.task.manager.dto;
+
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    INVALID,
+    NOT_FOUND,
+    CONFLICT
+}
@@ -0,0 +1,20 @@
+package com.task.manager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateTaskDto {
+
+    @NotNull
+    private Long taskId;
+
+    @Valid
+    @NotNull
+    private UpdateTaskDto task;
+}
@@ -0,0 +1,40 @@
+package com.task.manager.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.task.manager.domain.TaskChangeType;
+import com.task.manager.domain.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notification that a task changed, clients fetch the task itself when they need more than its status.
+ * A {@link TaskChangeType#TASKS_PAUSED} event stands for all in progress tasks with ids in
+ * ({@code afterTaskId}, {@code upToTaskId}] and has no task id or assignee.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeEventDto {
+
+    private long sequence;
+
+    private TaskChangeType type;
+
+    private Long taskId;
+
+    private Long assigneeId;
+
+    private Long previousAssigneeId;
+
+    private TaskStatus status;
+
+    private Long afterTaskId;
+
+    private Long upToTaskId;
+
+    private Instant occurredAt;
+}
@@ -1,5 +1,6 @@
 package com.task.manager.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.task.manager.domain.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,6 +21,12 @@ public class TaskDto {
 
     private String timeSpent;
 
+    /**
+     * Left out of responses unless the client asks for it.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long timeSpentMillis;
+
     private String createdAt;
 
     private String updatedAt;
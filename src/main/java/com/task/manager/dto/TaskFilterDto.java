@@ -0,0 +1,26 @@
+package com.task.manager.dto;
+
+import java.time.Instant;
+
+import com.task.manager.domain.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDto {
+
+    private TaskStatus status;
+
+    private Long assigneeId;
+
+    private Instant createdFrom;
+
+    private Instant createdTo;
+
+    private Instant updatedFrom;
+
+    private Instant updatedTo;
+}
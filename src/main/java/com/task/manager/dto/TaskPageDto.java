@@ -0,0 +1,17 @@
+package com.task.manager.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+
+    private List<TaskDto> items;
+
+    private Long nextCursor;
+}
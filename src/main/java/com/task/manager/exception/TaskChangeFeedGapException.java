@@ -0,0 +1,7 @@
+package com.task.manager.exception;
+
+public class TaskChangeFeedGapException extends RuntimeException {
+    public TaskChangeFeedGapException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.task.manager.filter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.task.manager.util.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Carries the time of the last write of a client between its requests in a cookie, so its reads stay on the primary
+ * until the replicas have caught up with that write. How long that is, is decided by the routing, not by the cookie.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String LAST_WRITE_COOKIE = "task-last-write";
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) throws ServletException, IOException {
+        var cookieAdded = new AtomicBoolean();
+
+        ReadYourWritesContext.begin(getLastWriteAt(request), writtenAt -> {
+            if (!response.isCommitted() && cookieAdded.compareAndSet(false, true)) {
+                response.addCookie(createLastWriteCookie(writtenAt));
+            }
+        });
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private Instant getLastWriteAt(final HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+
+        var lastWriteCookie = Arrays.stream(request.getCookies())
+                .filter(cookie -> LAST_WRITE_COOKIE.equals(cookie.getName()))
+                .findFirst();
+
+        try {
+            return lastWriteCookie.map(cookie -> Instant.ofEpochMilli(Long.parseLong(cookie.getValue()))).orElse(null);
+        } catch (NumberFormatException exc) {
+            return null;
+        }
+    }
+
+    private Cookie createLastWriteCookie(final Instant writtenAt) {
+        var cookie = new Cookie(LAST_WRITE_COOKIE, String.valueOf(writtenAt.toEpochMilli()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+
+        return cookie;
+    }
+}
@@ -0,0 +1,24 @@
+package com.task.manager.job;
+
+import com.task.manager.service.AssigneeSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AssigneeSummaryReconcileJob {
+
+    private final AssigneeSummaryService assigneeSummaryService;
+
+    @Scheduled(fixedDelayString = "${task.assignee-summary.reconcile-interval}")
+    public void reconcileSummaries() {
+        try {
+            assigneeSummaryService.reconcile();
+        } catch (Exception exc) {
+            log.error("Assignee summary reconciliation failed: ", exc);
+        }
+    }
+}
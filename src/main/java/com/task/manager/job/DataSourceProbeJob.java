@@ -0,0 +1,24 @@
+package com.task.manager.job;
+
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class DataSourceProbeJob {
+
+    private final DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    @Scheduled(fixedDelayString = "${task.datasource.circuit-breaker.probe-interval}")
+    public void probeDataSources() {
+        try {
+            dataSourceCircuitBreakerService.probeOpenCircuits();
+        } catch (Exception exc) {
+            log.error("Data source probe failed: ", exc);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.task.manager.job;
+
+import com.task.manager.service.OutboxRelayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayJob {
+
+    private final OutboxRelayService outboxRelayService;
+
+    @Scheduled(fixedDelayString = "${task.outbox.linger}")
+    public void relayEvents() {
+        try {
+            var relayedEvents = outboxRelayService.relayPendingEvents();
+
+            if (relayedEvents > 0) {
+                log.debug("Relayed {} outbox events", relayedEvents);
+            }
+        } catch (Exception exc) {
+            log.error("Outbox relay failed: ", exc);
+        }
+    }
+}
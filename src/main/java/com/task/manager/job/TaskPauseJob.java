@@ -1,7 +1,6 @@
 package com.task.manager.job;
 
-import com.task.manager.domain.TaskStatus;
-import com.task.manager.service.TaskService;
+import com.task.manager.service.TaskPauseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,16 +11,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TaskPauseJob {
 
-    private final TaskService taskService;
+    private final TaskPauseService taskPauseService;
 
     @Scheduled(cron = "0 0 0 * * *")
     public void pauseTasks() {
         try {
             log.info("Starting task pause job");
 
-            taskService.updateTasksStatusFromInProgressToPausedInBatch(100);
+            var pausedTasks = taskPauseService.pauseInProgressTasks();
 
-            log.info("Task pause job finished successfully");
+            log.info("Task pause job finished successfully, paused {} tasks", pausedTasks);
         } catch (Exception exc) {
             log.error("Task pause job failed: ", exc);
         }
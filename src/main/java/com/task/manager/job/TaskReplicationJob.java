@@ -0,0 +1,30 @@
+package com.task.manager.job;
+
+import com.task.manager.service.TaskReplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "task.replication", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskReplicationJob {
+
+    private final TaskReplicationService taskReplicationService;
+
+    @Scheduled(fixedDelayString = "${task.replication.linger}")
+    public void replicateChanges() {
+        try {
+            var replicatedChanges = taskReplicationService.replicatePendingChanges();
+
+            if (replicatedChanges > 0) {
+                log.debug("Replicated {} task changes", replicatedChanges);
+            }
+        } catch (Exception exc) {
+            log.error("Task replication failed: ", exc);
+        }
+    }
+}
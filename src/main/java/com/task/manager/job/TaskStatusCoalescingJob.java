@@ -0,0 +1,30 @@
+package com.task.manager.job;
+
+import com.task.manager.service.TaskStatusCoalescingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "task.status-coalescing", name = "enabled", havingValue = "true")
+public class TaskStatusCoalescingJob {
+
+    private final TaskStatusCoalescingService taskStatusCoalescingService;
+
+    @Scheduled(fixedDelayString = "${task.status-coalescing.window}")
+    public void flushCoalescedTransitions() {
+        try {
+            var writtenTasks = taskStatusCoalescingService.flush();
+
+            if (writtenTasks > 0) {
+                log.debug("Wrote coalesced status transitions of {} tasks", writtenTasks);
+            }
+        } catch (Exception exc) {
+            log.error("Writing coalesced status transitions failed: ", exc);
+        }
+    }
+}
@@ -1,19 +1,20 @@
 package com.task.manager.mapper;
 
-import java.time.Duration;
+import java.time.Instant;
 
 import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskView;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.TaskDto;
 import com.task.manager.dto.UpdateTaskDto;
-import com.task.manager.dto.UpdateTaskStatusDto;
 import com.task.manager.util.CommonMapperConfig;
-import org.apache.commons.lang3.time.DurationFormatUtils;
+import com.task.manager.util.TimeSpentFormatter;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.BeanMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
-import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 @Mapper(config = CommonMapperConfig.class)
@@ -24,34 +25,61 @@ public interface TaskMapper {
     @Mapping(target = "startedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "status", constant = "TODO")
     Task fromCreateTaskDto(CreateTaskDto createTaskDto);
 
-    @Mapping(target = "timeSpent", source = "task", qualifiedByName = "mapTimeSpent")
-    TaskDto fromTask(Task task);
+    /**
+     * Map a task with the time spent of an in progress task computed against the given moment, so mapping a list of
+     * tasks reads the clock once.
+     *
+     * @param task   task to map
+     * @param readAt moment the time spent is computed at
+     * @return task data
+     */
+    @Mapping(target = "timeSpent", ignore = true)
+    @Mapping(target = "timeSpentMillis", ignore = true)
+    TaskDto fromTask(Task task, @Context Instant readAt);
 
-    @Mapping(target = "id", ignore = true)
-    @Mapping(target = "assigneeId", ignore = true)
-    @Mapping(target = "title", ignore = true)
-    @Mapping(target = "description", ignore = true)
+    default TaskDto fromTask(Task task) {
+        return fromTask(task, Instant.now());
+    }
+
+    /**
+     * Same as {@link #fromTask(Task, Instant)} for a task read by a projection.
+     *
+     * @param taskView task to map
+     * @param readAt   moment the time spent is computed at
+     * @return task data
+     */
     @Mapping(target = "timeSpent", ignore = true)
-    @Mapping(target = "startedAt", ignore = true)
-    @Mapping(target = "createdAt", ignore = true)
-    @Mapping(target = "updatedAt", ignore = true)
-    void updateTaskStatus(@MappingTarget Task task, UpdateTaskStatusDto updateTaskStatusDto);
+    @Mapping(target = "timeSpentMillis", ignore = true)
+    TaskDto fromTaskView(TaskView taskView, @Context Instant readAt);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "timeSpent", ignore = true)
     @Mapping(target = "startedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateTask(@MappingTarget Task task, UpdateTaskDto updateTaskDto);
 
-    @Named("mapTimeSpent")
-    default String mapTimeSpent(Task task) {
-        Duration duration = task.getCurrentTimeSpent() != null ? task.getCurrentTimeSpent() : Duration.ZERO;
+    TaskDto copyTaskDto(TaskDto taskDto);
+
+    @AfterMapping
+    default void mapTimeSpent(Task task, @MappingTarget TaskDto taskDto, @Context Instant readAt) {
+        var timeSpentMillis = task.getCurrentTimeSpentMillis(readAt.toEpochMilli());
+
+        taskDto.setTimeSpentMillis(timeSpentMillis);
+        taskDto.setTimeSpent(TimeSpentFormatter.format(timeSpentMillis));
+    }
+
+    @AfterMapping
+    default void mapViewTimeSpent(TaskView taskView, @MappingTarget TaskDto taskDto, @Context Instant readAt) {
+        var timeSpentMillis = taskView.getCurrentTimeSpentMillis(readAt.toEpochMilli());
 
-        return DurationFormatUtils.formatDuration(duration.toMillis(), "HH:mm:ss");
+        taskDto.setTimeSpentMillis(timeSpentMillis);
+        taskDto.setTimeSpent(TimeSpentFormatter.format(timeSpentMillis));
     }
 }
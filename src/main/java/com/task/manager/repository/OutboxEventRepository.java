@@ -0,0 +1,33 @@
+package com.task.manager.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import com.task.manager.domain.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findAllByParkedAtIsNullOrderById(Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    void recordFailedAttempt(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Parked events are left out of the relay and kept for inspection, they are published again once unparked.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.parkedAt = :parkedAt WHERE e.id IN :ids")
+    void park(@Param("ids") Collection<Long> ids, @Param("parkedAt") Instant parkedAt);
+}
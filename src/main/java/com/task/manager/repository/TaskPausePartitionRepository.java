@@ -0,0 +1,37 @@
+package com.task.manager.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.task.manager.domain.TaskPausePartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TaskPausePartitionRepository extends JpaRepository<TaskPausePartition, Integer> {
+
+    List<TaskPausePartition> findByCompletedFalseOrderById();
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE TaskPausePartition p
+            SET p.lastProcessedId = :lastProcessedId, p.processedTasks = p.processedTasks + :processedTasks
+            WHERE p.id = :id
+            """)
+    void recordProgress(@Param("id") Integer id, @Param("lastProcessedId") Long lastProcessedId, @Param("processedTasks") long processedTasks);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaskPausePartition p SET p.startedAt = :startedAt WHERE p.id = :id")
+    void markStarted(@Param("id") Integer id, @Param("startedAt") Instant startedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaskPausePartition p SET p.completed = true, p.finishedAt = :finishedAt WHERE p.id = :id")
+    void markCompleted(@Param("id") Integer id, @Param("finishedAt") Instant finishedAt);
+}
@@ -0,0 +1,9 @@
+package com.task.manager.repository;
+
+import com.task.manager.domain.TaskReplicationLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskReplicationLogRepository extends JpaRepository<TaskReplicationLog, Long> {
+}
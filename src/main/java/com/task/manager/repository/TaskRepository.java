@@ -1,21 +1,53 @@
 package com.task.manager.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskIdRange;
+import com.task.manager.domain.TaskState;
 import com.task.manager.domain.TaskStatus;
-import org.springframework.data.domain.Pageable;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.domain.TaskView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    @Query("SELECT t FROM Task t WHERE t.status = :status")
-    List<Task> findTasksByStatusWithLimit(@Param("status") TaskStatus status, Pageable pageable);
+    String TASK_VIEW = "new com.task.manager.domain.TaskView(t.id, t.assigneeId, t.title, t.description, t.status, "
+            + "t.timeSpent, t.startedAt, t.createdAt, t.updatedAt)";
 
-    Optional<Task> findByAssigneeIdAndStatus(Long userId, TaskStatus status);
+    String TASK_STATE = "new com.task.manager.domain.TaskState(t.id, t.assigneeId, t.status, t.timeSpent, t.startedAt)";
+
+    /**
+     * The status is inlined as a literal so that Postgres can match the partial IN_PROGRESS index,
+     * and only the id is selected so the lookup is served from the index without reading the row.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.assigneeId = :assigneeId AND t.status = com.task.manager.domain.TaskStatus.IN_PROGRESS")
+    Optional<Long> findInProgressTaskIdByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    /**
+     * Reads the state straight from the database, also when the task is already loaded in the persistence context.
+     */
+    @Query("SELECT " + TASK_STATE + " FROM Task t WHERE t.id = :id")
+    Optional<TaskState> findStateById(@Param("id") Long id);
+
+    @Query("SELECT " + TASK_VIEW + " FROM Task t WHERE t.id = :id")
+    Optional<TaskView> findViewById(@Param("id") Long id);
+
+    @Query("SELECT new com.task.manager.domain.TaskVersion(t.status, t.version, t.updatedAt) FROM Task t WHERE t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT " + TASK_STATE + " FROM Task t WHERE t.id IN :ids")
+    List<TaskState> findStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT " + TASK_STATE + " FROM Task t WHERE t.status = com.task.manager.domain.TaskStatus.IN_PROGRESS AND t.assigneeId IS NOT NULL")
+    List<TaskState> findInProgressStates();
+
+    @Query("SELECT new com.task.manager.domain.TaskIdRange(MIN(t.id), MAX(t.id)) FROM Task t WHERE t.status = :status")
+    TaskIdRange findIdRangeByStatus(@Param("status") TaskStatus status);
 }
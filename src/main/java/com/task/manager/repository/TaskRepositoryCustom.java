@@ -0,0 +1,105 @@
+package com.task.manager.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.task.manager.domain.AssigneeStatusTotals;
+import com.task.manager.domain.CoalescedTransition;
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskView;
+import org.springframework.data.domain.Pageable;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Find a page of tasks matching the filter in id order. Only the filters that are set end up in the query, so the
+     * planner can pick the index of the filters used and keep the keyset condition on the primary key.
+     *
+     * @param afterId     id after which the page starts, exclusive, null for the first page
+     * @param status      status of the tasks, null for any
+     * @param assigneeId  assignee of the tasks, null for any
+     * @param createdFrom lower bound of the creation time, inclusive, null for none
+     * @param createdTo   upper bound of the creation time, exclusive, null for none
+     * @param updatedFrom lower bound of the update time, inclusive, null for none
+     * @param updatedTo   upper bound of the update time, exclusive, null for none
+     * @param pageable    page size
+     * @return views of the tasks of the page
+     */
+    List<TaskView> findTaskViewsPage(Long afterId, TaskStatus status, Long assigneeId, Instant createdFrom,
+                                     Instant createdTo, Instant updatedFrom, Instant updatedTo, Pageable pageable);
+
+    /**
+     * Find the version of the tasks matching the filter, same filter as {@link #findTaskViewsPage}.
+     *
+     * @return number of matching tasks and their latest update time
+     */
+    TaskCollectionVersion findCollectionVersion(Long afterId, TaskStatus status, Long assigneeId, Instant createdFrom,
+                                                Instant createdTo, Instant updatedFrom, Instant updatedTo);
+
+    /**
+     * Stream the tasks matching the filter in id order as read only entities, same filter as {@link #findTaskViewsPage}.
+     * The stream has to be closed by the caller.
+     *
+     * @return matching tasks
+     */
+    Stream<Task> streamTasks(Long afterId, TaskStatus status, Long assigneeId, Instant createdFrom,
+                             Instant createdTo, Instant updatedFrom, Instant updatedTo);
+
+    /**
+     * Find the id closing the next chunk of tasks with the given status.
+     *
+     * @param status    status of the tasks
+     * @param afterId   id after which the chunk starts, exclusive
+     * @param maxId     id the chunk can not go beyond, inclusive
+     * @param chunkSize max number of tasks in the chunk
+     * @return greatest id of the chunk, empty when there are no more tasks
+     */
+    Optional<Long> findChunkUpperBoundId(TaskStatus status, long afterId, long maxId, int chunkSize);
+
+    /**
+     * Pause in progress tasks within the id range, adding the time elapsed since start to the time spent. Tasks started
+     * after the pause moment are left in progress, so a resumed run never takes time off them.
+     * Every paused task is logged for replication in the same transaction. Managed copies of the paused tasks are not
+     * refreshed, the caller owning the transaction clears the persistence context before it reads them again.
+     *
+     * @param afterId  lower bound of the id range, exclusive
+     * @param upToId   upper bound of the id range, inclusive
+     * @param pausedAt moment the tasks are paused at
+     * @return number of paused tasks
+     */
+    int pauseInProgressTasks(long afterId, long upToId, Instant pausedAt);
+
+    /**
+     * Move a task to a new status in a single statement, only if it still has the expected status. Ending progress
+     * adds the time elapsed since start to the time spent, starting it records the start time. A transitioned task is
+     * logged for replication in the same transaction.
+     *
+     * @param taskId         id of the task
+     * @param expectedStatus status the task was read with
+     * @param newStatus      status to move the task to
+     * @param transitionedAt moment of the transition
+     * @return whether the task was updated, false when its status was changed in the meantime
+     */
+    boolean transitionStatus(long taskId, TaskStatus expectedStatus, TaskStatus newStatus, Instant transitionedAt);
+
+    /**
+     * Write the net result of transitions coalesced in memory, one conditional statement per task in the given order.
+     * A result is written only when the task is still in progress since the start it was coalesced from, its version
+     * grows by the number of coalesced transitions. Every written task is logged for replication in the same transaction.
+     *
+     * @param transitions coalesced transitions of tasks in progress in the store
+     * @return ids of the tasks the results were written to
+     */
+    List<Long> applyCoalescedTransitions(List<CoalescedTransition> transitions);
+
+    /**
+     * Count tasks and sum their stored time spent per assignee and status, tasks without an assignee are left out.
+     *
+     * @return totals of every assignee and status that has tasks
+     */
+    List<AssigneeStatusTotals> findAssigneeStatusTotals();
+}
@@ -0,0 +1,304 @@
+package com.task.manager.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.task.manager.domain.AssigneeStatusTotals;
+import com.task.manager.domain.CoalescedTransition;
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskReplicationLog;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String CHUNK_UPPER_BOUND_ID_QUERY = """
+            SELECT MAX(chunk.id) FROM (
+                SELECT t.id FROM task t
+                WHERE t.status = :status AND t.id > :afterId AND t.id <= :maxId
+                ORDER BY t.id
+                LIMIT :chunkSize
+            ) chunk
+            """;
+
+    private static final String PAUSE_IN_PROGRESS_TASKS_QUERY = """
+            UPDATE task
+            SET time_spent = CASE WHEN started_at IS NULL THEN time_spent ELSE COALESCE(time_spent, 0) + %s END,
+                started_at = NULL,
+                status = 'PAUSED',
+                updated_at = :pausedAt,
+                version = version + 1
+            WHERE status = 'IN_PROGRESS' AND id > :afterId AND id <= :upToId
+              AND (started_at IS NULL OR started_at <= CAST(:pausedAt AS TIMESTAMP))
+            """;
+
+    private static final String TRANSITION_STATUS_QUERY = """
+            UPDATE task
+            SET time_spent = CASE WHEN :endProgress AND started_at IS NOT NULL THEN COALESCE(time_spent, 0) + %s ELSE time_spent END,
+                started_at = CASE WHEN :startProgress THEN CAST(:transitionedAt AS TIMESTAMP) WHEN :endProgress THEN NULL ELSE started_at END,
+                status = :newStatus,
+                updated_at = :transitionedAt,
+                version = version + 1
+            WHERE id = :taskId AND status = :expectedStatus
+            """;
+
+    private static final String APPLY_COALESCED_TRANSITION_QUERY = """
+            UPDATE task
+            SET time_spent = COALESCE(time_spent, 0) + :timeSpentDelta,
+                started_at = CASE WHEN :inProgress THEN CAST(:transitionedAt AS TIMESTAMP) END,
+                status = :newStatus,
+                updated_at = :transitionedAt,
+                version = version + :transitions
+            WHERE id = :taskId AND status = 'IN_PROGRESS' AND started_at = CAST(:storedStartedAt AS TIMESTAMP)
+            """;
+
+    private static final String LOG_IN_PROGRESS_TASKS_CHANGE_QUERY = """
+            INSERT INTO task_replication_log (task_id, created_at)
+            SELECT id, :loggedAt FROM task
+            WHERE status = 'IN_PROGRESS' AND id > :afterId AND id <= :upToId
+              AND (started_at IS NULL OR started_at <= CAST(:loggedAt AS TIMESTAMP))
+            """;
+
+    private static final String LOG_TASK_CHANGE_QUERY = """
+            INSERT INTO task_replication_log (task_id, created_at) VALUES (:taskId, :loggedAt)
+            """;
+
+    private static final String ASSIGNEE_STATUS_TOTALS_QUERY = """
+            SELECT assignee_id, status, COUNT(*), COALESCE(SUM(time_spent), 0)
+            FROM task
+            WHERE assignee_id IS NOT NULL AND status IS NOT NULL
+            GROUP BY assignee_id, status
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findTaskViewsPage(final Long afterId, final TaskStatus status, final Long assigneeId,
+                                            final Instant createdFrom, final Instant createdTo,
+                                            final Instant updatedFrom, final Instant updatedTo, final Pageable pageable) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(TaskView.class);
+        var task = criteriaQuery.from(Task.class);
+
+        criteriaQuery.select(criteriaBuilder.construct(TaskView.class, task.get("id"), task.get("assigneeId"),
+                        task.get("title"), task.get("description"), task.get("status"), task.get("timeSpent"),
+                        task.get("startedAt"), task.get("createdAt"), task.get("updatedAt")))
+                .where(filterTasks(criteriaBuilder, task, afterId, status, assigneeId, createdFrom, createdTo,
+                        updatedFrom, updatedTo))
+                .orderBy(criteriaBuilder.asc(task.get("id")));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public TaskCollectionVersion findCollectionVersion(final Long afterId, final TaskStatus status, final Long assigneeId,
+                                                       final Instant createdFrom, final Instant createdTo,
+                                                       final Instant updatedFrom, final Instant updatedTo) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(TaskCollectionVersion.class);
+        var task = criteriaQuery.from(Task.class);
+
+        criteriaQuery.select(criteriaBuilder.construct(TaskCollectionVersion.class, criteriaBuilder.count(task),
+                        criteriaBuilder.greatest(task.<Instant>get("updatedAt"))))
+                .where(filterTasks(criteriaBuilder, task, afterId, status, assigneeId, createdFrom, createdTo,
+                        updatedFrom, updatedTo));
+
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    @Override
+    public Stream<Task> streamTasks(final Long afterId, final TaskStatus status, final Long assigneeId,
+                                    final Instant createdFrom, final Instant createdTo,
+                                    final Instant updatedFrom, final Instant updatedTo) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createQuery(Task.class);
+        var task = criteriaQuery.from(Task.class);
+
+        criteriaQuery.where(filterTasks(criteriaBuilder, task, afterId, status, assigneeId, createdFrom, createdTo,
+                        updatedFrom, updatedTo))
+                .orderBy(criteriaBuilder.asc(task.get("id")));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Optional<Long> findChunkUpperBoundId(final TaskStatus status, final long afterId, final long maxId, final int chunkSize) {
+        var upperBoundId = (Number) entityManager.createNativeQuery(CHUNK_UPPER_BOUND_ID_QUERY)
+                .setParameter("status", status.name())
+                .setParameter("afterId", afterId)
+                .setParameter("maxId", maxId)
+                .setParameter("chunkSize", chunkSize)
+                .getSingleResult();
+
+        return Optional.ofNullable(upperBoundId).map(Number::longValue);
+    }
+
+    @Override
+    @Transactional
+    public int pauseInProgressTasks(final long afterId, final long upToId, final Instant pausedAt) {
+        var query = PAUSE_IN_PROGRESS_TASKS_QUERY.formatted(currentDialect().elapsedNanos("started_at", ":pausedAt"));
+
+        createTaskUpdate(LOG_IN_PROGRESS_TASKS_CHANGE_QUERY)
+                .setParameter("loggedAt", pausedAt)
+                .setParameter("afterId", afterId)
+                .setParameter("upToId", upToId)
+                .executeUpdate();
+
+        var pausedTasks = createTaskUpdate(query)
+                .setParameter("pausedAt", pausedAt)
+                .setParameter("afterId", afterId)
+                .setParameter("upToId", upToId)
+                .executeUpdate();
+
+        return pausedTasks;
+    }
+
+    @Override
+    @Transactional
+    public boolean transitionStatus(final long taskId, final TaskStatus expectedStatus, final TaskStatus newStatus,
+                                    final Instant transitionedAt) {
+        var query = TRANSITION_STATUS_QUERY.formatted(currentDialect().elapsedNanos("started_at", ":transitionedAt"));
+
+        var transitioned = createTaskUpdate(query)
+                .setParameter("endProgress", expectedStatus == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.PAUSED)
+                .setParameter("startProgress", newStatus == TaskStatus.IN_PROGRESS)
+                .setParameter("transitionedAt", transitionedAt)
+                .setParameter("newStatus", newStatus.name())
+                .setParameter("taskId", taskId)
+                .setParameter("expectedStatus", expectedStatus.name())
+                .executeUpdate() > 0;
+
+        if (transitioned) {
+            createTaskUpdate(LOG_TASK_CHANGE_QUERY)
+                    .setParameter("taskId", taskId)
+                    .setParameter("loggedAt", transitionedAt)
+                    .executeUpdate();
+        }
+
+        return transitioned;
+    }
+
+    /**
+     * The time spent is moved by the difference the transitions made, the start of a task left in progress is the
+     * moment of its last transition.
+     */
+    @Override
+    @Transactional
+    public List<Long> applyCoalescedTransitions(final List<CoalescedTransition> transitions) {
+        var appliedTaskIds = new ArrayList<Long>(transitions.size());
+
+        for (var transition : transitions) {
+            var storedState = transition.getStoredState();
+            var state = transition.getState();
+
+            var applied = createTaskUpdate(APPLY_COALESCED_TRANSITION_QUERY)
+                    .setParameter("timeSpentDelta", state.getTimeSpentOrZero().minus(storedState.getTimeSpentOrZero()).toNanos())
+                    .setParameter("inProgress", state.getStatus() == TaskStatus.IN_PROGRESS)
+                    .setParameter("transitionedAt", transition.getTransitionedAt())
+                    .setParameter("newStatus", state.getStatus().name())
+                    .setParameter("transitions", transition.getTransitions())
+                    .setParameter("taskId", storedState.getId())
+                    .setParameter("storedStartedAt", storedState.getStartedAt())
+                    .executeUpdate() > 0;
+
+            if (applied) {
+                createTaskUpdate(LOG_TASK_CHANGE_QUERY)
+                        .setParameter("taskId", storedState.getId())
+                        .setParameter("loggedAt", transition.getTransitionedAt())
+                        .executeUpdate();
+                appliedTaskIds.add(storedState.getId());
+            }
+        }
+
+        return appliedTaskIds;
+    }
+
+    @Override
+    public List<AssigneeStatusTotals> findAssigneeStatusTotals() {
+        List<?> rows = entityManager.createNativeQuery(ASSIGNEE_STATUS_TOTALS_QUERY).getResultList();
+
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new AssigneeStatusTotals(((Number) row[0]).longValue(), TaskStatus.valueOf((String) row[1]),
+                        ((Number) row[2]).longValue(), Duration.ofNanos(((Number) row[3]).longValue())))
+                .toList();
+    }
+
+    /**
+     * Predicates are added only for the filters that are set, rather than {@code :param IS NULL OR column = :param},
+     * which the planner has to plan for any value and so can not serve from an index.
+     */
+    private static Predicate[] filterTasks(final CriteriaBuilder criteriaBuilder, final Root<Task> task,
+                                           final Long afterId, final TaskStatus status, final Long assigneeId,
+                                           final Instant createdFrom, final Instant createdTo,
+                                           final Instant updatedFrom, final Instant updatedTo) {
+        var predicates = new ArrayList<Predicate>();
+
+        if (afterId != null) {
+            predicates.add(criteriaBuilder.greaterThan(task.get("id"), afterId));
+        }
+        if (status != null) {
+            predicates.add(criteriaBuilder.equal(task.get("status"), status));
+        }
+        if (assigneeId != null) {
+            predicates.add(criteriaBuilder.equal(task.get("assigneeId"), assigneeId));
+        }
+        if (createdFrom != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(task.get("createdAt"), createdFrom));
+        }
+        if (createdTo != null) {
+            predicates.add(criteriaBuilder.lessThan(task.get("createdAt"), createdTo));
+        }
+        if (updatedFrom != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(task.get("updatedAt"), updatedFrom));
+        }
+        if (updatedTo != null) {
+            predicates.add(criteriaBuilder.lessThan(task.get("updatedAt"), updatedTo));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    /**
+     * Hibernate cannot tell which tables a native statement changes, so it would flush every pending entity change
+     * and invalidate every cache region before it. Naming the changed entities limits both to the task tables.
+     */
+    private Query createTaskUpdate(final String query) {
+        return entityManager.createNativeQuery(query)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Task.class)
+                .addSynchronizedEntityClass(TaskReplicationLog.class);
+    }
+
+    private TaskSqlDialect currentDialect() {
+        var databaseProductName = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+
+        return TaskSqlDialect.fromDatabaseProductName(databaseProductName);
+    }
+}
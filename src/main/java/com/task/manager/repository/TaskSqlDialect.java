@@ -0,0 +1,136 @@
+package com.task.manager.repository;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * SQL fragments that differ between the databases behind the routing data source.
+ * <p>
+ * Timestamp parameters are cast to the column type, so they go through the same conversion
+ * as the timestamps Hibernate writes into the {@code task} table.
+ */
+public enum TaskSqlDialect {
+
+    H2("H2") {
+        @Override
+        public String elapsedNanos(final String fromColumn, final String toParameter) {
+            return "DATEDIFF(NANOSECOND, " + fromColumn + ", CAST(" + toParameter + " AS TIMESTAMP))";
+        }
+
+        @Override
+        public String upsertTask() {
+            return """
+                    MERGE INTO task t
+                    USING (SELECT CAST(:id AS BIGINT) AS id, CAST(:title AS VARCHAR(255)) AS title,
+                                  CAST(:description AS VARCHAR(255)) AS description, CAST(:status AS VARCHAR(50)) AS status,
+                                  CAST(:assigneeId AS BIGINT) AS assignee_id, CAST(:createdAt AS TIMESTAMP) AS created_at,
+                                  CAST(:updatedAt AS TIMESTAMP) AS updated_at, CAST(:startedAt AS TIMESTAMP) AS started_at,
+                                  CAST(:timeSpent AS BIGINT) AS time_spent, CAST(:version AS BIGINT) AS version) s
+                    ON t.id = s.id
+                    WHEN MATCHED AND (t.updated_at IS NULL OR s.updated_at IS NULL OR t.updated_at <= s.updated_at) THEN
+                        UPDATE SET title = s.title, description = s.description, status = s.status,
+                                   assignee_id = s.assignee_id, created_at = s.created_at, updated_at = s.updated_at,
+                                   started_at = s.started_at, time_spent = s.time_spent, version = s.version
+                    WHEN NOT MATCHED AND NOT EXISTS (SELECT 1 FROM task_replication_log l
+                                                     WHERE l.task_id = s.id AND l.created_at > s.updated_at) THEN
+                        INSERT (id, title, description, status, assignee_id, created_at, updated_at, started_at,
+                                time_spent, version)
+                        VALUES (s.id, s.title, s.description, s.status, s.assignee_id, s.created_at, s.updated_at,
+                                s.started_at, s.time_spent, s.version)
+                    """;
+        }
+
+        @Override
+        public String nextSequenceValue(final String sequenceName) {
+            return "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = '"
+                    + sequenceName.toUpperCase(Locale.ROOT) + "'";
+        }
+
+        @Override
+        public String restartSequence(final String sequenceName, final long nextValue) {
+            return "ALTER SEQUENCE " + sequenceName + " RESTART WITH " + nextValue;
+        }
+    },
+    POSTGRESQL("PostgreSQL") {
+        @Override
+        public String elapsedNanos(final String fromColumn, final String toParameter) {
+            return "CAST(EXTRACT(EPOCH FROM (CAST(" + toParameter + " AS TIMESTAMP) - " + fromColumn + ")) * 1000000000 AS BIGINT)";
+        }
+
+        @Override
+        public String upsertTask() {
+            return """
+                    INSERT INTO task (id, title, description, status, assignee_id, created_at, updated_at, started_at,
+                                      time_spent, version)
+                    SELECT CAST(:id AS BIGINT), CAST(:title AS VARCHAR(255)), CAST(:description AS VARCHAR(255)),
+                           CAST(:status AS VARCHAR(50)), CAST(:assigneeId AS BIGINT), CAST(:createdAt AS TIMESTAMP),
+                           CAST(:updatedAt AS TIMESTAMP), CAST(:startedAt AS TIMESTAMP), CAST(:timeSpent AS BIGINT),
+                           CAST(:version AS BIGINT)
+                    WHERE EXISTS (SELECT 1 FROM task WHERE id = CAST(:id AS BIGINT))
+                       OR NOT EXISTS (SELECT 1 FROM task_replication_log l
+                                      WHERE l.task_id = CAST(:id AS BIGINT) AND l.created_at > CAST(:updatedAt AS TIMESTAMP))
+                    ON CONFLICT (id) DO UPDATE
+                    SET title = EXCLUDED.title, description = EXCLUDED.description, status = EXCLUDED.status,
+                        assignee_id = EXCLUDED.assignee_id, created_at = EXCLUDED.created_at,
+                        updated_at = EXCLUDED.updated_at, started_at = EXCLUDED.started_at,
+                        time_spent = EXCLUDED.time_spent, version = EXCLUDED.version
+                    WHERE task.updated_at IS NULL OR EXCLUDED.updated_at IS NULL OR task.updated_at <= EXCLUDED.updated_at
+                    """;
+        }
+
+        @Override
+        public String nextSequenceValue(final String sequenceName) {
+            return "SELECT CASE WHEN s.is_called THEN s.last_value + p.increment_by ELSE s.last_value END FROM "
+                    + sequenceName + " s, pg_sequences p WHERE p.sequencename = '" + sequenceName + "'";
+        }
+
+        @Override
+        public String restartSequence(final String sequenceName, final long nextValue) {
+            return "SELECT setval('" + sequenceName + "', " + nextValue + ", false)";
+        }
+    };
+
+    private final String databaseProductName;
+
+    TaskSqlDialect(final String databaseProductName) {
+        this.databaseProductName = databaseProductName;
+    }
+
+    /**
+     * Build an expression computing nanoseconds elapsed between a timestamp column and a timestamp parameter.
+     *
+     * @param fromColumn  column holding the start timestamp
+     * @param toParameter parameter holding the end timestamp
+     * @return SQL expression of BIGINT type
+     */
+    public abstract String elapsedNanos(String fromColumn, String toParameter);
+
+    /**
+     * Build a statement inserting a task or overwriting it unless the stored copy was updated later, parameters are
+     * named after the {@link com.task.manager.domain.Task} fields. A missing task is not inserted while the replication
+     * log holds a change of it made after the copy was updated, the entry left by deleting it serves as a tombstone.
+     *
+     * @return SQL statement
+     */
+    public abstract String upsertTask();
+
+    /**
+     * @param sequenceName name of the sequence
+     * @return SQL query selecting the value the sequence hands out next
+     */
+    public abstract String nextSequenceValue(String sequenceName);
+
+    /**
+     * @param sequenceName name of the sequence
+     * @param nextValue    value the sequence hands out next
+     * @return SQL statement restarting the sequence
+     */
+    public abstract String restartSequence(String sequenceName, long nextValue);
+
+    public static TaskSqlDialect fromDatabaseProductName(final String databaseProductName) {
+        return Arrays.stream(values())
+                .filter(dialect -> dialect.databaseProductName.equalsIgnoreCase(databaseProductName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unsupported database: " + databaseProductName));
+    }
+}
@@ -0,0 +1,15 @@
+package com.task.manager.service;
+
+public interface AssigneeLockService {
+
+    /**
+     * Run the action while holding the lock of the assignee, so actions of the same assignee on this instance run
+     * one at a time while actions of other assignees run in parallel.
+     *
+     * @param assigneeId id of the assignee, may be null
+     * @param action     action to run
+     * @throws com.task.manager.exception.TaskConflictException when the lock is not acquired within the configured
+     *                                                          timeout or the wait is interrupted, the action is not run
+     */
+    void runLocked(Long assigneeId, Runnable action);
+}
@@ -0,0 +1,47 @@
+package com.task.manager.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.task.manager.domain.TaskState;
+import com.task.manager.dto.AssigneeSummaryDto;
+
+public interface AssigneeSummaryService {
+
+    /**
+     * Get summaries of all assignees with tasks, read from counters without touching the task table.
+     *
+     * @return summary of every assignee ordered by assignee id
+     */
+    List<AssigneeSummaryDto> getSummaries();
+
+    /**
+     * Get summary of one assignee, with zero counts when the assignee has no tasks.
+     *
+     * @param assigneeId id of the assignee
+     * @return summary of the assignee
+     */
+    AssigneeSummaryDto getSummary(Long assigneeId);
+
+    /**
+     * Move the counters from the previous to the new state of a task, once the current transaction commits if there is one.
+     *
+     * @param previousState state before the change, null for a created task
+     * @param newState      state after the change, null for a deleted task
+     */
+    void recordChange(TaskState previousState, TaskState newState);
+
+    /**
+     * Record that in progress tasks with ids in the given range were paused with a set-based update.
+     *
+     * @param afterId  exclusive lower bound of the id range
+     * @param upToId   inclusive upper bound of the id range
+     * @param pausedAt moment the tasks were paused at
+     */
+    void recordPaused(long afterId, long upToId, Instant pausedAt);
+
+    /**
+     * Rebuild all counters from the task table.
+     */
+    void reconcile();
+}
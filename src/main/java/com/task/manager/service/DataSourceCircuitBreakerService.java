@@ -0,0 +1,45 @@
+package com.task.manager.service;
+
+import com.task.manager.util.CircuitBreaker;
+
+public interface DataSourceCircuitBreakerService {
+
+    /**
+     * Select data source for a call not pinned to one yet, main unless its circuit is not closed.
+     *
+     * @return data source lookup key
+     */
+    String selectDataSourceKey();
+
+    /**
+     * @param dataSourceKey data source lookup key
+     * @return whether calls may be routed to the data source
+     */
+    boolean isCallPermitted(String dataSourceKey);
+
+    /**
+     * Record call that reached the data source, including calls failed with a logical error.
+     *
+     * @param dataSourceKey data source lookup key
+     */
+    void recordSuccess(String dataSourceKey);
+
+    /**
+     * Record call failed with a transient data source error.
+     *
+     * @param dataSourceKey data source lookup key
+     */
+    void recordFailure(String dataSourceKey);
+
+    /**
+     * @param dataSourceKey data source lookup key
+     * @return current circuit state of the data source
+     */
+    CircuitBreaker.State getState(String dataSourceKey);
+
+    /**
+     * Validate a connection of every data source whose circuit is open and due for a probe, closing the circuit of
+     * data sources that are healthy again.
+     */
+    void probeOpenCircuits();
+}
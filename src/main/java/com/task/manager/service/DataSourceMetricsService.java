@@ -0,0 +1,43 @@
+package com.task.manager.service;
+
+public interface DataSourceMetricsService {
+
+    /**
+     * Record time spent acquiring a connection from the routed data source.
+     *
+     * @param dataSourceKey lookup key of the data source the connection was requested from
+     * @param durationNanos acquire time in nanoseconds
+     * @param success       whether a connection was acquired
+     */
+    void recordConnectionAcquire(String dataSourceKey, long durationNanos, boolean success);
+
+    /**
+     * Record latency of a repository call.
+     *
+     * @param dataSourceKey lookup key of the data source the call was routed to
+     * @param durationNanos call time in nanoseconds
+     * @param success       whether the call completed without an exception
+     */
+    void recordQuery(String dataSourceKey, long durationNanos, boolean success);
+
+    /**
+     * Record circuit of a data source opened, while the main one is open calls are routed to the backup data source.
+     *
+     * @param dataSourceKey lookup key of the data source
+     */
+    void recordCircuitOpened(String dataSourceKey);
+
+    /**
+     * Record outcome of a repository call retried on the backup data source.
+     *
+     * @param success whether the retry completed without an exception
+     */
+    void recordRetry(boolean success);
+
+    /**
+     * Record circuit of a data source closed after a successful probe, ending time spent on backup for the main one.
+     *
+     * @param dataSourceKey lookup key of the data source
+     */
+    void recordCircuitClosed(String dataSourceKey);
+}
@@ -0,0 +1,47 @@
+package com.task.manager.service;
+
+import java.util.Optional;
+
+public interface DataSourceRoutingService {
+
+    /**
+     * Select data source for a call not pinned to one yet. Read only transactions go to a healthy replica unless the
+     * client wrote recently, everything else goes to the primary selected by the circuit breakers.
+     *
+     * @return data source lookup key
+     */
+    String selectDataSourceKey();
+
+    /**
+     * @return whether calls of the current transaction are sent to a replica, falling back to the primary only when no
+     * replica is available
+     */
+    boolean routesToReplica();
+
+    /**
+     * Select data source to retry a call failed with a transient error on the given one.
+     *
+     * @param failedDataSourceKey lookup key of the data source the call failed on
+     * @return data source lookup key, empty when there is nothing left to fail over to
+     */
+    Optional<String> selectFailoverKey(String failedDataSourceKey);
+
+    /**
+     * Record latency of a call, used by least latency replica selection.
+     *
+     * @param dataSourceKey data source lookup key
+     * @param durationNanos call time in nanoseconds
+     */
+    void recordLatency(String dataSourceKey, long durationNanos);
+
+    /**
+     * Record a task change of the current client once it is committed or folded, keeping reads of the client on the
+     * primary for a while.
+     */
+    void recordWrite();
+
+    /**
+     * @return whether reads of the current client are kept on the primary to see its own recent write
+     */
+    boolean wroteRecently();
+}
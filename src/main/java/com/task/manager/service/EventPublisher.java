@@ -0,0 +1,16 @@
+package com.task.manager.service;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface EventPublisher {
+
+    /**
+     * Publishes the event asynchronously.
+     *
+     * @param topic destination topic
+     * @param key   event key
+     * @param event event payload
+     * @return future completed once the event is acknowledged
+     */
+    CompletableFuture<?> publish(String topic, String key, Object event);
+}
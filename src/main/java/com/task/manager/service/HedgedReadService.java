@@ -0,0 +1,19 @@
+package com.task.manager.service;
+
+import java.util.function.Supplier;
+
+public interface HedgedReadService {
+
+    /**
+     * Runs a read routed as usual and, when it has not answered within the hedge delay, the same read on backup,
+     * returning the first answer. A not found or other logical error of the primary is an answer too, only its data
+     * source failures are left for the hedge. The hedge answers only with a result found on backup. Reads are not
+     * hedged while disabled, out of hedge budget, while backup is not available or lags behind main by more than the
+     * hedge delay, or while the client is kept on the primary to see its own writes.
+     *
+     * @param read read only call, run in a read only transaction of its own when hedged
+     * @param <T>  type of the result
+     * @return result of the attempt that answered first
+     */
+    <T> T read(Supplier<T> read);
+}
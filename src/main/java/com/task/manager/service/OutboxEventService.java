@@ -0,0 +1,15 @@
+package com.task.manager.service;
+
+import com.task.manager.domain.OutboxEventType;
+
+public interface OutboxEventService {
+
+    /**
+     * Stores the event in the outbox within the caller's transaction, it is published later by the outbox relay.
+     *
+     * @param eventType type of the event
+     * @param key       event key
+     * @param payload   event payload
+     */
+    void saveEvent(OutboxEventType eventType, String key, Object payload);
+}
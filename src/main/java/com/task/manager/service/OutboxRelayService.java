@@ -0,0 +1,13 @@
+package com.task.manager.service;
+
+public interface OutboxRelayService {
+
+    /**
+     * Publishes pending outbox events batch by batch and removes the acknowledged ones.
+     * Stops at the first batch that is not full or not fully acknowledged. An event failing to publish the configured
+     * number of times is parked, so it is no longer read.
+     *
+     * @return number of published events
+     */
+    long relayPendingEvents();
+}
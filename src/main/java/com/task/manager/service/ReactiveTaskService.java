@@ -0,0 +1,95 @@
+package com.task.manager.service;
+
+import java.util.List;
+
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.UpdateTaskDto;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link TaskService}, nothing happens until the returned publisher is subscribed.
+ */
+public interface ReactiveTaskService {
+
+    /**
+     * Create a new task.
+     *
+     * @param createTaskDto task data
+     * @return id of the created task
+     */
+    Mono<Long> createTask(CreateTaskDto createTaskDto);
+
+    /**
+     * Create tasks in a single transaction, see {@link TaskService#createTasks(List)}.
+     *
+     * @param createTaskDtos data of the tasks to create
+     * @return result of every item in request order
+     */
+    Mono<List<BulkItemResultDto>> createTasks(List<CreateTaskDto> createTaskDtos);
+
+    /**
+     * Delete a task.
+     *
+     * @param taskId id of the task to delete
+     * @return completion of the deletion
+     */
+    Mono<Void> deleteTask(Long taskId);
+
+    /**
+     * Delete tasks with a single statement, see {@link TaskService#deleteTasks(List)}.
+     *
+     * @param taskIds ids of the tasks to delete
+     * @return result of every item in request order
+     */
+    Mono<List<BulkItemResultDto>> deleteTasks(List<Long> taskIds);
+
+    /**
+     * Update task status.
+     *
+     * @param taskId              id of the task to update
+     * @param updateTaskStatusDto new status
+     * @return completion of the update
+     */
+    Mono<Void> updateTaskStatus(Long taskId, UpdateTaskStatusDto updateTaskStatusDto);
+
+    /**
+     * Update task data.
+     *
+     * @param taskId        id of the task to update
+     * @param updateTaskDto new data
+     * @return completion of the update
+     */
+    Mono<Void> updateTask(Long taskId, UpdateTaskDto updateTaskDto);
+
+    /**
+     * Update tasks in a single transaction, see {@link TaskService#updateTasks(List)}.
+     *
+     * @param bulkUpdateTaskDtos ids and new data of the tasks to update
+     * @return result of every item in request order
+     */
+    Mono<List<BulkItemResultDto>> updateTasks(List<BulkUpdateTaskDto> bulkUpdateTaskDtos);
+
+    /**
+     * Get task by id.
+     *
+     * @param taskId id of the task
+     * @return task data
+     */
+    Mono<TaskDto> getTask(Long taskId);
+
+    /**
+     * Get all tasks matching the filter ordered by id. Pages are read one at a time as the subscriber requests
+     * more tasks, so a slow subscriber holds at most two pages in memory and no connection between them.
+     *
+     * @param taskFilterDto filter to apply
+     * @param cursor        id of the last task already seen, null to start from the first task
+     * @return tasks with ids greater than the cursor
+     */
+    Flux<TaskDto> getTasks(TaskFilterDto taskFilterDto, Long cursor);
+}
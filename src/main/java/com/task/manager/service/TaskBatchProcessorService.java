@@ -1,15 +1,17 @@
 package com.task.manager.service;
 
-import java.util.List;
-
-import com.task.manager.domain.Task;
+import java.time.Instant;
 
 public interface TaskBatchProcessorService {
 
     /**
-     * Update tasks status to paused.
+     * Update status of in progress tasks within the id range to paused and checkpoint the pause partition progress.
      *
-     * @param tasks tasks to update
+     * @param partitionId id of the pause partition the range belongs to
+     * @param afterId     lower bound of the id range, exclusive
+     * @param upToId      upper bound of the id range, inclusive
+     * @param pausedAt    moment the tasks are paused at
+     * @return number of updated tasks
      */
-    void updateTasksStatusToPaused(List<Task> tasks);
+    int updateTasksStatusToPaused(int partitionId, long afterId, long upToId, Instant pausedAt);
 }
@@ -0,0 +1,42 @@
+package com.task.manager.service;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.task.manager.domain.TaskView;
+import com.task.manager.dto.TaskDto;
+
+public interface TaskCacheService {
+
+    /**
+     * Get task from the cache, loading it on a miss. Time spent of an in progress task is computed at read time.
+     *
+     * @param taskId id of the task
+     * @param loader loads the task on a cache miss
+     * @return task data
+     */
+    TaskDto getTask(Long taskId, Function<Long, TaskView> loader);
+
+    /**
+     * Evict task from the cache right away and once more after the current transaction commits, if there is one.
+     *
+     * @param taskId id of the task
+     */
+    void evict(Long taskId);
+
+    /**
+     * Evict tasks from the cache, same as {@link #evict(Long)} for every id.
+     *
+     * @param taskIds ids of the tasks
+     */
+    void evictAll(Collection<Long> taskIds);
+
+    /**
+     * Evict every cached task with id in the given range, same as {@link #evict(Long)} for every id. Used after the
+     * tasks were changed with set-based updates, whose changed rows are not known.
+     *
+     * @param afterId exclusive lower bound of the id range
+     * @param upToId  inclusive upper bound of the id range
+     */
+    void evictRange(long afterId, long upToId);
+}
@@ -0,0 +1,38 @@
+package com.task.manager.service;
+
+import java.time.Instant;
+
+import com.task.manager.domain.TaskState;
+import com.task.manager.dto.TaskChangeEventDto;
+import reactor.core.publisher.Flux;
+
+public interface TaskChangeFeedService {
+
+    /**
+     * Publish the change of a task, once the current transaction commits if there is one.
+     *
+     * @param previousState state before the change, null for a created task
+     * @param newState      state after the change, null for a deleted task
+     */
+    void publishChange(TaskState previousState, TaskState newState);
+
+    /**
+     * Publish that in progress tasks with ids in the given range were paused with a set-based update.
+     *
+     * @param afterId  exclusive lower bound of the id range
+     * @param upToId   inclusive upper bound of the id range
+     * @param pausedAt moment the tasks were paused at
+     */
+    void publishPaused(long afterId, long upToId, Instant pausedAt);
+
+    /**
+     * Stream task changes as they are published, after replaying the retained ones following the given sequence.
+     *
+     * @param assigneeId    only changes of tasks assigned, or previously assigned, to this assignee, null for all;
+     *                      paused ranges are always included
+     * @param afterSequence sequence of the last event the client has seen, null to start with the next change
+     * @return endless stream of changes, failing when the client falls too far behind
+     * @throws com.task.manager.exception.TaskChangeFeedGapException when events after the sequence are no longer retained
+     */
+    Flux<TaskChangeEventDto> getChanges(Long assigneeId, Long afterSequence);
+}
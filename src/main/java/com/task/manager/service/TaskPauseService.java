@@ -0,0 +1,13 @@
+package com.task.manager.service;
+
+public interface TaskPauseService {
+
+    /**
+     * Pause all in progress tasks, processing disjoint id range partitions in parallel.
+     * Resumes the partitions left unfinished by an interrupted run at the pause moment of that run, then plans a new
+     * run over the tasks still in progress, so tasks outside the resumed id ranges or started since are paused too.
+     *
+     * @return number of paused tasks
+     */
+    long pauseInProgressTasks();
+}
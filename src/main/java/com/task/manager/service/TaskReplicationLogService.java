@@ -0,0 +1,21 @@
+package com.task.manager.service;
+
+import java.util.Collection;
+
+public interface TaskReplicationLogService {
+
+    /**
+     * Logs the task changed within the caller's transaction, it is copied to the other data source later by the
+     * replication relay.
+     *
+     * @param taskId id of the created, updated or deleted task
+     */
+    void recordChange(Long taskId);
+
+    /**
+     * Logs the tasks changed within the caller's transaction.
+     *
+     * @param taskIds ids of the created, updated or deleted tasks
+     */
+    void recordChanges(Collection<Long> taskIds);
+}
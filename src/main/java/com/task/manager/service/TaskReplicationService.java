@@ -0,0 +1,22 @@
+package com.task.manager.service;
+
+import java.time.Duration;
+
+public interface TaskReplicationService {
+
+    /**
+     * Copies the logged task changes between the main and the backup data sources batch by batch and removes the
+     * applied log entries. Changes made on backup while main was failed over are caught up on main first, then
+     * changes made on main are copied to backup. A direction is skipped while the circuit of either data source is
+     * not closed. A change the other data source keeps rejecting is parked after the configured number of attempts.
+     *
+     * @return number of applied log entries
+     */
+    long replicatePendingChanges();
+
+    /**
+     * @return how long the oldest change made on main and not copied to backup yet has been waiting, zero when backup
+     * had caught up by the end of the last replication run
+     */
+    Duration getBackupLag();
+}
@@ -1,10 +1,16 @@
 package com.task.manager.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
-import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskPageDto;
 import com.task.manager.dto.UpdateTaskDto;
 import com.task.manager.dto.UpdateTaskStatusDto;
 
@@ -18,6 +24,14 @@ public interface TaskService {
      */
     Long createTask(CreateTaskDto createTaskDto);
 
+    /**
+     * Create tasks in a single transaction, inserting them in JDBC batches. Invalid items are skipped.
+     *
+     * @param createTaskDtos data of the tasks to create
+     * @return result of every item in request order
+     */
+    List<BulkItemResultDto> createTasks(List<CreateTaskDto> createTaskDtos);
+
     /**
      * Delete a task.
      *
@@ -26,19 +40,20 @@ public interface TaskService {
     void deleteTask(Long taskId);
 
     /**
-     * Update task status.
+     * Delete tasks with a single statement. Ids of tasks that do not exist are reported as not found.
      *
-     * @param taskId              id of the task to update
-     * @param updateTaskStatusDto new status
+     * @param taskIds ids of the tasks to delete
+     * @return result of every item in request order
      */
-    void updateTaskStatus(Long taskId, UpdateTaskStatusDto updateTaskStatusDto);
+    List<BulkItemResultDto> deleteTasks(List<Long> taskIds);
 
     /**
-     * Update tasks status from in progress to paused in batch.
+     * Update task status.
      *
-     * @param batchSize size of the batch
+     * @param taskId              id of the task to update
+     * @param updateTaskStatusDto new status
      */
-    void updateTasksStatusFromInProgressToPausedInBatch(int batchSize);
+    void updateTaskStatus(Long taskId, UpdateTaskStatusDto updateTaskStatusDto);
 
     /**
      * Update task data.
@@ -48,6 +63,15 @@ public interface TaskService {
      */
     void updateTask(Long taskId, UpdateTaskDto updateTaskDto);
 
+    /**
+     * Update tasks, applying the same rules as {@link #updateTask(Long, UpdateTaskDto)} to every item in a
+     * transaction of its own. Items that fail are rolled back alone and reported in the result.
+     *
+     * @param bulkUpdateTaskDtos ids and new data of the tasks to update
+     * @return result of every item in request order
+     */
+    List<BulkItemResultDto> updateTasks(List<BulkUpdateTaskDto> bulkUpdateTaskDtos);
+
     /**
      * Get task by id.
      *
@@ -57,9 +81,38 @@ public interface TaskService {
     TaskDto getTask(Long taskId);
 
     /**
-     * Get all tasks.
+     * Get the version of a task without loading the task, to validate a copy a client already has.
+     *
+     * @param taskId id of the task
+     * @return status, version and update time of the task
+     */
+    TaskVersion getTaskVersion(Long taskId);
+
+    /**
+     * Get a page of tasks ordered by id using keyset pagination.
+     *
+     * @param taskFilterDto filter to apply
+     * @param cursor        id of the last task of the previous page, null for the first page
+     * @param limit         max number of tasks in the page
+     * @return page of tasks with the cursor of the next page
+     */
+    TaskPageDto getTasks(TaskFilterDto taskFilterDto, Long cursor, int limit);
+
+    /**
+     * Get the number and the latest update time of the tasks after the cursor matching the filter, to validate a page
+     * a client already has without loading it.
+     *
+     * @param taskFilterDto filter to apply
+     * @param cursor        id of the last task of the previous page, null for the first page
+     * @return version of the matching tasks
+     */
+    TaskCollectionVersion getTasksVersion(TaskFilterDto taskFilterDto, Long cursor);
+
+    /**
+     * Stream all tasks matching the filter ordered by id, reading them from a database cursor.
      *
-     * @return list of tasks
+     * @param taskFilterDto filter to apply
+     * @param consumer      consumer of every task
      */
-    List<TaskDto> getTasks();
+    void streamTasks(TaskFilterDto taskFilterDto, Consumer<TaskDto> consumer);
 }
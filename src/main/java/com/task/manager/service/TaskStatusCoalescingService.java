@@ -0,0 +1,71 @@
+package com.task.manager.service;
+
+import java.util.Optional;
+
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.dto.TaskDto;
+
+public interface TaskStatusCoalescingService {
+
+    /**
+     * @param taskId id of the task
+     * @return latest state of the task when it has transitions not written yet
+     */
+    Optional<TaskState> getPendingState(Long taskId);
+
+    /**
+     * Fold a pause or restart of a task into the transitions of the task not written yet. The first one folded has
+     * to be the pause of a task in progress in the store, so the task keeps the one in progress slot of its assignee
+     * in the store until the net result is written.
+     *
+     * @param taskState latest state of the task
+     * @param newStatus status to move the task to
+     * @return whether the transition was folded, false when it has to be written right away
+     */
+    boolean coalesce(TaskState taskState, TaskStatus newStatus);
+
+    /**
+     * Write the net result of the transitions not written yet of the tasks of the assignee.
+     *
+     * @param assigneeId id of the assignee
+     * @return whether any task of the assignee had transitions not written yet
+     */
+    boolean flushAssignee(Long assigneeId);
+
+    /**
+     * Write the net result of all transitions not written yet in one transaction.
+     *
+     * @return number of tasks the results were written to
+     */
+    int flush();
+
+    /**
+     * Overlay the transitions of the task not written yet on a task read from the store.
+     *
+     * @param taskDto task read from the store
+     */
+    void applyPendingChange(TaskDto taskDto);
+
+    /**
+     * Overlay the transitions of the task not written yet on a version read from the store, the same way writing
+     * them will change it.
+     *
+     * @param taskId      id of the task
+     * @param taskVersion version read from the store
+     */
+    void applyPendingChange(Long taskId, TaskVersion taskVersion);
+
+    /**
+     * Overlay the transitions not written yet on the version of a collection read from the store. Only the cursor and
+     * assignee are matched against, so the version may move for a task outside the collection but never misses a
+     * change of one inside it.
+     *
+     * @param afterId               id after which the collection starts, exclusive, null for the whole collection
+     * @param assigneeId            assignee of the tasks of the collection, null for any
+     * @param taskCollectionVersion version read from the store
+     */
+    void applyPendingChanges(Long afterId, Long assigneeId, TaskCollectionVersion taskCollectionVersion);
+}
@@ -0,0 +1,84 @@
+package com.task.manager.service.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import com.task.manager.config.properties.AssigneeLockProperties;
+import com.task.manager.exception.TaskConflictException;
+import com.task.manager.service.AssigneeLockService;
+import com.task.manager.util.StripedLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+/**
+ * An uncontended lock is taken with a single compare and set, only a contended one parks the thread and is timed.
+ */
+@Log4j2
+@Service
+public class AssigneeLockServiceImpl implements AssigneeLockService {
+
+    private static final String ACQUISITIONS_COUNTER = "task.assignee.lock.acquisitions";
+    private static final String WAIT_TIMER = "task.assignee.lock.wait";
+    private static final String RESULT_TAG = "result";
+
+    private final AssigneeLockProperties assigneeLockProperties;
+
+    private final StripedLock stripedLock;
+
+    private final Counter uncontendedCounter;
+
+    private final Counter contendedCounter;
+
+    private final Counter timeoutCounter;
+
+    private final Timer waitTimer;
+
+    public AssigneeLockServiceImpl(final AssigneeLockProperties assigneeLockProperties, final MeterRegistry meterRegistry) {
+        this.assigneeLockProperties = assigneeLockProperties;
+        this.stripedLock = new StripedLock(assigneeLockProperties.getStripes());
+        this.uncontendedCounter = meterRegistry.counter(ACQUISITIONS_COUNTER, RESULT_TAG, "uncontended");
+        this.contendedCounter = meterRegistry.counter(ACQUISITIONS_COUNTER, RESULT_TAG, "contended");
+        this.timeoutCounter = meterRegistry.counter(ACQUISITIONS_COUNTER, RESULT_TAG, "timeout");
+        this.waitTimer = Timer.builder(WAIT_TIMER)
+                .description("Time spent waiting for the lock of an assignee held by another transition")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void runLocked(final Long assigneeId, final Runnable action) {
+        var lock = stripedLock.get(assigneeId);
+
+        if (lock.tryLock()) {
+            uncontendedCounter.increment();
+        } else if (awaitLock(assigneeId, lock)) {
+            contendedCounter.increment();
+        } else {
+            timeoutCounter.increment();
+            log.warn("Lock of assignee {} was not acquired within {}", assigneeId, assigneeLockProperties.getTimeout());
+            throw new TaskConflictException("Another status change of the assignee is in progress, retry later");
+        }
+
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean awaitLock(final Long assigneeId, final Lock lock) {
+        var startNanos = System.nanoTime();
+
+        try {
+            return lock.tryLock(assigneeLockProperties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new TaskConflictException("Interrupted while waiting for lock of assignee " + assigneeId, exc);
+        } finally {
+            waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.AssigneeSummaryDto;
+import com.task.manager.repository.TaskRepository;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.util.TimeSpentFormatter;
+import com.task.manager.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps task counts and stored time spent per assignee and status in memory, moved by every change made through this
+ * instance. Only one task of an assignee can be in progress, so its start time is kept as well and the live time spent
+ * is computed at read time. Changes made by other instances show up on the next reconciliation.
+ */
+@Log4j2
+@Service
+public class AssigneeSummaryServiceImpl implements AssigneeSummaryService {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskRepository taskRepository;
+
+    private final Timer reconcileTimer;
+
+    private final Counter driftCounter;
+
+    private volatile Map<Long, AssigneeCounters> summaries = new ConcurrentHashMap<>();
+
+    private volatile ConcurrentNavigableMap<Long, Long> inProgressAssigneeIdByTaskId = new ConcurrentSkipListMap<>();
+
+    public AssigneeSummaryServiceImpl(final TaskRepository taskRepository, final MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.reconcileTimer = meterRegistry.timer("task.assignee.summary.reconcile");
+        this.driftCounter = Counter.builder("task.assignee.summary.drift")
+                .description("Assignees whose counters were corrected by a reconciliation")
+                .register(meterRegistry);
+        meterRegistry.gauge("task.assignee.summary.assignees", this, service -> service.summaries.size());
+    }
+
+    @Override
+    public List<AssigneeSummaryDto> getSummaries() {
+        var now = Instant.now();
+
+        return summaries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .map(entry -> entry.getValue().toDto(entry.getKey(), now))
+                .toList();
+    }
+
+    @Override
+    public AssigneeSummaryDto getSummary(final Long assigneeId) {
+        var counters = summaries.get(assigneeId);
+
+        return (counters != null ? counters : new AssigneeCounters()).toDto(assigneeId, Instant.now());
+    }
+
+    @Override
+    public void recordChange(final TaskState previousState, final TaskState newState) {
+        TransactionCallbacks.afterCommit(() -> applyChange(previousState, newState));
+    }
+
+    @Override
+    public void recordPaused(final long afterId, final long upToId, final Instant pausedAt) {
+        var pausedTasks = inProgressAssigneeIdByTaskId.subMap(afterId, false, upToId, true);
+
+        for (var pausedTask : new ArrayList<>(pausedTasks.entrySet())) {
+            pausedTasks.remove(pausedTask.getKey());
+            summaries.computeIfPresent(pausedTask.getValue(), (assigneeId, counters) -> {
+                counters.pause(pausedTask.getKey(), pausedAt);
+                return counters;
+            });
+        }
+    }
+
+    /**
+     * Counters changed while the task table is read can be lost or counted twice, the next reconciliation fixes them.
+     */
+    @Override
+    public void reconcile() {
+        reconcileTimer.record(() -> {
+            Map<Long, AssigneeCounters> reconciledSummaries = new ConcurrentHashMap<>();
+            ConcurrentNavigableMap<Long, Long> reconciledInProgress = new ConcurrentSkipListMap<>();
+
+            for (var totals : taskRepository.findAssigneeStatusTotals()) {
+                reconciledSummaries.computeIfAbsent(totals.getAssigneeId(), assigneeId -> new AssigneeCounters())
+                        .addTotals(totals.getStatus(), totals.getTaskCount(), totals.getTimeSpent());
+            }
+            for (var taskState : taskRepository.findInProgressStates()) {
+                var counters = reconciledSummaries.get(taskState.getAssigneeId());
+
+                if (counters != null) {
+                    counters.startProgress(taskState.getId(), taskState.getStartedAt());
+                    reconciledInProgress.put(taskState.getId(), taskState.getAssigneeId());
+                }
+            }
+
+            var driftedAssignees = countDrift(summaries, reconciledSummaries);
+            summaries = reconciledSummaries;
+            inProgressAssigneeIdByTaskId = reconciledInProgress;
+            driftCounter.increment(driftedAssignees);
+
+            log.debug("Reconciled summaries of {} assignees, {} of them drifted", reconciledSummaries.size(), driftedAssignees);
+        });
+    }
+
+    private void applyChange(final TaskState previousState, final TaskState newState) {
+        if (previousState != null && previousState.getAssigneeId() != null) {
+            summaries.computeIfPresent(previousState.getAssigneeId(), (assigneeId, counters) -> {
+                counters.remove(previousState);
+                return counters.isEmpty() ? null : counters;
+            });
+            if (previousState.getStatus() == TaskStatus.IN_PROGRESS) {
+                inProgressAssigneeIdByTaskId.remove(previousState.getId(), previousState.getAssigneeId());
+            }
+        }
+
+        if (newState != null && newState.getAssigneeId() != null) {
+            summaries.compute(newState.getAssigneeId(), (assigneeId, counters) -> {
+                var updatedCounters = counters != null ? counters : new AssigneeCounters();
+                updatedCounters.add(newState);
+                return updatedCounters;
+            });
+            if (newState.getStatus() == TaskStatus.IN_PROGRESS && newState.getStartedAt() != null) {
+                inProgressAssigneeIdByTaskId.put(newState.getId(), newState.getAssigneeId());
+            }
+        }
+    }
+
+    private static long countDrift(final Map<Long, AssigneeCounters> summaries,
+                                   final Map<Long, AssigneeCounters> reconciledSummaries) {
+        var assigneeIds = new HashSet<>(summaries.keySet());
+        assigneeIds.addAll(reconciledSummaries.keySet());
+
+        return assigneeIds.stream()
+                .filter(assigneeId -> !sameTotals(summaries.get(assigneeId), reconciledSummaries.get(assigneeId)))
+                .count();
+    }
+
+    private static boolean sameTotals(final AssigneeCounters counters, final AssigneeCounters reconciledCounters) {
+        if (counters == null || reconciledCounters == null) {
+            return counters == reconciledCounters;
+        }
+
+        return counters.sameTotals(reconciledCounters);
+    }
+
+    /**
+     * Counters of one assignee, guarded by its own monitor so reads never see a half applied change.
+     */
+    private static class AssigneeCounters {
+
+        private final long[] taskCounts = new long[STATUSES.length];
+
+        private long timeSpentNanos;
+
+        private Long inProgressTaskId;
+
+        private Instant inProgressStartedAt;
+
+        synchronized void add(final TaskState taskState) {
+            addTotals(taskState.getStatus(), 1, taskState.getTimeSpentOrZero());
+
+            if (taskState.getStatus() == TaskStatus.IN_PROGRESS) {
+                startProgress(taskState.getId(), taskState.getStartedAt());
+            }
+        }
+
+        synchronized void remove(final TaskState taskState) {
+            addTotals(taskState.getStatus(), -1, taskState.getTimeSpentOrZero().negated());
+
+            if (Objects.equals(inProgressTaskId, taskState.getId())) {
+                startProgress(null, null);
+            }
+        }
+
+        synchronized void addTotals(final TaskStatus status, final long taskCount, final Duration timeSpent) {
+            taskCounts[status.ordinal()] += taskCount;
+            timeSpentNanos += timeSpent.toNanos();
+        }
+
+        synchronized void startProgress(final Long taskId, final Instant startedAt) {
+            inProgressTaskId = taskId;
+            inProgressStartedAt = startedAt;
+        }
+
+        synchronized void pause(final Long taskId, final Instant pausedAt) {
+            if (!Objects.equals(inProgressTaskId, taskId)) {
+                return;
+            }
+
+            taskCounts[TaskStatus.IN_PROGRESS.ordinal()]--;
+            taskCounts[TaskStatus.PAUSED.ordinal()]++;
+            if (inProgressStartedAt != null) {
+                timeSpentNanos += Duration.between(inProgressStartedAt, pausedAt).toNanos();
+            }
+            startProgress(null, null);
+        }
+
+        synchronized boolean isEmpty() {
+            for (var taskCount : taskCounts) {
+                if (taskCount != 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        synchronized AssigneeSummaryDto toDto(final Long assigneeId, final Instant now) {
+            var taskCountByStatus = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+            var taskCount = 0L;
+
+            for (var status : STATUSES) {
+                taskCountByStatus.put(status, taskCounts[status.ordinal()]);
+                taskCount += taskCounts[status.ordinal()];
+            }
+
+            var timeSpent = Duration.ofNanos(timeSpentNanos);
+            if (inProgressStartedAt != null) {
+                timeSpent = timeSpent.plus(Duration.between(inProgressStartedAt, now));
+            }
+
+            return new AssigneeSummaryDto(assigneeId, taskCountByStatus, taskCount, TimeSpentFormatter.format(timeSpent.toMillis()));
+        }
+
+        synchronized boolean sameTotals(final AssigneeCounters otherCounters) {
+            return Arrays.equals(taskCounts, otherCounters.taskCounts) && timeSpentNanos == otherCounters.timeSpentNanos;
+        }
+    }
+}
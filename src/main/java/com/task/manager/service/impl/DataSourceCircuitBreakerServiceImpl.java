@@ -0,0 +1,121 @@
+package com.task.manager.service.impl;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.task.manager.config.ReplicaDataSources;
+import com.task.manager.config.properties.DataSourceCircuitBreakerProperties;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.util.CircuitBreaker;
+import com.task.manager.util.DataSourceContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+public class DataSourceCircuitBreakerServiceImpl implements DataSourceCircuitBreakerService {
+
+    private static final String CIRCUIT_STATE_GAUGE = "task.datasource.circuit.state";
+    private static final String DATA_SOURCE_TAG = "datasource";
+
+    private final DataSourceCircuitBreakerProperties circuitBreakerProperties;
+
+    private final DataSourceMetricsService dataSourceMetricsService;
+
+    private final Map<String, DataSource> dataSources;
+
+    private final Map<String, CircuitBreaker> circuitBreakers;
+
+    public DataSourceCircuitBreakerServiceImpl(final DataSourceCircuitBreakerProperties circuitBreakerProperties,
+                                               final DataSourceMetricsService dataSourceMetricsService,
+                                               @Qualifier("mainDataSource") final DataSource mainDataSource,
+                                               @Qualifier("backupDataSource") final DataSource backupDataSource,
+                                               final ReplicaDataSources replicaDataSources,
+                                               final MeterRegistry meterRegistry) {
+        this.circuitBreakerProperties = circuitBreakerProperties;
+        this.dataSourceMetricsService = dataSourceMetricsService;
+
+        var targetDataSources = new LinkedHashMap<String, DataSource>();
+        targetDataSources.put(DataSourceContext.MAIN, mainDataSource);
+        targetDataSources.put(DataSourceContext.BACKUP, backupDataSource);
+        targetDataSources.putAll(replicaDataSources.getDataSources());
+        this.dataSources = Collections.unmodifiableMap(targetDataSources);
+
+        var targetCircuitBreakers = new LinkedHashMap<String, CircuitBreaker>();
+        dataSources.keySet().forEach(dataSourceKey ->
+                targetCircuitBreakers.put(dataSourceKey, new CircuitBreaker(circuitBreakerProperties, System::nanoTime)));
+        this.circuitBreakers = Collections.unmodifiableMap(targetCircuitBreakers);
+
+        circuitBreakers.forEach((dataSourceKey, circuitBreaker) -> Gauge
+                .builder(CIRCUIT_STATE_GAUGE, circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Circuit state of the data source, 0 closed, 1 open, 2 half open")
+                .tag(DATA_SOURCE_TAG, dataSourceKey)
+                .register(meterRegistry));
+    }
+
+    @Override
+    public String selectDataSourceKey() {
+        return isCallPermitted(DataSourceContext.MAIN) ? DataSourceContext.MAIN : DataSourceContext.BACKUP;
+    }
+
+    @Override
+    public boolean isCallPermitted(final String dataSourceKey) {
+        return circuitBreakers.get(dataSourceKey).isCallPermitted();
+    }
+
+    @Override
+    public void recordSuccess(final String dataSourceKey) {
+        circuitBreakers.get(dataSourceKey).recordSuccess();
+    }
+
+    @Override
+    public void recordFailure(final String dataSourceKey) {
+        if (circuitBreakers.get(dataSourceKey).recordFailure()) {
+            log.error("Failure rate of {} data source reached {}%, opening its circuit", dataSourceKey,
+                    circuitBreakerProperties.getFailureRateThreshold());
+            dataSourceMetricsService.recordCircuitOpened(dataSourceKey);
+        }
+    }
+
+    @Override
+    public CircuitBreaker.State getState(final String dataSourceKey) {
+        return circuitBreakers.get(dataSourceKey).getState();
+    }
+
+    @Override
+    public void probeOpenCircuits() {
+        circuitBreakers.forEach((dataSourceKey, circuitBreaker) -> {
+            if (!circuitBreaker.tryStartProbe()) {
+                return;
+            }
+
+            if (isHealthy(dataSourceKey)) {
+                log.info("Probe of {} data source succeeded, closing its circuit", dataSourceKey);
+                circuitBreaker.onProbeSuccess();
+                dataSourceMetricsService.recordCircuitClosed(dataSourceKey);
+            } else {
+                circuitBreaker.onProbeFailure();
+            }
+        });
+    }
+
+    private boolean isHealthy(final String dataSourceKey) {
+        var validationTimeoutSeconds = (int) Math.max(1, circuitBreakerProperties.getValidationTimeout().toSeconds());
+
+        try (var connection = dataSources.get(dataSourceKey).getConnection()) {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException exc) {
+            log.warn("Probe of {} data source failed: {}", dataSourceKey, exc.getMessage());
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.task.manager.service.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.util.DataSourceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DataSourceMetricsServiceImpl implements DataSourceMetricsService {
+
+    private static final String CONNECTION_ACQUIRE_TIMER = "task.datasource.connection.acquire";
+    private static final String QUERY_TIMER = "task.datasource.query";
+    private static final String FAILOVER_COUNTER = "task.datasource.failovers";
+    private static final String RETRY_COUNTER = "task.datasource.retries";
+    private static final String BACKUP_ACTIVE_GAUGE = "task.datasource.backup.active";
+    private static final String BACKUP_TIME_COUNTER = "task.datasource.backup.time";
+    private static final String DATA_SOURCE_TAG = "datasource";
+    private static final String RESULT_TAG = "result";
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final long NOT_ON_BACKUP = 0L;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter retrySuccessCounter;
+
+    private final Counter retryFailureCounter;
+
+    private final AtomicLong backupSinceNanos = new AtomicLong(NOT_ON_BACKUP);
+
+    private final AtomicLong completedBackupNanos = new AtomicLong();
+
+    public DataSourceMetricsServiceImpl(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.retrySuccessCounter = meterRegistry.counter(RETRY_COUNTER, RESULT_TAG, SUCCESS);
+        this.retryFailureCounter = meterRegistry.counter(RETRY_COUNTER, RESULT_TAG, FAILURE);
+
+        Gauge.builder(BACKUP_ACTIVE_GAUGE, () -> backupSinceNanos.get() != NOT_ON_BACKUP ? 1 : 0)
+                .description("Whether requests are routed to the backup data source")
+                .register(meterRegistry);
+        FunctionCounter.builder(BACKUP_TIME_COUNTER, this, DataSourceMetricsServiceImpl::backupSeconds)
+                .description("Total time requests were routed to the backup data source")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordConnectionAcquire(final String dataSourceKey, final long durationNanos, final boolean success) {
+        Timer.builder(CONNECTION_ACQUIRE_TIMER)
+                .tag(DATA_SOURCE_TAG, dataSourceKey)
+                .tag(RESULT_TAG, success ? SUCCESS : FAILURE)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQuery(final String dataSourceKey, final long durationNanos, final boolean success) {
+        Timer.builder(QUERY_TIMER)
+                .tag(DATA_SOURCE_TAG, dataSourceKey)
+                .tag(RESULT_TAG, success ? SUCCESS : FAILURE)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCircuitOpened(final String dataSourceKey) {
+        meterRegistry.counter(FAILOVER_COUNTER, DATA_SOURCE_TAG, dataSourceKey).increment();
+
+        if (DataSourceContext.MAIN.equals(dataSourceKey)) {
+            backupSinceNanos.compareAndSet(NOT_ON_BACKUP, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void recordRetry(final boolean success) {
+        (success ? retrySuccessCounter : retryFailureCounter).increment();
+    }
+
+    @Override
+    public void recordCircuitClosed(final String dataSourceKey) {
+        if (!DataSourceContext.MAIN.equals(dataSourceKey)) {
+            return;
+        }
+
+        var backupSince = backupSinceNanos.getAndSet(NOT_ON_BACKUP);
+
+        if (backupSince != NOT_ON_BACKUP) {
+            completedBackupNanos.addAndGet(System.nanoTime() - backupSince);
+        }
+    }
+
+    private double backupSeconds() {
+        var backupSince = backupSinceNanos.get();
+        var backupNanos = completedBackupNanos.get() + (backupSince != NOT_ON_BACKUP ? System.nanoTime() - backupSince : 0);
+
+        return (double) backupNanos / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.task.manager.config.ReplicaDataSources;
+import com.task.manager.config.properties.ReadReplicaProperties;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.util.DataSourceContext;
+import com.task.manager.util.ReadYourWritesContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class DataSourceRoutingServiceImpl implements DataSourceRoutingService {
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final ReadReplicaProperties readReplicaProperties;
+
+    private final DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    private final List<String> replicaKeys;
+
+    private final Map<String, AtomicLong> replicaLatencies;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public DataSourceRoutingServiceImpl(final ReadReplicaProperties readReplicaProperties,
+                                        final DataSourceCircuitBreakerService dataSourceCircuitBreakerService,
+                                        final ReplicaDataSources replicaDataSources) {
+        this.readReplicaProperties = readReplicaProperties;
+        this.dataSourceCircuitBreakerService = dataSourceCircuitBreakerService;
+        this.replicaKeys = List.copyOf(replicaDataSources.getDataSources().keySet());
+        this.replicaLatencies = replicaKeys.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), replicaKey -> new AtomicLong()));
+    }
+
+    @Override
+    public String selectDataSourceKey() {
+        if (routesToReplica()) {
+            var replicaKey = readReplicaProperties.getSelection() == ReadReplicaProperties.Selection.LEAST_LATENCY
+                    ? selectLeastLatencyReplica()
+                    : selectNextReplica();
+
+            if (replicaKey != null) {
+                return replicaKey;
+            }
+        }
+
+        return dataSourceCircuitBreakerService.selectDataSourceKey();
+    }
+
+    @Override
+    public boolean routesToReplica() {
+        return !replicaKeys.isEmpty() && TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !wroteRecently();
+    }
+
+    @Override
+    public Optional<String> selectFailoverKey(final String failedDataSourceKey) {
+        if (DataSourceContext.BACKUP.equals(failedDataSourceKey)) {
+            return Optional.empty();
+        }
+
+        if (DataSourceContext.MAIN.equals(failedDataSourceKey)) {
+            return dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.BACKUP)
+                    ? Optional.of(DataSourceContext.BACKUP)
+                    : Optional.empty();
+        }
+
+        return Optional.of(dataSourceCircuitBreakerService.selectDataSourceKey());
+    }
+
+    @Override
+    public void recordLatency(final String dataSourceKey, final long durationNanos) {
+        var latency = replicaLatencies.get(dataSourceKey);
+
+        if (latency != null) {
+            latency.updateAndGet(average -> average == 0
+                    ? durationNanos
+                    : (long) (average + LATENCY_SMOOTHING * (durationNanos - average)));
+        }
+    }
+
+    @Override
+    public void recordWrite() {
+        ReadYourWritesContext.recordWrite(Instant.now());
+    }
+
+    @Override
+    public boolean wroteRecently() {
+        var lastWriteAt = ReadYourWritesContext.getLastWriteAt();
+
+        return lastWriteAt != null && lastWriteAt.plus(readReplicaProperties.getStickiness()).isAfter(Instant.now());
+    }
+
+    private String selectNextReplica() {
+        var start = Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size());
+
+        for (int offset = 0; offset < replicaKeys.size(); offset++) {
+            var replicaKey = replicaKeys.get((start + offset) % replicaKeys.size());
+
+            if (dataSourceCircuitBreakerService.isCallPermitted(replicaKey)) {
+                return replicaKey;
+            }
+        }
+
+        return null;
+    }
+
+    private String selectLeastLatencyReplica() {
+        String selectedReplicaKey = null;
+        var selectedLatency = Long.MAX_VALUE;
+
+        for (var replicaKey : replicaKeys) {
+            var latency = replicaLatencies.get(replicaKey).get();
+
+            if (latency < selectedLatency && dataSourceCircuitBreakerService.isCallPermitted(replicaKey)) {
+                selectedReplicaKey = replicaKey;
+                selectedLatency = latency;
+            }
+        }
+
+        return selectedReplicaKey;
+    }
+}
@@ -0,0 +1,328 @@
+package com.task.manager.service.impl;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.task.manager.config.properties.HedgedReadProperties;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.service.HedgedReadService;
+import com.task.manager.service.TaskReplicationService;
+import com.task.manager.util.DataAccessExceptionClassifier;
+import com.task.manager.util.DataSourceContext;
+import com.task.manager.util.ReadYourWritesContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * The hedge delay follows a percentile of the primary read latency, so only the slowest reads are hedged, and every
+ * read earns a fraction of a hedge, so hedges stay a bounded share of the reads even when the primary degrades. The
+ * budget is kept in thousandths of a hedge. Backup is a copy lagging behind main, so a read is not hedged while the
+ * lag exceeds the hedge delay, and only a result found on backup answers the read.
+ */
+@Service
+public class HedgedReadServiceImpl implements HedgedReadService {
+
+    private static final long HEDGE_COST = 1000;
+
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final String PRIMARY = "primary";
+
+    private static final String HEDGE = "hedge";
+
+    private final HedgedReadProperties hedgedReadProperties;
+
+    private final DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    private final DataSourceRoutingService dataSourceRoutingService;
+
+    private final TaskReplicationService taskReplicationService;
+
+    private final Scheduler hedgedReadScheduler;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Timer primaryLatencyTimer;
+
+    private final Counter primaryWonCounter;
+
+    private final Counter hedgeWonCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter skippedCounter;
+
+    private final AtomicLong hedgeBudget = new AtomicLong();
+
+    private final AtomicLong hedgeDelayRefreshedAt = new AtomicLong(System.nanoTime() - DELAY_REFRESH_NANOS);
+
+    private volatile long hedgeDelayNanos;
+
+    public HedgedReadServiceImpl(final HedgedReadProperties hedgedReadProperties,
+                                 final DataSourceCircuitBreakerService dataSourceCircuitBreakerService,
+                                 final DataSourceRoutingService dataSourceRoutingService,
+                                 final TaskReplicationService taskReplicationService,
+                                 final Scheduler hedgedReadScheduler,
+                                 final PlatformTransactionManager transactionManager,
+                                 final MeterRegistry meterRegistry) {
+        this.hedgedReadProperties = hedgedReadProperties;
+        this.dataSourceCircuitBreakerService = dataSourceCircuitBreakerService;
+        this.dataSourceRoutingService = dataSourceRoutingService;
+        this.taskReplicationService = taskReplicationService;
+        this.hedgedReadScheduler = hedgedReadScheduler;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.primaryLatencyTimer = Timer.builder("task.hedged.reads.primary.latency")
+                .publishPercentiles(hedgedReadProperties.getPercentile())
+                .register(meterRegistry);
+        this.primaryWonCounter = meterRegistry.counter("task.hedged.reads", "result", "primary-won");
+        this.hedgeWonCounter = meterRegistry.counter("task.hedged.reads", "result", "hedge-won");
+        this.failedCounter = meterRegistry.counter("task.hedged.reads", "result", "failed");
+        this.skippedCounter = meterRegistry.counter("task.hedged.reads", "result", "skipped");
+        this.hedgeDelayNanos = hedgedReadProperties.getMaxDelay().toNanos();
+    }
+
+    @Override
+    public <T> T read(final Supplier<T> read) {
+        if (!isHedgePossible()) {
+            return read.get();
+        }
+
+        depositHedgeBudget();
+
+        var snapshot = ReadYourWritesContext.snapshot();
+        var primary = new CompletableFuture<T>();
+        var start = System.nanoTime();
+
+        try {
+            submit(snapshot, null, read, primary);
+        } catch (RejectedExecutionException exc) {
+            return read.get();
+        }
+
+        primary.thenRun(() -> primaryLatencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        var hedgeDelayNanos = getHedgeDelayNanos();
+
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exc) {
+            return hedge(snapshot, read, primary, hedgeDelayNanos);
+        } catch (ExecutionException exc) {
+            throw rethrow(exc.getCause());
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for read", exc);
+        }
+    }
+
+    private <T> T hedge(final ReadYourWritesContext.Snapshot snapshot, final Supplier<T> read,
+                        final CompletableFuture<T> primary, final long hedgeDelayNanos) {
+        if (taskReplicationService.getBackupLag().toNanos() > hedgeDelayNanos || !withdrawHedgeBudget()) {
+            skippedCounter.increment();
+            return await(primary);
+        }
+
+        var hedge = new CompletableFuture<T>();
+
+        try {
+            submit(snapshot, DataSourceContext.BACKUP, read, hedge);
+        } catch (RejectedExecutionException exc) {
+            skippedCounter.increment();
+            return await(primary);
+        }
+
+        var winner = new AtomicReference<String>();
+        var firstAnswer = firstAnswer(primary, hedge, winner);
+
+        try {
+            var result = await(firstAnswer);
+            countWinner(winner.get());
+
+            return result;
+        } catch (RuntimeException exc) {
+            if (winner.get() == null) {
+                failedCounter.increment();
+            } else {
+                countWinner(winner.get());
+            }
+
+            throw exc;
+        }
+    }
+
+    /**
+     * The primary answers with a result or a logical error, a data source failure only when the hedge did not answer.
+     * The hedge answers only with a result found on backup, a not found or any error may just be backup lagging
+     * behind, so the read waits for the primary then.
+     */
+    private static <T> CompletableFuture<T> firstAnswer(final CompletableFuture<T> primary, final CompletableFuture<T> hedge,
+                                                        final AtomicReference<String> winner) {
+        var answer = new CompletableFuture<T>();
+        var nonAnswers = new AtomicInteger();
+
+        primary.whenComplete((result, exc) -> {
+            if (exc == null || !DataAccessExceptionClassifier.isTransient(exc) || nonAnswers.incrementAndGet() == 2) {
+                complete(answer, result, exc, winner, PRIMARY);
+            }
+        });
+        hedge.whenComplete((result, exc) -> {
+            if (exc == null && isFound(result)) {
+                complete(answer, result, null, winner, HEDGE);
+            } else if (nonAnswers.incrementAndGet() == 2) {
+                primary.whenComplete((primaryResult, primaryExc) ->
+                        complete(answer, primaryResult, primaryExc, winner, PRIMARY));
+            }
+        });
+
+        return answer;
+    }
+
+    private static <T> void complete(final CompletableFuture<T> answer, final T result, final Throwable exc,
+                                     final AtomicReference<String> winner, final String attempt) {
+        if (winner.compareAndSet(null, attempt)) {
+            if (exc != null) {
+                answer.completeExceptionally(exc);
+            } else {
+                answer.complete(result);
+            }
+        }
+    }
+
+    private static boolean isFound(final Object result) {
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent();
+        }
+
+        if (result instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        }
+
+        return result != null;
+    }
+
+    private <T> void submit(final ReadYourWritesContext.Snapshot snapshot, final String dataSourceKey,
+                            final Supplier<T> read, final CompletableFuture<T> attempt) {
+        hedgedReadScheduler.schedule(() -> {
+            try {
+                attempt.complete(snapshot.call(() -> readOn(dataSourceKey, read)));
+            } catch (Throwable exc) {
+                attempt.completeExceptionally(exc);
+            }
+        });
+    }
+
+    /**
+     * The read runs in a read only transaction of its own, so it is routed the way it would be on the calling thread.
+     */
+    private <T> T readOn(final String dataSourceKey, final Supplier<T> read) {
+        if (dataSourceKey == null) {
+            return readOnlyTransactionTemplate.execute(status -> read.get());
+        }
+
+        DataSourceContext.setCurrentDataSourceKey(dataSourceKey);
+
+        try {
+            return readOnlyTransactionTemplate.execute(status -> read.get());
+        } finally {
+            DataSourceContext.clear();
+        }
+    }
+
+    private boolean isHedgePossible() {
+        return hedgedReadProperties.isEnabled()
+                && !dataSourceRoutingService.wroteRecently()
+                && dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.MAIN)
+                && dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.BACKUP);
+    }
+
+    private void depositHedgeBudget() {
+        var deposit = (long) (hedgedReadProperties.getBudgetRatio() * HEDGE_COST);
+        var maxBudget = hedgedReadProperties.getBudgetBurst() * HEDGE_COST;
+
+        hedgeBudget.updateAndGet(budget -> Math.min(budget + deposit, maxBudget));
+    }
+
+    private boolean withdrawHedgeBudget() {
+        var budget = hedgeBudget.get();
+
+        while (budget >= HEDGE_COST) {
+            if (hedgeBudget.compareAndSet(budget, budget - HEDGE_COST)) {
+                return true;
+            }
+            budget = hedgeBudget.get();
+        }
+
+        return false;
+    }
+
+    private long getHedgeDelayNanos() {
+        var now = System.nanoTime();
+        var refreshedAt = hedgeDelayRefreshedAt.get();
+
+        if (now - refreshedAt >= DELAY_REFRESH_NANOS && hedgeDelayRefreshedAt.compareAndSet(refreshedAt, now)) {
+            hedgeDelayNanos = computeHedgeDelayNanos();
+        }
+
+        return hedgeDelayNanos;
+    }
+
+    private long computeHedgeDelayNanos() {
+        var minDelayNanos = hedgedReadProperties.getMinDelay().toNanos();
+        var maxDelayNanos = hedgedReadProperties.getMaxDelay().toNanos();
+        var percentileValues = primaryLatencyTimer.takeSnapshot().percentileValues();
+
+        if (primaryLatencyTimer.count() == 0 || percentileValues.length == 0) {
+            return maxDelayNanos;
+        }
+
+        var percentileNanos = (long) percentileValues[0].value(TimeUnit.NANOSECONDS);
+
+        return Math.min(Math.max(percentileNanos, minDelayNanos), maxDelayNanos);
+    }
+
+    private void countWinner(final String winner) {
+        if (HEDGE.equals(winner)) {
+            hedgeWonCounter.increment();
+        } else {
+            primaryWonCounter.increment();
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException exc) {
+            throw rethrow(exc.getCause());
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for read", exc);
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable exc) {
+        if (exc instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        if (exc instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException(exc);
+    }
+}
@@ -0,0 +1,47 @@
+package com.task.manager.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.task.manager.service.EventPublisher;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps published events in memory instead of sending them to a broker, meant for tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(prefix = "task.outbox", name = "publisher", havingValue = "in-memory")
+public class InMemoryEventPublisher implements EventPublisher {
+
+    private final ConcurrentLinkedQueue<PublishedEvent> publishedEvents = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public CompletableFuture<?> publish(final String topic, final String key, final Object event) {
+        publishedEvents.add(new PublishedEvent(topic, key, event));
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public List<PublishedEvent> getPublishedEvents() {
+        return List.copyOf(publishedEvents);
+    }
+
+    public void clear() {
+        publishedEvents.clear();
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class PublishedEvent {
+
+        private String topic;
+
+        private String key;
+
+        private Object event;
+    }
+}
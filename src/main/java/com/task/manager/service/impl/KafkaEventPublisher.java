@@ -0,0 +1,22 @@
+package com.task.manager.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.task.manager.service.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "task.outbox", name = "publisher", havingValue = "kafka", matchIfMissing = true)
+public class KafkaEventPublisher implements EventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Override
+    public CompletableFuture<?> publish(final String topic, final String key, final Object event) {
+        return kafkaTemplate.send(topic, key, event);
+    }
+}
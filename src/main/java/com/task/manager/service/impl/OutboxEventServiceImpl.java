@@ -0,0 +1,40 @@
+package com.task.manager.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.domain.OutboxEvent;
+import com.task.manager.domain.OutboxEventType;
+import com.task.manager.repository.OutboxEventRepository;
+import com.task.manager.service.OutboxEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventServiceImpl implements OutboxEventService {
+
+    private final ObjectMapper objectMapper;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveEvent(final OutboxEventType eventType, final String key, final Object payload) {
+        var outboxEvent = new OutboxEvent();
+        outboxEvent.setEventType(eventType);
+        outboxEvent.setEventKey(key);
+        outboxEvent.setPayload(writePayload(payload));
+
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String writePayload(final Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException exc) {
+            throw new IllegalArgumentException("Failed to serialize outbox event payload", exc);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.config.properties.OutboxProperties;
+import com.task.manager.domain.OutboxEvent;
+import com.task.manager.repository.OutboxEventRepository;
+import com.task.manager.service.EventPublisher;
+import com.task.manager.service.OutboxRelayService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+public class OutboxRelayServiceImpl implements OutboxRelayService {
+
+    private final OutboxProperties outboxProperties;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final EventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter publishedCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter parkedCounter;
+
+    public OutboxRelayServiceImpl(final OutboxProperties outboxProperties,
+                                  final OutboxEventRepository outboxEventRepository,
+                                  final EventPublisher eventPublisher,
+                                  final ObjectMapper objectMapper,
+                                  final MeterRegistry meterRegistry) {
+        this.outboxProperties = outboxProperties;
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.publishedCounter = meterRegistry.counter("task.outbox.events", "result", "published");
+        this.failedCounter = meterRegistry.counter("task.outbox.events", "result", "failed");
+        this.parkedCounter = meterRegistry.counter("task.outbox.events", "result", "parked");
+    }
+
+    @Override
+    public long relayPendingEvents() {
+        long relayed = 0;
+        int published;
+
+        do {
+            published = relayBatch();
+            relayed += published;
+        } while (published == outboxProperties.getBatchSize());
+
+        return relayed;
+    }
+
+    private int relayBatch() {
+        var outboxEvents = outboxEventRepository.findAllByParkedAtIsNullOrderById(Limit.of(outboxProperties.getBatchSize()));
+
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> results = outboxEvents.stream()
+                .<CompletableFuture<?>>map(this::publish)
+                .toList();
+
+        awaitAcknowledgements(results);
+
+        var acknowledgedIds = IntStream.range(0, outboxEvents.size())
+                .filter(index -> results.get(index).isDone() && !results.get(index).isCompletedExceptionally())
+                .mapToObj(index -> outboxEvents.get(index).getId())
+                .toList();
+
+        if (!acknowledgedIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(acknowledgedIds);
+        }
+
+        var failedEvents = IntStream.range(0, outboxEvents.size())
+                .filter(index -> !results.get(index).isDone() || results.get(index).isCompletedExceptionally())
+                .mapToObj(outboxEvents::get)
+                .toList();
+
+        publishedCounter.increment(acknowledgedIds.size());
+
+        if (!failedEvents.isEmpty()) {
+            recordFailures(failedEvents);
+            log.warn("Failed to publish {} of {} outbox events, they will be retried", failedEvents.size(), outboxEvents.size());
+        }
+
+        return acknowledgedIds.size();
+    }
+
+    /**
+     * Events out of attempts are parked, so an event that can never be published does not keep a slot of every batch.
+     */
+    private void recordFailures(final List<OutboxEvent> failedEvents) {
+        var retriedIds = new ArrayList<Long>();
+        var parkedIds = new ArrayList<Long>();
+
+        for (var failedEvent : failedEvents) {
+            if (failedEvent.getAttempts() + 1 >= outboxProperties.getMaxAttempts()) {
+                parkedIds.add(failedEvent.getId());
+            } else {
+                retriedIds.add(failedEvent.getId());
+            }
+        }
+
+        if (!retriedIds.isEmpty()) {
+            outboxEventRepository.recordFailedAttempt(retriedIds);
+        }
+
+        if (!parkedIds.isEmpty()) {
+            outboxEventRepository.park(parkedIds, Instant.now());
+            log.error("Parked outbox events {} after {} failed publish attempts", parkedIds, outboxProperties.getMaxAttempts());
+        }
+
+        failedCounter.increment(retriedIds.size());
+        parkedCounter.increment(parkedIds.size());
+    }
+
+    private CompletableFuture<?> publish(final OutboxEvent outboxEvent) {
+        try {
+            var eventType = outboxEvent.getEventType();
+            var payload = objectMapper.readValue(outboxEvent.getPayload(), eventType.getPayloadType());
+
+            return eventPublisher.publish(eventType.getTopic(), outboxEvent.getEventKey(), payload);
+        } catch (Exception exc) {
+            log.error("Failed to publish outbox event {}: ", outboxEvent.getId(), exc);
+
+            return CompletableFuture.failedFuture(exc);
+        }
+    }
+
+    private void awaitAcknowledgements(final Iterable<CompletableFuture<?>> futures) {
+        var deadline = System.nanoTime() + outboxProperties.getPublishTimeout().toNanos();
+
+        for (var future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | TimeoutException exc) {
+                log.debug("Outbox event was not acknowledged: ", exc);
+            } catch (InterruptedException exc) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
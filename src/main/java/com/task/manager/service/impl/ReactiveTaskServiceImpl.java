@@ -0,0 +1,107 @@
+package com.task.manager.service.impl;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.task.manager.config.properties.ReactiveTaskProperties;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkUpdateTaskDto;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskPageDto;
+import com.task.manager.dto.UpdateTaskDto;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import com.task.manager.service.ReactiveTaskService;
+import com.task.manager.service.TaskService;
+import com.task.manager.util.ReadYourWritesContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Runs the calls of {@link TaskService} on the reactive task scheduler, keeping the routing, failover, cache and
+ * outbox of the blocking api while the request threads are released as soon as the call is queued.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private static final int PAGES_PREFETCH = 1;
+
+    private final ReactiveTaskProperties reactiveTaskProperties;
+
+    private final TaskService taskService;
+
+    private final Scheduler reactiveTaskScheduler;
+
+    @Override
+    public Mono<Long> createTask(final CreateTaskDto createTaskDto) {
+        return call(ReadYourWritesContext.snapshot(), () -> taskService.createTask(createTaskDto));
+    }
+
+    @Override
+    public Mono<List<BulkItemResultDto>> createTasks(final List<CreateTaskDto> createTaskDtos) {
+        return call(ReadYourWritesContext.snapshot(), () -> taskService.createTasks(createTaskDtos));
+    }
+
+    @Override
+    public Mono<Void> deleteTask(final Long taskId) {
+        return run(ReadYourWritesContext.snapshot(), () -> taskService.deleteTask(taskId));
+    }
+
+    @Override
+    public Mono<List<BulkItemResultDto>> deleteTasks(final List<Long> taskIds) {
+        return call(ReadYourWritesContext.snapshot(), () -> taskService.deleteTasks(taskIds));
+    }
+
+    @Override
+    public Mono<Void> updateTaskStatus(final Long taskId, final UpdateTaskStatusDto updateTaskStatusDto) {
+        return run(ReadYourWritesContext.snapshot(), () -> taskService.updateTaskStatus(taskId, updateTaskStatusDto));
+    }
+
+    @Override
+    public Mono<Void> updateTask(final Long taskId, final UpdateTaskDto updateTaskDto) {
+        return run(ReadYourWritesContext.snapshot(), () -> taskService.updateTask(taskId, updateTaskDto));
+    }
+
+    @Override
+    public Mono<List<BulkItemResultDto>> updateTasks(final List<BulkUpdateTaskDto> bulkUpdateTaskDtos) {
+        return call(ReadYourWritesContext.snapshot(), () -> taskService.updateTasks(bulkUpdateTaskDtos));
+    }
+
+    @Override
+    public Mono<TaskDto> getTask(final Long taskId) {
+        return call(ReadYourWritesContext.snapshot(), () -> taskService.getTask(taskId));
+    }
+
+    @Override
+    public Flux<TaskDto> getTasks(final TaskFilterDto taskFilterDto, final Long cursor) {
+        var snapshot = ReadYourWritesContext.snapshot();
+
+        return getPage(snapshot, taskFilterDto, cursor)
+                .expand(page -> page.getNextCursor() == null
+                        ? Mono.empty()
+                        : getPage(snapshot, taskFilterDto, page.getNextCursor()))
+                .concatMapIterable(TaskPageDto::getItems, PAGES_PREFETCH);
+    }
+
+    private Mono<TaskPageDto> getPage(final ReadYourWritesContext.Snapshot snapshot, final TaskFilterDto taskFilterDto,
+                                      final Long cursor) {
+        return call(snapshot, () -> taskService.getTasks(taskFilterDto, cursor, reactiveTaskProperties.getPageSize()));
+    }
+
+    private Mono<Void> run(final ReadYourWritesContext.Snapshot snapshot, final Runnable runnable) {
+        return call(snapshot, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private <T> Mono<T> call(final ReadYourWritesContext.Snapshot snapshot, final Callable<T> callable) {
+        return Mono.fromCallable(() -> snapshot.call(callable))
+                .subscribeOn(reactiveTaskScheduler);
+    }
+}
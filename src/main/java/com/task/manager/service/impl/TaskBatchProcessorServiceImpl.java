@@ -1,11 +1,11 @@
 package com.task.manager.service.impl;
 
-import java.util.List;
+import java.time.Instant;
 
-import com.task.manager.domain.Task;
-import com.task.manager.domain.TaskStatus;
+import com.task.manager.repository.TaskPausePartitionRepository;
 import com.task.manager.repository.TaskRepository;
 import com.task.manager.service.TaskBatchProcessorService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,14 +16,23 @@ public class TaskBatchProcessorServiceImpl implements TaskBatchProcessorService
 
     private final TaskRepository taskRepository;
 
+    private final TaskPausePartitionRepository taskPausePartitionRepository;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Every chunk runs in a transaction of its own, which is flushed and cleared before it commits, so neither the
+     * checkpointed partition nor managed copies of the paused tasks pile up in the persistence context across chunks.
+     */
     @Transactional
     @Override
-    public void updateTasksStatusToPaused(List<Task> tasks) {
-        tasks.forEach(task -> {
-            task.endProgress();
-            task.setStatus(TaskStatus.PAUSED);
-        });
+    public int updateTasksStatusToPaused(int partitionId, long afterId, long upToId, Instant pausedAt) {
+        var updatedTasks = taskRepository.pauseInProgressTasks(afterId, upToId, pausedAt);
+
+        taskPausePartitionRepository.recordProgress(partitionId, upToId, updatedTasks);
+        entityManager.flush();
+        entityManager.clear();
 
-        taskRepository.saveAll(tasks);
+        return updatedTasks;
     }
 }
@@ -0,0 +1,106 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.task.manager.config.properties.TaskCacheProperties;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskView;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.mapper.TaskMapper;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.util.TimeSpentFormatter;
+import com.task.manager.util.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TaskCacheServiceImpl implements TaskCacheService {
+
+    private static final String CACHE_NAME = "task";
+
+    private final TaskMapper taskMapper;
+
+    private final Cache<Long, CachedTask> cache;
+
+    public TaskCacheServiceImpl(final TaskCacheProperties taskCacheProperties,
+                                final TaskMapper taskMapper,
+                                final MeterRegistry meterRegistry) {
+        this.taskMapper = taskMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(taskCacheProperties.getMaxSize())
+                .expireAfterWrite(taskCacheProperties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public TaskDto getTask(final Long taskId, final Function<Long, TaskView> loader) {
+        var cachedTask = cache.get(taskId, id -> toCachedTask(loader.apply(id)));
+        var taskDto = taskMapper.copyTaskDto(cachedTask.getTaskDto());
+
+        if (cachedTask.getStatus() == TaskStatus.IN_PROGRESS && cachedTask.getStartedAtMillis() != null) {
+            var timeSpentMillis = cachedTask.getTimeSpentMillis() + System.currentTimeMillis() - cachedTask.getStartedAtMillis();
+            taskDto.setTimeSpentMillis(timeSpentMillis);
+            taskDto.setTimeSpent(TimeSpentFormatter.format(timeSpentMillis));
+        }
+
+        return taskDto;
+    }
+
+    @Override
+    public void evict(final Long taskId) {
+        evictAll(List.of(taskId));
+    }
+
+    @Override
+    public void evictAll(final Collection<Long> taskIds) {
+        var evictedTaskIds = List.copyOf(taskIds);
+
+        cache.invalidateAll(evictedTaskIds);
+        TransactionCallbacks.afterCommit(() -> cache.invalidateAll(evictedTaskIds));
+    }
+
+    @Override
+    public void evictRange(final long afterId, final long upToId) {
+        invalidateRange(afterId, upToId);
+        TransactionCallbacks.afterCommit(() -> invalidateRange(afterId, upToId));
+    }
+
+    private void invalidateRange(final long afterId, final long upToId) {
+        cache.asMap().keySet().removeIf(taskId -> taskId > afterId && taskId <= upToId);
+    }
+
+    private CachedTask toCachedTask(final TaskView taskView) {
+        var timeSpentMillis = taskView.getTimeSpent() != null ? taskView.getTimeSpent().toMillis() : 0;
+        var startedAtMillis = taskView.getStartedAt() != null ? taskView.getStartedAt().toEpochMilli() : null;
+
+        return new CachedTask(taskMapper.fromTaskView(taskView, Instant.now()), taskView.getStatus(), timeSpentMillis,
+                startedAtMillis);
+    }
+
+    /**
+     * Mapped task together with the state needed to compute its live time spent.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CachedTask {
+
+        private final TaskDto taskDto;
+
+        private final TaskStatus status;
+
+        private final long timeSpentMillis;
+
+        private final Long startedAtMillis;
+    }
+}
@@ -0,0 +1,157 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.task.manager.config.properties.TaskChangeFeedProperties;
+import com.task.manager.domain.TaskChangeType;
+import com.task.manager.domain.TaskState;
+import com.task.manager.dto.TaskChangeEventDto;
+import com.task.manager.exception.TaskChangeFeedGapException;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Events go through a replay sink that retains the latest ones, so a subscriber gets the retained events and then the
+ * live ones without a gap in between. Sequences start from the startup time in microseconds, so a sequence issued
+ * before a restart or by another instance is never mistaken for a current one.
+ * <p>
+ * A subscription is made before the changes are returned, so the retained events it replays can be checked to start
+ * right after the requested sequence. Events may be dropped from the replay between the sequence check and the
+ * subscription, a stream starting later than that would silently skip them.
+ */
+@Log4j2
+@Service
+public class TaskChangeFeedServiceImpl implements TaskChangeFeedService {
+
+    private static final long SEQUENCES_PER_MILLI = 1000;
+
+    private final TaskChangeFeedProperties taskChangeFeedProperties;
+
+    private final Sinks.Many<TaskChangeEventDto> sink;
+
+    private final long initialSequence;
+
+    private final Counter publishedCounter;
+
+    private final Counter overflowCounter;
+
+    private volatile long lastSequence;
+
+    public TaskChangeFeedServiceImpl(final TaskChangeFeedProperties taskChangeFeedProperties,
+                                     final MeterRegistry meterRegistry) {
+        this.taskChangeFeedProperties = taskChangeFeedProperties;
+        this.sink = Sinks.many().replay().limit(taskChangeFeedProperties.getReplaySize());
+        this.initialSequence = Instant.now().toEpochMilli() * SEQUENCES_PER_MILLI;
+        this.lastSequence = initialSequence;
+        this.publishedCounter = meterRegistry.counter("task.change.feed.events", "result", "published");
+        this.overflowCounter = meterRegistry.counter("task.change.feed.events", "result", "overflow");
+        meterRegistry.gauge("task.change.feed.subscribers", sink, Sinks.Many::currentSubscriberCount);
+    }
+
+    @Override
+    public void publishChange(final TaskState previousState, final TaskState newState) {
+        var state = newState != null ? newState : previousState;
+        var type = changeType(previousState, newState);
+        var previousAssigneeId = previousState != null && newState != null
+                && !Objects.equals(previousState.getAssigneeId(), newState.getAssigneeId())
+                ? previousState.getAssigneeId()
+                : null;
+
+        TransactionCallbacks.afterCommit(() -> publish(new TaskChangeEventDto(0, type, state.getId(), state.getAssigneeId(),
+                previousAssigneeId, newState != null ? newState.getStatus() : null, null, null, Instant.now())));
+    }
+
+    @Override
+    public void publishPaused(final long afterId, final long upToId, final Instant pausedAt) {
+        publish(new TaskChangeEventDto(0, TaskChangeType.TASKS_PAUSED, null, null, null, null, afterId, upToId, pausedAt));
+    }
+
+    @Override
+    public Flux<TaskChangeEventDto> getChanges(final Long assigneeId, final Long afterSequence) {
+        var currentSequence = lastSequence;
+        var oldestResumableSequence = Math.max(initialSequence, currentSequence - taskChangeFeedProperties.getReplaySize());
+
+        if (afterSequence != null && (afterSequence < oldestResumableSequence || afterSequence > currentSequence)) {
+            throw gap(afterSequence);
+        }
+
+        var fromSequence = afterSequence != null ? afterSequence : currentSequence;
+        var changes = Sinks.many().unicast().<TaskChangeEventDto>onBackpressureBuffer(
+                Queues.<TaskChangeEventDto>get(taskChangeFeedProperties.getReplaySize()).get());
+        var firstSequence = new AtomicLong();
+        var subscription = new AtomicReference<Disposable>();
+
+        subscription.set(sink.asFlux()
+                .filter(event -> event.getSequence() > fromSequence)
+                .subscribe(event -> {
+                    if (firstSequence.compareAndSet(0, event.getSequence()) && event.getSequence() != fromSequence + 1) {
+                        changes.tryEmitError(gap(fromSequence));
+                    } else if (matchesAssignee(event, assigneeId)
+                            && changes.tryEmitNext(event) == Sinks.EmitResult.FAIL_OVERFLOW) {
+                        overflowCounter.increment();
+                        changes.tryEmitError(Exceptions.failWithOverflow());
+                        Optional.ofNullable(subscription.get()).ifPresent(Disposable::dispose);
+                    }
+                }, changes::tryEmitError));
+
+        if (firstSequence.get() != 0 && firstSequence.get() != fromSequence + 1) {
+            subscription.get().dispose();
+            throw gap(fromSequence);
+        }
+
+        return changes.asFlux().doFinally(signal -> subscription.get().dispose());
+    }
+
+    /**
+     * Sequences are assigned and emitted under one lock, the sink requires serialized emissions anyway.
+     */
+    private synchronized void publish(final TaskChangeEventDto event) {
+        event.setSequence(lastSequence + 1);
+
+        var result = sink.tryEmitNext(event);
+
+        if (result.isSuccess()) {
+            lastSequence = event.getSequence();
+            publishedCounter.increment();
+        } else {
+            log.warn("Task change event {} was not published: {}", event, result);
+        }
+    }
+
+    private static TaskChangeFeedGapException gap(final long afterSequence) {
+        return new TaskChangeFeedGapException("Changes after sequence " + afterSequence + " are no longer available, "
+                + "reload the tasks and subscribe without a sequence");
+    }
+
+    private static TaskChangeType changeType(final TaskState previousState, final TaskState newState) {
+        if (previousState == null) {
+            return TaskChangeType.CREATED;
+        }
+
+        if (newState == null) {
+            return TaskChangeType.DELETED;
+        }
+
+        return previousState.getStatus() == newState.getStatus() ? TaskChangeType.UPDATED : TaskChangeType.STATUS_CHANGED;
+    }
+
+    private static boolean matchesAssignee(final TaskChangeEventDto event, final Long assigneeId) {
+        return assigneeId == null
+                || event.getType() == TaskChangeType.TASKS_PAUSED
+                || assigneeId.equals(event.getAssigneeId())
+                || assigneeId.equals(event.getPreviousAssigneeId());
+    }
+}
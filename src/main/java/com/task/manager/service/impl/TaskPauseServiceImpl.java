@@ -0,0 +1,168 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.config.properties.TaskPauseJobProperties;
+import com.task.manager.domain.TaskIdRange;
+import com.task.manager.domain.TaskPausePartition;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.repository.TaskPausePartitionRepository;
+import com.task.manager.repository.TaskRepository;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.TaskBatchProcessorService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.service.TaskPauseService;
+import com.task.manager.service.TaskStatusCoalescingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TaskPauseServiceImpl implements TaskPauseService {
+
+    private static final String PARTITION_TIMER = "task.pause.partition.duration";
+    private static final String PARTITION_TAG = "partition";
+    private static final String THREAD_NAME_PREFIX = "task-pause-";
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofMinutes(1);
+
+    private final TaskPauseJobProperties taskPauseJobProperties;
+
+    private final AssigneeSummaryService assigneeSummaryService;
+
+    private final TaskBatchProcessorService taskBatchProcessorService;
+
+    private final TaskCacheService taskCacheService;
+
+    private final TaskChangeFeedService taskChangeFeedService;
+
+    private final TaskStatusCoalescingService taskStatusCoalescingService;
+
+    private final TaskPausePartitionRepository taskPausePartitionRepository;
+
+    private final TaskRepository taskRepository;
+
+    private final SimpleAsyncTaskExecutorBuilder taskExecutorBuilder;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public long pauseInProgressTasks() {
+        taskStatusCoalescingService.flush();
+
+        var pausedTasks = 0L;
+        var unfinishedPartitions = taskPausePartitionRepository.findByCompletedFalseOrderById();
+
+        if (!unfinishedPartitions.isEmpty()) {
+            var resumedPausedAt = Optional.ofNullable(unfinishedPartitions.get(0).getPausedAt()).orElseGet(Instant::now);
+            log.info("Resuming {} partitions of interrupted task pause run paused at {}", unfinishedPartitions.size(),
+                    resumedPausedAt);
+
+            pausedTasks += processPartitions(unfinishedPartitions, resumedPausedAt);
+        }
+
+        var pausedAt = Instant.now();
+
+        return pausedTasks + processPartitions(planPartitions(pausedAt), pausedAt);
+    }
+
+    private long processPartitions(final List<TaskPausePartition> partitions, final Instant pausedAt) {
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+
+        try (var executor = createExecutor()) {
+            var partitionResults = partitions.stream()
+                    .map(partition -> CompletableFuture.supplyAsync(() -> processPartition(partition, pausedAt), executor))
+                    .toList();
+
+            CompletableFuture.allOf(partitionResults.toArray(CompletableFuture[]::new)).join();
+
+            return partitionResults.stream().mapToLong(CompletableFuture::join).sum();
+        }
+    }
+
+    private List<TaskPausePartition> planPartitions(final Instant pausedAt) {
+        taskPausePartitionRepository.deleteAllInBatch();
+
+        var idRange = taskRepository.findIdRangeByStatus(TaskStatus.IN_PROGRESS);
+
+        if (idRange == null || idRange.getMinId() == null) {
+            return List.of();
+        }
+
+        return taskPausePartitionRepository.saveAll(splitIdRange(idRange, pausedAt));
+    }
+
+    private List<TaskPausePartition> splitIdRange(final TaskIdRange idRange, final Instant pausedAt) {
+        var rangeStart = idRange.getMinId() - 1;
+        var idCount = idRange.getMaxId() - rangeStart;
+        var partitionWidth = (idCount + taskPauseJobProperties.getPartitions() - 1) / taskPauseJobProperties.getPartitions();
+
+        var partitions = new ArrayList<TaskPausePartition>();
+
+        for (var partitionStart = rangeStart; partitionStart < idRange.getMaxId(); partitionStart += partitionWidth) {
+            var partition = new TaskPausePartition();
+            partition.setId(partitions.size());
+            partition.setRangeStart(partitionStart);
+            partition.setRangeEnd(Math.min(partitionStart + partitionWidth, idRange.getMaxId()));
+            partition.setLastProcessedId(partitionStart);
+            partition.setProcessedTasks(0L);
+            partition.setPausedAt(pausedAt);
+            partitions.add(partition);
+        }
+
+        return partitions;
+    }
+
+    private long processPartition(final TaskPausePartition partition, final Instant pausedAt) {
+        var sample = Timer.start(meterRegistry);
+        taskPausePartitionRepository.markStarted(partition.getId(), Instant.now());
+
+        var lastProcessedId = partition.getLastProcessedId();
+        var processedTasks = 0L;
+        Optional<Long> chunkUpperBoundId;
+
+        while ((chunkUpperBoundId = taskRepository.findChunkUpperBoundId(TaskStatus.IN_PROGRESS, lastProcessedId,
+                partition.getRangeEnd(), taskPauseJobProperties.getChunkSize())).isPresent()) {
+            processedTasks += taskBatchProcessorService.updateTasksStatusToPaused(partition.getId(), lastProcessedId,
+                    chunkUpperBoundId.get(), pausedAt);
+            taskCacheService.evictRange(lastProcessedId, chunkUpperBoundId.get());
+            assigneeSummaryService.recordPaused(lastProcessedId, chunkUpperBoundId.get(), pausedAt);
+            taskChangeFeedService.publishPaused(lastProcessedId, chunkUpperBoundId.get(), pausedAt);
+            lastProcessedId = chunkUpperBoundId.get();
+        }
+
+        taskPausePartitionRepository.markCompleted(partition.getId(), Instant.now());
+        var durationNanos = sample.stop(meterRegistry.timer(PARTITION_TIMER, PARTITION_TAG, String.valueOf(partition.getId())));
+
+        log.info("Partition {} with ids ({}, {}] paused {} tasks in {} ms", partition.getId(), partition.getRangeStart(),
+                partition.getRangeEnd(), processedTasks, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+        return processedTasks;
+    }
+
+    /**
+     * Spawns a thread per partition, virtual when {@code spring.threads.virtual.enabled} is set on Java 21+,
+     * while the concurrency limit keeps the number of partitions holding a connection within the pool size.
+     */
+    private SimpleAsyncTaskExecutor createExecutor() {
+        return taskExecutorBuilder
+                .threadNamePrefix(THREAD_NAME_PREFIX)
+                .concurrencyLimit(taskPauseJobProperties.getThreads())
+                .taskTerminationTimeout(TERMINATION_TIMEOUT)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.task.manager.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.task.manager.domain.TaskReplicationLog;
+import com.task.manager.repository.TaskReplicationLogRepository;
+import com.task.manager.service.TaskReplicationLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TaskReplicationLogServiceImpl implements TaskReplicationLogService {
+
+    private final TaskReplicationLogRepository taskReplicationLogRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(final Long taskId) {
+        recordChanges(List.of(taskId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(final Collection<Long> taskIds) {
+        var entries = taskIds.stream()
+                .distinct()
+                .map(this::createEntry)
+                .toList();
+
+        taskReplicationLogRepository.saveAll(entries);
+    }
+
+    private TaskReplicationLog createEntry(final Long taskId) {
+        var entry = new TaskReplicationLog();
+        entry.setTaskId(taskId);
+
+        return entry;
+    }
+}
@@ -0,0 +1,452 @@
+package com.task.manager.service.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import com.task.manager.config.properties.TaskReplicationProperties;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.repository.TaskSqlDialect;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.TaskReplicationService;
+import com.task.manager.util.DataAccessExceptionClassifier;
+import com.task.manager.util.DataSourceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Replicates the state of the logged tasks rather than the statements that changed them, so applying a batch again
+ * after a failure is harmless and several changes of the same task in a batch are applied once. A task copy is only
+ * overwritten or deleted by a change made at the same time or later, so changes made on both data sources around a
+ * failover converge to the latest one.
+ * <p>
+ * Log entries are read in the order they were logged rather than by id, ids are handed out in blocks cached by each
+ * instance, so a change logged later may get a lower id.
+ */
+@Log4j2
+@Service
+public class TaskReplicationServiceImpl implements TaskReplicationService {
+
+    private static final String TASK_ID_SEQUENCE = "task_id_seq";
+
+    private static final String SELECT_LOG_ENTRIES_QUERY = """
+            SELECT id, task_id, created_at, attempts FROM task_replication_log
+            WHERE parked_at IS NULL
+            ORDER BY created_at, id LIMIT :limit
+            """;
+
+    private static final String SELECT_TASKS_QUERY = """
+            SELECT id, title, description, status, assignee_id, created_at, updated_at, started_at, time_spent, version
+            FROM task WHERE id IN (:ids)
+            """;
+
+    private static final String DELETE_TASK_QUERY = """
+            DELETE FROM task WHERE id = :id AND (updated_at IS NULL OR updated_at <= CAST(:deletedAt AS TIMESTAMP))
+            """;
+
+    private static final String SELECT_TASKS_IN_PROGRESS_OF_ASSIGNEE_QUERY = """
+            SELECT id, COALESCE(started_at, updated_at) AS started_at FROM task
+            WHERE assignee_id = :assigneeId AND status = 'IN_PROGRESS' AND id NOT IN (:ids)
+            """;
+
+    private static final String PAUSE_TASK_QUERY = """
+            UPDATE task
+            SET status = 'PAUSED', started_at = NULL, time_spent = COALESCE(time_spent, 0) + COALESCE(%s, 0)
+            WHERE id = :id AND status = 'IN_PROGRESS'
+            """;
+
+    private static final String DELETE_LOG_ENTRIES_QUERY = "DELETE FROM task_replication_log WHERE id IN (:ids)";
+
+    private static final String RETRY_LOG_ENTRY_QUERY = "UPDATE task_replication_log SET attempts = attempts + 1 WHERE id = :id";
+
+    private static final String PARK_LOG_ENTRY_QUERY = """
+            UPDATE task_replication_log SET attempts = attempts + 1, parked_at = :parkedAt WHERE id = :id
+            """;
+
+    private final TaskReplicationProperties taskReplicationProperties;
+
+    private final DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    private final ReplicatedStore mainStore;
+
+    private final ReplicatedStore backupStore;
+
+    private final AtomicBoolean catchingUp = new AtomicBoolean();
+
+    public TaskReplicationServiceImpl(final TaskReplicationProperties taskReplicationProperties,
+                                      final DataSourceCircuitBreakerService dataSourceCircuitBreakerService,
+                                      @Qualifier("mainDataSource") final DataSource mainDataSource,
+                                      @Qualifier("backupDataSource") final DataSource backupDataSource,
+                                      final MeterRegistry meterRegistry) {
+        this.taskReplicationProperties = taskReplicationProperties;
+        this.dataSourceCircuitBreakerService = dataSourceCircuitBreakerService;
+        this.mainStore = new ReplicatedStore(DataSourceContext.MAIN, mainDataSource, meterRegistry);
+        this.backupStore = new ReplicatedStore(DataSourceContext.BACKUP, backupDataSource, meterRegistry);
+        meterRegistry.gauge("task.replication.catching.up", catchingUp, value -> value.get() ? 1 : 0);
+    }
+
+    @Override
+    public long replicatePendingChanges() {
+        return replicate(backupStore, mainStore) + replicate(mainStore, backupStore);
+    }
+
+    @Override
+    public Duration getBackupLag() {
+        var pendingSince = mainStore.pendingSince;
+
+        return pendingSince != null ? Duration.between(pendingSince, Instant.now()) : Duration.ZERO;
+    }
+
+    /**
+     * While a direction is skipped or failing, its changes are taken to be pending since the skip at the latest, so
+     * the lag keeps growing until a run catches up.
+     */
+    private long replicate(final ReplicatedStore source, final ReplicatedStore target) {
+        if (!dataSourceCircuitBreakerService.isCallPermitted(source.key)
+                || !dataSourceCircuitBreakerService.isCallPermitted(target.key)) {
+            source.markPending(Instant.now());
+            return 0;
+        }
+
+        long replicated = 0;
+        int applied;
+
+        try {
+            do {
+                applied = replicateBatch(source, target);
+                replicated += applied;
+            } while (applied == taskReplicationProperties.getBatchSize());
+        } catch (DataAccessException exc) {
+            log.warn("Failed to replicate task changes from {} to {}, they will be retried: ", source.key, target.key, exc);
+            source.markPending(Instant.now());
+            return replicated;
+        }
+
+        source.pendingSince = null;
+
+        if (source == backupStore && catchingUp.compareAndSet(true, false)) {
+            log.info("Caught up task changes made on backup");
+        }
+
+        return replicated;
+    }
+
+    private int replicateBatch(final ReplicatedStore source, final ReplicatedStore target) {
+        var logEntries = source.jdbcTemplate.query(SELECT_LOG_ENTRIES_QUERY,
+                Map.of("limit", taskReplicationProperties.getBatchSize()), TaskReplicationServiceImpl::toLogEntry);
+
+        if (logEntries.isEmpty()) {
+            return 0;
+        }
+
+        if (source == backupStore && catchingUp.compareAndSet(false, true)) {
+            log.info("Catching up task changes made on backup");
+        }
+
+        source.lagTimer.record(Duration.between(logEntries.get(0).createdAt(), Instant.now()));
+        source.markPending(logEntries.get(0).createdAt());
+
+        try {
+            replicateEntries(source, target, logEntries);
+        } catch (DataAccessException exc) {
+            if (logEntries.size() == 1 || DataAccessExceptionClassifier.isTransient(exc)) {
+                recordFailure(source, logEntries, exc);
+                throw exc;
+            }
+            replicateOneByOne(source, target, logEntries);
+        }
+
+        source.appliedCounter.increment(logEntries.size());
+
+        return logEntries.size();
+    }
+
+    /**
+     * A batch rejected by the target is applied entry by entry, so only the entries rejected on their own use up an
+     * attempt and the rest of the batch is not held back by them.
+     */
+    private void replicateOneByOne(final ReplicatedStore source, final ReplicatedStore target,
+                                   final List<LogEntry> logEntries) {
+        DataAccessException failure = null;
+        int failed = 0;
+
+        for (var logEntry : logEntries) {
+            try {
+                replicateEntries(source, target, List.of(logEntry));
+            } catch (DataAccessException exc) {
+                recordFailure(source, List.of(logEntry), exc);
+                if (DataAccessExceptionClassifier.isTransient(exc)) {
+                    throw exc;
+                }
+                failure = failure != null ? failure : exc;
+                failed++;
+            }
+        }
+
+        if (failure != null) {
+            source.appliedCounter.increment(logEntries.size() - failed);
+            throw failure;
+        }
+    }
+
+    private void replicateEntries(final ReplicatedStore source, final ReplicatedStore target,
+                                  final List<LogEntry> logEntries) {
+        var taskIds = logEntries.stream().map(LogEntry::taskId).collect(Collectors.toSet());
+        var tasks = source.jdbcTemplate.query(SELECT_TASKS_QUERY, Map.of("ids", taskIds),
+                TaskReplicationServiceImpl::toTaskParameters);
+
+        target.transactionTemplate.executeWithoutResult(status -> apply(target, logEntries, tasks));
+        syncTaskIdSequence(source, target);
+        source.jdbcTemplate.update(DELETE_LOG_ENTRIES_QUERY, Map.of("ids", logEntries.stream().map(LogEntry::id).toList()));
+    }
+
+    /**
+     * Entries out of attempts are parked, they are kept for inspection and no longer read, a later change of the same
+     * task is replicated as usual. Data source failures use up no attempt, the entries are not at fault.
+     */
+    private void recordFailure(final ReplicatedStore source, final List<LogEntry> logEntries,
+                               final DataAccessException exc) {
+        source.failedCounter.increment(logEntries.size());
+
+        if (DataAccessExceptionClassifier.isTransient(exc)) {
+            return;
+        }
+
+        for (var logEntry : logEntries) {
+            if (logEntry.attempts() + 1 >= taskReplicationProperties.getMaxAttempts()) {
+                source.jdbcTemplate.update(PARK_LOG_ENTRY_QUERY,
+                        Map.of("id", logEntry.id(), "parkedAt", Timestamp.from(Instant.now())));
+                source.parkedCounter.increment();
+                log.error("Parked change of task {} logged on {} after {} failed attempts to replicate it: ",
+                        logEntry.taskId(), source.key, taskReplicationProperties.getMaxAttempts(), exc);
+            } else {
+                source.jdbcTemplate.update(RETRY_LOG_ENTRY_QUERY, Map.of("id", logEntry.id()));
+            }
+        }
+    }
+
+    /**
+     * Tasks missing on the source were deleted no earlier than their latest log entry, the target copy is kept if it
+     * was updated after that. Tasks leaving progress are applied before the ones entering it, so the one in progress
+     * task per assignee index sees the assignee's previous task paused first.
+     */
+    private void apply(final ReplicatedStore target, final List<LogEntry> logEntries,
+                       final List<MapSqlParameterSource> tasks) {
+        var existingTaskIds = tasks.stream().map(TaskReplicationServiceImpl::taskId).collect(Collectors.toSet());
+        var deletedAtByTaskId = new HashMap<Long, Instant>();
+
+        logEntries.stream()
+                .filter(logEntry -> !existingTaskIds.contains(logEntry.taskId()))
+                .forEach(logEntry -> deletedAtByTaskId.merge(logEntry.taskId(), logEntry.createdAt(),
+                        (deletedAt, createdAt) -> createdAt.isAfter(deletedAt) ? createdAt : deletedAt));
+
+        if (!deletedAtByTaskId.isEmpty()) {
+            var deletedTasks = deletedAtByTaskId.entrySet().stream()
+                    .map(deletedTask -> new MapSqlParameterSource()
+                            .addValue("id", deletedTask.getKey(), Types.BIGINT)
+                            .addValue("deletedAt", Timestamp.from(deletedTask.getValue()), Types.TIMESTAMP))
+                    .toArray(SqlParameterSource[]::new);
+
+            target.jdbcTemplate.batchUpdate(DELETE_TASK_QUERY, deletedTasks);
+        }
+
+        var tasksByProgress = tasks.stream().collect(Collectors.partitioningBy(TaskReplicationServiceImpl::isInProgress));
+        var stoppedTasks = tasksByProgress.get(false);
+        var startedTasks = tasksByProgress.get(true);
+
+        if (!stoppedTasks.isEmpty()) {
+            target.jdbcTemplate.batchUpdate(target.getDialect().upsertTask(),
+                    stoppedTasks.toArray(SqlParameterSource[]::new));
+        }
+
+        if (!startedTasks.isEmpty()) {
+            var startedTaskIds = startedTasks.stream().map(TaskReplicationServiceImpl::taskId).collect(Collectors.toSet());
+            var resolvedTasks = startedTasks.stream()
+                    .map(task -> resolveProgressConflict(target, task, startedTaskIds))
+                    .toArray(SqlParameterSource[]::new);
+
+            target.jdbcTemplate.batchUpdate(target.getDialect().upsertTask(), resolvedTasks);
+        }
+    }
+
+    /**
+     * The assignee may still have another task in progress on the target, when the change pausing it is logged after
+     * this batch or the assignee started tasks on both data sources around a failover. The task started last stays in
+     * progress and the other one is paused, so the target never rejects the batch over the one in progress task per
+     * assignee index.
+     */
+    private MapSqlParameterSource resolveProgressConflict(final ReplicatedStore target, final MapSqlParameterSource task,
+                                                          final Set<Long> startedTaskIds) {
+        var assigneeId = task.getValue("assigneeId");
+
+        if (assigneeId == null) {
+            return task;
+        }
+
+        var startedAt = startedAt(task);
+        var conflictingTasks = target.jdbcTemplate.query(SELECT_TASKS_IN_PROGRESS_OF_ASSIGNEE_QUERY,
+                Map.of("assigneeId", assigneeId, "ids", startedTaskIds), (resultSet, rowNum) -> new MapSqlParameterSource()
+                        .addValue("id", resultSet.getLong("id"), Types.BIGINT)
+                        .addValue("pausedAt", startedAt, Types.TIMESTAMP)
+                        .addValue("startedAt", resultSet.getTimestamp("started_at"), Types.TIMESTAMP));
+
+        for (var conflictingTask : conflictingTasks) {
+            var conflictingStartedAt = (Timestamp) conflictingTask.getValue("startedAt");
+
+            if (startedAt != null && conflictingStartedAt != null && conflictingStartedAt.after(startedAt)) {
+                return paused(task, conflictingStartedAt);
+            }
+        }
+
+        if (!conflictingTasks.isEmpty()) {
+            var pauseTaskQuery = PAUSE_TASK_QUERY.formatted(target.getDialect().elapsedNanos("started_at", ":pausedAt"));
+            target.jdbcTemplate.batchUpdate(pauseTaskQuery, conflictingTasks.toArray(SqlParameterSource[]::new));
+        }
+
+        return task;
+    }
+
+    /**
+     * Ids are allocated in blocks cached by the instance, so after a failover the target sequence has to hand out
+     * blocks the source has not handed out yet.
+     */
+    private void syncTaskIdSequence(final ReplicatedStore source, final ReplicatedStore target) {
+        var sourceNextId = source.nextSequenceValue(TASK_ID_SEQUENCE);
+        var targetNextId = target.nextSequenceValue(TASK_ID_SEQUENCE);
+
+        if (sourceNextId != null && targetNextId != null && targetNextId < sourceNextId) {
+            target.jdbcTemplate.getJdbcOperations().execute(target.getDialect().restartSequence(TASK_ID_SEQUENCE, sourceNextId));
+        }
+    }
+
+    private static MapSqlParameterSource paused(final MapSqlParameterSource task, final Timestamp pausedAt) {
+        var pausedTask = new MapSqlParameterSource();
+        var startedAt = (Timestamp) task.getValue("startedAt");
+        var timeSpent = (Long) task.getValue("timeSpent");
+
+        for (var name : task.getParameterNames()) {
+            pausedTask.addValue(name, task.getValue(name), task.getSqlType(name));
+        }
+
+        if (startedAt != null && pausedAt.after(startedAt)) {
+            timeSpent = (timeSpent != null ? timeSpent : 0L)
+                    + Duration.between(startedAt.toInstant(), pausedAt.toInstant()).toNanos();
+        }
+
+        return pausedTask
+                .addValue("status", TaskStatus.PAUSED.name(), Types.VARCHAR)
+                .addValue("startedAt", null, Types.TIMESTAMP)
+                .addValue("timeSpent", timeSpent, Types.BIGINT);
+    }
+
+    private static Timestamp startedAt(final MapSqlParameterSource task) {
+        var startedAt = (Timestamp) task.getValue("startedAt");
+
+        return startedAt != null ? startedAt : (Timestamp) task.getValue("updatedAt");
+    }
+
+    private static Long taskId(final MapSqlParameterSource task) {
+        return (Long) task.getValue("id");
+    }
+
+    private static boolean isInProgress(final MapSqlParameterSource task) {
+        return TaskStatus.IN_PROGRESS.name().equals(task.getValue("status"));
+    }
+
+    private static LogEntry toLogEntry(final ResultSet resultSet, final int rowNum) throws SQLException {
+        var createdAt = resultSet.getTimestamp("created_at");
+
+        return new LogEntry(resultSet.getLong("id"), resultSet.getLong("task_id"),
+                createdAt != null ? createdAt.toInstant() : Instant.now(), resultSet.getInt("attempts"));
+    }
+
+    private static MapSqlParameterSource toTaskParameters(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return new MapSqlParameterSource()
+                .addValue("id", resultSet.getLong("id"), Types.BIGINT)
+                .addValue("title", resultSet.getString("title"), Types.VARCHAR)
+                .addValue("description", resultSet.getString("description"), Types.VARCHAR)
+                .addValue("status", resultSet.getString("status"), Types.VARCHAR)
+                .addValue("assigneeId", resultSet.getObject("assignee_id", Long.class), Types.BIGINT)
+                .addValue("createdAt", resultSet.getTimestamp("created_at"), Types.TIMESTAMP)
+                .addValue("updatedAt", resultSet.getTimestamp("updated_at"), Types.TIMESTAMP)
+                .addValue("startedAt", resultSet.getTimestamp("started_at"), Types.TIMESTAMP)
+                .addValue("timeSpent", resultSet.getObject("time_spent", Long.class), Types.BIGINT)
+                .addValue("version", resultSet.getLong("version"), Types.BIGINT);
+    }
+
+    private record LogEntry(Long id, Long taskId, Instant createdAt, int attempts) {
+    }
+
+    private static class ReplicatedStore {
+
+        private final String key;
+
+        private final NamedParameterJdbcTemplate jdbcTemplate;
+
+        private final TransactionTemplate transactionTemplate;
+
+        private final Timer lagTimer;
+
+        private final Counter appliedCounter;
+
+        private final Counter failedCounter;
+
+        private final Counter parkedCounter;
+
+        private volatile TaskSqlDialect dialect;
+
+        private volatile Instant pendingSince;
+
+        private ReplicatedStore(final String key, final DataSource dataSource, final MeterRegistry meterRegistry) {
+            this.key = key;
+            this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            this.lagTimer = meterRegistry.timer("task.replication.lag", "source", key);
+            this.appliedCounter = meterRegistry.counter("task.replication.changes", "source", key, "result", "applied");
+            this.failedCounter = meterRegistry.counter("task.replication.changes", "source", key, "result", "failed");
+            this.parkedCounter = meterRegistry.counter("task.replication.changes", "source", key, "result", "parked");
+        }
+
+        private TaskSqlDialect getDialect() {
+            if (dialect == null) {
+                var databaseProductName = jdbcTemplate.getJdbcOperations()
+                        .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+                dialect = TaskSqlDialect.fromDatabaseProductName(databaseProductName);
+            }
+
+            return dialect;
+        }
+
+        private void markPending(final Instant changedAt) {
+            if (pendingSince == null || changedAt.isBefore(pendingSince)) {
+                pendingSince = changedAt;
+            }
+        }
+
+        private Long nextSequenceValue(final String sequenceName) {
+            return jdbcTemplate.getJdbcOperations().queryForObject(getDialect().nextSequenceValue(sequenceName), Long.class);
+        }
+    }
+}
@@ -1,143 +1,439 @@
 package com.task.manager.service.impl;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import com.task.manager.domain.OutboxEventType;
 import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskState;
 import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.domain.TaskView;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkItemStatus;
+import com.task.manager.dto.BulkUpdateTaskDto;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskPageDto;
 import com.task.manager.dto.UpdateTaskDto;
 import com.task.manager.dto.UpdateTaskStatusDto;
 import com.task.manager.event.TaskCreatedEvent;
+import com.task.manager.exception.TaskConflictException;
 import com.task.manager.exception.TaskInProgressException;
 import com.task.manager.exception.TaskNotFoundException;
 import com.task.manager.mapper.TaskMapper;
 import com.task.manager.repository.TaskRepository;
-import com.task.manager.service.TaskBatchProcessorService;
+import com.task.manager.service.AssigneeLockService;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.service.HedgedReadService;
+import com.task.manager.service.OutboxEventService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.service.TaskReplicationLogService;
 import com.task.manager.service.TaskService;
+import com.task.manager.service.TaskStatusCoalescingService;
+import com.task.manager.util.TransactionCallbacks;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
-    private final TaskBatchProcessorService taskBatchProcessorService;
+    private static final int MAX_PAGE_SIZE = 500;
 
-    private final KafkaTemplate<String, TaskCreatedEvent> kafkaTemplate;
+    private static final int MAX_STATUS_TRANSITION_ATTEMPTS = 3;
+
+    private static final String TASK_NOT_FOUND_MESSAGE = "Task not found by id: ";
+
+    private static final String TASK_CHANGED_CONCURRENTLY_MESSAGE = "Task was changed concurrently, id: ";
+
+    private static final String CURRENT_USER_TASK_IN_PROGRESS_MESSAGE = "Current user already has a task in progress";
+
+    private final AssigneeLockService assigneeLockService;
+
+    private final AssigneeSummaryService assigneeSummaryService;
+
+    private final DataSourceRoutingService dataSourceRoutingService;
+
+    private final HedgedReadService hedgedReadService;
+
+    private final OutboxEventService outboxEventService;
+
+    private final TaskCacheService taskCacheService;
+
+    private final TaskChangeFeedService taskChangeFeedService;
+
+    private final TaskReplicationLogService taskReplicationLogService;
+
+    private final TaskStatusCoalescingService taskStatusCoalescingService;
 
     private final TaskMapper taskMapper;
 
     private final TaskRepository taskRepository;
 
+    private final EntityManager entityManager;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final Validator validator;
+
     @Override
+    @Transactional
     public Long createTask(CreateTaskDto createTaskDto) {
         var task = taskMapper.fromCreateTaskDto(createTaskDto);
 
         var createdTask = taskRepository.save(task);
 
-        var taskCreatedEvent = new TaskCreatedEvent(createdTask.getId(), createdTask.getAssigneeId(), createdTask.getTitle());
+        saveTaskCreatedEvent(createdTask);
+        taskReplicationLogService.recordChange(createdTask.getId());
+        recordChange(null, TaskState.fromTask(createdTask));
 
-        try {
-            log.info("Sending task created event: {}", taskCreatedEvent);
+        return createdTask.getId();
+    }
 
-            kafkaTemplate.send("task-created", String.valueOf(task.getId()), taskCreatedEvent);
+    @Override
+    @Transactional
+    public List<BulkItemResultDto> createTasks(final List<CreateTaskDto> createTaskDtos) {
+        var results = new ArrayList<BulkItemResultDto>(createTaskDtos.size());
+
+        for (int index = 0; index < createTaskDtos.size(); index++) {
+            var createTaskDto = createTaskDtos.get(index);
+            var validationError = validate(createTaskDto);
 
-            log.info("Task created event sent");
-        } catch (Exception exc) {
-            log.error("Failed to send task created event: ", exc);
+            if (validationError.isPresent()) {
+                results.add(new BulkItemResultDto(index, null, BulkItemStatus.INVALID, validationError.get()));
+                continue;
+            }
+
+            var createdTask = taskRepository.save(taskMapper.fromCreateTaskDto(createTaskDto));
+            saveTaskCreatedEvent(createdTask);
+            taskReplicationLogService.recordChange(createdTask.getId());
+            recordChange(null, TaskState.fromTask(createdTask));
+
+            results.add(new BulkItemResultDto(index, createdTask.getId(), BulkItemStatus.CREATED, null));
         }
 
-        return createdTask.getId();
+        return results;
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long taskId) {
-        taskRepository.deleteById(taskId);
+        taskRepository.findById(taskId).ifPresent(task -> {
+            taskRepository.delete(task);
+            taskReplicationLogService.recordChange(taskId);
+            recordChange(TaskState.fromTask(task), null);
+        });
+        taskCacheService.evict(taskId);
     }
 
     @Override
-    public void updateTaskStatus(Long taskId, UpdateTaskStatusDto updateTaskStatusDto) {
-        var task = getTaskById(taskId);
-
-        var currentStatus = task.getStatus();
-        var newStatus = updateTaskStatusDto.getStatus();
+    @Transactional
+    public List<BulkItemResultDto> deleteTasks(final List<Long> taskIds) {
+        var requestedTaskIds = taskIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        var existingTaskStates = requestedTaskIds.isEmpty()
+                ? List.<TaskState>of()
+                : taskRepository.findStatesByIdIn(requestedTaskIds);
+        var existingTaskIds = existingTaskStates.stream().map(TaskState::getId).collect(Collectors.toSet());
+
+        if (!existingTaskIds.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(existingTaskIds);
+            taskCacheService.evictAll(existingTaskIds);
+            taskReplicationLogService.recordChanges(existingTaskIds);
+            existingTaskStates.forEach(taskState -> recordChange(taskState, null));
+        }
 
-        if (newStatus != currentStatus) {
-            if (currentStatus == TaskStatus.IN_PROGRESS || newStatus == TaskStatus.PAUSED) {
-                task.endProgress();
-            } else if (newStatus == TaskStatus.IN_PROGRESS) {
-                validateUpdateTaskStatusToInProgress(task);
-                task.startProgress();
-            }
+        var results = new ArrayList<BulkItemResultDto>(taskIds.size());
 
-            taskMapper.updateTaskStatus(task, updateTaskStatusDto);
+        for (int index = 0; index < taskIds.size(); index++) {
+            var taskId = taskIds.get(index);
 
-            taskRepository.save(task);
+            if (existingTaskIds.contains(taskId)) {
+                results.add(new BulkItemResultDto(index, taskId, BulkItemStatus.DELETED, null));
+            } else {
+                results.add(new BulkItemResultDto(index, taskId, BulkItemStatus.NOT_FOUND, TASK_NOT_FOUND_MESSAGE + taskId));
+            }
         }
+
+        return results;
     }
 
+    /**
+     * Reads the current status and moves the task out of it with a statement conditioned on that status, so a
+     * concurrent transition makes the statement miss instead of being overwritten, and the transition is retried
+     * from the new status. One in progress task per assignee is enforced by a unique index, transitions of the same
+     * assignee are serialized on this instance so they rarely get to the index or retry at all. Pauses and restarts
+     * of a task already pausing are folded in memory without reading the stored task.
+     */
     @Override
-    public void updateTasksStatusFromInProgressToPausedInBatch(int batchSize) {
-        Pageable pageable = PageRequest.of(0, batchSize);
-
-        List<Task> tasksBatch;
-        var processedTasks = 0;
-
-        do {
-            tasksBatch = taskRepository.findTasksByStatusWithLimit(TaskStatus.IN_PROGRESS, pageable);
+    public void updateTaskStatus(Long taskId, UpdateTaskStatusDto updateTaskStatusDto) {
+        var newStatus = updateTaskStatusDto.getStatus();
+        var taskState = taskStatusCoalescingService.getPendingState(taskId).orElseGet(() -> getTaskStateById(taskId));
 
-            if (!tasksBatch.isEmpty()) {
-                taskBatchProcessorService.updateTasksStatusToPaused(tasksBatch);
-            }
-            processedTasks += tasksBatch.size();
-            log.info("Processed {} tasks", processedTasks);
-        } while (!tasksBatch.isEmpty());
+        if (newStatus != taskState.getStatus()) {
+            assigneeLockService.runLocked(taskState.getAssigneeId(), () -> transitionStatus(taskId, taskState, newStatus));
+        }
     }
 
+    /**
+     * The task is saved with its version, so a concurrent change between the read and the save fails the save
+     * instead of being overwritten. The save is flushed right away, so the failure surfaces here rather than on commit.
+     */
     @Override
+    @Transactional
     public void updateTask(final Long taskId, final UpdateTaskDto updateTaskDto) {
         var task = getTaskById(taskId);
+        var previousTaskState = TaskState.fromTask(task);
         validateUpdateTask(task, updateTaskDto);
         taskMapper.updateTask(task, updateTaskDto);
 
-        taskRepository.save(task);
+        try {
+            taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException exc) {
+            throw new TaskConflictException(TASK_CHANGED_CONCURRENTLY_MESSAGE + taskId, exc);
+        } catch (DataIntegrityViolationException exc) {
+            throw new TaskInProgressException("Assignee already has a task in progress", exc);
+        }
+        taskCacheService.evict(taskId);
+        taskReplicationLogService.recordChange(taskId);
+        recordChange(previousTaskState, TaskState.fromTask(task));
+    }
+
+    /**
+     * Every item is updated in a transaction of its own and flushed right away, so a concurrent change or an
+     * assignee's task already in progress rolls back and reports only that item.
+     */
+    @Override
+    public List<BulkItemResultDto> updateTasks(final List<BulkUpdateTaskDto> bulkUpdateTaskDtos) {
+        var itemTransactionTemplate = new TransactionTemplate(transactionManager);
+        itemTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var results = new ArrayList<BulkItemResultDto>(bulkUpdateTaskDtos.size());
+
+        for (int index = 0; index < bulkUpdateTaskDtos.size(); index++) {
+            var bulkUpdateTaskDto = bulkUpdateTaskDtos.get(index);
+            var validationError = validate(bulkUpdateTaskDto);
+
+            if (validationError.isPresent()) {
+                results.add(new BulkItemResultDto(index, null, BulkItemStatus.INVALID, validationError.get()));
+                continue;
+            }
+
+            var taskId = bulkUpdateTaskDto.getTaskId();
+
+            try {
+                itemTransactionTemplate.executeWithoutResult(status -> updateTask(taskId, bulkUpdateTaskDto.getTask()));
+
+                results.add(new BulkItemResultDto(index, taskId, BulkItemStatus.UPDATED, null));
+            } catch (TaskNotFoundException exc) {
+                results.add(new BulkItemResultDto(index, taskId, BulkItemStatus.NOT_FOUND, exc.getMessage()));
+            } catch (TaskConflictException | TaskInProgressException exc) {
+                results.add(new BulkItemResultDto(index, taskId, BulkItemStatus.CONFLICT, exc.getMessage()));
+            }
+        }
+
+        return results;
     }
 
+    /**
+     * Only reads from the primary go through the cache. A copy read from a replica or backup may lag behind and would
+     * be served to every client until it expires, so cache misses are not hedged, and a client kept on the primary to
+     * see its own write may still find a copy loaded before the write committed.
+     */
     @Override
+    @Transactional(readOnly = true)
     public TaskDto getTask(final Long taskId) {
-        var task = getTaskById(taskId);
+        var taskDto = dataSourceRoutingService.routesToReplica() || dataSourceRoutingService.wroteRecently()
+                ? taskMapper.fromTaskView(hedgedReadService.read(() -> getTaskViewById(taskId)), Instant.now())
+                : taskCacheService.getTask(taskId, this::getTaskViewById);
+        taskStatusCoalescingService.applyPendingChange(taskDto);
+
+        return taskDto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskVersion getTaskVersion(final Long taskId) {
+        var taskVersion = hedgedReadService.read(() -> taskRepository.findVersionById(taskId))
+                .orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE + taskId));
+        taskStatusCoalescingService.applyPendingChange(taskId, taskVersion);
+
+        return taskVersion;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDto getTasks(final TaskFilterDto taskFilterDto, final Long cursor, final int limit) {
+        var pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        var tasks = hedgedReadService.read(() -> taskRepository.findTaskViewsPage(cursor, taskFilterDto.getStatus(),
+                taskFilterDto.getAssigneeId(), taskFilterDto.getCreatedFrom(), taskFilterDto.getCreatedTo(),
+                taskFilterDto.getUpdatedFrom(), taskFilterDto.getUpdatedTo(), pageable));
+
+        var hasNextPage = tasks.size() > pageSize;
+        var pageTasks = hasNextPage ? tasks.subList(0, pageSize) : tasks;
+        var nextCursor = hasNextPage ? pageTasks.get(pageSize - 1).getId() : null;
+
+        var readAt = Instant.now();
+
+        var pageTaskDtos = pageTasks.stream()
+                .map(task -> taskMapper.fromTaskView(task, readAt))
+                .filter(taskDto -> applyPendingChange(taskDto, taskFilterDto.getStatus()))
+                .toList();
 
-        return taskMapper.fromTask(task);
+        return new TaskPageDto(pageTaskDtos, nextCursor);
     }
 
     @Override
-    public List<TaskDto> getTasks() {
-        var tasks = taskRepository.findAll();
+    @Transactional(readOnly = true)
+    public TaskCollectionVersion getTasksVersion(final TaskFilterDto taskFilterDto, final Long cursor) {
+        var taskCollectionVersion = hedgedReadService.read(() -> taskRepository.findCollectionVersion(cursor,
+                taskFilterDto.getStatus(), taskFilterDto.getAssigneeId(), taskFilterDto.getCreatedFrom(),
+                taskFilterDto.getCreatedTo(), taskFilterDto.getUpdatedFrom(), taskFilterDto.getUpdatedTo()));
+        taskStatusCoalescingService.applyPendingChanges(cursor, taskFilterDto.getAssigneeId(), taskCollectionVersion);
+
+        return taskCollectionVersion;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTasks(final TaskFilterDto taskFilterDto, final Consumer<TaskDto> consumer) {
+        try (var tasks = taskRepository.streamTasks(null, taskFilterDto.getStatus(), taskFilterDto.getAssigneeId(),
+                taskFilterDto.getCreatedFrom(), taskFilterDto.getCreatedTo(),
+                taskFilterDto.getUpdatedFrom(), taskFilterDto.getUpdatedTo())) {
+            var readAt = Instant.now();
+
+            tasks.forEach(task -> {
+                var taskDto = taskMapper.fromTask(task, readAt);
+
+                if (applyPendingChange(taskDto, taskFilterDto.getStatus())) {
+                    consumer.accept(taskDto);
+                }
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    /**
+     * Transitions not written yet are overlaid the same way as on a single task. A task they moved out of the status
+     * filtered on is left out, a task they moved into it shows up once they are written, within the coalescing window.
+     *
+     * @return whether the task still matches the status filtered on
+     */
+    private boolean applyPendingChange(final TaskDto taskDto, final TaskStatus status) {
+        taskStatusCoalescingService.applyPendingChange(taskDto);
+
+        return status == null || status == taskDto.getStatus();
+    }
+
+    /**
+     * A transition that can not be folded is written after the folded transitions of the assignee, so it sees their
+     * result in the store.
+     */
+    private void transitionStatus(final Long taskId, final TaskState readTaskState, final TaskStatus newStatus) {
+        if (taskStatusCoalescingService.coalesce(readTaskState, newStatus)) {
+            dataSourceRoutingService.recordWrite();
+            return;
+        }
+
+        var taskState = taskStatusCoalescingService.flushAssignee(readTaskState.getAssigneeId())
+                ? getTaskStateById(taskId)
+                : readTaskState;
+
+        for (int attempt = 0; attempt < MAX_STATUS_TRANSITION_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                taskState = getTaskStateById(taskId);
+            }
 
-        return tasks.stream().map(taskMapper::fromTask).toList();
+            if (newStatus == taskState.getStatus()) {
+                return;
+            }
+
+            var transitionedAt = Instant.now();
+
+            if (transitionStatus(taskId, taskState.getStatus(), newStatus, transitionedAt)) {
+                taskCacheService.evict(taskId);
+                recordChange(taskState, taskState.transition(newStatus, transitionedAt));
+                return;
+            }
+        }
+
+        throw new TaskConflictException(TASK_CHANGED_CONCURRENTLY_MESSAGE + taskId);
+    }
+
+    private boolean transitionStatus(final Long taskId, final TaskStatus currentStatus, final TaskStatus newStatus,
+                                     final Instant transitionedAt) {
+        try {
+            return taskRepository.transitionStatus(taskId, currentStatus, newStatus, transitionedAt);
+        } catch (DataIntegrityViolationException exc) {
+            throw new TaskInProgressException(CURRENT_USER_TASK_IN_PROGRESS_MESSAGE, exc);
+        }
+    }
+
+    private void recordChange(final TaskState previousTaskState, final TaskState newTaskState) {
+        assigneeSummaryService.recordChange(previousTaskState, newTaskState);
+        taskChangeFeedService.publishChange(previousTaskState, newTaskState);
+        TransactionCallbacks.afterCommit(dataSourceRoutingService::recordWrite);
+    }
+
+    private void saveTaskCreatedEvent(final Task task) {
+        var taskCreatedEvent = new TaskCreatedEvent(task.getId(), task.getAssigneeId(), task.getTitle());
+
+        outboxEventService.saveEvent(OutboxEventType.TASK_CREATED, String.valueOf(task.getId()), taskCreatedEvent);
+    }
+
+    private Optional<String> validate(final Object item) {
+        if (item == null) {
+            return Optional.of("Item must not be null");
+        }
+
+        var violations = validator.validate(item);
+
+        if (violations.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
     }
 
     private void validateUpdateTaskStatusToInProgress(final Task task) {
-        var taskInProgressForCurrentUser = taskRepository.findByAssigneeIdAndStatus(task.getAssigneeId(), TaskStatus.IN_PROGRESS);
+        var taskInProgressIdForCurrentUser = taskRepository.findInProgressTaskIdByAssigneeId(task.getAssigneeId());
 
-        if (taskInProgressForCurrentUser.isPresent() && !Objects.equals(taskInProgressForCurrentUser.get().getId(), task.getId())) {
-            throw new TaskInProgressException("Current user already has a task in progress");
+        if (taskInProgressIdForCurrentUser.isPresent() && !Objects.equals(taskInProgressIdForCurrentUser.get(), task.getId())) {
+            throw new TaskInProgressException(CURRENT_USER_TASK_IN_PROGRESS_MESSAGE);
         }
     }
 
     private void validateUpdateTask(final Task task, final UpdateTaskDto updateTaskDto) {
         if (updateTaskDto.getAssigneeId() != null && !Objects.equals(task.getAssigneeId(), updateTaskDto.getAssigneeId())) {
-            var taskInProgressForNewUser = taskRepository.findByAssigneeIdAndStatus(updateTaskDto.getAssigneeId(), TaskStatus.IN_PROGRESS);
+            var taskInProgressIdForNewUser = taskRepository.findInProgressTaskIdByAssigneeId(updateTaskDto.getAssigneeId());
 
-            if (taskInProgressForNewUser.isPresent()) {
+            if (taskInProgressIdForNewUser.isPresent()) {
                 throw new TaskInProgressException("New user already has a task in progress");
             }
         }
@@ -147,7 +443,15 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    private TaskState getTaskStateById(final Long taskId) {
+        return taskRepository.findStateById(taskId).orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE + taskId));
+    }
+
+    private TaskView getTaskViewById(final Long taskId) {
+        return taskRepository.findViewById(taskId).orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE + taskId));
+    }
+
     private Task getTaskById(final Long taskId) {
-        return taskRepository.findById(taskId).orElseThrow(() -> new TaskNotFoundException("Task not found by id: " + taskId));
+        return taskRepository.findById(taskId).orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE + taskId));
     }
 }
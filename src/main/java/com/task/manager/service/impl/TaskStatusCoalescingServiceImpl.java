@@ -0,0 +1,280 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import com.task.manager.config.properties.TaskStatusCoalescingProperties;
+import com.task.manager.domain.CoalescedTransition;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.repository.TaskRepository;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.service.TaskStatusCoalescingService;
+import com.task.manager.util.TimeSpentFormatter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Only the pause of a task in progress in the store starts folding, so while transitions of a task wait to be written
+ * the stored task stays in progress and holds the one in progress slot of its assignee, and the restarts folded after
+ * it can not conflict with another task of the assignee. A write waits for the folds in progress and folds wait for
+ * the write, so no transition is folded into a result being written. The result is written only if the stored task
+ * is still in progress since the same start, a task changed elsewhere in the meantime keeps that change.
+ */
+@Log4j2
+@Service
+public class TaskStatusCoalescingServiceImpl implements TaskStatusCoalescingService {
+
+    private static final String TRANSITIONS_COUNTER = "task.status.coalescing.transitions";
+    private static final String WRITES_COUNTER = "task.status.coalescing.writes";
+    private static final String RESULT_TAG = "result";
+
+    private final TaskStatusCoalescingProperties taskStatusCoalescingProperties;
+
+    private final TaskRepository taskRepository;
+
+    private final TaskCacheService taskCacheService;
+
+    private final AssigneeSummaryService assigneeSummaryService;
+
+    private final TaskChangeFeedService taskChangeFeedService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, CoalescedTransition> pendingTransitions = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    private final Counter coalescedCounter;
+
+    private final Counter appliedCounter;
+
+    private final Counter conflictCounter;
+
+    private final Counter failedCounter;
+
+    public TaskStatusCoalescingServiceImpl(final TaskStatusCoalescingProperties taskStatusCoalescingProperties,
+                                           final TaskRepository taskRepository,
+                                           final TaskCacheService taskCacheService,
+                                           final AssigneeSummaryService assigneeSummaryService,
+                                           final TaskChangeFeedService taskChangeFeedService,
+                                           final PlatformTransactionManager transactionManager,
+                                           final MeterRegistry meterRegistry) {
+        this.taskStatusCoalescingProperties = taskStatusCoalescingProperties;
+        this.taskRepository = taskRepository;
+        this.taskCacheService = taskCacheService;
+        this.assigneeSummaryService = assigneeSummaryService;
+        this.taskChangeFeedService = taskChangeFeedService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.coalescedCounter = meterRegistry.counter(TRANSITIONS_COUNTER, RESULT_TAG, "coalesced");
+        this.appliedCounter = meterRegistry.counter(WRITES_COUNTER, RESULT_TAG, "applied");
+        this.conflictCounter = meterRegistry.counter(WRITES_COUNTER, RESULT_TAG, "conflict");
+        this.failedCounter = meterRegistry.counter(WRITES_COUNTER, RESULT_TAG, "failed");
+        meterRegistry.gaugeMapSize("task.status.coalescing.pending", Tags.empty(), pendingTransitions);
+    }
+
+    @Override
+    public Optional<TaskState> getPendingState(final Long taskId) {
+        return Optional.ofNullable(pendingTransitions.get(taskId)).map(CoalescedTransition::getState);
+    }
+
+    @Override
+    public boolean coalesce(final TaskState taskState, final TaskStatus newStatus) {
+        if (!taskStatusCoalescingProperties.isEnabled() || !isToggle(taskState.getStatus(), newStatus)) {
+            return false;
+        }
+
+        flushLock.readLock().lock();
+
+        try {
+            var transitionedAt = Instant.now();
+            var coalescedTransition = pendingTransitions.compute(taskState.getId(), (taskId, transition) -> {
+                if (transition != null) {
+                    return transition.fold(newStatus, transitionedAt);
+                }
+
+                if (newStatus != TaskStatus.PAUSED || taskState.getStartedAt() == null
+                        || pendingTransitions.size() >= taskStatusCoalescingProperties.getMaxPendingTasks()) {
+                    return null;
+                }
+
+                return new CoalescedTransition(taskState, taskState.transition(newStatus, transitionedAt), 1, transitionedAt);
+            });
+
+            if (coalescedTransition == null) {
+                return false;
+            }
+
+            coalescedCounter.increment();
+
+            return true;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean flushAssignee(final Long assigneeId) {
+        Predicate<CoalescedTransition> ofAssignee = transition ->
+                Objects.equals(transition.getStoredState().getAssigneeId(), assigneeId);
+
+        if (pendingTransitions.values().stream().noneMatch(ofAssignee)) {
+            return false;
+        }
+
+        flush(ofAssignee);
+
+        return true;
+    }
+
+    @Override
+    public int flush() {
+        if (pendingTransitions.isEmpty()) {
+            return 0;
+        }
+
+        return flush(transition -> true);
+    }
+
+    @Override
+    public void applyPendingChange(final TaskDto taskDto) {
+        var transition = pendingTransitions.get(taskDto.getId());
+
+        if (transition == null) {
+            return;
+        }
+
+        var timeSpentMillis = transition.getState().getCurrentTimeSpentMillis(System.currentTimeMillis());
+
+        taskDto.setStatus(transition.getState().getStatus());
+        taskDto.setTimeSpentMillis(timeSpentMillis);
+        taskDto.setTimeSpent(TimeSpentFormatter.format(timeSpentMillis));
+        taskDto.setUpdatedAt(transition.getTransitionedAt().toString());
+    }
+
+    @Override
+    public void applyPendingChange(final Long taskId, final TaskVersion taskVersion) {
+        var transition = pendingTransitions.get(taskId);
+
+        if (transition == null) {
+            return;
+        }
+
+        taskVersion.setStatus(transition.getState().getStatus());
+        taskVersion.setVersion(taskVersion.getVersion() + transition.getTransitions());
+        taskVersion.setUpdatedAt(transition.getTransitionedAt());
+    }
+
+    @Override
+    public void applyPendingChanges(final Long afterId, final Long assigneeId,
+                                    final TaskCollectionVersion taskCollectionVersion) {
+        pendingTransitions.values().stream()
+                .filter(transition -> afterId == null || transition.getStoredState().getId() > afterId)
+                .filter(transition -> assigneeId == null
+                        || Objects.equals(transition.getStoredState().getAssigneeId(), assigneeId))
+                .map(CoalescedTransition::getTransitionedAt)
+                .max(Comparator.naturalOrder())
+                .filter(transitionedAt -> taskCollectionVersion.getLastUpdatedAt() == null
+                        || transitionedAt.isAfter(taskCollectionVersion.getLastUpdatedAt()))
+                .ifPresent(taskCollectionVersion::setLastUpdatedAt);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (DataAccessException exc) {
+            log.error("Failed to write coalesced status transitions of {} tasks on shutdown: ", pendingTransitions.size(), exc);
+        }
+    }
+
+    /**
+     * Tasks are written in id order, so concurrent writes lock them in the same order. The changes are recorded
+     * within the write transaction, so they are published once it commits whatever transaction the caller runs in.
+     * The cache entries are evicted before the transitions are dropped, so a read sees either the folded state or the
+     * written one.
+     */
+    private int flush(final Predicate<CoalescedTransition> filter) {
+        flushLock.writeLock().lock();
+
+        try {
+            var transitions = pendingTransitions.values().stream()
+                    .filter(filter)
+                    .sorted(Comparator.comparing(transition -> transition.getStoredState().getId()))
+                    .toList();
+
+            if (transitions.isEmpty()) {
+                return 0;
+            }
+
+            Set<Long> appliedTaskIdSet;
+
+            try {
+                appliedTaskIdSet = transactionTemplate.execute(status -> write(transitions));
+            } catch (DataAccessException exc) {
+                failedCounter.increment(transitions.size());
+                throw exc;
+            }
+
+            for (var transition : transitions) {
+                var taskId = transition.getStoredState().getId();
+                taskCacheService.evict(taskId);
+
+                if (!appliedTaskIdSet.contains(taskId)) {
+                    log.debug("Task {} was changed since its status transitions were coalesced, they are dropped", taskId);
+                }
+
+                pendingTransitions.remove(taskId);
+            }
+
+            appliedCounter.increment(appliedTaskIdSet.size());
+            conflictCounter.increment(transitions.size() - appliedTaskIdSet.size());
+
+            return appliedTaskIdSet.size();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private Set<Long> write(final List<CoalescedTransition> transitions) {
+        var appliedTaskIds = new HashSet<>(taskRepository.applyCoalescedTransitions(transitions));
+
+        transitions.stream()
+                .filter(transition -> appliedTaskIds.contains(transition.getStoredState().getId()))
+                .forEach(transition -> {
+                    assigneeSummaryService.recordChange(transition.getStoredState(), transition.getState());
+                    taskChangeFeedService.publishChange(transition.getStoredState(), transition.getState());
+                });
+
+        return appliedTaskIds;
+    }
+
+    private static boolean isToggle(final TaskStatus status, final TaskStatus newStatus) {
+        return status == TaskStatus.IN_PROGRESS && newStatus == TaskStatus.PAUSED
+                || status == TaskStatus.PAUSED && newStatus == TaskStatus.IN_PROGRESS;
+    }
+}
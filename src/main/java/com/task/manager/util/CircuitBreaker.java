@@ -0,0 +1,147 @@
+package com.task.manager.util;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import com.task.manager.config.properties.DataSourceCircuitBreakerProperties;
+
+/**
+ * Failure rate based circuit breaker. Calls are counted in a sliding window of time buckets while closed, the circuit
+ * opens once the failure rate reaches the threshold. An open circuit is moved to half open by an external probe after
+ * its open duration, and either closes or opens again with an exponentially longer open duration.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long EMPTY_BUCKET_ID = Long.MIN_VALUE;
+
+    private final DataSourceCircuitBreakerProperties properties;
+
+    private final LongSupplier nanoClock;
+
+    private final long bucketNanos;
+
+    private final long[] bucketIds;
+
+    private final int[] bucketCalls;
+
+    private final int[] bucketFailures;
+
+    private volatile State state = State.CLOSED;
+
+    private long openedAtNanos;
+
+    private long openDurationNanos;
+
+    public CircuitBreaker(final DataSourceCircuitBreakerProperties properties, final LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.bucketNanos = Math.max(1, properties.getWindow().toNanos() / properties.getWindowBuckets());
+        this.bucketIds = new long[properties.getWindowBuckets()];
+        this.bucketCalls = new int[properties.getWindowBuckets()];
+        this.bucketFailures = new int[properties.getWindowBuckets()];
+        this.openDurationNanos = properties.getOpenDuration().toNanos();
+        resetWindow();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isCallPermitted() {
+        return state == State.CLOSED;
+    }
+
+    public synchronized void recordSuccess() {
+        if (state == State.CLOSED) {
+            bucketCalls[currentBucket()]++;
+        }
+    }
+
+    /**
+     * @return true if this failure opened the circuit
+     */
+    public synchronized boolean recordFailure() {
+        if (state != State.CLOSED) {
+            return false;
+        }
+
+        var bucket = currentBucket();
+        bucketCalls[bucket]++;
+        bucketFailures[bucket]++;
+
+        var calls = 0L;
+        var failures = 0L;
+        var oldestBucketId = bucketIds[bucket] - bucketIds.length;
+        for (int index = 0; index < bucketIds.length; index++) {
+            if (bucketIds[index] > oldestBucketId) {
+                calls += bucketCalls[index];
+                failures += bucketFailures[index];
+            }
+        }
+
+        if (calls >= properties.getMinimumCalls() && failures * 100 >= calls * properties.getFailureRateThreshold()) {
+            open();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Move an open circuit whose open duration has passed to half open, so a single probe can test the data source.
+     *
+     * @return true if the caller should probe now
+     */
+    public synchronized boolean tryStartProbe() {
+        if (state != State.OPEN || nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+            return false;
+        }
+
+        state = State.HALF_OPEN;
+        return true;
+    }
+
+    public synchronized void onProbeSuccess() {
+        if (state == State.HALF_OPEN) {
+            resetWindow();
+            openDurationNanos = properties.getOpenDuration().toNanos();
+            state = State.CLOSED;
+        }
+    }
+
+    public synchronized void onProbeFailure() {
+        if (state == State.HALF_OPEN) {
+            openDurationNanos = Math.min((long) (openDurationNanos * properties.getBackoffMultiplier()),
+                    properties.getMaxOpenDuration().toNanos());
+            open();
+        }
+    }
+
+    private void open() {
+        openedAtNanos = nanoClock.getAsLong();
+        state = State.OPEN;
+    }
+
+    private void resetWindow() {
+        Arrays.fill(bucketIds, EMPTY_BUCKET_ID);
+        Arrays.fill(bucketCalls, 0);
+        Arrays.fill(bucketFailures, 0);
+    }
+
+    private int currentBucket() {
+        var bucketId = nanoClock.getAsLong() / bucketNanos;
+        var index = Math.floorMod(bucketId, bucketIds.length);
+
+        if (bucketIds[index] != bucketId) {
+            bucketIds[index] = bucketId;
+            bucketCalls[index] = 0;
+            bucketFailures[index] = 0;
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,40 @@
+package com.task.manager.util;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * Tells data source failures, which are worth retrying elsewhere, from logical errors such as constraint violations
+ * or lock conflicts, which would fail the same way on any data source.
+ */
+public class DataAccessExceptionClassifier {
+
+    private DataAccessExceptionClassifier() {
+    }
+
+    public static boolean isTransient(final Throwable exc) {
+        if (exc instanceof ConcurrencyFailureException) {
+            return false;
+        }
+
+        if (exc instanceof TransientDataAccessException || exc instanceof RecoverableDataAccessException
+                || exc instanceof DataAccessResourceFailureException) {
+            return true;
+        }
+
+        for (var cause = exc; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.task.manager.util;
+
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Last write made by the current client, reads shortly after it are kept on the primary to see their own writes.
+ */
+public class ReadYourWritesContext {
+
+    private static final ThreadLocal<Instant> LAST_WRITE_AT = new ThreadLocal<>();
+    private static final ThreadLocal<Consumer<Instant>> WRITE_LISTENER = new ThreadLocal<>();
+
+    /**
+     * @param lastWriteAt   last write of the client known from a previous request, may be null
+     * @param writeListener notified about writes made by the current request
+     */
+    public static void begin(final Instant lastWriteAt, final Consumer<Instant> writeListener) {
+        LAST_WRITE_AT.set(lastWriteAt);
+        WRITE_LISTENER.set(writeListener);
+    }
+
+    public static void recordWrite(final Instant writtenAt) {
+        LAST_WRITE_AT.set(writtenAt);
+
+        var writeListener = WRITE_LISTENER.get();
+        if (writeListener != null) {
+            writeListener.accept(writtenAt);
+        }
+    }
+
+    public static Instant getLastWriteAt() {
+        return LAST_WRITE_AT.get();
+    }
+
+    public static void clear() {
+        LAST_WRITE_AT.remove();
+        WRITE_LISTENER.remove();
+    }
+
+    /**
+     * @return state of the current thread, to be restored on the thread that continues the request
+     */
+    public static Snapshot snapshot() {
+        return new Snapshot(LAST_WRITE_AT.get(), WRITE_LISTENER.get());
+    }
+
+    public static final class Snapshot {
+
+        private final Instant lastWriteAt;
+
+        private final Consumer<Instant> writeListener;
+
+        private Snapshot(final Instant lastWriteAt, final Consumer<Instant> writeListener) {
+            this.lastWriteAt = lastWriteAt;
+            this.writeListener = writeListener;
+        }
+
+        /**
+         * Runs the callable on the current thread with the captured state, clearing it afterwards.
+         */
+        public <T> T call(final Callable<T> callable) throws Exception {
+            begin(lastWriteAt, writeListener);
+
+            try {
+                return callable.call();
+            } finally {
+                clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.task.manager.util;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed number of locks shared by an unbounded set of keys, so memory does not grow with the keys. Equal keys always
+ * map to the same lock, different keys only share one when their hashes collide on the same stripe.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] locks;
+
+    private final int mask;
+
+    /**
+     * @param stripes minimum number of locks, rounded up to a power of two
+     */
+    public StripedLock(final int stripes) {
+        var size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+
+        for (int stripe = 0; stripe < size; stripe++) {
+            locks[stripe] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @param key key to lock, may be null
+     * @return lock of the stripe the key maps to
+     */
+    public ReentrantLock get(final Object key) {
+        return locks[stripe(key)];
+    }
+
+    public int size() {
+        return locks.length;
+    }
+
+    int stripe(final Object key) {
+        var hash = Objects.hashCode(key) * 0x9E3779B9;
+
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
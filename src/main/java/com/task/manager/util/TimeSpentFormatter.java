@@ -0,0 +1,56 @@
+package com.task.manager.util;
+
+/**
+ * Formats time spent as {@code HH:mm:ss}, hours taking more than two digits when needed, same as
+ * {@code DurationFormatUtils.formatDuration(millis, "HH:mm:ss")} but without parsing the pattern on every call.
+ */
+public final class TimeSpentFormatter {
+
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_HOUR = 3600;
+    private static final int MIN_HOUR_DIGITS = 2;
+    private static final int MINUTES_AND_SECONDS_LENGTH = 6;
+
+    private TimeSpentFormatter() {
+    }
+
+    /**
+     * @param millis time spent in milliseconds, a negative one left by clock skew is formatted as zero
+     * @return formatted time spent, milliseconds are truncated
+     */
+    public static String format(final long millis) {
+        var totalSeconds = Math.max(millis, 0) / MILLIS_PER_SECOND;
+        var hours = totalSeconds / SECONDS_PER_HOUR;
+        var minutes = (int) (totalSeconds / SECONDS_PER_MINUTE % SECONDS_PER_MINUTE);
+        var seconds = (int) (totalSeconds % SECONDS_PER_MINUTE);
+        var hourDigits = Math.max(MIN_HOUR_DIGITS, digits(hours));
+        var chars = new char[hourDigits + MINUTES_AND_SECONDS_LENGTH];
+
+        for (int index = hourDigits - 1; index >= 0; index--) {
+            chars[index] = (char) ('0' + hours % 10);
+            hours /= 10;
+        }
+        chars[hourDigits] = ':';
+        writeTwoDigits(chars, hourDigits + 1, minutes);
+        chars[hourDigits + 3] = ':';
+        writeTwoDigits(chars, hourDigits + 4, seconds);
+
+        return new String(chars);
+    }
+
+    private static int digits(final long value) {
+        int digits = 1;
+
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+
+        return digits;
+    }
+
+    private static void writeTwoDigits(final char[] chars, final int offset, final int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+    }
+}
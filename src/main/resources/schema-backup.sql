@@ -7,5 +7,72 @@ CREATE TABLE IF NOT EXISTS task (
                       created_at TIMESTAMP,
                       updated_at TIMESTAMP,
                       started_at TIMESTAMP,
-                      time_spent BIGINT
-);
\ No newline at end of file
+                      time_spent BIGINT,
+                      version BIGINT DEFAULT 0 NOT NULL
+);
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER SEQUENCE task_id_seq INCREMENT BY 50;
+
+SELECT setval('task_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM task), (SELECT last_value FROM task_id_seq)));
+
+CREATE INDEX IF NOT EXISTS idx_task_assignee_id_status ON task (assignee_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_task_status_id ON task (status, id);
+
+DROP INDEX IF EXISTS idx_task_in_progress_assignee_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_task_in_progress_assignee_id ON task (assignee_id) INCLUDE (id) WHERE status = 'IN_PROGRESS';
+
+CREATE TABLE IF NOT EXISTS task_pause_partition (
+                      id INT PRIMARY KEY,
+                      range_start BIGINT,
+                      range_end BIGINT,
+                      last_processed_id BIGINT,
+                      processed_tasks BIGINT,
+                      completed BOOLEAN,
+                      started_at TIMESTAMP,
+                      finished_at TIMESTAMP,
+                      paused_at TIMESTAMP
+);
+
+ALTER TABLE task_pause_partition ADD COLUMN IF NOT EXISTS paused_at TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+                      id BIGSERIAL PRIMARY KEY,
+                      event_type VARCHAR(50),
+                      event_key VARCHAR(255),
+                      payload VARCHAR(4000),
+                      created_at TIMESTAMP,
+                      attempts INT DEFAULT 0 NOT NULL,
+                      parked_at TIMESTAMP
+);
+
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS attempts INT DEFAULT 0 NOT NULL;
+
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP;
+
+ALTER SEQUENCE outbox_event_id_seq INCREMENT BY 50;
+
+SELECT setval('outbox_event_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM outbox_event), (SELECT last_value FROM outbox_event_id_seq)));
+
+CREATE TABLE IF NOT EXISTS task_replication_log (
+                      id BIGSERIAL PRIMARY KEY,
+                      task_id BIGINT,
+                      created_at TIMESTAMP,
+                      attempts INT DEFAULT 0 NOT NULL,
+                      parked_at TIMESTAMP
+);
+
+ALTER TABLE task_replication_log ADD COLUMN IF NOT EXISTS attempts INT DEFAULT 0 NOT NULL;
+
+ALTER TABLE task_replication_log ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_task_replication_log_created_at_id ON task_replication_log (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_task_replication_log_task_id ON task_replication_log (task_id);
+
+ALTER SEQUENCE task_replication_log_id_seq INCREMENT BY 50;
+
+SELECT setval('task_replication_log_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM task_replication_log), (SELECT last_value FROM task_replication_log_id_seq)));
@@ -1,5 +1,7 @@
+CREATE SEQUENCE IF NOT EXISTS task_id_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS task (
-                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                      id BIGINT DEFAULT NEXT VALUE FOR task_id_seq PRIMARY KEY,
                       title VARCHAR(255),
                       description VARCHAR(255),
                       status VARCHAR(50),
@@ -7,5 +9,51 @@ CREATE TABLE IF NOT EXISTS task (
                       created_at TIMESTAMP,
                       updated_at TIMESTAMP,
                       started_at TIMESTAMP,
-                      time_spent BIGINT
-);
\ No newline at end of file
+                      time_spent BIGINT,
+                      version BIGINT DEFAULT 0 NOT NULL,
+                      in_progress_assignee_id BIGINT GENERATED ALWAYS AS (CASE WHEN status = 'IN_PROGRESS' THEN assignee_id END)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_task_in_progress_assignee_id ON task (in_progress_assignee_id);
+
+CREATE INDEX IF NOT EXISTS idx_task_assignee_id_status ON task (assignee_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_task_status_id ON task (status, id);
+
+CREATE TABLE IF NOT EXISTS task_pause_partition (
+                      id INT PRIMARY KEY,
+                      range_start BIGINT,
+                      range_end BIGINT,
+                      last_processed_id BIGINT,
+                      processed_tasks BIGINT,
+                      completed BOOLEAN,
+                      started_at TIMESTAMP,
+                      finished_at TIMESTAMP,
+                      paused_at TIMESTAMP
+);
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+                      id BIGINT DEFAULT NEXT VALUE FOR outbox_event_id_seq PRIMARY KEY,
+                      event_type VARCHAR(50),
+                      event_key VARCHAR(255),
+                      payload VARCHAR(4000),
+                      created_at TIMESTAMP,
+                      attempts INT DEFAULT 0 NOT NULL,
+                      parked_at TIMESTAMP
+);
+
+CREATE SEQUENCE IF NOT EXISTS task_replication_log_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task_replication_log (
+                      id BIGINT DEFAULT NEXT VALUE FOR task_replication_log_id_seq PRIMARY KEY,
+                      task_id BIGINT,
+                      created_at TIMESTAMP,
+                      attempts INT DEFAULT 0 NOT NULL,
+                      parked_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_replication_log_created_at_id ON task_replication_log (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_task_replication_log_task_id ON task_replication_log (task_id);
@@ -0,0 +1,253 @@
+package com.task.manager.aop;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.util.DataSourceContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceFailoverAspectTest {
+
+    private static final String MAIN = "main";
+    private static final String BACKUP = "backup";
+    private static final String REPLICA = "replica-0";
+    private static final String RESULT = "result";
+    private static final String H2_URL = "jdbc:h2:mem:failover-aspect";
+
+    @Mock
+    private DataSourceRoutingService dataSourceRoutingService;
+
+    @Mock
+    private DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    @Mock
+    private DataSourceMetricsService dataSourceMetricsService;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @InjectMocks
+    private DataSourceFailoverAspect testingInstance;
+
+    @AfterEach
+    void tearDown() {
+        DataSourceContext.clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(0));
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    public void shouldRouteCallToSelectedDataSourceAndRecordIt() throws Throwable {
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN);
+        when(joinPoint.proceed()).thenAnswer(invocation -> DataSourceContext.getCurrentDataSourceKey());
+
+        var result = testingInstance.handleDataSourceFailover(joinPoint);
+
+        assertThat(result, is(MAIN));
+        assertThat(DataSourceContext.getCurrentDataSourceKey(), nullValue());
+        verify(dataSourceCircuitBreakerService).recordSuccess(MAIN);
+        verify(dataSourceMetricsService).recordQuery(eq(MAIN), anyLong(), eq(true));
+        verify(dataSourceMetricsService, never()).recordRetry(anyBoolean());
+    }
+
+    @Test
+    public void shouldRetryOnBackupWhenMainFailsWithTransientError() throws Throwable {
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN);
+        when(dataSourceRoutingService.selectFailoverKey(MAIN)).thenReturn(Optional.of(BACKUP));
+        when(joinPoint.proceed()).thenThrow(new DataAccessResourceFailureException(MAIN)).thenReturn(RESULT);
+
+        var result = testingInstance.handleDataSourceFailover(joinPoint);
+
+        assertThat(result, is(RESULT));
+        verify(dataSourceCircuitBreakerService).recordFailure(MAIN);
+        verify(dataSourceCircuitBreakerService).recordSuccess(BACKUP);
+        verify(dataSourceMetricsService).recordQuery(eq(MAIN), anyLong(), eq(false));
+        verify(dataSourceMetricsService).recordQuery(eq(BACKUP), anyLong(), eq(true));
+        verify(dataSourceMetricsService).recordRetry(true);
+    }
+
+    @Test
+    public void shouldRetryOnPrimaryWhenReplicaFailsWithTransientError() throws Throwable {
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(REPLICA);
+        when(dataSourceRoutingService.selectFailoverKey(REPLICA)).thenReturn(Optional.of(MAIN));
+        when(joinPoint.proceed()).thenThrow(new DataAccessResourceFailureException(REPLICA))
+                .thenAnswer(invocation -> DataSourceContext.getCurrentDataSourceKey());
+
+        var result = testingInstance.handleDataSourceFailover(joinPoint);
+
+        assertThat(result, is(MAIN));
+        verify(dataSourceCircuitBreakerService).recordFailure(REPLICA);
+        verify(dataSourceRoutingService).recordLatency(eq(REPLICA), anyLong());
+        verify(dataSourceMetricsService).recordRetry(true);
+    }
+
+    @Test
+    public void shouldRecordFailedRetryOnBackup() throws Throwable {
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN);
+        when(dataSourceRoutingService.selectFailoverKey(MAIN)).thenReturn(Optional.of(BACKUP));
+        when(joinPoint.proceed()).thenThrow(new DataAccessResourceFailureException(MAIN))
+                .thenThrow(new DataAccessResourceFailureException(BACKUP));
+
+        assertThatThrownBy(() -> testingInstance.handleDataSourceFailover(joinPoint))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessage(BACKUP);
+
+        verify(dataSourceCircuitBreakerService).recordFailure(BACKUP);
+        verify(dataSourceMetricsService).recordRetry(false);
+    }
+
+    @Test
+    public void shouldNotRetryNorCountFailureWhenMainFailsWithLogicalError() throws Throwable {
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN);
+        when(joinPoint.proceed()).thenThrow(new DataIntegrityViolationException(MAIN));
+
+        assertThatThrownBy(() -> testingInstance.handleDataSourceFailover(joinPoint))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(joinPoint).proceed();
+        verify(dataSourceCircuitBreakerService).recordSuccess(MAIN);
+        verify(dataSourceCircuitBreakerService, never()).recordFailure(anyString());
+        verify(dataSourceRoutingService, never()).selectFailoverKey(anyString());
+        verify(dataSourceMetricsService, never()).recordRetry(anyBoolean());
+    }
+
+    @Test
+    public void shouldNotRetryWhenThereIsNothingToFailOverTo() throws Throwable {
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(BACKUP);
+        when(dataSourceRoutingService.selectFailoverKey(BACKUP)).thenReturn(Optional.empty());
+        when(joinPoint.proceed()).thenThrow(new DataAccessResourceFailureException(BACKUP));
+
+        assertThatThrownBy(() -> testingInstance.handleDataSourceFailover(joinPoint))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(joinPoint, times(1)).proceed();
+        verify(dataSourceCircuitBreakerService).recordFailure(BACKUP);
+        verify(dataSourceMetricsService, never()).recordRetry(anyBoolean());
+    }
+
+    @Test
+    public void shouldPassNestedCallThroughOnPinnedDataSource() throws Throwable {
+        DataSourceContext.setCurrentDataSourceKey(BACKUP);
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        var result = testingInstance.handleDataSourceFailover(joinPoint);
+
+        assertThat(result, is(RESULT));
+        assertThat(DataSourceContext.getCurrentDataSourceKey(), is(BACKUP));
+        verifyNoInteractions(dataSourceRoutingService, dataSourceCircuitBreakerService, dataSourceMetricsService);
+    }
+
+    @Test
+    public void shouldNotRetryInsideExistingTransaction() throws Throwable {
+        beginTransaction();
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN);
+        when(joinPoint.proceed()).thenThrow(new DataAccessResourceFailureException(MAIN));
+
+        assertThatThrownBy(() -> testingInstance.handleDataSourceFailover(joinPoint))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessage(MAIN);
+
+        verify(joinPoint, times(1)).proceed();
+        verify(dataSourceCircuitBreakerService).recordFailure(MAIN);
+        verify(dataSourceRoutingService, never()).selectFailoverKey(anyString());
+        verify(dataSourceMetricsService, never()).recordRetry(anyBoolean());
+        assertThat(DataSourceContext.getCurrentDataSourceKey(), nullValue());
+    }
+
+    @Test
+    public void shouldRouteAndRecordEveryCallOfTransactionOnDataSourceSelectedForItsFirstCall() throws Throwable {
+        beginTransaction();
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN, BACKUP);
+        when(joinPoint.proceed()).thenAnswer(invocation -> DataSourceContext.getCurrentDataSourceKey());
+
+        var first = testingInstance.handleDataSourceFailover(joinPoint);
+        var second = testingInstance.handleDataSourceFailover(joinPoint);
+
+        assertThat(first, is(MAIN));
+        assertThat(second, is(MAIN));
+        verify(dataSourceRoutingService, times(1)).selectDataSourceKey();
+        verify(dataSourceCircuitBreakerService, times(2)).recordSuccess(MAIN);
+        verify(dataSourceMetricsService, times(2)).recordQuery(eq(MAIN), anyLong(), eq(true));
+    }
+
+    @Test
+    public void shouldSelectDataSourceAgainForNextTransaction() throws Throwable {
+        beginTransaction();
+        when(dataSourceRoutingService.selectDataSourceKey()).thenReturn(MAIN, BACKUP);
+        when(joinPoint.proceed()).thenAnswer(invocation -> DataSourceContext.getCurrentDataSourceKey());
+
+        var first = testingInstance.handleDataSourceFailover(joinPoint);
+        tearDown();
+        beginTransaction();
+        var second = testingInstance.handleDataSourceFailover(joinPoint);
+
+        assertThat(first, is(MAIN));
+        assertThat(second, is(BACKUP));
+    }
+
+    @Test
+    public void shouldSelectDataSourceForRequiresNewTransactionInsideReadOnlyOneAndRestoreOuterPinAfterIt() throws Throwable {
+        var transactionManager = new DataSourceTransactionManager(new DriverManagerDataSource(H2_URL));
+        var readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        var requiresNewTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        when(dataSourceRoutingService.selectDataSourceKey())
+                .thenAnswer(invocation -> TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : MAIN);
+        when(joinPoint.proceed()).thenAnswer(invocation -> DataSourceContext.getCurrentDataSourceKey());
+
+        var dataSourceKeys = readOnlyTemplate.execute(status -> List.of(routeCall(),
+                requiresNewTemplate.execute(innerStatus -> routeCall()), routeCall()));
+
+        assertThat(dataSourceKeys, is(List.of(REPLICA, MAIN, REPLICA)));
+        verify(dataSourceRoutingService, times(2)).selectDataSourceKey();
+        assertThat(TransactionSynchronizationManager.getResourceMap().isEmpty(), is(true));
+    }
+
+    private Object routeCall() {
+        try {
+            return testingInstance.handleDataSourceFailover(joinPoint);
+        } catch (Throwable exc) {
+            throw new IllegalStateException(exc);
+        }
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+}
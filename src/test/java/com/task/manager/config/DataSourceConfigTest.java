@@ -0,0 +1,139 @@
+package com.task.manager.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.task.manager.config.properties.CustomDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+class DataSourceConfigTest {
+
+    private static final int MAX_SIZE = 4;
+    private static final int MIN_IDLE = 8;
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration VALIDATION_TIMEOUT = Duration.ofMillis(250);
+    private static final Duration KEEPALIVE_TIME = Duration.ofMinutes(2);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration MAX_LIFETIME = Duration.ofMinutes(20);
+    private static final Duration LEAK_DETECTION_THRESHOLD = Duration.ofSeconds(30);
+    private static final int STATEMENT_CACHE_SIZE = 64;
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    public void shouldMapPoolPropertiesToHikariPool() {
+        var main = dataSource("jdbc:h2:mem:" + UUID.randomUUID(), "org.h2.Driver");
+        main.getPool().setWarmUp(false);
+        main.getPool().setDataSourceProperties(Map.of("TRACE_LEVEL_FILE", "0"));
+
+        var result = createTestingInstance(main, dataSource("jdbc:h2:mem:" + UUID.randomUUID(), "org.h2.Driver"))
+                .mainDataSource();
+
+        assertThat(result.getPoolName(), is("main"));
+        assertThat(result.getMaximumPoolSize(), is(MAX_SIZE));
+        assertThat(result.getMinimumIdle(), is(MAX_SIZE));
+        assertThat(result.getConnectionTimeout(), is(CONNECTION_TIMEOUT.toMillis()));
+        assertThat(result.getValidationTimeout(), is(VALIDATION_TIMEOUT.toMillis()));
+        assertThat(result.getKeepaliveTime(), is(KEEPALIVE_TIME.toMillis()));
+        assertThat(result.getIdleTimeout(), is(IDLE_TIMEOUT.toMillis()));
+        assertThat(result.getMaxLifetime(), is(MAX_LIFETIME.toMillis()));
+        assertThat(result.getLeakDetectionThreshold(), is(LEAK_DETECTION_THRESHOLD.toMillis()));
+        assertThat(result.getDataSourceProperties().getProperty("QUERY_CACHE_SIZE"), is(String.valueOf(STATEMENT_CACHE_SIZE)));
+        assertThat(result.getDataSourceProperties().getProperty("TRACE_LEVEL_FILE"), is("0"));
+        assertThat(result.isRunning(), is(false));
+    }
+
+    @Test
+    public void shouldOpenMinIdleConnectionsOnWarmUp() {
+        var main = dataSource("jdbc:h2:mem:" + UUID.randomUUID(), "org.h2.Driver");
+
+        var result = createTestingInstance(main, main).mainDataSource();
+
+        assertThat(result.isRunning(), is(true));
+        assertThat(result.getHikariPoolMXBean().getTotalConnections(), greaterThanOrEqualTo(MAX_SIZE));
+    }
+
+    @Test
+    public void shouldNotFailStartupWhenWarmUpCanNotReachDatabase() {
+        var backup = dataSource("jdbc:postgresql://localhost:1/task_db", "org.postgresql.Driver");
+
+        var result = createTestingInstance(backup, backup).backupDataSource();
+
+        assertThat(result.getPoolName(), is("backup"));
+        assertThat(result.isRunning(), is(false));
+        assertThat(result.isClosed(), is(false));
+    }
+
+    @Test
+    public void shouldNotFailStartupWhenWarmUpCanNotStartPool() {
+        var backup = dataSource("jdbc:postgresql://localhost:1/task_db", "org.h2.Driver");
+
+        var result = createTestingInstance(backup, backup).backupDataSource();
+
+        assertThat(result.isRunning(), is(false));
+        assertThat(result.isClosed(), is(false));
+    }
+
+    private DataSourceConfig createTestingInstance(final CustomDataSourceProperties.DataSource main,
+                                                   final CustomDataSourceProperties.DataSource backup) {
+        var dataSourceProperties = new CustomDataSourceProperties();
+        dataSourceProperties.setMain(main);
+        dataSourceProperties.setBackup(backup);
+
+        return new DataSourceConfig(dataSourceProperties, new DefaultResourceLoader()) {
+
+            @Override
+            public HikariDataSource mainDataSource() {
+                return track(super.mainDataSource());
+            }
+
+            @Override
+            public HikariDataSource backupDataSource() {
+                return track(super.backupDataSource());
+            }
+        };
+    }
+
+    private HikariDataSource track(final HikariDataSource dataSource) {
+        dataSources.add(dataSource);
+
+        return dataSource;
+    }
+
+    private static CustomDataSourceProperties.DataSource dataSource(final String url, final String driverClassName) {
+        var dataSource = new CustomDataSourceProperties.DataSource();
+        dataSource.setUrl(url);
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("password");
+        dataSource.setSchemaLocation("classpath:schema-main.sql");
+
+        var pool = dataSource.getPool();
+        pool.setMaxSize(MAX_SIZE);
+        pool.setMinIdle(MIN_IDLE);
+        pool.setConnectionTimeout(CONNECTION_TIMEOUT);
+        pool.setValidationTimeout(VALIDATION_TIMEOUT);
+        pool.setKeepaliveTime(KEEPALIVE_TIME);
+        pool.setIdleTimeout(IDLE_TIMEOUT);
+        pool.setMaxLifetime(MAX_LIFETIME);
+        pool.setLeakDetectionThreshold(LEAK_DETECTION_THRESHOLD);
+        pool.setStatementCacheSize(STATEMENT_CACHE_SIZE);
+
+        return dataSource;
+    }
+}
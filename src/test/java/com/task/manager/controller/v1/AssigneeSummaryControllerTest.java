@@ -0,0 +1,79 @@
+package com.task.manager.controller.v1;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.AssigneeSummaryDto;
+import com.task.manager.service.AssigneeSummaryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AssigneeSummaryController.class)
+class AssigneeSummaryControllerTest {
+
+    private static final Long ASSIGNEE_ID = 2L;
+    private static final String TIME_SPENT = "01:30:00";
+    private static final AssigneeSummaryDto SUMMARY = new AssigneeSummaryDto(ASSIGNEE_ID,
+            Map.of(TaskStatus.TODO, 1L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.PAUSED, 0L, TaskStatus.DONE, 3L), 5L, TIME_SPENT);
+
+    @MockitoBean
+    private AssigneeSummaryService assigneeSummaryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void shouldGetSummaries() throws Exception {
+        var responseBody = objectMapper.writeValueAsString(List.of(SUMMARY));
+        when(assigneeSummaryService.getSummaries()).thenReturn(List.of(SUMMARY));
+        final var requestBuilder = get("/api/v1/assignees/summary")
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(content().json(responseBody, true));
+
+        verify(assigneeSummaryService).getSummaries();
+    }
+
+    @Test
+    public void shouldGetSummaryOfAssignee() throws Exception {
+        var responseBody = objectMapper.writeValueAsString(SUMMARY);
+        when(assigneeSummaryService.getSummary(ASSIGNEE_ID)).thenReturn(SUMMARY);
+        final var requestBuilder = get("/api/v1/assignees/{assigneeId}/summary", ASSIGNEE_ID)
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(content().json(responseBody, true));
+
+        verify(assigneeSummaryService).getSummary(ASSIGNEE_ID);
+    }
+
+    @Test
+    public void shouldNotGetSummaryWhenAssigneeIdHasIncorrectType() throws Exception {
+        final var requestBuilder = get("/api/v1/assignees/{assigneeId}/summary", "abc")
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(assigneeSummaryService);
+    }
+}
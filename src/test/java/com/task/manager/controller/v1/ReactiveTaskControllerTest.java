@@ -0,0 +1,215 @@
+package com.task.manager.controller.v1;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkItemStatus;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskIdDto;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import com.task.manager.exception.TaskNotFoundException;
+import com.task.manager.service.ReactiveTaskService;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ReactiveTaskController.class)
+class ReactiveTaskControllerTest {
+
+    private static final Long TASK_ID = 1L;
+    private static final Long ASSIGNEE_ID = 2L;
+    private static final Long CURSOR = 10L;
+    private static final String TITLE = "Task title";
+    private static final String DESCRIPTION = "Task description";
+    private static final TaskStatus STATUS = TaskStatus.IN_PROGRESS;
+    private static final Long TIME_SPENT_MILLIS = 90_000L;
+
+    @MockitoBean
+    private ReactiveTaskService reactiveTaskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void shouldCreateTask() throws Exception {
+        var createTaskDto = new CreateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION);
+        var responseBody = objectMapper.writeValueAsString(new TaskIdDto(TASK_ID));
+        when(reactiveTaskService.createTask(createTaskDto)).thenReturn(Mono.just(TASK_ID));
+        final MockHttpServletRequestBuilder requestBuilder = post("/api/v1/reactive/tasks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTaskDto));
+
+        var mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isCreated())
+               .andExpect(content().json(responseBody));
+    }
+
+    @Test
+    public void shouldNotCreateTaskWhenTitleIsBlank() throws Exception {
+        var createTaskDto = new CreateTaskDto(ASSIGNEE_ID, StringUtils.EMPTY, DESCRIPTION);
+        final var requestBuilder = post("/api/v1/reactive/tasks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTaskDto));
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reactiveTaskService);
+    }
+
+    @Test
+    public void shouldCreateTasksInBulk() throws Exception {
+        var createTaskDtos = List.of(new CreateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION));
+        var results = List.of(new BulkItemResultDto(0, TASK_ID, BulkItemStatus.CREATED, null));
+        when(reactiveTaskService.createTasks(createTaskDtos)).thenReturn(Mono.just(results));
+        final var requestBuilder = post("/api/v1/reactive/tasks/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTaskDtos));
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isOk())
+               .andExpect(content().json(objectMapper.writeValueAsString(results)));
+    }
+
+    @Test
+    public void shouldUpdateTaskStatus() throws Exception {
+        var updateTaskStatusDto = new UpdateTaskStatusDto(STATUS);
+        when(reactiveTaskService.updateTaskStatus(TASK_ID, updateTaskStatusDto)).thenReturn(Mono.empty());
+        final var requestBuilder = put("/api/v1/reactive/tasks/{taskId}/status", TASK_ID)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTaskStatusDto));
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isNoContent());
+
+        verify(reactiveTaskService).updateTaskStatus(TASK_ID, updateTaskStatusDto);
+    }
+
+    @Test
+    public void shouldGetTask() throws Exception {
+        var taskDto = new TaskDto();
+        taskDto.setId(TASK_ID);
+        when(reactiveTaskService.getTask(TASK_ID)).thenReturn(Mono.just(taskDto));
+        final var requestBuilder = get("/api/v1/reactive/tasks/{taskId}", TASK_ID)
+                .contentType(APPLICATION_JSON);
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isOk())
+               .andExpect(content().json(objectMapper.writeValueAsString(taskDto)));
+    }
+
+    @Test
+    public void shouldLeaveTimeSpentMillisOutOfTaskUnlessRequested() throws Exception {
+        var taskDto = new TaskDto();
+        taskDto.setId(TASK_ID);
+        taskDto.setTimeSpentMillis(TIME_SPENT_MILLIS);
+        when(reactiveTaskService.getTask(TASK_ID)).thenReturn(Mono.just(taskDto));
+        final var requestBuilder = get("/api/v1/reactive/tasks/{taskId}", TASK_ID)
+                .contentType(APPLICATION_JSON);
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(TASK_ID))
+               .andExpect(jsonPath("$.timeSpentMillis").doesNotExist());
+    }
+
+    @Test
+    public void shouldNotGetTaskWhenTaskWithGivenIdDoesNotExist() throws Exception {
+        var exception = new TaskNotFoundException("Task not found by id: " + TASK_ID);
+        when(reactiveTaskService.getTask(TASK_ID)).thenReturn(Mono.error(exception));
+        final var requestBuilder = get("/api/v1/reactive/tasks/{taskId}", TASK_ID)
+                .contentType(APPLICATION_JSON);
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void shouldRejectCallWhenTooManyCallsArePending() throws Exception {
+        when(reactiveTaskService.getTask(TASK_ID)).thenReturn(Mono.error(new RejectedExecutionException()));
+        final var requestBuilder = get("/api/v1/reactive/tasks/{taskId}", TASK_ID)
+                .contentType(APPLICATION_JSON);
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    public void shouldStreamTasksAsNdjson() throws Exception {
+        var taskDto1 = new TaskDto();
+        taskDto1.setId(TASK_ID);
+        var taskDto2 = new TaskDto();
+        taskDto2.setId(ASSIGNEE_ID);
+        var filter = new TaskFilterDto();
+        filter.setStatus(STATUS);
+        var expectedBody = objectMapper.writeValueAsString(taskDto1) + "\n" + objectMapper.writeValueAsString(taskDto2) + "\n";
+        when(reactiveTaskService.getTasks(filter, CURSOR)).thenReturn(Flux.just(taskDto1, taskDto2));
+        final var requestBuilder = get("/api/v1/reactive/tasks")
+                .param("status", STATUS.name())
+                .param("cursor", String.valueOf(CURSOR))
+                .accept(APPLICATION_NDJSON);
+
+        var mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isOk())
+               .andExpect(content().contentType(APPLICATION_NDJSON))
+               .andExpect(content().string(expectedBody));
+    }
+
+    @Test
+    public void shouldNotGetTasksWhenStatusIsNotValid() throws Exception {
+        final var requestBuilder = get("/api/v1/reactive/tasks")
+                .param("status", "UNKNOWN")
+                .accept(APPLICATION_NDJSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reactiveTaskService);
+    }
+}
@@ -0,0 +1,109 @@
+package com.task.manager.controller.v1;
+
+import java.time.Instant;
+
+import com.task.manager.config.TaskChangeFeedConfig;
+import com.task.manager.domain.TaskChangeType;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.TaskChangeEventDto;
+import com.task.manager.exception.TaskChangeFeedGapException;
+import com.task.manager.service.TaskChangeFeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(TaskChangeFeedConfig.class)
+@WebMvcTest(controllers = TaskChangeFeedController.class)
+class TaskChangeFeedControllerTest {
+
+    private static final Long TASK_ID = 1L;
+    private static final Long ASSIGNEE_ID = 2L;
+    private static final Long AFTER_SEQUENCE = 100L;
+    private static final Long LAST_EVENT_ID = 105L;
+    private static final long SEQUENCE = 106L;
+    private static final long WAIT_MILLIS = 5000;
+    private static final TaskChangeEventDto EVENT = new TaskChangeEventDto(SEQUENCE, TaskChangeType.STATUS_CHANGED,
+            TASK_ID, ASSIGNEE_ID, null, TaskStatus.IN_PROGRESS, null, null, Instant.parse("2025-01-01T10:00:00Z"));
+
+    @MockitoBean
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void shouldStreamChangesAsServerSentEvents() throws Exception {
+        when(taskChangeFeedService.getChanges(ASSIGNEE_ID, AFTER_SEQUENCE)).thenReturn(Flux.just(EVENT));
+        final var requestBuilder = get("/api/v1/tasks/changes")
+                .param("assigneeId", String.valueOf(ASSIGNEE_ID))
+                .param("after", String.valueOf(AFTER_SEQUENCE))
+                .accept(TEXT_EVENT_STREAM);
+
+        var mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var content = awaitContent(mvcResult, "id:" + SEQUENCE);
+        assertThat(content, containsString("event:STATUS_CHANGED"));
+        assertThat(content, containsString("\"taskId\":" + TASK_ID));
+        assertThat(content, containsString("\"status\":\"IN_PROGRESS\""));
+    }
+
+    @Test
+    public void shouldResumeFromLastEventIdHeader() throws Exception {
+        when(taskChangeFeedService.getChanges(null, LAST_EVENT_ID)).thenReturn(Flux.just(EVENT));
+        final var requestBuilder = get("/api/v1/tasks/changes")
+                .param("after", String.valueOf(AFTER_SEQUENCE))
+                .header("Last-Event-ID", String.valueOf(LAST_EVENT_ID))
+                .accept(TEXT_EVENT_STREAM);
+
+        var mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        awaitContent(mvcResult, "id:" + SEQUENCE);
+        verify(taskChangeFeedService).getChanges(null, LAST_EVENT_ID);
+    }
+
+    @Test
+    public void shouldRespondGoneWhenChangesAfterSequenceAreNoLongerAvailable() throws Exception {
+        when(taskChangeFeedService.getChanges(null, AFTER_SEQUENCE))
+                .thenThrow(new TaskChangeFeedGapException("Changes are no longer available"));
+        final var requestBuilder = get("/api/v1/tasks/changes")
+                .param("after", String.valueOf(AFTER_SEQUENCE))
+                .accept(TEXT_EVENT_STREAM);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isGone());
+    }
+
+    /**
+     * The stream never completes because of the heartbeats, so the content is polled until the expected event is written.
+     */
+    private static String awaitContent(final MvcResult mvcResult, final String expected) throws Exception {
+        var deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        var content = mvcResult.getResponse().getContentAsString();
+
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = mvcResult.getResponse().getContentAsString();
+        }
+        assertThat(content, containsString(expected));
+
+        return content;
+    }
+}
@@ -1,12 +1,24 @@
 package com.task.manager.controller.v1;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Collections;
+import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.domain.TaskCollectionVersion;
 import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkItemStatus;
+import com.task.manager.dto.BulkUpdateTaskDto;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
 import com.task.manager.dto.TaskIdDto;
+import com.task.manager.dto.TaskPageDto;
 import com.task.manager.dto.UpdateTaskDto;
 import com.task.manager.dto.UpdateTaskStatusDto;
 import com.task.manager.exception.TaskNotFoundException;
@@ -15,22 +27,32 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = TaskController.class)
@@ -38,10 +60,22 @@ class TaskControllerTest {
 
     private static final Long TASK_ID = 1L;
     private static final Long ASSIGNEE_ID = 2L;
+    private static final Long MISSING_TASK_ID = 3L;
+    private static final Long CURSOR = 10L;
+    private static final Long NEXT_CURSOR = 20L;
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int LIMIT = 20;
+    private static final Instant CREATED_FROM = Instant.parse("2025-01-01T00:00:00Z");
     private static final String TITLE = "Task title";
     private static final String INVALID_TITLE = "a tite must have max 40 characters and not be blank";
     private static final String DESCRIPTION = "Task description";
     private static final TaskStatus STATUS = TaskStatus.IN_PROGRESS;
+    private static final Long VERSION = 4L;
+    private static final Long TASK_COUNT = 7L;
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-02T10:00:00Z");
+    private static final Long TIME_SPENT_MILLIS = 90_000L;
+    private static final String TASK_ETAG = "\"" + VERSION + "-" + UPDATED_AT.toEpochMilli() + "\"";
+    private static final String TASKS_ETAG = "W/\"" + TASK_COUNT + "-" + UPDATED_AT.toEpochMilli() + "\"";
 
     @MockitoBean
     private TaskService taskService;
@@ -199,17 +233,100 @@ class TaskControllerTest {
         var taskDto = new TaskDto();
         taskDto.setId(TASK_ID);
         var responseBody = objectMapper.writeValueAsString(taskDto);
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.TODO, VERSION, UPDATED_AT));
         when(taskService.getTask(TASK_ID)).thenReturn(taskDto);
         final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
                 .contentType(APPLICATION_JSON);
 
         mockMvc.perform(requestBuilder)
                .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, TASK_ETAG))
+               .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, UPDATED_AT.toEpochMilli()))
                .andExpect(content().json(responseBody));
 
         verify(taskService).getTask(TASK_ID);
     }
 
+    @Test
+    public void shouldLeaveTimeSpentMillisOutOfTaskUnlessRequested() throws Exception {
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.TODO, VERSION, UPDATED_AT));
+        when(taskService.getTask(TASK_ID)).thenReturn(taskWithTimeSpentMillis());
+        final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(TASK_ID))
+               .andExpect(jsonPath("$.timeSpentMillis").doesNotExist());
+    }
+
+    @Test
+    public void shouldGetTaskWithTimeSpentMillisWhenRequested() throws Exception {
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.TODO, VERSION, UPDATED_AT));
+        when(taskService.getTask(TASK_ID)).thenReturn(taskWithTimeSpentMillis());
+        final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
+                .param("includeTimeSpentMillis", "true")
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.timeSpentMillis").value(TIME_SPENT_MILLIS));
+    }
+
+    @Test
+    public void shouldGetTaskInProgressWithWeakETag() throws Exception {
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.IN_PROGRESS, VERSION, UPDATED_AT));
+        when(taskService.getTask(TASK_ID)).thenReturn(new TaskDto());
+        final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, "W/" + TASK_ETAG));
+    }
+
+    @Test
+    public void shouldNotLoadTaskWhenETagMatches() throws Exception {
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.TODO, VERSION, UPDATED_AT));
+        final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, TASK_ETAG)
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, TASK_ETAG))
+               .andExpect(content().string(StringUtils.EMPTY));
+
+        verify(taskService, never()).getTask(any());
+    }
+
+    @Test
+    public void shouldGetTaskWhenETagDoesNotMatch() throws Exception {
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.TODO, VERSION + 1, UPDATED_AT));
+        when(taskService.getTask(TASK_ID)).thenReturn(new TaskDto());
+        final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, TASK_ETAG)
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk());
+
+        verify(taskService).getTask(TASK_ID);
+    }
+
+    @Test
+    public void shouldNotLoadTaskWhenItWasNotModifiedSince() throws Exception {
+        when(taskService.getTaskVersion(TASK_ID)).thenReturn(new TaskVersion(TaskStatus.TODO, VERSION, UPDATED_AT));
+        final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(UPDATED_AT.atZone(ZoneOffset.UTC)))
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isNotModified());
+
+        verify(taskService, never()).getTask(any());
+    }
+
     @Test
     public void shouldNotGetTaskWhenTaskIdHasIncorrectType() throws Exception {
         final var requestBuilder = get("/api/v1/tasks/{taskId}", "abc")
@@ -224,30 +341,178 @@ class TaskControllerTest {
     @Test
     public void shouldNotGetTaskWhenTaskWithGivenIdDoesNotExist() throws Exception {
         var exception = new TaskNotFoundException("Task not found by id: " + TASK_ID);
-        doThrow(exception).when(taskService).getTask(TASK_ID);
+        doThrow(exception).when(taskService).getTaskVersion(TASK_ID);
         final var requestBuilder = get("/api/v1/tasks/{taskId}", TASK_ID)
                 .contentType(APPLICATION_JSON);
 
         mockMvc.perform(requestBuilder)
                .andExpect(status().isNotFound());
 
-        verify(taskService).getTask(TASK_ID);
+        verify(taskService).getTaskVersion(TASK_ID);
+        verify(taskService, never()).getTask(any());
     }
 
     @Test
     public void shouldGetTasks() throws Exception {
         var taskDto = new TaskDto();
         taskDto.setId(TASK_ID);
-        final List<TaskDto> taskDtoList = List.of(taskDto);
-        var responseBody = objectMapper.writeValueAsString(taskDtoList);
-        when(taskService.getTasks()).thenReturn(taskDtoList);
+        var taskPageDto = new TaskPageDto(List.of(taskDto), null);
+        var responseBody = objectMapper.writeValueAsString(taskPageDto);
+        when(taskService.getTasksVersion(new TaskFilterDto(), null)).thenReturn(new TaskCollectionVersion(TASK_COUNT, UPDATED_AT));
+        when(taskService.getTasks(new TaskFilterDto(), null, DEFAULT_LIMIT)).thenReturn(taskPageDto);
         final var requestBuilder = get("/api/v1/tasks")
                 .contentType(APPLICATION_JSON);
 
         mockMvc.perform(requestBuilder)
                .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, TASKS_ETAG))
+               .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, UPDATED_AT.toEpochMilli()))
                .andExpect(content().json(responseBody));
 
-        verify(taskService).getTasks();
+        verify(taskService).getTasks(new TaskFilterDto(), null, DEFAULT_LIMIT);
+    }
+
+    @Test
+    public void shouldNotLoadTasksWhenETagMatches() throws Exception {
+        var filter = new TaskFilterDto(STATUS, null, null, null, null, null);
+        when(taskService.getTasksVersion(filter, CURSOR)).thenReturn(new TaskCollectionVersion(TASK_COUNT, UPDATED_AT));
+        final var requestBuilder = get("/api/v1/tasks")
+                .param("status", STATUS.name())
+                .param("cursor", String.valueOf(CURSOR))
+                .header(HttpHeaders.IF_NONE_MATCH, TASKS_ETAG)
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isNotModified())
+               .andExpect(content().string(StringUtils.EMPTY));
+
+        verify(taskService, never()).getTasks(any(), any(), eq(DEFAULT_LIMIT));
+    }
+
+    @Test
+    public void shouldGetTasksWithFilterAndCursor() throws Exception {
+        var taskDto = new TaskDto();
+        taskDto.setId(TASK_ID);
+        var taskPageDto = new TaskPageDto(List.of(taskDto), NEXT_CURSOR);
+        var responseBody = objectMapper.writeValueAsString(taskPageDto);
+        var filter = new TaskFilterDto(STATUS, ASSIGNEE_ID, CREATED_FROM, null, null, null);
+        when(taskService.getTasksVersion(filter, CURSOR)).thenReturn(new TaskCollectionVersion(TASK_COUNT, UPDATED_AT));
+        when(taskService.getTasks(filter, CURSOR, LIMIT)).thenReturn(taskPageDto);
+        final var requestBuilder = get("/api/v1/tasks")
+                .param("status", STATUS.name())
+                .param("assigneeId", String.valueOf(ASSIGNEE_ID))
+                .param("createdFrom", CREATED_FROM.toString())
+                .param("cursor", String.valueOf(CURSOR))
+                .param("limit", String.valueOf(LIMIT))
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(content().json(responseBody));
+
+        verify(taskService).getTasks(filter, CURSOR, LIMIT);
+    }
+
+    @Test
+    public void shouldNotGetTasksWhenStatusIsNotValid() throws Exception {
+        final var requestBuilder = get("/api/v1/tasks")
+                .param("status", "UNKNOWN")
+                .contentType(APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    public void shouldStreamTasksAsNdjson() throws Exception {
+        var taskDto1 = new TaskDto();
+        taskDto1.setId(TASK_ID);
+        var taskDto2 = new TaskDto();
+        taskDto2.setId(ASSIGNEE_ID);
+        var filter = new TaskFilterDto();
+        filter.setStatus(STATUS);
+        var expectedBody = objectMapper.writeValueAsString(taskDto1) + "\n" + objectMapper.writeValueAsString(taskDto2) + "\n";
+        doAnswer(invocation -> {
+            Consumer<TaskDto> consumer = invocation.getArgument(1);
+            consumer.accept(taskDto1);
+            consumer.accept(taskDto2);
+            return null;
+        }).when(taskService).streamTasks(eq(filter), any());
+        final var requestBuilder = get("/api/v1/tasks/stream")
+                .param("status", STATUS.name())
+                .accept(APPLICATION_NDJSON);
+
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isOk())
+               .andExpect(content().contentType(APPLICATION_NDJSON))
+               .andExpect(content().string(expectedBody));
+    }
+
+    @Test
+    public void shouldCreateTasksInBulk() throws Exception {
+        var createTaskDtos = List.of(new CreateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION), new CreateTaskDto(ASSIGNEE_ID, "", DESCRIPTION));
+        var results = List.of(new BulkItemResultDto(0, TASK_ID, BulkItemStatus.CREATED, null),
+                new BulkItemResultDto(1, null, BulkItemStatus.INVALID, "title: must not be blank"));
+        when(taskService.createTasks(createTaskDtos)).thenReturn(results);
+        final var requestBuilder = post("/api/v1/tasks/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTaskDtos));
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(content().json(objectMapper.writeValueAsString(results)));
+    }
+
+    @Test
+    public void shouldNotCreateTasksInBulkWhenThereAreTooManyItems() throws Exception {
+        var createTaskDtos = Collections.nCopies(1001, new CreateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION));
+        final var requestBuilder = post("/api/v1/tasks/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTaskDtos));
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).createTasks(anyList());
+    }
+
+    @Test
+    public void shouldUpdateTasksInBulk() throws Exception {
+        var bulkUpdateTaskDtos = List.of(new BulkUpdateTaskDto(TASK_ID, new UpdateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION, STATUS)));
+        var results = List.of(new BulkItemResultDto(0, TASK_ID, BulkItemStatus.UPDATED, null));
+        when(taskService.updateTasks(bulkUpdateTaskDtos)).thenReturn(results);
+        final var requestBuilder = patch("/api/v1/tasks/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkUpdateTaskDtos));
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(content().json(objectMapper.writeValueAsString(results)));
+    }
+
+    @Test
+    public void shouldDeleteTasksInBulk() throws Exception {
+        var taskIds = List.of(TASK_ID, MISSING_TASK_ID);
+        var results = List.of(new BulkItemResultDto(0, TASK_ID, BulkItemStatus.DELETED, null),
+                new BulkItemResultDto(1, MISSING_TASK_ID, BulkItemStatus.NOT_FOUND, "Task not found by id: 3"));
+        when(taskService.deleteTasks(taskIds)).thenReturn(results);
+        final var requestBuilder = post("/api/v1/tasks/bulk/delete")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskIds));
+
+        mockMvc.perform(requestBuilder)
+               .andExpect(status().isOk())
+               .andExpect(content().json(objectMapper.writeValueAsString(results)));
+    }
+
+    private static TaskDto taskWithTimeSpentMillis() {
+        var taskDto = new TaskDto();
+        taskDto.setId(TASK_ID);
+        taskDto.setTimeSpentMillis(TIME_SPENT_MILLIS);
+        return taskDto;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.task.manager.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TaskStateTest {
+
+    private static final Long TASK_ID = 1L;
+    private static final Long ASSIGNEE_ID = 2L;
+    private static final Instant TRANSITIONED_AT = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Duration TIME_SPENT = Duration.ofMinutes(30);
+    private static final Duration ELAPSED = Duration.ofMinutes(90);
+
+    @Test
+    void shouldStartProgressOnTransitionToInProgress() {
+        var taskState = new TaskState(TASK_ID, ASSIGNEE_ID, TaskStatus.PAUSED, TIME_SPENT, null);
+
+        var result = taskState.transition(TaskStatus.IN_PROGRESS, TRANSITIONED_AT);
+
+        assertThat(result, is(new TaskState(TASK_ID, ASSIGNEE_ID, TaskStatus.IN_PROGRESS, TIME_SPENT, TRANSITIONED_AT)));
+    }
+
+    @Test
+    void shouldAddElapsedTimeOnTransitionOutOfInProgress() {
+        var taskState = new TaskState(TASK_ID, ASSIGNEE_ID, TaskStatus.IN_PROGRESS, TIME_SPENT, TRANSITIONED_AT.minus(ELAPSED));
+
+        var result = taskState.transition(TaskStatus.DONE, TRANSITIONED_AT);
+
+        assertThat(result, is(new TaskState(TASK_ID, ASSIGNEE_ID, TaskStatus.DONE, TIME_SPENT.plus(ELAPSED), null)));
+    }
+
+    @Test
+    void shouldKeepTimeSpentOnTransitionBetweenOtherStatuses() {
+        var taskState = new TaskState(TASK_ID, ASSIGNEE_ID, TaskStatus.TODO, TIME_SPENT, null);
+
+        var result = taskState.transition(TaskStatus.DONE, TRANSITIONED_AT);
+
+        assertThat(result, is(new TaskState(TASK_ID, ASSIGNEE_ID, TaskStatus.DONE, TIME_SPENT, null)));
+    }
+}
@@ -49,6 +49,27 @@ class TaskTest {
         assertThat(currentTimeSpent, equalTo(Duration.ofHours(2)));
     }
 
+    @Test
+    void shouldGetCurrentTimeSpentMillisAgainstGivenTime() {
+        var now = Instant.now();
+        testingInstance.setTimeSpent(Duration.ofHours(2));
+        testingInstance.setStartedAt(now.minus(Duration.ofHours(1)));
+
+        var currentTimeSpentMillis = testingInstance.getCurrentTimeSpentMillis(now.toEpochMilli());
+
+        assertThat(currentTimeSpentMillis, equalTo(Duration.ofHours(3).toMillis()));
+    }
+
+    @Test
+    void shouldGetStoredTimeSpentMillisWhenTaskIsNotInProgress() {
+        testingInstance.setStatus(TaskStatus.PAUSED);
+        testingInstance.setTimeSpent(Duration.ofHours(2));
+
+        var currentTimeSpentMillis = testingInstance.getCurrentTimeSpentMillis(Instant.now().toEpochMilli());
+
+        assertThat(currentTimeSpentMillis, equalTo(Duration.ofHours(2).toMillis()));
+    }
+
     @Test
     void shouldStopProgressAndUpdateTimeSpentWhenEndProgressIsCalled() {
         testingInstance.prePersist();
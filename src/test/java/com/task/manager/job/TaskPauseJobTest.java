@@ -1,6 +1,6 @@
 package com.task.manager.job;
 
-import com.task.manager.service.TaskService;
+import com.task.manager.service.TaskPauseService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -8,14 +8,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TaskPauseJobTest {
 
-    private static final int BATCH_SIZE = 100;
-
     @Mock
-    private TaskService taskService;
+    private TaskPauseService taskPauseService;
 
     @InjectMocks
     private TaskPauseJob testingInstance;
@@ -24,6 +23,15 @@ class TaskPauseJobTest {
     public void shouldPauseTasks() {
         testingInstance.pauseTasks();
 
-        verify(taskService).updateTasksStatusFromInProgressToPausedInBatch(BATCH_SIZE);
+        verify(taskPauseService).pauseInProgressTasks();
+    }
+
+    @Test
+    public void shouldNotFailWhenPauseTasksFails() {
+        when(taskPauseService.pauseInProgressTasks()).thenThrow(new IllegalStateException());
+
+        testingInstance.pauseTasks();
+
+        verify(taskPauseService).pauseInProgressTasks();
     }
 }
\ No newline at end of file
@@ -5,9 +5,9 @@ import java.time.Instant;
 
 import com.task.manager.domain.Task;
 import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskView;
 import com.task.manager.dto.CreateTaskDto;
 import com.task.manager.dto.UpdateTaskDto;
-import com.task.manager.dto.UpdateTaskStatusDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -30,6 +30,8 @@ class TaskMapperImplTest {
     private static final String NEW_DESCRIPTION = "New Description";
     private static final String TIME_SPENT_STRING = "02:00:00";
     private static final String TIME_SPENT_ZERO = "00:00:00";
+    private static final String LIVE_TIME_SPENT_STRING = "02:30:00";
+    private static final Instant READ_AT = Instant.parse("2025-01-01T12:00:00Z");
     private static final TaskStatus TODO_TASK_STATUS = TaskStatus.TODO;
     private static final TaskStatus IN_PROGRESS_TASK_STATUS = TaskStatus.IN_PROGRESS;
     private static final Duration TIME_SPENT = Duration.ofHours(2);
@@ -79,18 +81,6 @@ class TaskMapperImplTest {
         assertThat(result.getTimeSpent(), is(TIME_SPENT_STRING));
     }
 
-    @Test
-    void shouldUpdateTaskStatus() {
-        var task = new Task();
-        task.setStatus(TODO_TASK_STATUS);
-        var updateTaskStatusDto = new UpdateTaskStatusDto();
-        updateTaskStatusDto.setStatus(IN_PROGRESS_TASK_STATUS);
-
-        testingInstance.updateTaskStatus(task, updateTaskStatusDto);
-
-        assertThat(task.getStatus(), is(IN_PROGRESS_TASK_STATUS));
-    }
-
     @Test
     void shouldUpdateTask() {
         var task = new Task();
@@ -117,9 +107,10 @@ class TaskMapperImplTest {
         var task = new Task();
         task.setTimeSpent(TIME_SPENT);
 
-        var result = testingInstance.mapTimeSpent(task);
+        var result = testingInstance.fromTask(task, READ_AT);
 
-        assertThat(result, is(TIME_SPENT_STRING));
+        assertThat(result.getTimeSpent(), is(TIME_SPENT_STRING));
+        assertThat(result.getTimeSpentMillis(), is(TIME_SPENT.toMillis()));
     }
 
     @Test
@@ -127,8 +118,41 @@ class TaskMapperImplTest {
         var task = new Task();
         task.setTimeSpent(null);
 
-        var result = testingInstance.mapTimeSpent(task);
+        var result = testingInstance.fromTask(task, READ_AT);
+
+        assertThat(result.getTimeSpent(), is(TIME_SPENT_ZERO));
+        assertThat(result.getTimeSpentMillis(), is(0L));
+    }
 
-        assertThat(result, is(TIME_SPENT_ZERO));
+    @Test
+    void shouldMapTimeSpentOfInProgressTaskAtReadTime() {
+        var task = new Task();
+        task.setStatus(IN_PROGRESS_TASK_STATUS);
+        task.setTimeSpent(TIME_SPENT);
+        task.setStartedAt(READ_AT.minus(Duration.ofMinutes(30)));
+
+        var result = testingInstance.fromTask(task, READ_AT);
+
+        assertThat(result.getTimeSpent(), is(LIVE_TIME_SPENT_STRING));
+        assertThat(result.getTimeSpentMillis(), is(TIME_SPENT.plusMinutes(30).toMillis()));
+    }
+
+    @Test
+    void shouldMapFromTaskViewWithTimeSpentAtReadTime() {
+        var createdAt = READ_AT.minus(Duration.ofDays(1));
+        var taskView = new TaskView(ID, ASSIGNEE_ID, TITLE, DESCRIPTION, IN_PROGRESS_TASK_STATUS, TIME_SPENT,
+                READ_AT.minus(Duration.ofMinutes(30)), createdAt, READ_AT);
+
+        var result = testingInstance.fromTaskView(taskView, READ_AT);
+
+        assertThat(result.getId(), is(ID));
+        assertThat(result.getAssigneeId(), is(ASSIGNEE_ID));
+        assertThat(result.getTitle(), is(TITLE));
+        assertThat(result.getDescription(), is(DESCRIPTION));
+        assertThat(result.getStatus(), is(IN_PROGRESS_TASK_STATUS));
+        assertThat(result.getCreatedAt(), is(createdAt.toString()));
+        assertThat(result.getUpdatedAt(), is(READ_AT.toString()));
+        assertThat(result.getTimeSpent(), is(LIVE_TIME_SPENT_STRING));
+        assertThat(result.getTimeSpentMillis(), is(TIME_SPENT.plusMinutes(30).toMillis()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,342 @@
+package com.task.manager.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.task.manager.domain.AssigneeStatusTotals;
+import com.task.manager.domain.CoalescedTransition;
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskPausePartition;
+import com.task.manager.domain.TaskReplicationLog;
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.domain.TaskView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.task.manager.repository.TaskRepositoryCustomImplTest$LastStatementInspector")
+@Sql(scripts = "classpath:schema-main.sql")
+class TaskRepositoryCustomImplTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Long ASSIGNEE_ID = 1L;
+    private static final Long OTHER_ASSIGNEE_ID = 2L;
+    private static final Instant PAUSED_AT = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Duration TIME_SPENT = Duration.ofMinutes(30);
+    private static final Duration ELAPSED = Duration.ofMinutes(90).plusMillis(250);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskReplicationLogRepository taskReplicationLogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldFindChunkUpperBoundIdOfTasksWithStatus() {
+        var task1 = saveTask(TaskStatus.IN_PROGRESS, null);
+        saveTask(TaskStatus.TODO, null);
+        var task3 = saveTask(TaskStatus.IN_PROGRESS, null);
+        var task4 = saveTask(TaskStatus.IN_PROGRESS, null);
+
+        assertThat(taskRepository.findChunkUpperBoundId(TaskStatus.IN_PROGRESS, 0L, Long.MAX_VALUE, CHUNK_SIZE).orElseThrow(), is(task3.getId()));
+        assertThat(taskRepository.findChunkUpperBoundId(TaskStatus.IN_PROGRESS, task1.getId(), Long.MAX_VALUE, CHUNK_SIZE).orElseThrow(), is(task4.getId()));
+        assertThat(taskRepository.findChunkUpperBoundId(TaskStatus.IN_PROGRESS, task4.getId(), Long.MAX_VALUE, CHUNK_SIZE).isPresent(), is(false));
+    }
+
+    @Test
+    void shouldNotFindChunkUpperBoundIdBeyondMaxId() {
+        saveTask(TaskStatus.IN_PROGRESS, null);
+        var task2 = saveTask(TaskStatus.IN_PROGRESS, null);
+        saveTask(TaskStatus.IN_PROGRESS, null);
+
+        assertThat(taskRepository.findChunkUpperBoundId(TaskStatus.IN_PROGRESS, 0L, task2.getId(), Integer.MAX_VALUE).orElseThrow(), is(task2.getId()));
+        assertThat(taskRepository.findChunkUpperBoundId(TaskStatus.IN_PROGRESS, task2.getId(), task2.getId(), CHUNK_SIZE).isPresent(), is(false));
+    }
+
+    @Test
+    void shouldPauseInProgressTasksWithinIdRangeAddingElapsedTime() {
+        var task1 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+        var task2 = saveTask(TaskStatus.TODO, null);
+        var task3 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+
+        var result = taskRepository.pauseInProgressTasks(0L, task2.getId(), PAUSED_AT);
+        entityManager.clear();
+
+        assertThat(result, is(1));
+        var pausedTask = taskRepository.findById(task1.getId()).orElseThrow();
+        assertThat(pausedTask.getStatus(), is(TaskStatus.PAUSED));
+        assertThat(pausedTask.getStartedAt(), nullValue());
+        assertThat(pausedTask.getTimeSpent(), is(TIME_SPENT.plus(ELAPSED)));
+        assertThat(pausedTask.getUpdatedAt(), is(PAUSED_AT));
+        assertThat(pausedTask.getVersion(), is(task1.getVersion() + 1));
+        assertThat(taskRepository.findById(task2.getId()).orElseThrow().getStatus(), is(TaskStatus.TODO));
+        assertThat(taskRepository.findById(task3.getId()).orElseThrow().getStatus(), is(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void shouldLeaveTasksStartedAfterPauseMomentInProgress() {
+        var task = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.plus(ELAPSED));
+
+        var result = taskRepository.pauseInProgressTasks(0L, task.getId(), PAUSED_AT);
+        entityManager.clear();
+
+        assertThat(result, is(0));
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus(), is(TaskStatus.IN_PROGRESS));
+        assertThat(taskReplicationLogRepository.count(), is(0L));
+    }
+
+    @Test
+    void shouldLeaveManagedCopiesOfPausedTasksToCaller() {
+        var task = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+
+        taskRepository.pauseInProgressTasks(0L, task.getId(), PAUSED_AT);
+
+        assertThat(entityManager.contains(task), is(true));
+        entityManager.clear();
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus(), is(TaskStatus.PAUSED));
+    }
+
+    @Test
+    void shouldKeepPendingChangesOfOtherEntitiesOfCallerTransaction() {
+        var task = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+        var partition = new TaskPausePartition();
+        partition.setId(1);
+        entityManager.persist(partition);
+        entityManager.flush();
+        partition.setLastProcessedId(task.getId());
+
+        taskRepository.pauseInProgressTasks(0L, task.getId(), PAUSED_AT);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(TaskPausePartition.class, 1).getLastProcessedId(), is(task.getId()));
+    }
+
+    @Test
+    void shouldTransitionStatusOnlyFromExpectedStatusAddingElapsedTime() {
+        var task = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+
+        var transitioned = taskRepository.transitionStatus(task.getId(), TaskStatus.IN_PROGRESS, TaskStatus.PAUSED, PAUSED_AT);
+        var transitionedAgain = taskRepository.transitionStatus(task.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, PAUSED_AT);
+        entityManager.clear();
+
+        assertThat(transitioned, is(true));
+        assertThat(transitionedAgain, is(false));
+        var pausedTask = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(pausedTask.getStatus(), is(TaskStatus.PAUSED));
+        assertThat(pausedTask.getStartedAt(), nullValue());
+        assertThat(pausedTask.getTimeSpent(), is(TIME_SPENT.plus(ELAPSED)));
+        assertThat(pausedTask.getUpdatedAt(), is(PAUSED_AT));
+        assertThat(pausedTask.getVersion(), is(task.getVersion() + 1));
+    }
+
+    @Test
+    void shouldLogPausedAndTransitionedTasksForReplication() {
+        var task1 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+        var task2 = saveTask(TaskStatus.TODO, null);
+        var task3 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED));
+
+        taskRepository.pauseInProgressTasks(0L, task2.getId(), PAUSED_AT);
+        taskRepository.transitionStatus(task2.getId(), TaskStatus.TODO, TaskStatus.DONE, PAUSED_AT);
+        taskRepository.transitionStatus(task3.getId(), TaskStatus.TODO, TaskStatus.DONE, PAUSED_AT);
+
+        var loggedTaskIds = taskReplicationLogRepository.findAll().stream().map(TaskReplicationLog::getTaskId).toList();
+        assertThat(loggedTaskIds, containsInAnyOrder(task1.getId(), task2.getId()));
+    }
+
+    @Test
+    void shouldApplyCoalescedTransitionsOnlyToTasksInProgressSinceSameStart() {
+        var task1 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED), ASSIGNEE_ID);
+        var task2 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT.minus(ELAPSED), OTHER_ASSIGNEE_ID);
+        var storedState1 = TaskState.fromTask(task1);
+        var storedState2 = TaskState.fromTask(task2);
+        var restartedAt = PAUSED_AT.plus(ELAPSED);
+        var restarted = new CoalescedTransition(storedState1, storedState1.transition(TaskStatus.PAUSED, PAUSED_AT), 1, PAUSED_AT)
+                .fold(TaskStatus.IN_PROGRESS, restartedAt);
+        var paused = new CoalescedTransition(storedState2, storedState2.transition(TaskStatus.PAUSED, PAUSED_AT), 1, PAUSED_AT);
+        taskRepository.transitionStatus(task2.getId(), TaskStatus.IN_PROGRESS, TaskStatus.DONE, PAUSED_AT);
+
+        var result = taskRepository.applyCoalescedTransitions(List.of(restarted, paused));
+        entityManager.clear();
+
+        assertThat(result, contains(task1.getId()));
+        var restartedTask = taskRepository.findById(task1.getId()).orElseThrow();
+        assertThat(restartedTask.getStatus(), is(TaskStatus.IN_PROGRESS));
+        assertThat(restartedTask.getStartedAt(), is(restartedAt));
+        assertThat(restartedTask.getTimeSpent(), is(TIME_SPENT.plus(ELAPSED)));
+        assertThat(restartedTask.getUpdatedAt(), is(restartedAt));
+        assertThat(restartedTask.getVersion(), is(task1.getVersion() + 2));
+        assertThat(taskRepository.findById(task2.getId()).orElseThrow().getStatus(), is(TaskStatus.DONE));
+        assertThat(taskReplicationLogRepository.findAll().stream().map(TaskReplicationLog::getTaskId).toList(),
+                containsInAnyOrder(task1.getId(), task2.getId()));
+    }
+
+    @Test
+    void shouldStartProgressOnTransitionToInProgress() {
+        var task = saveTask(TaskStatus.PAUSED, null);
+
+        var transitioned = taskRepository.transitionStatus(task.getId(), TaskStatus.PAUSED, TaskStatus.IN_PROGRESS, PAUSED_AT);
+        entityManager.clear();
+
+        assertThat(transitioned, is(true));
+        var startedTask = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(startedTask.getStatus(), is(TaskStatus.IN_PROGRESS));
+        assertThat(startedTask.getStartedAt(), is(PAUSED_AT));
+        assertThat(startedTask.getTimeSpent(), is(TIME_SPENT));
+    }
+
+    @Test
+    void shouldNotTransitionSecondTaskOfAssigneeToInProgress() {
+        saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT, ASSIGNEE_ID);
+        var task = saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+
+        assertThatThrownBy(() -> taskRepository.transitionStatus(task.getId(), TaskStatus.TODO, TaskStatus.IN_PROGRESS, PAUSED_AT))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldFindTotalsOfEveryAssigneeAndStatus() {
+        saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        var inProgressTask = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT, ASSIGNEE_ID);
+        saveTask(TaskStatus.DONE, null, OTHER_ASSIGNEE_ID);
+        saveTask(TaskStatus.TODO, null);
+
+        var result = taskRepository.findAssigneeStatusTotals();
+
+        assertThat(result, containsInAnyOrder(
+                new AssigneeStatusTotals(ASSIGNEE_ID, TaskStatus.TODO, 2, TIME_SPENT.multipliedBy(2)),
+                new AssigneeStatusTotals(ASSIGNEE_ID, TaskStatus.IN_PROGRESS, 1, TIME_SPENT),
+                new AssigneeStatusTotals(OTHER_ASSIGNEE_ID, TaskStatus.DONE, 1, TIME_SPENT)));
+        assertThat(taskRepository.findInProgressStates(), contains(
+                new TaskState(inProgressTask.getId(), ASSIGNEE_ID, TaskStatus.IN_PROGRESS, TIME_SPENT, PAUSED_AT)));
+    }
+
+    @Test
+    void shouldFindVersionOfTaskAndOfMatchingTasks() {
+        var task1 = saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        var task2 = saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        saveTask(TaskStatus.DONE, null, ASSIGNEE_ID);
+        saveTask(TaskStatus.TODO, null, OTHER_ASSIGNEE_ID);
+        entityManager.clear();
+        var storedTask2 = taskRepository.findById(task2.getId()).orElseThrow();
+
+        var taskVersion = taskRepository.findVersionById(task2.getId()).orElseThrow();
+        var tasksVersion = taskRepository.findCollectionVersion(null, TaskStatus.TODO, ASSIGNEE_ID, null, null, null, null);
+        var tasksAfterCursorVersion = taskRepository.findCollectionVersion(task1.getId(), TaskStatus.TODO, ASSIGNEE_ID, null, null, null, null);
+
+        assertThat(taskVersion, is(new TaskVersion(TaskStatus.TODO, storedTask2.getVersion(), storedTask2.getUpdatedAt())));
+        assertThat(tasksVersion, is(new TaskCollectionVersion(2L, storedTask2.getUpdatedAt())));
+        assertThat(tasksAfterCursorVersion, is(new TaskCollectionVersion(1L, storedTask2.getUpdatedAt())));
+        assertThat(taskRepository.findVersionById(Long.MAX_VALUE).isPresent(), is(false));
+    }
+
+    @Test
+    void shouldFindViewsOfMatchingTasksWithoutManagingTasks() {
+        var task1 = saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        var task2 = saveTask(TaskStatus.IN_PROGRESS, PAUSED_AT, ASSIGNEE_ID);
+        var task3 = saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        saveTask(TaskStatus.TODO, null, OTHER_ASSIGNEE_ID);
+        entityManager.clear();
+
+        var taskView = taskRepository.findViewById(task2.getId()).orElseThrow();
+        var taskViews = taskRepository.findTaskViewsPage(task1.getId(), TaskStatus.TODO, ASSIGNEE_ID, null, null, null, null,
+                PageRequest.of(0, CHUNK_SIZE));
+
+        assertThat(taskView, is(new TaskView(task2.getId(), ASSIGNEE_ID, null, null, TaskStatus.IN_PROGRESS, TIME_SPENT,
+                PAUSED_AT, taskView.getCreatedAt(), taskView.getUpdatedAt())));
+        assertThat(taskViews.stream().map(TaskView::getId).toList(), contains(task3.getId()));
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount(), is(0));
+        assertThat(taskRepository.findViewById(Long.MAX_VALUE).isPresent(), is(false));
+    }
+
+    @Test
+    void shouldPlanFilteredPageOnIndexOfFiltersSet() {
+        saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+        saveTask(TaskStatus.TODO, null, OTHER_ASSIGNEE_ID);
+
+        var taskViews = taskRepository.findTaskViewsPage(null, TaskStatus.TODO, ASSIGNEE_ID, null, null, null, null,
+                PageRequest.of(0, CHUNK_SIZE));
+        var pageQuery = LastStatementInspector.lastStatement;
+
+        assertThat(taskViews.size(), is(1));
+        assertThat(pageQuery.toLowerCase(), not(containsString("is null")));
+        assertThat(explain(pageQuery, TaskStatus.TODO.name(), ASSIGNEE_ID, CHUNK_SIZE),
+                containsString("IDX_TASK_ASSIGNEE_ID_STATUS"));
+    }
+
+    @Test
+    void shouldFindEmptyVersionWhenNoTasksMatch() {
+        saveTask(TaskStatus.TODO, null, ASSIGNEE_ID);
+
+        var tasksVersion = taskRepository.findCollectionVersion(null, TaskStatus.DONE, null, null, null, null, null);
+
+        assertThat(tasksVersion, is(new TaskCollectionVersion(0L, null)));
+    }
+
+    private String explain(final String query, final Object... parameters) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement("EXPLAIN " + query)) {
+                for (int index = 0; index < parameters.length; index++) {
+                    statement.setObject(index + 1, parameters[index]);
+                }
+
+                try (var resultSet = statement.executeQuery()) {
+                    resultSet.next();
+
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private Task saveTask(final TaskStatus status, final Instant startedAt) {
+        return saveTask(status, startedAt, null);
+    }
+
+    private Task saveTask(final TaskStatus status, final Instant startedAt, final Long assigneeId) {
+        var task = new Task();
+        task.setStatus(status);
+        task.setAssigneeId(assigneeId);
+        taskRepository.save(task);
+        task.setTimeSpent(TIME_SPENT);
+        task.setStartedAt(startedAt);
+
+        return taskRepository.saveAndFlush(task);
+    }
+
+    public static class LastStatementInspector implements StatementInspector {
+
+        private static volatile String lastStatement;
+
+        @Override
+        public String inspect(final String sql) {
+            lastStatement = sql;
+
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.task.manager.repository;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * The PostgreSQL statements are not run by the H2 backed tests, so their text is checked here.
+ */
+class TaskSqlDialectTest {
+
+    private static final String TASK_ID_SEQUENCE = "task_id_seq";
+    private static final long NEXT_VALUE = 1001L;
+    private static final List<String> TASK_PARAMETERS = List.of(":id", ":title", ":description", ":status",
+            ":assigneeId", ":createdAt", ":updatedAt", ":startedAt", ":timeSpent", ":version");
+
+    @Test
+    void shouldResolveDialectFromDatabaseProductName() {
+        assertThat(TaskSqlDialect.fromDatabaseProductName("PostgreSQL"), is(TaskSqlDialect.POSTGRESQL));
+        assertThat(TaskSqlDialect.fromDatabaseProductName("H2"), is(TaskSqlDialect.H2));
+    }
+
+    @Test
+    void shouldUpsertTaskOnPostgresUnlessStoredCopyIsNewerOrTaskWasDeletedLater() {
+        var upsertTask = TaskSqlDialect.POSTGRESQL.upsertTask();
+
+        TASK_PARAMETERS.forEach(parameter -> assertThat(upsertTask, containsString(parameter)));
+        assertThat(upsertTask, containsString("ON CONFLICT (id) DO UPDATE"));
+        assertThat(upsertTask, containsString(
+                "WHERE task.updated_at IS NULL OR EXCLUDED.updated_at IS NULL OR task.updated_at <= EXCLUDED.updated_at"));
+        assertThat(upsertTask, containsString("WHERE EXISTS (SELECT 1 FROM task WHERE id = CAST(:id AS BIGINT))"));
+        assertThat(upsertTask, containsString(
+                "WHERE l.task_id = CAST(:id AS BIGINT) AND l.created_at > CAST(:updatedAt AS TIMESTAMP)"));
+    }
+
+    @Test
+    void shouldSelectNextValueOfPostgresSequence() {
+        assertThat(TaskSqlDialect.POSTGRESQL.nextSequenceValue(TASK_ID_SEQUENCE),
+                is("SELECT CASE WHEN s.is_called THEN s.last_value + p.increment_by ELSE s.last_value END FROM "
+                        + "task_id_seq s, pg_sequences p WHERE p.sequencename = 'task_id_seq'"));
+    }
+
+    @Test
+    void shouldRestartPostgresSequenceSoItHandsOutValueNext() {
+        assertThat(TaskSqlDialect.POSTGRESQL.restartSequence(TASK_ID_SEQUENCE, NEXT_VALUE),
+                is("SELECT setval('task_id_seq', 1001, false)"));
+    }
+
+    @Test
+    void shouldComputeElapsedNanosOnPostgres() {
+        assertThat(TaskSqlDialect.POSTGRESQL.elapsedNanos("started_at", ":pausedAt"),
+                is("CAST(EXTRACT(EPOCH FROM (CAST(:pausedAt AS TIMESTAMP) - started_at)) * 1000000000 AS BIGINT)"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.task.manager.config.properties.AssigneeLockProperties;
+import com.task.manager.exception.TaskConflictException;
+import com.task.manager.util.StripedLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AssigneeLockServiceImplTest {
+
+    private static final int STRIPES = 1024;
+    private static final int THREADS = 64;
+    private static final Long ASSIGNEE_ID_1 = 1L;
+    private static final Long ASSIGNEE_ID_2 = 2L;
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+    private static final String ACQUISITIONS_COUNTER = "task.assignee.lock.acquisitions";
+    private static final String WAIT_TIMER = "task.assignee.lock.wait";
+    private static final String RESULT_TAG = "result";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    private AssigneeLockProperties assigneeLockProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private AssigneeLockServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        assigneeLockProperties = new AssigneeLockProperties();
+        assigneeLockProperties.setStripes(STRIPES);
+        assigneeLockProperties.setTimeout(Duration.ofSeconds(10));
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new AssigneeLockServiceImpl(assigneeLockProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRunActionAndCountUncontendedAcquisition() {
+        var runs = new AtomicInteger();
+
+        testingInstance.runLocked(ASSIGNEE_ID_1, runs::incrementAndGet);
+
+        assertThat(runs.get(), is(1));
+        assertThat(acquisitions("uncontended"), is(1.0));
+        assertThat(acquisitions("contended"), is(0.0));
+        assertThat(meterRegistry.get(WAIT_TIMER).timer().count(), is(0L));
+    }
+
+    @Test
+    public void shouldNotBlockOtherAssigneeWhileLockIsHeld() throws Exception {
+        var stripedLock = new StripedLock(STRIPES);
+        assertThat(stripedLock.get(ASSIGNEE_ID_1), not(sameInstance(stripedLock.get(ASSIGNEE_ID_2))));
+        var held = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = executor.submit(() -> testingInstance.runLocked(ASSIGNEE_ID_1, () -> {
+            held.countDown();
+            await(release);
+        }));
+        held.await();
+
+        var other = executor.submit(() -> testingInstance.runLocked(ASSIGNEE_ID_2, () -> { }));
+
+        other.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(acquisitions("uncontended"), is(2.0));
+        assertThat(acquisitions("contended"), is(0.0));
+    }
+
+    @Test
+    public void shouldFailWithoutRunningActionWhenLockIsNotAcquiredInTime() throws Exception {
+        assigneeLockProperties.setTimeout(TIMEOUT);
+        var release = new CountDownLatch(1);
+        var holder = holdLock(ASSIGNEE_ID_1, release);
+        var runs = new AtomicInteger();
+
+        assertThatThrownBy(() -> testingInstance.runLocked(ASSIGNEE_ID_1, runs::incrementAndGet))
+                .isInstanceOf(TaskConflictException.class);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(runs.get(), is(0));
+        assertThat(acquisitions("timeout"), is(1.0));
+        assertThat(meterRegistry.get(WAIT_TIMER).timer().count(), is(1L));
+    }
+
+    @Test
+    public void shouldFailWithoutRunningActionAndKeepInterruptWhenWaitIsInterrupted() throws Exception {
+        var release = new CountDownLatch(1);
+        var holder = holdLock(ASSIGNEE_ID_1, release);
+        var runs = new AtomicInteger();
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> testingInstance.runLocked(ASSIGNEE_ID_1, runs::incrementAndGet))
+                .isInstanceOf(TaskConflictException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        var interrupted = Thread.interrupted();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(interrupted, is(true));
+        assertThat(runs.get(), is(0));
+        assertThat(acquisitions("contended"), is(0.0));
+    }
+
+    private Future<?> holdLock(final Long assigneeId, final CountDownLatch release)
+            throws InterruptedException {
+        var held = new CountDownLatch(1);
+        var holder = executor.submit(() -> testingInstance.runLocked(assigneeId, () -> {
+            held.countDown();
+            await(release);
+        }));
+        held.await();
+
+        return holder;
+    }
+
+    private double acquisitions(final String result) {
+        return meterRegistry.get(ACQUISITIONS_COUNTER).tag(RESULT_TAG, result).counter().count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.task.manager.domain.AssigneeStatusTotals;
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.AssigneeSummaryDto;
+import com.task.manager.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssigneeSummaryServiceImplTest {
+
+    private static final Long TASK_ID_1 = 1L;
+    private static final Long TASK_ID_2 = 2L;
+    private static final Long TASK_ID_3 = 5L;
+    private static final Long ASSIGNEE_ID_1 = 10L;
+    private static final Long ASSIGNEE_ID_2 = 20L;
+    private static final Duration TIME_SPENT = Duration.ofHours(2);
+    private static final Duration ELAPSED = Duration.ofHours(1);
+    private static final String ZERO_TIME_SPENT_STRING = "00:00:00";
+    private static final String TIME_SPENT_STRING = "02:00:00";
+    private static final String TIME_SPENT_WITH_ELAPSED_STRING = "03:00:00";
+    private static final String DRIFT_COUNTER = "task.assignee.summary.drift";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private AssigneeSummaryServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new AssigneeSummaryServiceImpl(taskRepository, meterRegistry);
+    }
+
+    @Test
+    public void shouldMoveCountersWithTaskChanges() {
+        var createdTask = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO, TIME_SPENT, null);
+        var startedTask = createdTask.transition(TaskStatus.IN_PROGRESS, Instant.now().minus(ELAPSED));
+
+        testingInstance.recordChange(null, createdTask);
+        testingInstance.recordChange(null, taskState(TASK_ID_2, ASSIGNEE_ID_1, TaskStatus.DONE, Duration.ZERO, null));
+        testingInstance.recordChange(createdTask, startedTask);
+
+        assertThat(testingInstance.getSummary(ASSIGNEE_ID_1),
+                is(summary(ASSIGNEE_ID_1, 0, 1, 0, 1, TIME_SPENT_WITH_ELAPSED_STRING)));
+    }
+
+    @Test
+    public void shouldMoveTaskBetweenAssignees() {
+        var task = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO, TIME_SPENT, null);
+        var reassignedTask = taskState(TASK_ID_1, ASSIGNEE_ID_2, TaskStatus.TODO, TIME_SPENT, null);
+
+        testingInstance.recordChange(null, task);
+        testingInstance.recordChange(task, reassignedTask);
+
+        assertThat(testingInstance.getSummaries(), is(List.of(summary(ASSIGNEE_ID_2, 1, 0, 0, 0, TIME_SPENT_STRING))));
+    }
+
+    @Test
+    public void shouldRemoveAssigneeWhenLastTaskIsDeleted() {
+        var task = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO, TIME_SPENT, null);
+
+        testingInstance.recordChange(null, task);
+        testingInstance.recordChange(task, null);
+
+        assertThat(testingInstance.getSummaries(), is(List.of()));
+        assertThat(testingInstance.getSummary(ASSIGNEE_ID_1), is(summary(ASSIGNEE_ID_1, 0, 0, 0, 0, ZERO_TIME_SPENT_STRING)));
+    }
+
+    @Test
+    public void shouldApplyChangeOnlyAfterTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            testingInstance.recordChange(null, taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO, TIME_SPENT, null));
+
+            assertThat(testingInstance.getSummaries(), is(List.of()));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(testingInstance.getSummaries(), is(List.of(summary(ASSIGNEE_ID_1, 1, 0, 0, 0, TIME_SPENT_STRING))));
+    }
+
+    @Test
+    public void shouldPauseInProgressTasksWithinIdRange() {
+        var pausedAt = Instant.now();
+        testingInstance.recordChange(null, taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.IN_PROGRESS, TIME_SPENT, pausedAt.minus(ELAPSED)));
+        testingInstance.recordChange(null, taskState(TASK_ID_3, ASSIGNEE_ID_2, TaskStatus.IN_PROGRESS, TIME_SPENT, pausedAt));
+
+        testingInstance.recordPaused(0L, TASK_ID_2, pausedAt);
+
+        assertThat(testingInstance.getSummaries(), is(List.of(
+                summary(ASSIGNEE_ID_1, 0, 0, 1, 0, TIME_SPENT_WITH_ELAPSED_STRING),
+                summary(ASSIGNEE_ID_2, 0, 1, 0, 0, TIME_SPENT_STRING))));
+    }
+
+    @Test
+    public void shouldReplaceCountersWithTaskTableTotalsAndCountDrift() {
+        var startedAt = Instant.now().minus(ELAPSED);
+        testingInstance.recordChange(null, taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO, TIME_SPENT, null));
+        testingInstance.recordChange(null, taskState(TASK_ID_2, ASSIGNEE_ID_2, TaskStatus.TODO, Duration.ZERO, null));
+        when(taskRepository.findAssigneeStatusTotals()).thenReturn(List.of(
+                new AssigneeStatusTotals(ASSIGNEE_ID_1, TaskStatus.TODO, 1, TIME_SPENT),
+                new AssigneeStatusTotals(ASSIGNEE_ID_2, TaskStatus.IN_PROGRESS, 1, Duration.ZERO),
+                new AssigneeStatusTotals(ASSIGNEE_ID_2, TaskStatus.DONE, 2, TIME_SPENT)));
+        when(taskRepository.findInProgressStates()).thenReturn(List.of(
+                taskState(TASK_ID_3, ASSIGNEE_ID_2, TaskStatus.IN_PROGRESS, Duration.ZERO, startedAt)));
+
+        testingInstance.reconcile();
+
+        assertThat(testingInstance.getSummaries(), is(List.of(
+                summary(ASSIGNEE_ID_1, 1, 0, 0, 0, TIME_SPENT_STRING),
+                summary(ASSIGNEE_ID_2, 0, 1, 0, 2, TIME_SPENT_WITH_ELAPSED_STRING))));
+        assertThat(meterRegistry.get(DRIFT_COUNTER).counter().count(), is(1.0));
+
+        testingInstance.recordPaused(0L, TASK_ID_3, Instant.now());
+
+        assertThat(testingInstance.getSummary(ASSIGNEE_ID_2), is(summary(ASSIGNEE_ID_2, 0, 0, 1, 2, TIME_SPENT_WITH_ELAPSED_STRING)));
+    }
+
+    private static TaskState taskState(final Long taskId, final Long assigneeId, final TaskStatus status,
+                                       final Duration timeSpent, final Instant startedAt) {
+        return new TaskState(taskId, assigneeId, status, timeSpent, startedAt);
+    }
+
+    private static AssigneeSummaryDto summary(final Long assigneeId, final long todo, final long inProgress,
+                                              final long paused, final long done, final String timeSpent) {
+        var taskCountByStatus = Map.of(TaskStatus.TODO, todo, TaskStatus.IN_PROGRESS, inProgress,
+                TaskStatus.PAUSED, paused, TaskStatus.DONE, done);
+
+        return new AssigneeSummaryDto(assigneeId, taskCountByStatus, todo + inProgress + paused + done, timeSpent);
+    }
+}
@@ -0,0 +1,114 @@
+package com.task.manager.service.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import com.task.manager.config.ReplicaDataSources;
+import com.task.manager.config.properties.DataSourceCircuitBreakerProperties;
+import com.task.manager.service.DataSourceMetricsService;
+import com.task.manager.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceCircuitBreakerServiceImplTest {
+
+    private static final String MAIN = "main";
+    private static final String BACKUP = "backup";
+    private static final int MINIMUM_CALLS = 2;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    @Mock
+    private DataSourceMetricsService dataSourceMetricsService;
+
+    @Mock
+    private DataSource mainDataSource;
+
+    @Mock
+    private DataSource backupDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private MeterRegistry meterRegistry;
+
+    private DataSourceCircuitBreakerServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new DataSourceCircuitBreakerProperties();
+        properties.setMinimumCalls(MINIMUM_CALLS);
+        properties.setOpenDuration(Duration.ZERO);
+        properties.setValidationTimeout(Duration.ofSeconds(VALIDATION_TIMEOUT_SECONDS));
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new DataSourceCircuitBreakerServiceImpl(properties, dataSourceMetricsService,
+                mainDataSource, backupDataSource, new ReplicaDataSources(Map.of()), meterRegistry);
+    }
+
+    @Test
+    public void shouldRouteToMainWhileItsCircuitIsClosed() {
+        testingInstance.recordSuccess(MAIN);
+
+        assertThat(testingInstance.selectDataSourceKey(), is(MAIN));
+        assertThat(testingInstance.getState(MAIN), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void shouldRouteToBackupOnceMainCircuitOpens() {
+        openMainCircuit();
+
+        assertThat(testingInstance.selectDataSourceKey(), is(BACKUP));
+        assertThat(testingInstance.isCallPermitted(BACKUP), is(true));
+        assertThat(meterRegistry.get("task.datasource.circuit.state").tag("datasource", MAIN).gauge().value(), is(1.0));
+        verify(dataSourceMetricsService).recordCircuitOpened(MAIN);
+    }
+
+    @Test
+    public void shouldCloseMainCircuitWhenProbeSucceeds() throws SQLException {
+        openMainCircuit();
+        when(mainDataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(VALIDATION_TIMEOUT_SECONDS)).thenReturn(true);
+
+        testingInstance.probeOpenCircuits();
+
+        assertThat(testingInstance.selectDataSourceKey(), is(MAIN));
+        verify(connection).close();
+        verify(dataSourceMetricsService).recordCircuitClosed(MAIN);
+        verifyNoInteractions(backupDataSource);
+    }
+
+    @Test
+    public void shouldKeepMainCircuitOpenWhenProbeFails() throws SQLException {
+        openMainCircuit();
+        when(mainDataSource.getConnection()).thenThrow(new SQLException(MAIN));
+
+        testingInstance.probeOpenCircuits();
+
+        assertThat(testingInstance.getState(MAIN), is(CircuitBreaker.State.OPEN));
+        assertThat(testingInstance.selectDataSourceKey(), is(BACKUP));
+        verify(dataSourceMetricsService, never()).recordCircuitClosed(anyString());
+    }
+
+    private void openMainCircuit() {
+        IntStream.range(0, MINIMUM_CALLS).forEach(call -> testingInstance.recordFailure(MAIN));
+    }
+}
@@ -0,0 +1,80 @@
+package com.task.manager.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+class DataSourceMetricsServiceImplTest {
+
+    private static final String MAIN = "main";
+    private static final String BACKUP = "backup";
+    private static final long DURATION_MILLIS = 5L;
+
+    private MeterRegistry meterRegistry;
+
+    private DataSourceMetricsServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new DataSourceMetricsServiceImpl(meterRegistry);
+    }
+
+    @Test
+    public void shouldRecordConnectionAcquireAndQueryTimesPerDataSource() {
+        testingInstance.recordConnectionAcquire(MAIN, TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS), true);
+        testingInstance.recordQuery(BACKUP, TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS), false);
+
+        var acquireTimer = meterRegistry.get("task.datasource.connection.acquire")
+                .tag("datasource", MAIN).tag("result", "success").timer();
+        var queryTimer = meterRegistry.get("task.datasource.query")
+                .tag("datasource", BACKUP).tag("result", "failure").timer();
+        assertThat(acquireTimer.count(), is(1L));
+        assertThat(acquireTimer.totalTime(TimeUnit.MILLISECONDS), is((double) DURATION_MILLIS));
+        assertThat(queryTimer.count(), is(1L));
+    }
+
+    @Test
+    public void shouldCountFailoversAndRetries() {
+        testingInstance.recordCircuitOpened(MAIN);
+        testingInstance.recordRetry(true);
+        testingInstance.recordRetry(false);
+
+        assertThat(meterRegistry.get("task.datasource.failovers").tag("datasource", MAIN).counter().count(), is(1.0));
+        assertThat(meterRegistry.get("task.datasource.retries").tag("result", "success").counter().count(), is(1.0));
+        assertThat(meterRegistry.get("task.datasource.retries").tag("result", "failure").counter().count(), is(1.0));
+    }
+
+    @Test
+    public void shouldTrackTimeSpentOnBackupWhileMainCircuitIsOpen() {
+        var backupTime = meterRegistry.get("task.datasource.backup.time").functionCounter();
+        assertThat(backupTime.count(), is(0.0));
+
+        testingInstance.recordCircuitOpened(MAIN);
+
+        assertThat(meterRegistry.get("task.datasource.backup.active").gauge().value(), is(1.0));
+
+        testingInstance.recordCircuitClosed(MAIN);
+        var completedBackupTime = backupTime.count();
+
+        assertThat(completedBackupTime, greaterThan(0.0));
+        assertThat(backupTime.count(), is(completedBackupTime));
+        assertThat(meterRegistry.get("task.datasource.backup.active").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void shouldNotTrackTimeSpentOnBackupWhenBackupCircuitOpens() {
+        testingInstance.recordCircuitOpened(BACKUP);
+
+        assertThat(meterRegistry.get("task.datasource.backup.active").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get("task.datasource.failovers").tag("datasource", BACKUP).counter().count(), is(1.0));
+    }
+}
@@ -0,0 +1,135 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+import com.task.manager.config.ReplicaDataSources;
+import com.task.manager.config.properties.ReadReplicaProperties;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.util.ReadYourWritesContext;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceRoutingServiceImplTest {
+
+    private static final String MAIN = "main";
+    private static final String BACKUP = "backup";
+    private static final String REPLICA_1 = "replica-0";
+    private static final String REPLICA_2 = "replica-1";
+    private static final Duration STICKINESS = Duration.ofSeconds(5);
+    private static final long FAST_NANOS = 1_000L;
+    private static final long SLOW_NANOS = 9_000L;
+
+    @Mock
+    private DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    @Mock
+    private HikariDataSource replicaDataSource1;
+
+    @Mock
+    private HikariDataSource replicaDataSource2;
+
+    private ReadReplicaProperties readReplicaProperties;
+
+    private DataSourceRoutingServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        readReplicaProperties = new ReadReplicaProperties();
+        readReplicaProperties.setStickiness(STICKINESS);
+        var replicaDataSources = new LinkedHashMap<String, HikariDataSource>();
+        replicaDataSources.put(REPLICA_1, replicaDataSource1);
+        replicaDataSources.put(REPLICA_2, replicaDataSource2);
+        lenient().when(dataSourceCircuitBreakerService.selectDataSourceKey()).thenReturn(MAIN);
+
+        testingInstance = new DataSourceRoutingServiceImpl(readReplicaProperties, dataSourceCircuitBreakerService,
+                new ReplicaDataSources(replicaDataSources));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    public void shouldRouteReadWriteCallsToPrimary() {
+        assertThat(testingInstance.routesToReplica(), is(false));
+        assertThat(testingInstance.selectDataSourceKey(), is(MAIN));
+    }
+
+    @Test
+    public void shouldRouteReadOnlyTransactionsToReplicasRoundRobin() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_1)).thenReturn(true);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_2)).thenReturn(true);
+
+        assertThat(testingInstance.routesToReplica(), is(true));
+        assertThat(testingInstance.selectDataSourceKey(), is(REPLICA_1));
+        assertThat(testingInstance.selectDataSourceKey(), is(REPLICA_2));
+        assertThat(testingInstance.selectDataSourceKey(), is(REPLICA_1));
+    }
+
+    @Test
+    public void shouldSkipReplicasWithOpenCircuit() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_1)).thenReturn(false);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_2)).thenReturn(false);
+
+        assertThat(testingInstance.selectDataSourceKey(), is(MAIN));
+    }
+
+    @Test
+    public void shouldRouteReadOnlyTransactionsToLeastLatencyReplica() {
+        readReplicaProperties.setSelection(ReadReplicaProperties.Selection.LEAST_LATENCY);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_1)).thenReturn(true);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_2)).thenReturn(true);
+        testingInstance.recordLatency(REPLICA_1, SLOW_NANOS);
+        testingInstance.recordLatency(REPLICA_2, FAST_NANOS);
+
+        assertThat(testingInstance.selectDataSourceKey(), is(REPLICA_2));
+    }
+
+    @Test
+    public void shouldKeepReadsOnPrimaryShortlyAfterWrite() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        testingInstance.recordWrite();
+
+        assertThat(testingInstance.routesToReplica(), is(false));
+        assertThat(testingInstance.selectDataSourceKey(), is(MAIN));
+    }
+
+    @Test
+    public void shouldRouteReadsToReplicasOnceStickinessPassed() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(dataSourceCircuitBreakerService.isCallPermitted(REPLICA_1)).thenReturn(true);
+        ReadYourWritesContext.begin(Instant.now().minus(STICKINESS), writtenAt -> { });
+
+        assertThat(testingInstance.selectDataSourceKey(), is(REPLICA_1));
+    }
+
+    @Test
+    public void shouldFailOverFromMainToBackupAndFromReplicaToPrimary() {
+        when(dataSourceCircuitBreakerService.isCallPermitted(BACKUP)).thenReturn(true);
+
+        assertThat(testingInstance.selectFailoverKey(MAIN), is(Optional.of(BACKUP)));
+        assertThat(testingInstance.selectFailoverKey(REPLICA_1), is(Optional.of(MAIN)));
+        assertThat(testingInstance.selectFailoverKey(BACKUP), is(Optional.empty()));
+    }
+}
@@ -0,0 +1,219 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.task.manager.config.properties.HedgedReadProperties;
+import com.task.manager.exception.TaskNotFoundException;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.service.TaskReplicationService;
+import com.task.manager.util.DataSourceContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HedgedReadServiceImplTest {
+
+    private static final String PRIMARY_RESULT = "primary";
+    private static final String BACKUP_RESULT = "backup";
+    private static final String TASK_NOT_FOUND_MESSAGE = "Task not found by id: 1";
+    private static final String HEDGED_READS_COUNTER = "task.hedged.reads";
+
+    @Mock
+    private DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    @Mock
+    private DataSourceRoutingService dataSourceRoutingService;
+
+    @Mock
+    private TaskReplicationService taskReplicationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CountDownLatch primaryReleased = new CountDownLatch(1);
+
+    private HedgedReadProperties hedgedReadProperties;
+
+    private Scheduler scheduler;
+
+    private MeterRegistry meterRegistry;
+
+    private HedgedReadServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        hedgedReadProperties = new HedgedReadProperties();
+        hedgedReadProperties.setEnabled(true);
+        hedgedReadProperties.setMinDelay(Duration.ofMillis(1));
+        hedgedReadProperties.setMaxDelay(Duration.ofMillis(20));
+        hedgedReadProperties.setBudgetRatio(1.0);
+        scheduler = Schedulers.newBoundedElastic(4, 10, "test-hedged-read");
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.MAIN)).thenReturn(true);
+        lenient().when(dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.BACKUP)).thenReturn(true);
+        lenient().when(taskReplicationService.getBackupLag()).thenReturn(Duration.ZERO);
+
+        testingInstance = new HedgedReadServiceImpl(hedgedReadProperties, dataSourceCircuitBreakerService,
+                dataSourceRoutingService, taskReplicationService, scheduler, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryReleased.countDown();
+        scheduler.dispose();
+    }
+
+    @Test
+    public void shouldReadOnCallingThreadWhenDisabled() {
+        hedgedReadProperties.setEnabled(false);
+        var callingThread = Thread.currentThread();
+
+        var result = testingInstance.read(Thread::currentThread);
+
+        assertThat(result, sameInstance(callingThread));
+        verifyNoInteractions(dataSourceRoutingService, transactionManager);
+    }
+
+    @Test
+    public void shouldReadOnCallingThreadWhenClientWroteRecently() {
+        when(dataSourceRoutingService.wroteRecently()).thenReturn(true);
+        var callingThread = Thread.currentThread();
+
+        var result = testingInstance.read(Thread::currentThread);
+
+        assertThat(result, sameInstance(callingThread));
+    }
+
+    @Test
+    public void shouldReturnPrimaryAnswerWithinHedgeDelayWithoutHedging() {
+        hedgedReadProperties.setMaxDelay(Duration.ofSeconds(1));
+        var callingThread = Thread.currentThread();
+
+        var result = testingInstance.read(Thread::currentThread);
+
+        assertThat(result, not(sameInstance(callingThread)));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "primary-won").count(), is(0.0));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "hedge-won").count(), is(0.0));
+    }
+
+    @Test
+    public void shouldHedgeSlowPrimaryOnBackupAndReturnFirstAnswer() {
+        var result = testingInstance.read(this::readSlowPrimary);
+
+        assertThat(result, is(BACKUP_RESULT));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "hedge-won").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldWaitForSlowPrimaryWhenOutOfHedgeBudget() {
+        hedgedReadProperties.setBudgetRatio(0.0);
+
+        var result = testingInstance.read(() -> {
+            if (DataSourceContext.getCurrentDataSourceKey() == null) {
+                sleep(Duration.ofMillis(100));
+                return PRIMARY_RESULT;
+            }
+            return BACKUP_RESULT;
+        });
+
+        assertThat(result, is(PRIMARY_RESULT));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "skipped").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldWaitForSlowPrimaryWhenBackupLagsBehindHedgeDelay() {
+        when(taskReplicationService.getBackupLag()).thenReturn(Duration.ofSeconds(1));
+
+        var result = testingInstance.read(() -> {
+            if (DataSourceContext.getCurrentDataSourceKey() == null) {
+                sleep(Duration.ofMillis(100));
+                return PRIMARY_RESULT;
+            }
+            return BACKUP_RESULT;
+        });
+
+        assertThat(result, is(PRIMARY_RESULT));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "skipped").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldWaitForSlowPrimaryWhenHedgeDoesNotFindResult() {
+        var result = testingInstance.read(() -> {
+            if (DataSourceContext.getCurrentDataSourceKey() == null) {
+                sleep(Duration.ofMillis(100));
+                return Optional.of(PRIMARY_RESULT);
+            }
+            return Optional.empty();
+        });
+
+        assertThat(result, is(Optional.of(PRIMARY_RESULT)));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "primary-won").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldWaitForSlowPrimaryWhenHedgeFailsWithLogicalError() {
+        var result = testingInstance.read(() -> {
+            if (DataSourceContext.getCurrentDataSourceKey() == null) {
+                sleep(Duration.ofMillis(100));
+                return PRIMARY_RESULT;
+            }
+            throw new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE);
+        });
+
+        assertThat(result, is(PRIMARY_RESULT));
+        assertThat(meterRegistry.counter(HEDGED_READS_COUNTER, "result", "primary-won").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldRethrowLogicalErrorOfPrimary() {
+        assertThatThrownBy(() -> testingInstance.read(() -> {
+            throw new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE);
+        }))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessage(TASK_NOT_FOUND_MESSAGE);
+    }
+
+    private String readSlowPrimary() {
+        if (DataSourceContext.BACKUP.equals(DataSourceContext.getCurrentDataSourceKey())) {
+            return BACKUP_RESULT;
+        }
+
+        try {
+            primaryReleased.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+
+        return PRIMARY_RESULT;
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.task.manager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.domain.OutboxEvent;
+import com.task.manager.domain.OutboxEventType;
+import com.task.manager.event.TaskCreatedEvent;
+import com.task.manager.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceImplTest {
+
+    private static final Long TASK_ID = 1L;
+    private static final Long ASSIGNEE_ID = 123L;
+    private static final String KEY = "1";
+    private static final String TITLE = "Test Task";
+    private static final String PAYLOAD = "{\"taskId\":1,\"assigneeId\":123,\"taskTitle\":\"Test Task\"}";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Captor
+    private ArgumentCaptor<OutboxEvent> outboxEventCaptor;
+
+    private OutboxEventServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        testingInstance = new OutboxEventServiceImpl(new ObjectMapper(), outboxEventRepository);
+    }
+
+    @Test
+    public void shouldSaveSerializedEvent() {
+        testingInstance.saveEvent(OutboxEventType.TASK_CREATED, KEY, new TaskCreatedEvent(TASK_ID, ASSIGNEE_ID, TITLE));
+
+        verify(outboxEventRepository).save(outboxEventCaptor.capture());
+        var outboxEvent = outboxEventCaptor.getValue();
+        assertThat(outboxEvent.getEventType(), is(OutboxEventType.TASK_CREATED));
+        assertThat(outboxEvent.getEventKey(), is(KEY));
+        assertThat(outboxEvent.getPayload(), is(PAYLOAD));
+    }
+}
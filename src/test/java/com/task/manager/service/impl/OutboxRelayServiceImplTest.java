@@ -0,0 +1,155 @@
+package com.task.manager.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.config.properties.OutboxProperties;
+import com.task.manager.domain.OutboxEvent;
+import com.task.manager.domain.OutboxEventType;
+import com.task.manager.event.TaskCreatedEvent;
+import com.task.manager.repository.OutboxEventRepository;
+import com.task.manager.service.EventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceImplTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Long ID_1 = 1L;
+    private static final Long ID_2 = 2L;
+    private static final Long ID_3 = 3L;
+    private static final Long TASK_ID_1 = 10L;
+    private static final Long TASK_ID_2 = 20L;
+    private static final Long TASK_ID_3 = 30L;
+    private static final Long ASSIGNEE_ID = 123L;
+    private static final String TITLE = "Test Task";
+    private static final String TOPIC = "task-created";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String EVENTS_COUNTER = "task.outbox.events";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private InMemoryEventPublisher inMemoryEventPublisher;
+
+    private MeterRegistry meterRegistry;
+
+    private OutboxRelayServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        inMemoryEventPublisher = new InMemoryEventPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = createTestingInstance(inMemoryEventPublisher);
+    }
+
+    @Test
+    public void shouldPublishPendingEventsInBatchesAndDeleteThem() throws Exception {
+        var outboxEvent1 = outboxEvent(ID_1, TASK_ID_1);
+        var outboxEvent2 = outboxEvent(ID_2, TASK_ID_2);
+        var outboxEvent3 = outboxEvent(ID_3, TASK_ID_3);
+        when(outboxEventRepository.findAllByParkedAtIsNullOrderById(Limit.of(BATCH_SIZE)))
+                .thenReturn(List.of(outboxEvent1, outboxEvent2))
+                .thenReturn(List.of(outboxEvent3));
+
+        var result = testingInstance.relayPendingEvents();
+
+        assertThat(result, is(3L));
+        var publishedEvents = inMemoryEventPublisher.getPublishedEvents();
+        assertThat(publishedEvents.size(), is(3));
+        assertThat(publishedEvents.get(0).getTopic(), is(TOPIC));
+        assertThat(publishedEvents.get(0).getKey(), is(String.valueOf(TASK_ID_1)));
+        assertThat(publishedEvents.get(0).getEvent(), is(new TaskCreatedEvent(TASK_ID_1, ASSIGNEE_ID, TITLE)));
+        verify(outboxEventRepository).deleteAllByIdInBatch(eq(List.of(ID_1, ID_2)));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(ID_3));
+        assertThat(meterRegistry.counter(EVENTS_COUNTER, "result", "published").count(), is(3.0));
+    }
+
+    @Test
+    public void shouldKeepNotAcknowledgedEventsForRetry() throws Exception {
+        var eventPublisher = mock(EventPublisher.class);
+        testingInstance = createTestingInstance(eventPublisher);
+        var outboxEvent1 = outboxEvent(ID_1, TASK_ID_1);
+        var outboxEvent2 = outboxEvent(ID_2, TASK_ID_2);
+        when(outboxEventRepository.findAllByParkedAtIsNullOrderById(Limit.of(BATCH_SIZE))).thenReturn(List.of(outboxEvent1, outboxEvent2));
+        when(eventPublisher.publish(eq(TOPIC), eq(String.valueOf(TASK_ID_1)), eq(new TaskCreatedEvent(TASK_ID_1, ASSIGNEE_ID, TITLE))))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(eventPublisher.publish(eq(TOPIC), eq(String.valueOf(TASK_ID_2)), eq(new TaskCreatedEvent(TASK_ID_2, ASSIGNEE_ID, TITLE))))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        var result = testingInstance.relayPendingEvents();
+
+        assertThat(result, is(1L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(ID_1));
+        verify(outboxEventRepository).recordFailedAttempt(List.of(ID_2));
+        verify(outboxEventRepository, never()).park(anyList(), any());
+        assertThat(meterRegistry.counter(EVENTS_COUNTER, "result", "failed").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldParkEventOutOfAttemptsSoLaterEventsAreRelayed() throws Exception {
+        var outboxEvent1 = outboxEvent(ID_1, TASK_ID_1);
+        outboxEvent1.setPayload("not an event");
+        outboxEvent1.setAttempts(MAX_ATTEMPTS - 1);
+        var outboxEvent2 = outboxEvent(ID_2, TASK_ID_2);
+        when(outboxEventRepository.findAllByParkedAtIsNullOrderById(Limit.of(BATCH_SIZE)))
+                .thenReturn(List.of(outboxEvent1, outboxEvent2));
+
+        var result = testingInstance.relayPendingEvents();
+
+        assertThat(result, is(1L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(ID_2));
+        verify(outboxEventRepository).park(eq(List.of(ID_1)), any());
+        verify(outboxEventRepository, never()).recordFailedAttempt(anyList());
+        assertThat(meterRegistry.counter(EVENTS_COUNTER, "result", "parked").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldNotDeleteAnythingWhenOutboxIsEmpty() {
+        when(outboxEventRepository.findAllByParkedAtIsNullOrderById(Limit.of(BATCH_SIZE))).thenReturn(List.of());
+
+        var result = testingInstance.relayPendingEvents();
+
+        assertThat(result, is(0L));
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    private OutboxRelayServiceImpl createTestingInstance(final EventPublisher eventPublisher) {
+        var outboxProperties = new OutboxProperties();
+        outboxProperties.setBatchSize(BATCH_SIZE);
+        outboxProperties.setMaxAttempts(MAX_ATTEMPTS);
+
+        return new OutboxRelayServiceImpl(outboxProperties, outboxEventRepository, eventPublisher, objectMapper, meterRegistry);
+    }
+
+    private OutboxEvent outboxEvent(final Long id, final Long taskId) throws Exception {
+        var outboxEvent = new OutboxEvent();
+        outboxEvent.setId(id);
+        outboxEvent.setEventType(OutboxEventType.TASK_CREATED);
+        outboxEvent.setEventKey(String.valueOf(taskId));
+        outboxEvent.setPayload(objectMapper.writeValueAsString(new TaskCreatedEvent(taskId, ASSIGNEE_ID, TITLE)));
+
+        return outboxEvent;
+    }
+}
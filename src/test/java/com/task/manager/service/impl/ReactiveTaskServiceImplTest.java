@@ -0,0 +1,150 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.task.manager.config.properties.ReactiveTaskProperties;
+import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
+import com.task.manager.dto.TaskPageDto;
+import com.task.manager.exception.TaskNotFoundException;
+import com.task.manager.service.TaskService;
+import com.task.manager.util.ReadYourWritesContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceImplTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final Long TASK_ID_1 = 1L;
+    private static final Long TASK_ID_2 = 2L;
+    private static final Long TASK_ID_3 = 3L;
+    private static final Long TASK_ID_4 = 4L;
+    private static final Long TASK_ID_5 = 5L;
+    private static final Long ASSIGNEE_ID = 10L;
+    private static final String TITLE = "Task title";
+    private static final String DESCRIPTION = "Task description";
+    private static final Instant LAST_WRITE_AT = Instant.parse("2025-01-01T00:00:00Z");
+    private static final TaskFilterDto FILTER = new TaskFilterDto();
+
+    @Mock
+    private TaskService taskService;
+
+    private Scheduler scheduler;
+
+    private ReactiveTaskServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        var reactiveTaskProperties = new ReactiveTaskProperties();
+        reactiveTaskProperties.setPageSize(PAGE_SIZE);
+        scheduler = Schedulers.newSingle("reactive-task-test");
+
+        testingInstance = new ReactiveTaskServiceImpl(reactiveTaskProperties, taskService, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    public void shouldNotCallTaskServiceUntilSubscribed() {
+        testingInstance.createTask(new CreateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    public void shouldCreateTaskOnSchedulerThread() {
+        var createTaskDto = new CreateTaskDto(ASSIGNEE_ID, TITLE, DESCRIPTION);
+        var callingThread = new AtomicReference<Thread>();
+        when(taskService.createTask(createTaskDto)).thenAnswer(invocation -> {
+            callingThread.set(Thread.currentThread());
+            return TASK_ID_1;
+        });
+
+        StepVerifier.create(testingInstance.createTask(createTaskDto))
+                .expectNext(TASK_ID_1)
+                .verifyComplete();
+
+        assertThat(callingThread.get(), not(is(Thread.currentThread())));
+    }
+
+    @Test
+    public void shouldCarryReadYourWritesContextToSchedulerThread() {
+        var recordedWrite = new AtomicReference<Instant>();
+        var lastWriteAtOnSchedulerThread = new AtomicReference<Instant>();
+        ReadYourWritesContext.begin(LAST_WRITE_AT, recordedWrite::set);
+        when(taskService.getTask(TASK_ID_1)).thenAnswer(invocation -> {
+            lastWriteAtOnSchedulerThread.set(ReadYourWritesContext.getLastWriteAt());
+            ReadYourWritesContext.recordWrite(LAST_WRITE_AT.plusSeconds(1));
+            return new TaskDto();
+        });
+
+        var task = testingInstance.getTask(TASK_ID_1);
+        ReadYourWritesContext.clear();
+
+        StepVerifier.create(task)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(lastWriteAtOnSchedulerThread.get(), is(LAST_WRITE_AT));
+        assertThat(recordedWrite.get(), is(LAST_WRITE_AT.plusSeconds(1)));
+        assertThat(ReadYourWritesContext.getLastWriteAt(), nullValue());
+    }
+
+    @Test
+    public void shouldPropagateErrorOfTaskService() {
+        var exception = new TaskNotFoundException("Task not found by id: " + TASK_ID_1);
+        when(taskService.getTask(TASK_ID_1)).thenThrow(exception);
+
+        StepVerifier.create(testingInstance.getTask(TASK_ID_1))
+                .expectErrorMatches(exception::equals)
+                .verify();
+    }
+
+    @Test
+    public void shouldReadPagesOnlyAsTasksAreRequested() {
+        when(taskService.getTasks(FILTER, null, PAGE_SIZE))
+                .thenReturn(new TaskPageDto(List.of(task(TASK_ID_1), task(TASK_ID_2)), TASK_ID_2));
+        when(taskService.getTasks(FILTER, TASK_ID_2, PAGE_SIZE))
+                .thenReturn(new TaskPageDto(List.of(task(TASK_ID_3), task(TASK_ID_4)), TASK_ID_4));
+        when(taskService.getTasks(FILTER, TASK_ID_4, PAGE_SIZE))
+                .thenReturn(new TaskPageDto(List.of(task(TASK_ID_5)), null));
+
+        StepVerifier.create(testingInstance.getTasks(FILTER, null), 1)
+                .expectNext(task(TASK_ID_1))
+                .then(() -> verify(taskService, never()).getTasks(FILTER, TASK_ID_4, PAGE_SIZE))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNext(task(TASK_ID_2), task(TASK_ID_3), task(TASK_ID_4), task(TASK_ID_5))
+                .verifyComplete();
+    }
+
+    private TaskDto task(final Long taskId) {
+        var taskDto = new TaskDto();
+        taskDto.setId(taskId);
+
+        return taskDto;
+    }
+}
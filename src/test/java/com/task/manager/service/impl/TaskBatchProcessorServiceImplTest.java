@@ -1,41 +1,63 @@
 package com.task.manager.service.impl;
 
-import java.util.List;
+import java.time.Instant;
 
-import com.task.manager.domain.Task;
-import com.task.manager.domain.TaskStatus;
+import com.task.manager.repository.TaskPausePartitionRepository;
 import com.task.manager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TaskBatchProcessorServiceImplTest {
 
-    private static final TaskStatus PAUSED_TASK_STATUS = TaskStatus.PAUSED;
+    private static final int PARTITION_ID = 3;
+    private static final long AFTER_ID = 100L;
+    private static final long UP_TO_ID = 200L;
+    private static final int UPDATED_TASKS = 42;
+    private static final Instant PAUSED_AT = Instant.parse("2025-01-01T00:00:00Z");
 
     @Mock
-    private Task task;
+    private TaskRepository taskRepository;
 
     @Mock
-    private TaskRepository taskRepository;
+    private TaskPausePartitionRepository taskPausePartitionRepository;
+
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private TaskBatchProcessorServiceImpl testingInstance;
 
     @Test
-    public void shouldUpdateTasksStatusToPaused() {
-        List<Task> tasks = List.of(task);
+    public void shouldUpdateTasksStatusToPausedAndRecordPartitionProgress() {
+        when(taskRepository.pauseInProgressTasks(AFTER_ID, UP_TO_ID, PAUSED_AT)).thenReturn(UPDATED_TASKS);
+
+        var result = testingInstance.updateTasksStatusToPaused(PARTITION_ID, AFTER_ID, UP_TO_ID, PAUSED_AT);
+
+        assertThat(result, is(UPDATED_TASKS));
+        verify(taskPausePartitionRepository).recordProgress(PARTITION_ID, UP_TO_ID, UPDATED_TASKS);
+    }
+
+    @Test
+    public void shouldFlushAndClearPersistenceContextAfterEveryChunk() {
+        when(taskRepository.pauseInProgressTasks(AFTER_ID, UP_TO_ID, PAUSED_AT)).thenReturn(UPDATED_TASKS);
 
-        testingInstance.updateTasksStatusToPaused(tasks);
+        testingInstance.updateTasksStatusToPaused(PARTITION_ID, AFTER_ID, UP_TO_ID, PAUSED_AT);
 
-        verify(task).endProgress();
-        verify(task).setStatus(PAUSED_TASK_STATUS);
-        verify(taskRepository).saveAll(tasks);
+        var inOrder = inOrder(taskPausePartitionRepository, entityManager);
+        inOrder.verify(taskPausePartitionRepository).recordProgress(PARTITION_ID, UP_TO_ID, UPDATED_TASKS);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
     }
 
 }
\ No newline at end of file
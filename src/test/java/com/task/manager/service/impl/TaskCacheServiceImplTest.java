@@ -0,0 +1,147 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.task.manager.config.properties.TaskCacheProperties;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskView;
+import com.task.manager.mapper.TaskMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+class TaskCacheServiceImplTest {
+
+    private static final Long ID_1 = 1L;
+    private static final Long ID_2 = 2L;
+    private static final Long ID_3 = 3L;
+    private static final String TITLE = "Test Task";
+    private static final String NEW_TITLE = "New Title";
+    private static final String TIME_SPENT_STRING = "02:00:00";
+    private static final String LIVE_TIME_SPENT_STRING = "03:00:00";
+    private static final Duration TIME_SPENT = Duration.ofHours(2);
+    private static final String CACHE_GETS = "cache.gets";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+
+    private TaskCacheServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new TaskCacheServiceImpl(new TaskCacheProperties(), new TaskMapperImpl(), meterRegistry);
+    }
+
+    @Test
+    public void shouldLoadTaskOnceAndRecordHitsAndMisses() {
+        var task = task(ID_1, TaskStatus.TODO, null);
+
+        var first = testingInstance.getTask(ID_1, loader(task));
+        var second = testingInstance.getTask(ID_1, loader(task));
+
+        assertThat(loads.get(), is(1));
+        assertThat(second, is(first));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getTimeSpent(), is(TIME_SPENT_STRING));
+        assertThat(meterRegistry.get(CACHE_GETS).tag("result", "hit").functionCounter().count(), is(1.0));
+        assertThat(meterRegistry.get(CACHE_GETS).tag("result", "miss").functionCounter().count(), is(1.0));
+    }
+
+    @Test
+    public void shouldComputeTimeSpentOfInProgressTaskAtReadTime() {
+        var task = task(ID_1, TaskStatus.IN_PROGRESS, Instant.now().minus(Duration.ofHours(1)));
+
+        testingInstance.getTask(ID_1, loader(task));
+        var result = testingInstance.getTask(ID_1, loader(task));
+
+        assertThat(loads.get(), is(1));
+        assertThat(result.getTimeSpent(), is(LIVE_TIME_SPENT_STRING));
+        assertThat(result.getTimeSpentMillis(), greaterThanOrEqualTo(Duration.ofHours(3).toMillis()));
+    }
+
+    @Test
+    public void shouldNotExposeCachedTaskToCallerChanges() {
+        var task = task(ID_1, TaskStatus.TODO, null);
+
+        testingInstance.getTask(ID_1, loader(task)).setTitle(NEW_TITLE);
+        var result = testingInstance.getTask(ID_1, loader(task));
+
+        assertThat(result.getTitle(), is(TITLE));
+    }
+
+    @Test
+    public void shouldReloadTaskAfterEviction() {
+        var task = task(ID_1, TaskStatus.TODO, null);
+        testingInstance.getTask(ID_1, loader(task));
+        task.setTitle(NEW_TITLE);
+
+        testingInstance.evict(ID_1);
+        var result = testingInstance.getTask(ID_1, loader(task));
+
+        assertThat(loads.get(), is(2));
+        assertThat(result.getTitle(), is(NEW_TITLE));
+    }
+
+    @Test
+    public void shouldEvictEveryTaskWithinIdRange() {
+        var tasks = List.of(task(ID_1, TaskStatus.IN_PROGRESS, Instant.now()),
+                task(ID_2, TaskStatus.IN_PROGRESS, Instant.now()), task(ID_3, TaskStatus.TODO, null));
+        tasks.forEach(task -> testingInstance.getTask(task.getId(), loader(task)));
+
+        testingInstance.evictRange(ID_1, ID_3);
+        tasks.forEach(task -> testingInstance.getTask(task.getId(), loader(task)));
+
+        assertThat(loads.get(), is(5));
+    }
+
+    @Test
+    public void shouldEvictIdRangeOnceMoreAfterCommit() {
+        var task = task(ID_2, TaskStatus.TODO, null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            testingInstance.evictRange(ID_1, ID_3);
+            testingInstance.getTask(ID_2, loader(task));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        testingInstance.getTask(ID_2, loader(task));
+
+        assertThat(loads.get(), is(2));
+    }
+
+    private Function<Long, TaskView> loader(final TaskView task) {
+        return taskId -> {
+            loads.incrementAndGet();
+            return task;
+        };
+    }
+
+    private static TaskView task(final Long id, final TaskStatus status, final Instant startedAt) {
+        var task = new TaskView();
+        task.setId(id);
+        task.setTitle(TITLE);
+        task.setStatus(status);
+        task.setTimeSpent(TIME_SPENT);
+        task.setStartedAt(startedAt);
+        return task;
+    }
+}
@@ -0,0 +1,190 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.task.manager.config.properties.TaskChangeFeedProperties;
+import com.task.manager.domain.TaskChangeType;
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.TaskChangeEventDto;
+import com.task.manager.exception.TaskChangeFeedGapException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.test.StepVerifier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskChangeFeedServiceImplTest {
+
+    private static final int REPLAY_SIZE = 3;
+    private static final Long TASK_ID_1 = 1L;
+    private static final Long TASK_ID_2 = 2L;
+    private static final Long ASSIGNEE_ID_1 = 10L;
+    private static final Long ASSIGNEE_ID_2 = 20L;
+    private static final int SUBSCRIBE_ATTEMPTS = 2000;
+    private static final Duration WAIT = Duration.ofSeconds(5);
+    private static final String EVENTS_COUNTER = "task.change.feed.events";
+
+    private MeterRegistry meterRegistry;
+
+    private TaskChangeFeedServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        var taskChangeFeedProperties = new TaskChangeFeedProperties();
+        taskChangeFeedProperties.setReplaySize(REPLAY_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new TaskChangeFeedServiceImpl(taskChangeFeedProperties, meterRegistry);
+    }
+
+    @Test
+    public void shouldStreamLiveChangesWithIncreasingSequences() {
+        var todoTask = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO);
+        var startedTask = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.IN_PROGRESS);
+
+        StepVerifier.create(testingInstance.getChanges(null, null))
+                .then(() -> {
+                    testingInstance.publishChange(null, todoTask);
+                    testingInstance.publishChange(todoTask, startedTask);
+                    testingInstance.publishChange(startedTask, null);
+                })
+                .assertNext(event -> assertEvent(event, TaskChangeType.CREATED, TaskStatus.TODO))
+                .assertNext(event -> assertEvent(event, TaskChangeType.STATUS_CHANGED, TaskStatus.IN_PROGRESS))
+                .assertNext(event -> assertEvent(event, TaskChangeType.DELETED, null))
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(meterRegistry.get(EVENTS_COUNTER).tag("result", "published").counter().count(), is(3.0));
+    }
+
+    @Test
+    public void shouldReplayChangesAfterSequence() throws Exception {
+        var todoTask = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO);
+        var firstSequence = publishAndGetSequence(todoTask);
+        testingInstance.publishChange(todoTask, taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.IN_PROGRESS));
+
+        StepVerifier.create(testingInstance.getChanges(null, firstSequence))
+                .assertNext(event -> {
+                    assertEvent(event, TaskChangeType.STATUS_CHANGED, TaskStatus.IN_PROGRESS);
+                    assertThat(event.getSequence(), is(firstSequence + 1));
+                })
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    public void shouldStreamOnlyChangesOfAssigneeAndPausedRanges() {
+        var task = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO);
+        var reassignedTask = taskState(TASK_ID_1, ASSIGNEE_ID_2, TaskStatus.TODO);
+
+        StepVerifier.create(testingInstance.getChanges(ASSIGNEE_ID_1, null))
+                .then(() -> {
+                    testingInstance.publishChange(null, taskState(TASK_ID_2, ASSIGNEE_ID_2, TaskStatus.TODO));
+                    testingInstance.publishChange(null, task);
+                    testingInstance.publishChange(task, reassignedTask);
+                    testingInstance.publishPaused(0L, TASK_ID_2, Instant.now());
+                })
+                .assertNext(event -> assertThat(event.getType(), is(TaskChangeType.CREATED)))
+                .assertNext(event -> {
+                    assertThat(event.getType(), is(TaskChangeType.UPDATED));
+                    assertThat(event.getAssigneeId(), is(ASSIGNEE_ID_2));
+                    assertThat(event.getPreviousAssigneeId(), is(ASSIGNEE_ID_1));
+                })
+                .assertNext(event -> {
+                    assertThat(event.getType(), is(TaskChangeType.TASKS_PAUSED));
+                    assertThat(event.getUpToTaskId(), is(TASK_ID_2));
+                })
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    public void shouldFailWhenChangesAfterSequenceAreNoLongerRetained() throws Exception {
+        var firstSequence = publishAndGetSequence(taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO));
+        for (int change = 0; change < REPLAY_SIZE; change++) {
+            testingInstance.publishChange(null, taskState(TASK_ID_2, ASSIGNEE_ID_1, TaskStatus.TODO));
+        }
+
+        assertThrows(TaskChangeFeedGapException.class, () -> testingInstance.getChanges(null, firstSequence - 1));
+        assertThrows(TaskChangeFeedGapException.class, () -> testingInstance.getChanges(null, firstSequence + REPLAY_SIZE + 1));
+    }
+
+    @Test
+    public void shouldFailRatherThanSkipChangesDroppedWhileSubscribing() throws Exception {
+        var task = taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO);
+        var lastSequence = new AtomicLong(publishAndGetSequence(task));
+        var publishing = new AtomicBoolean(true);
+        var publisher = Executors.newSingleThreadExecutor();
+        publisher.submit(() -> {
+            while (publishing.get()) {
+                testingInstance.publishChange(task, task);
+                lastSequence.incrementAndGet();
+            }
+        });
+
+        try {
+            for (int attempt = 0; attempt < SUBSCRIBE_ATTEMPTS; attempt++) {
+                var afterSequence = lastSequence.get() - REPLAY_SIZE;
+
+                try {
+                    var firstChange = testingInstance.getChanges(null, afterSequence).blockFirst(WAIT);
+
+                    assertThat(firstChange.getSequence(), is(afterSequence + 1));
+                } catch (TaskChangeFeedGapException exc) {
+                    // changes after the sequence were dropped before the subscription replayed them
+                }
+            }
+        } finally {
+            publishing.set(false);
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldPublishChangeOnlyAfterTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            testingInstance.publishChange(null, taskState(TASK_ID_1, ASSIGNEE_ID_1, TaskStatus.TODO));
+
+            assertThat(meterRegistry.get(EVENTS_COUNTER).tag("result", "published").counter().count(), is(0.0));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(meterRegistry.get(EVENTS_COUNTER).tag("result", "published").counter().count(), is(1.0));
+    }
+
+    private long publishAndGetSequence(final TaskState taskState) throws Exception {
+        var event = testingInstance.getChanges(null, null).next().toFuture();
+
+        testingInstance.publishChange(null, taskState);
+
+        return event.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).getSequence();
+    }
+
+    private static void assertEvent(final TaskChangeEventDto event, final TaskChangeType type, final TaskStatus status) {
+        assertThat(event.getType(), is(type));
+        assertThat(event.getTaskId(), is(TASK_ID_1));
+        assertThat(event.getAssigneeId(), is(ASSIGNEE_ID_1));
+        assertThat(event.getStatus(), status != null ? is(status) : nullValue());
+    }
+
+    private static TaskState taskState(final Long taskId, final Long assigneeId, final TaskStatus status) {
+        return new TaskState(taskId, assigneeId, status, Duration.ZERO, null);
+    }
+}
@@ -0,0 +1,200 @@
+package com.task.manager.service.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.task.manager.config.properties.TaskPauseJobProperties;
+import com.task.manager.domain.TaskIdRange;
+import com.task.manager.domain.TaskPausePartition;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.repository.TaskPausePartitionRepository;
+import com.task.manager.repository.TaskRepository;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.TaskBatchProcessorService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.service.TaskStatusCoalescingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPauseServiceImplTest {
+
+    private static final int PARTITIONS = 2;
+    private static final int CHUNK_SIZE = 100;
+    private static final Integer PARTITION_ID_1 = 0;
+    private static final Integer PARTITION_ID_2 = 1;
+    private static final long MIN_ID = 1L;
+    private static final long MIDDLE_ID = 5L;
+    private static final long MAX_ID = 10L;
+    private static final long LAST_PROCESSED_ID = 7L;
+    private static final int UPDATED_TASKS_1 = 3;
+    private static final int UPDATED_TASKS_2 = 4;
+    private static final Instant PAUSED_AT = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String PARTITION_TIMER = "task.pause.partition.duration";
+    private static final TaskStatus IN_PROGRESS_TASK_STATUS = TaskStatus.IN_PROGRESS;
+
+    @Mock
+    private AssigneeSummaryService assigneeSummaryService;
+
+    @Mock
+    private TaskBatchProcessorService taskBatchProcessorService;
+
+    @Mock
+    private TaskCacheService taskCacheService;
+
+    @Mock
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @Mock
+    private TaskStatusCoalescingService taskStatusCoalescingService;
+
+    @Mock
+    private TaskPausePartitionRepository taskPausePartitionRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Captor
+    private ArgumentCaptor<List<TaskPausePartition>> partitionsCaptor;
+
+    private MeterRegistry meterRegistry;
+
+    private TaskPauseServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        var taskPauseJobProperties = new TaskPauseJobProperties();
+        taskPauseJobProperties.setPartitions(PARTITIONS);
+        taskPauseJobProperties.setThreads(PARTITIONS);
+        taskPauseJobProperties.setChunkSize(CHUNK_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new TaskPauseServiceImpl(taskPauseJobProperties, assigneeSummaryService, taskBatchProcessorService,
+                taskCacheService, taskChangeFeedService, taskStatusCoalescingService, taskPausePartitionRepository, taskRepository,
+                new SimpleAsyncTaskExecutorBuilder(),
+                meterRegistry);
+    }
+
+    @Test
+    public void shouldSplitInProgressTasksIntoPartitionsAndPauseThem() {
+        when(taskPausePartitionRepository.findByCompletedFalseOrderById()).thenReturn(List.of());
+        when(taskRepository.findIdRangeByStatus(IN_PROGRESS_TASK_STATUS)).thenReturn(new TaskIdRange(MIN_ID, MAX_ID));
+        when(taskPausePartitionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, 0L, MIDDLE_ID, CHUNK_SIZE)).thenReturn(Optional.of(MIDDLE_ID));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MIDDLE_ID, MIDDLE_ID, CHUNK_SIZE)).thenReturn(Optional.empty());
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MIDDLE_ID, MAX_ID, CHUNK_SIZE)).thenReturn(Optional.of(MAX_ID));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MAX_ID, MAX_ID, CHUNK_SIZE)).thenReturn(Optional.empty());
+        when(taskBatchProcessorService.updateTasksStatusToPaused(eq(PARTITION_ID_1), eq(0L), eq(MIDDLE_ID), any())).thenReturn(UPDATED_TASKS_1);
+        when(taskBatchProcessorService.updateTasksStatusToPaused(eq(PARTITION_ID_2), eq(MIDDLE_ID), eq(MAX_ID), any())).thenReturn(UPDATED_TASKS_2);
+
+        var result = testingInstance.pauseInProgressTasks();
+
+        assertThat(result, is((long) UPDATED_TASKS_1 + UPDATED_TASKS_2));
+        verify(taskStatusCoalescingService).flush();
+        verify(taskPausePartitionRepository).deleteAllInBatch();
+        verify(taskPausePartitionRepository).saveAll(partitionsCaptor.capture());
+        var partitions = partitionsCaptor.getValue();
+        assertThat(partitions.size(), is(PARTITIONS));
+        assertThat(partitions.get(0).getRangeStart(), is(0L));
+        assertThat(partitions.get(0).getRangeEnd(), is(MIDDLE_ID));
+        assertThat(partitions.get(1).getRangeStart(), is(MIDDLE_ID));
+        assertThat(partitions.get(1).getRangeEnd(), is(MAX_ID));
+        verify(taskPausePartitionRepository).markCompleted(eq(PARTITION_ID_1), any());
+        verify(taskPausePartitionRepository).markCompleted(eq(PARTITION_ID_2), any());
+        verify(taskCacheService).evictRange(0L, MIDDLE_ID);
+        verify(taskCacheService).evictRange(MIDDLE_ID, MAX_ID);
+        verify(assigneeSummaryService).recordPaused(eq(0L), eq(MIDDLE_ID), any());
+        verify(assigneeSummaryService).recordPaused(eq(MIDDLE_ID), eq(MAX_ID), any());
+        verify(taskChangeFeedService).publishPaused(eq(0L), eq(MIDDLE_ID), any());
+        verify(taskChangeFeedService).publishPaused(eq(MIDDLE_ID), eq(MAX_ID), any());
+        assertThat(meterRegistry.get(PARTITION_TIMER).tag("partition", String.valueOf(PARTITION_ID_1)).timer().count(), is(1L));
+        assertThat(meterRegistry.get(PARTITION_TIMER).tag("partition", String.valueOf(PARTITION_ID_2)).timer().count(), is(1L));
+    }
+
+    @Test
+    public void shouldResumeUnfinishedPartitionsFromLastProcessedIdAtPauseMomentOfInterruptedRun() {
+        var partition = new TaskPausePartition();
+        partition.setId(PARTITION_ID_2);
+        partition.setRangeStart(MIDDLE_ID);
+        partition.setRangeEnd(MAX_ID);
+        partition.setLastProcessedId(LAST_PROCESSED_ID);
+        partition.setPausedAt(PAUSED_AT);
+        when(taskPausePartitionRepository.findByCompletedFalseOrderById()).thenReturn(List.of(partition));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, LAST_PROCESSED_ID, MAX_ID, CHUNK_SIZE)).thenReturn(Optional.of(MAX_ID));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MAX_ID, MAX_ID, CHUNK_SIZE)).thenReturn(Optional.empty());
+        when(taskBatchProcessorService.updateTasksStatusToPaused(PARTITION_ID_2, LAST_PROCESSED_ID, MAX_ID, PAUSED_AT)).thenReturn(UPDATED_TASKS_2);
+        when(taskRepository.findIdRangeByStatus(IN_PROGRESS_TASK_STATUS)).thenReturn(new TaskIdRange(null, null));
+
+        var result = testingInstance.pauseInProgressTasks();
+
+        assertThat(result, is((long) UPDATED_TASKS_2));
+        verify(taskPausePartitionRepository).markCompleted(eq(PARTITION_ID_2), any());
+        verify(taskCacheService).evictRange(LAST_PROCESSED_ID, MAX_ID);
+        verify(assigneeSummaryService).recordPaused(LAST_PROCESSED_ID, MAX_ID, PAUSED_AT);
+        verify(taskChangeFeedService).publishPaused(LAST_PROCESSED_ID, MAX_ID, PAUSED_AT);
+        var inOrder = inOrder(taskBatchProcessorService, taskPausePartitionRepository, taskRepository);
+        inOrder.verify(taskBatchProcessorService).updateTasksStatusToPaused(PARTITION_ID_2, LAST_PROCESSED_ID, MAX_ID, PAUSED_AT);
+        inOrder.verify(taskPausePartitionRepository).deleteAllInBatch();
+        inOrder.verify(taskRepository).findIdRangeByStatus(IN_PROGRESS_TASK_STATUS);
+    }
+
+    @Test
+    public void shouldPauseTasksLeftInProgressOutsideResumedPartitionsInNewRun() {
+        var partition = new TaskPausePartition();
+        partition.setId(PARTITION_ID_1);
+        partition.setRangeStart(0L);
+        partition.setRangeEnd(MIDDLE_ID);
+        partition.setLastProcessedId(MIDDLE_ID);
+        partition.setPausedAt(PAUSED_AT);
+        when(taskPausePartitionRepository.findByCompletedFalseOrderById()).thenReturn(List.of(partition));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MIDDLE_ID, MIDDLE_ID, CHUNK_SIZE)).thenReturn(Optional.empty());
+        when(taskRepository.findIdRangeByStatus(IN_PROGRESS_TASK_STATUS)).thenReturn(new TaskIdRange(MAX_ID, MAX_ID));
+        when(taskPausePartitionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MAX_ID - 1, MAX_ID, CHUNK_SIZE)).thenReturn(Optional.of(MAX_ID));
+        when(taskRepository.findChunkUpperBoundId(IN_PROGRESS_TASK_STATUS, MAX_ID, MAX_ID, CHUNK_SIZE)).thenReturn(Optional.empty());
+        when(taskBatchProcessorService.updateTasksStatusToPaused(eq(PARTITION_ID_1), eq(MAX_ID - 1), eq(MAX_ID), any())).thenReturn(UPDATED_TASKS_1);
+
+        var result = testingInstance.pauseInProgressTasks();
+
+        assertThat(result, is((long) UPDATED_TASKS_1));
+        verify(taskPausePartitionRepository).saveAll(partitionsCaptor.capture());
+        var newPartition = partitionsCaptor.getValue().get(0);
+        assertThat(newPartition.getRangeStart(), is(MAX_ID - 1));
+        assertThat(newPartition.getRangeEnd(), is(MAX_ID));
+        assertThat(newPartition.getPausedAt().isAfter(PAUSED_AT), is(true));
+        verify(taskBatchProcessorService).updateTasksStatusToPaused(PARTITION_ID_1, MAX_ID - 1, MAX_ID, newPartition.getPausedAt());
+    }
+
+    @Test
+    public void shouldNotPauseTasksWhenNoTasksAreInProgress() {
+        when(taskPausePartitionRepository.findByCompletedFalseOrderById()).thenReturn(List.of());
+        when(taskRepository.findIdRangeByStatus(IN_PROGRESS_TASK_STATUS)).thenReturn(new TaskIdRange(null, null));
+
+        var result = testingInstance.pauseInProgressTasks();
+
+        assertThat(result, is(0L));
+        verify(taskPausePartitionRepository, never()).saveAll(anyList());
+        verifyNoInteractions(taskBatchProcessorService);
+    }
+}
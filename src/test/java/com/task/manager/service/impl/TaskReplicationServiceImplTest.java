@@ -0,0 +1,301 @@
+package com.task.manager.service.impl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import com.task.manager.config.properties.TaskReplicationProperties;
+import com.task.manager.service.DataSourceCircuitBreakerService;
+import com.task.manager.util.DataSourceContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskReplicationServiceImplTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 2;
+    private static final Long TASK_ID_1 = 1L;
+    private static final Long TASK_ID_2 = 2L;
+    private static final Long TASK_ID_3 = 3L;
+    private static final Long ASSIGNEE_ID_1 = 10L;
+    private static final Long ASSIGNEE_ID_2 = 20L;
+    private static final String TITLE = "Test Task";
+    private static final String OTHER_TITLE = "Other Task";
+    private static final String REJECTED_TITLE = "Rejected Task";
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-01T12:00:00Z");
+    private static final String CHANGES_COUNTER = "task.replication.changes";
+    private static final Duration LAG = Duration.ofMinutes(1);
+
+    @Mock
+    private DataSourceCircuitBreakerService dataSourceCircuitBreakerService;
+
+    private JdbcTemplate mainJdbcTemplate;
+
+    private JdbcTemplate backupJdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+
+    private TaskReplicationServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        var mainDataSource = createDataSource();
+        var backupDataSource = createDataSource();
+        mainJdbcTemplate = new JdbcTemplate(mainDataSource);
+        backupJdbcTemplate = new JdbcTemplate(backupDataSource);
+        meterRegistry = new SimpleMeterRegistry();
+
+        var taskReplicationProperties = new TaskReplicationProperties();
+        taskReplicationProperties.setBatchSize(BATCH_SIZE);
+        taskReplicationProperties.setMaxAttempts(MAX_ATTEMPTS);
+        lenient().when(dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.MAIN)).thenReturn(true);
+        lenient().when(dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.BACKUP)).thenReturn(true);
+
+        testingInstance = new TaskReplicationServiceImpl(taskReplicationProperties, dataSourceCircuitBreakerService,
+                mainDataSource, backupDataSource, meterRegistry);
+    }
+
+    @Test
+    public void shouldCopyLoggedTasksFromMainToBackupInBatchesAndRemoveLogEntries() {
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(mainJdbcTemplate, TASK_ID_2, TITLE, "DONE", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(mainJdbcTemplate, TASK_ID_3, TITLE, "TODO", ASSIGNEE_ID_2, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_1);
+        logChange(mainJdbcTemplate, TASK_ID_2);
+        logChange(mainJdbcTemplate, TASK_ID_3);
+
+        var result = testingInstance.replicatePendingChanges();
+
+        assertThat(result, is(3L));
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of(TITLE, TITLE, TITLE)));
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_2), is("DONE"));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+        assertThat(meterRegistry.counter(CHANGES_COUNTER, "source", DataSourceContext.MAIN, "result", "applied").count(), is(3.0));
+        assertThat(testingInstance.getBackupLag(), is(Duration.ZERO));
+    }
+
+    @Test
+    public void shouldReportBackupLagSinceOldestChangeFailedToReplicate() {
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        mainJdbcTemplate.update("INSERT INTO task_replication_log (task_id, created_at) VALUES (?, ?)",
+                TASK_ID_1, Timestamp.from(Instant.now().minus(LAG)));
+        backupJdbcTemplate.execute("DROP TABLE task");
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(testingInstance.getBackupLag(), greaterThanOrEqualTo(LAG));
+        assertThat(logSize(mainJdbcTemplate), is(1));
+    }
+
+    @Test
+    public void shouldDeleteTaskMissingOnSource() {
+        insertTask(backupJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_1);
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of()));
+    }
+
+    @Test
+    public void shouldNotDeleteTaskUpdatedOnTargetAfterItWasDeletedOnSource() {
+        insertTask(backupJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, Instant.now().plus(LAG));
+        logChange(mainJdbcTemplate, TASK_ID_1);
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of(TITLE)));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+    }
+
+    @Test
+    public void shouldNotRecreateTaskDeletedOnTargetAfterItWasUpdatedOnSource() {
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_1);
+        backupJdbcTemplate.update("INSERT INTO task_replication_log (task_id, created_at, parked_at) VALUES (?, ?, ?)",
+                TASK_ID_1, Timestamp.from(UPDATED_AT.plusSeconds(1)), Timestamp.from(Instant.now()));
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of()));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+    }
+
+    @Test
+    public void shouldNotOverwriteTaskUpdatedLaterOnTarget() {
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(backupJdbcTemplate, TASK_ID_1, OTHER_TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(1));
+        logChange(mainJdbcTemplate, TASK_ID_1);
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of(OTHER_TITLE)));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+    }
+
+    @Test
+    public void shouldApplyTaskLeavingProgressBeforeTaskOfSameAssigneeEnteringIt() {
+        insertTask(backupJdbcTemplate, TASK_ID_2, TITLE, "IN_PROGRESS", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "IN_PROGRESS", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(1));
+        insertTask(mainJdbcTemplate, TASK_ID_2, TITLE, "PAUSED", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(1));
+        logChange(mainJdbcTemplate, TASK_ID_1);
+        logChange(mainJdbcTemplate, TASK_ID_2);
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_1), is("IN_PROGRESS"));
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_2), is("PAUSED"));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+    }
+
+    @Test
+    public void shouldPauseTaskStillInProgressOnTargetWhenChangePausingItIsLoggedLater() {
+        insertTask(backupJdbcTemplate, TASK_ID_1, TITLE, "IN_PROGRESS", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "PAUSED", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(1));
+        insertTask(mainJdbcTemplate, TASK_ID_2, TITLE, "IN_PROGRESS", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(2));
+        insertTask(mainJdbcTemplate, TASK_ID_3, TITLE, "TODO", ASSIGNEE_ID_2, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_2, Instant.now());
+        logChange(mainJdbcTemplate, TASK_ID_3, Instant.now());
+        logChange(mainJdbcTemplate, TASK_ID_1, Instant.now().plusSeconds(1));
+
+        var result = testingInstance.replicatePendingChanges();
+
+        assertThat(result, is(3L));
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_1), is("PAUSED"));
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_2), is("IN_PROGRESS"));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+    }
+
+    @Test
+    public void shouldKeepTaskStartedLaterOnTargetInProgress() {
+        insertTask(backupJdbcTemplate, TASK_ID_1, TITLE, "IN_PROGRESS", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(2));
+        insertTask(mainJdbcTemplate, TASK_ID_2, TITLE, "IN_PROGRESS", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(1));
+        logChange(mainJdbcTemplate, TASK_ID_2);
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_1), is("IN_PROGRESS"));
+        assertThat(taskStatus(backupJdbcTemplate, TASK_ID_2), is("PAUSED"));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+    }
+
+    @Test
+    public void shouldParkChangeTargetKeepsRejectingAndReplicateChangesLoggedAfterIt() {
+        backupJdbcTemplate.execute("ALTER TABLE task ADD CONSTRAINT chk_task_title CHECK (title <> '" + REJECTED_TITLE + "')");
+        insertTask(mainJdbcTemplate, TASK_ID_1, REJECTED_TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(mainJdbcTemplate, TASK_ID_2, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(mainJdbcTemplate, TASK_ID_3, OTHER_TITLE, "TODO", ASSIGNEE_ID_2, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_1, Instant.now());
+        logChange(mainJdbcTemplate, TASK_ID_2, Instant.now().plusSeconds(1));
+        logChange(mainJdbcTemplate, TASK_ID_3, Instant.now().plusSeconds(2));
+
+        for (int run = 0; run < MAX_ATTEMPTS + 1; run++) {
+            testingInstance.replicatePendingChanges();
+        }
+
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of(TITLE, OTHER_TITLE)));
+        assertThat(logSize(mainJdbcTemplate), is(1));
+        assertThat(mainJdbcTemplate.queryForObject("SELECT parked_at FROM task_replication_log WHERE task_id = ?",
+                Timestamp.class, TASK_ID_1), notNullValue());
+        assertThat(meterRegistry.counter(CHANGES_COUNTER, "source", DataSourceContext.MAIN, "result", "parked").count(), is(1.0));
+        assertThat(testingInstance.getBackupLag(), is(Duration.ZERO));
+    }
+
+    @Test
+    public void shouldCatchUpChangesMadeOnBackupBeforeCopyingChangesMadeOnMain() {
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        insertTask(backupJdbcTemplate, TASK_ID_1, OTHER_TITLE, "DONE", ASSIGNEE_ID_1, UPDATED_AT.plusSeconds(1));
+        logChange(mainJdbcTemplate, TASK_ID_1);
+        logChange(backupJdbcTemplate, TASK_ID_1);
+
+        var result = testingInstance.replicatePendingChanges();
+
+        assertThat(result, is(2L));
+        assertThat(taskTitles(mainJdbcTemplate), is(List.of(OTHER_TITLE)));
+        assertThat(taskStatus(mainJdbcTemplate, TASK_ID_1), is("DONE"));
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of(OTHER_TITLE)));
+        assertThat(logSize(mainJdbcTemplate), is(0));
+        assertThat(logSize(backupJdbcTemplate), is(0));
+        assertThat(meterRegistry.get("task.replication.catching.up").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void shouldAdvanceTaskIdSequenceOfTargetBehindSource() {
+        var sourceNextId = 1001L;
+        mainJdbcTemplate.execute("ALTER SEQUENCE task_id_seq RESTART WITH " + sourceNextId);
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_1);
+
+        testingInstance.replicatePendingChanges();
+
+        assertThat(backupJdbcTemplate.queryForObject("SELECT NEXT VALUE FOR task_id_seq", Long.class), is(sourceNextId));
+    }
+
+    @Test
+    public void shouldNotReplicateWhileCircuitOfTargetIsNotClosed() {
+        when(dataSourceCircuitBreakerService.isCallPermitted(DataSourceContext.BACKUP)).thenReturn(false);
+        insertTask(mainJdbcTemplate, TASK_ID_1, TITLE, "TODO", ASSIGNEE_ID_1, UPDATED_AT);
+        logChange(mainJdbcTemplate, TASK_ID_1);
+
+        var result = testingInstance.replicatePendingChanges();
+
+        assertThat(result, is(0L));
+        assertThat(taskTitles(backupJdbcTemplate), is(List.of()));
+        assertThat(logSize(mainJdbcTemplate), is(1));
+    }
+
+    private static DataSource createDataSource() {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-main.sql")).execute(dataSource);
+
+        return dataSource;
+    }
+
+    private static void insertTask(final JdbcTemplate jdbcTemplate, final Long id, final String title, final String status,
+                                   final Long assigneeId, final Instant updatedAt) {
+        jdbcTemplate.update("INSERT INTO task (id, title, status, assignee_id, updated_at, time_spent) VALUES (?, ?, ?, ?, ?, 0)",
+                id, title, status, assigneeId, Timestamp.from(updatedAt));
+    }
+
+    private static void logChange(final JdbcTemplate jdbcTemplate, final Long taskId) {
+        logChange(jdbcTemplate, taskId, Instant.now());
+    }
+
+    private static void logChange(final JdbcTemplate jdbcTemplate, final Long taskId, final Instant loggedAt) {
+        jdbcTemplate.update("INSERT INTO task_replication_log (task_id, created_at) VALUES (?, ?)",
+                taskId, Timestamp.from(loggedAt));
+    }
+
+    private static List<String> taskTitles(final JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("SELECT title FROM task ORDER BY id", String.class);
+    }
+
+    private static String taskStatus(final JdbcTemplate jdbcTemplate, final Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM task WHERE id = ?", String.class, taskId);
+    }
+
+    private static int logSize(final JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_replication_log", Integer.class);
+    }
+}
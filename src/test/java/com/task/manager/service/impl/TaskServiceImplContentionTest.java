@@ -0,0 +1,206 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.task.manager.config.properties.AssigneeLockProperties;
+import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.dto.UpdateTaskStatusDto;
+import com.task.manager.exception.TaskConflictException;
+import com.task.manager.exception.TaskInProgressException;
+import com.task.manager.mapper.TaskMapper;
+import com.task.manager.repository.TaskRepository;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.service.HedgedReadService;
+import com.task.manager.service.OutboxEventService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.service.TaskReplicationLogService;
+import com.task.manager.service.TaskService;
+import com.task.manager.service.TaskStatusCoalescingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Transitions run against the real repository and schema, so every guard on the way is exercised: the assignee lock,
+ * the statement conditioned on the read status and the unique index on the in progress task of an assignee.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskServiceImpl.class, TaskServiceImplContentionTest.AssigneeLockConfig.class})
+@Sql(scripts = "classpath:schema-main.sql")
+class TaskServiceImplContentionTest {
+
+    private static final int THREADS = 64;
+    private static final int ASSIGNEES = 8;
+    private static final int TASKS_PER_ASSIGNEE = 8;
+    private static final int TRANSITIONS_PER_THREAD = 20;
+    private static final Duration CHECK_INTERVAL = Duration.ofMillis(5);
+    private static final String ASSIGNEES_WITH_SEVERAL_TASKS_IN_PROGRESS_QUERY = """
+            SELECT assignee_id FROM task WHERE status = 'IN_PROGRESS' GROUP BY assignee_id HAVING COUNT(*) > 1
+            """;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AssigneeSummaryService assigneeSummaryService;
+
+    @MockitoBean
+    private DataSourceRoutingService dataSourceRoutingService;
+
+    @MockitoBean
+    private HedgedReadService hedgedReadService;
+
+    @MockitoBean
+    private OutboxEventService outboxEventService;
+
+    @MockitoBean
+    private TaskCacheService taskCacheService;
+
+    @MockitoBean
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @MockitoBean
+    private TaskReplicationLogService taskReplicationLogService;
+
+    @MockitoBean
+    private TaskStatusCoalescingService taskStatusCoalescingService;
+
+    @MockitoBean
+    private TaskMapper taskMapper;
+
+    @MockitoBean
+    private Validator validator;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        taskRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Every thread starts and pauses random tasks of shared assignees, while the store is checked all along for an
+     * assignee with more than one task in progress.
+     */
+    @Test
+    void shouldKeepAtMostOneTaskInProgressPerAssigneeUnderContention() throws Exception {
+        var taskIds = saveTasks();
+        var barrier = new CyclicBarrier(THREADS);
+        var running = new AtomicBoolean(true);
+        var transitioned = new AtomicInteger();
+        var rejected = new AtomicInteger();
+        List<Long> violations = new ArrayList<>();
+        List<Future<?>> results = new ArrayList<>();
+
+        var checker = executor.submit(() -> {
+            while (running.get() && violations.isEmpty()) {
+                violations.addAll(findAssigneesWithSeveralTasksInProgress());
+                Thread.sleep(CHECK_INTERVAL.toMillis());
+            }
+            return null;
+        });
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            results.add(executor.submit(() -> {
+                barrier.await();
+                var random = ThreadLocalRandom.current();
+                for (int transition = 0; transition < TRANSITIONS_PER_THREAD; transition++) {
+                    var taskId = taskIds.get(random.nextInt(taskIds.size()));
+                    var status = random.nextBoolean() ? TaskStatus.IN_PROGRESS : TaskStatus.PAUSED;
+                    try {
+                        taskService.updateTaskStatus(taskId, new UpdateTaskStatusDto(status));
+                        transitioned.incrementAndGet();
+                    } catch (TaskInProgressException | TaskConflictException exc) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        try {
+            for (var result : results) {
+                result.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            running.set(false);
+        }
+        checker.get(1, TimeUnit.MINUTES);
+
+        assertThat(violations, is(empty()));
+        assertThat(findAssigneesWithSeveralTasksInProgress(), is(empty()));
+        assertThat(transitioned.get(), greaterThan(0));
+        assertThat(rejected.get(), greaterThan(0));
+    }
+
+    private List<Long> saveTasks() {
+        var tasks = new ArrayList<Task>();
+
+        for (long assigneeId = 1; assigneeId <= ASSIGNEES; assigneeId++) {
+            for (int taskNumber = 0; taskNumber < TASKS_PER_ASSIGNEE; taskNumber++) {
+                var task = new Task();
+                task.setAssigneeId(assigneeId);
+                task.setStatus(TaskStatus.TODO);
+                task.setTimeSpent(Duration.ZERO);
+                tasks.add(task);
+            }
+        }
+
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    private List<Long> findAssigneesWithSeveralTasksInProgress() {
+        return jdbcTemplate.queryForList(ASSIGNEES_WITH_SEVERAL_TASKS_IN_PROGRESS_QUERY, Long.class);
+    }
+
+    @TestConfiguration
+    static class AssigneeLockConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AssigneeLockServiceImpl assigneeLockService(final MeterRegistry meterRegistry) {
+            return new AssigneeLockServiceImpl(new AssigneeLockProperties(), meterRegistry);
+        }
+    }
+}
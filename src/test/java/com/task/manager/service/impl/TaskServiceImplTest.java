@@ -1,19 +1,48 @@
 package com.task.manager.service.impl;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import com.task.manager.domain.OutboxEventType;
 import com.task.manager.domain.Task;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskState;
 import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.domain.TaskView;
+import com.task.manager.dto.BulkItemResultDto;
+import com.task.manager.dto.BulkItemStatus;
+import com.task.manager.dto.BulkUpdateTaskDto;
 import com.task.manager.dto.CreateTaskDto;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.dto.TaskFilterDto;
 import com.task.manager.dto.UpdateTaskDto;
 import com.task.manager.dto.UpdateTaskStatusDto;
 import com.task.manager.event.TaskCreatedEvent;
+import com.task.manager.exception.TaskConflictException;
 import com.task.manager.exception.TaskInProgressException;
 import com.task.manager.exception.TaskNotFoundException;
 import com.task.manager.mapper.TaskMapper;
 import com.task.manager.repository.TaskRepository;
-import com.task.manager.service.TaskBatchProcessorService;
+import com.task.manager.service.AssigneeLockService;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.DataSourceRoutingService;
+import com.task.manager.service.HedgedReadService;
+import com.task.manager.service.OutboxEventService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import com.task.manager.service.TaskReplicationLogService;
+import com.task.manager.service.TaskStatusCoalescingService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,16 +51,24 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,22 +79,31 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class TaskServiceImplTest {
 
-    private static final int BATCH_SIZE = 100;
+    private static final int PAGE_SIZE = 2;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_STATUS_TRANSITION_ATTEMPTS = 3;
     private static final Long ID_1 = 1L;
     private static final Long ID_2 = 2L;
     private static final Long ASSIGNEE_ID_1 = 123L;
     private static final Long ASSIGNEE_ID_2 = 456L;
+    private static final Long MISSING_ID = 3L;
     private static final String ID_STRING = String.valueOf(ID_1);
     private static final String TITLE = "Test Task";
     private static final String DESCRIPTION = "New Description";
-    private static final String KAFKA_TOPIC_NAME = "task-created";
     private static final TaskStatus TODO_TASK_STATUS = TaskStatus.TODO;
     private static final TaskStatus PAUSED_TASK_STATUS = TaskStatus.PAUSED;
     private static final TaskStatus IN_PROGRESS_TASK_STATUS = TaskStatus.IN_PROGRESS;
+    private static final TaskStatus DONE_TASK_STATUS = TaskStatus.DONE;
 
     private static final String TASK_NOT_FOUND_EXCEPTION_MESSAGE = "Task not found by id: 1";
     private static final String NEW_USER_ALREADY_HAS_TASK_IN_PROGRESS  = "New user already has a task in progress";
+    private static final String ASSIGNEE_ALREADY_HAS_TASK_IN_PROGRESS = "Assignee already has a task in progress";
     private static final String CURRENT_USER_ALREADY_HAS_A_TASK_IN_PROGRESS_EXCEPTION_MESSAGE = "Current user already has a task in progress";
+    private static final String TASK_CHANGED_CONCURRENTLY_MESSAGE = "Task was changed concurrently, id: 1";
+    private static final String UNIQUE_IN_PROGRESS_VIOLATION = "Unique index uq_task_in_progress_assignee_id violated";
+    private static final String MISSING_TASK_NOT_FOUND_MESSAGE = "Task not found by id: 3";
+    private static final String BLANK_TITLE_MESSAGE = "title: must not be blank";
+    private static final Validator REAL_VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
 
     @Mock
     private Task task1;
@@ -66,20 +112,62 @@ class TaskServiceImplTest {
     private Task task2;
 
     @Mock
-    private TaskMapper taskMapper;
+    private TaskView taskView1;
+
+    @Mock
+    private TaskView taskView2;
 
     @Mock
-    private TaskBatchProcessorService taskBatchProcessorService;
+    private TaskMapper taskMapper;
 
     @Mock
     private TaskRepository taskRepository;
 
     @Mock
-    private KafkaTemplate<String, TaskCreatedEvent> kafkaTemplate;
+    private AssigneeLockService assigneeLockService;
+
+    @Mock
+    private AssigneeSummaryService assigneeSummaryService;
+
+    @Mock
+    private DataSourceRoutingService dataSourceRoutingService;
+
+    @Mock
+    private HedgedReadService hedgedReadService;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    @Mock
+    private TaskCacheService taskCacheService;
+
+    @Mock
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @Mock
+    private TaskReplicationLogService taskReplicationLogService;
+
+    @Mock
+    private TaskStatusCoalescingService taskStatusCoalescingService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @Captor
     private ArgumentCaptor<TaskCreatedEvent> taskCreatedEventCaptor;
 
+    @Captor
+    private ArgumentCaptor<Instant> transitionedAtCaptor;
+
+    @Captor
+    private ArgumentCaptor<Instant> readAtCaptor;
+
     @InjectMocks
     private TaskServiceImpl testingInstance;
 
@@ -97,10 +185,13 @@ class TaskServiceImplTest {
 
         verify(taskMapper).fromCreateTaskDto(createTaskDto);
         verify(taskRepository).save(task1);
-        verify(task1, times(3)).getId();
-        verify(task1).getAssigneeId();
+        verify(task1, times(5)).getId();
+        verify(task1, times(2)).getAssigneeId();
         verify(task1).getTitle();
-        verify(kafkaTemplate).send(eq(KAFKA_TOPIC_NAME), eq(ID_STRING), taskCreatedEventCaptor.capture());
+        verify(taskReplicationLogService).recordChange(ID_1);
+        verify(assigneeSummaryService).recordChange(null, new TaskState(ID_1, ASSIGNEE_ID_1, null, Duration.ZERO, null));
+        verify(taskChangeFeedService).publishChange(null, new TaskState(ID_1, ASSIGNEE_ID_1, null, Duration.ZERO, null));
+        verify(outboxEventService).saveEvent(eq(OutboxEventType.TASK_CREATED), eq(ID_STRING), taskCreatedEventCaptor.capture());
         var taskCreatedEvent = taskCreatedEventCaptor.getValue();
         assertThat(taskCreatedEvent.getTaskId(), is(ID_1));
         assertThat(taskCreatedEvent.getAssigneeId(), is(ASSIGNEE_ID_1));
@@ -111,97 +202,211 @@ class TaskServiceImplTest {
 
     @Test
     public void shouldDeleteTask() {
+        when(taskRepository.findById(ID_1)).thenReturn(Optional.of(task1));
+        when(task1.getId()).thenReturn(ID_1);
+        when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_1);
+        when(task1.getStatus()).thenReturn(TODO_TASK_STATUS);
+        when(task1.getTimeSpent()).thenReturn(Duration.ZERO);
+
         testingInstance.deleteTask(ID_1);
 
-        verify(taskRepository).deleteById(ID_1);
+        verify(taskRepository).delete(task1);
+        verify(taskCacheService).evict(ID_1);
+        verify(taskReplicationLogService).recordChange(ID_1);
+        verify(assigneeSummaryService).recordChange(taskState(TODO_TASK_STATUS), null);
+        verify(taskChangeFeedService).publishChange(taskState(TODO_TASK_STATUS), null);
+        verify(dataSourceRoutingService).recordWrite();
+    }
+
+    @Test
+    public void shouldRecordWriteOnceTransactionCommits() {
+        when(taskRepository.findById(ID_1)).thenReturn(Optional.of(task1));
+        when(task1.getId()).thenReturn(ID_1);
+        when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_1);
+        when(task1.getStatus()).thenReturn(TODO_TASK_STATUS);
+        when(task1.getTimeSpent()).thenReturn(Duration.ZERO);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            testingInstance.deleteTask(ID_1);
+
+            verify(dataSourceRoutingService, never()).recordWrite();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(dataSourceRoutingService).recordWrite();
+    }
+
+    @Test
+    public void shouldOnlyEvictTaskWhenDeletedTaskIsNotFound() {
+        when(taskRepository.findById(ID_1)).thenReturn(Optional.empty());
+
+        testingInstance.deleteTask(ID_1);
+
+        verify(taskRepository, never()).delete(any());
+        verify(taskCacheService).evict(ID_1);
+        verifyNoInteractions(assigneeSummaryService, taskChangeFeedService, taskReplicationLogService,
+                dataSourceRoutingService);
     }
 
     @Test
     public void shouldUpdateTaskStatus() {
-        var taskOptional = Optional.of(task1);
         var updateTaskStatusDto = new UpdateTaskStatusDto();
         updateTaskStatusDto.setStatus(IN_PROGRESS_TASK_STATUS);
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
-        when(task1.getStatus()).thenReturn(TODO_TASK_STATUS);
-        when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_1);
-        when(taskRepository.findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS)).thenReturn(Optional.empty());
+        runLockedActions();
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(TODO_TASK_STATUS)));
+        when(taskRepository.transitionStatus(eq(ID_1), eq(TODO_TASK_STATUS), eq(IN_PROGRESS_TASK_STATUS), any(Instant.class))).thenReturn(true);
 
         testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
 
-        verify(taskRepository).findById(ID_1);
-        verify(task1).getStatus();
-        verify(task1).getAssigneeId();
-        verify(taskRepository).findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS);
-        verify(task1).startProgress();
-        verify(taskMapper).updateTaskStatus(task1, updateTaskStatusDto);
-        verify(taskRepository).save(task1);
-        verify(task1, never()).endProgress();
+        verify(taskRepository).findStateById(ID_1);
+        verify(assigneeLockService).runLocked(eq(ASSIGNEE_ID_1), any(Runnable.class));
+        verify(taskRepository).transitionStatus(eq(ID_1), eq(TODO_TASK_STATUS), eq(IN_PROGRESS_TASK_STATUS), transitionedAtCaptor.capture());
+        verify(taskCacheService).evict(ID_1);
+        verify(assigneeSummaryService).recordChange(taskState(TODO_TASK_STATUS),
+                new TaskState(ID_1, ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS, Duration.ZERO, transitionedAtCaptor.getValue()));
+        verify(dataSourceRoutingService).recordWrite();
+        verify(taskRepository, never()).findInProgressTaskIdByAssigneeId(anyLong());
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
-    public void shouldUpdateTaskStatusFromInProgressToPaused() {
-        var taskOptional = Optional.of(task1);
+    public void shouldRetryTaskStatusTransitionFromStatusSetConcurrently() {
         var updateTaskStatusDto = new UpdateTaskStatusDto();
         updateTaskStatusDto.setStatus(PAUSED_TASK_STATUS);
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
-        when(task1.getStatus()).thenReturn(IN_PROGRESS_TASK_STATUS);
+        runLockedActions();
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(TODO_TASK_STATUS)), Optional.of(taskState(IN_PROGRESS_TASK_STATUS)));
+        when(taskRepository.transitionStatus(eq(ID_1), eq(TODO_TASK_STATUS), eq(PAUSED_TASK_STATUS), any(Instant.class))).thenReturn(false);
+        when(taskRepository.transitionStatus(eq(ID_1), eq(IN_PROGRESS_TASK_STATUS), eq(PAUSED_TASK_STATUS), any(Instant.class))).thenReturn(true);
 
         testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
 
-        verify(taskRepository).findById(ID_1);
-        verify(task1).getStatus();
-        verify(task1).endProgress();
-        verify(taskMapper).updateTaskStatus(task1, updateTaskStatusDto);
-        verify(taskRepository).save(task1);
-        verify(task1, never()).startProgress();
-        verify(task1, never()).getAssigneeId();
-        verify(taskRepository, never()).findByAssigneeIdAndStatus(anyLong(), any(TaskStatus.class));
+        verify(taskRepository, times(2)).findStateById(ID_1);
+        verify(taskRepository).transitionStatus(eq(ID_1), eq(IN_PROGRESS_TASK_STATUS), eq(PAUSED_TASK_STATUS), any(Instant.class));
+        verify(taskCacheService).evict(ID_1);
+    }
+
+    @Test
+    public void shouldNotUpdateTaskStatusWhenItWasSetToTheSameStatusConcurrently() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+        updateTaskStatusDto.setStatus(PAUSED_TASK_STATUS);
+        runLockedActions();
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(IN_PROGRESS_TASK_STATUS)), Optional.of(taskState(PAUSED_TASK_STATUS)));
+        when(taskRepository.transitionStatus(eq(ID_1), eq(IN_PROGRESS_TASK_STATUS), eq(PAUSED_TASK_STATUS), any(Instant.class))).thenReturn(false);
+
+        testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
+
+        verify(taskRepository, times(2)).findStateById(ID_1);
+        verifyNoInteractions(taskCacheService);
+    }
+
+    @Test
+    public void shouldNotUpdateTaskStatusWhenItKeepsChangingConcurrently() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+        updateTaskStatusDto.setStatus(DONE_TASK_STATUS);
+        runLockedActions();
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(TODO_TASK_STATUS)));
+        when(taskRepository.transitionStatus(eq(ID_1), eq(TODO_TASK_STATUS), eq(DONE_TASK_STATUS), any(Instant.class))).thenReturn(false);
+
+        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
+
+        assertThatThrownBy(testingMethod)
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessage(TASK_CHANGED_CONCURRENTLY_MESSAGE);
+        verify(taskRepository, times(MAX_STATUS_TRANSITION_ATTEMPTS)).transitionStatus(eq(ID_1), eq(TODO_TASK_STATUS), eq(DONE_TASK_STATUS), any(Instant.class));
+        verifyNoInteractions(taskCacheService);
     }
 
     @Test
     public void shouldNotUpdateTaskStatusWhenNewStatusIsTheSameAsCurrentStatus() {
-        var taskOptional = Optional.of(task1);
         var updateTaskStatusDto = new UpdateTaskStatusDto();
         updateTaskStatusDto.setStatus(TODO_TASK_STATUS);
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
-        when(task1.getStatus()).thenReturn(TODO_TASK_STATUS);
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(TODO_TASK_STATUS)));
 
         testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
 
-        verify(taskRepository).findById(ID_1);
-        verifyNoMoreInteractions(task1);
+        verify(taskRepository).findStateById(ID_1);
         verifyNoMoreInteractions(taskRepository);
+        verifyNoInteractions(assigneeLockService);
         verifyNoInteractions(taskMapper);
+        verifyNoInteractions(taskCacheService);
     }
 
     @Test
     public void shouldNotUpdateTaskToInProgressWhenUserAlreadyHasATaskInProgress() {
-        var taskOptional1 = Optional.of(task1);
-        var taskOptional2 = Optional.of(task2);
         var updateTaskStatusDto = new UpdateTaskStatusDto();
         updateTaskStatusDto.setStatus(IN_PROGRESS_TASK_STATUS);
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional1);
-        when(task1.getStatus()).thenReturn(TODO_TASK_STATUS);
-        when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_1);
-        when(task1.getId()).thenReturn(ID_1);
-        when(task2.getId()).thenReturn(ID_2);
-        when(taskRepository.findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS)).thenReturn(taskOptional2);
+        runLockedActions();
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(TODO_TASK_STATUS)));
+        when(taskRepository.transitionStatus(eq(ID_1), eq(TODO_TASK_STATUS), eq(IN_PROGRESS_TASK_STATUS), any(Instant.class)))
+                .thenThrow(new DataIntegrityViolationException(UNIQUE_IN_PROGRESS_VIOLATION));
 
-        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);;
+        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
 
         assertThatThrownBy(testingMethod)
                 .isInstanceOf(TaskInProgressException.class)
                 .hasMessage(CURRENT_USER_ALREADY_HAS_A_TASK_IN_PROGRESS_EXCEPTION_MESSAGE);
+        verifyNoInteractions(taskCacheService);
+    }
+
+    @Test
+    public void shouldCoalesceTaskStatusTransitionWithoutWritingIt() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+        updateTaskStatusDto.setStatus(PAUSED_TASK_STATUS);
+        runLockedActions();
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(IN_PROGRESS_TASK_STATUS)));
+        when(taskStatusCoalescingService.coalesce(taskState(IN_PROGRESS_TASK_STATUS), PAUSED_TASK_STATUS)).thenReturn(true);
+
+        testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
+
+        verify(taskRepository, never()).transitionStatus(anyLong(), any(), any(), any());
+        verify(taskStatusCoalescingService, never()).flushAssignee(any());
+        verify(dataSourceRoutingService).recordWrite();
+        verifyNoInteractions(taskCacheService, assigneeSummaryService, taskChangeFeedService);
+    }
+
+    @Test
+    public void shouldFoldTransitionOfTaskWithPendingStateWithoutReadingTask() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+        updateTaskStatusDto.setStatus(IN_PROGRESS_TASK_STATUS);
+        runLockedActions();
+        when(taskStatusCoalescingService.getPendingState(ID_1)).thenReturn(Optional.of(taskState(PAUSED_TASK_STATUS)));
+        when(taskStatusCoalescingService.coalesce(taskState(PAUSED_TASK_STATUS), IN_PROGRESS_TASK_STATUS)).thenReturn(true);
+
+        testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void shouldWriteCoalescedTransitionsOfAssigneeBeforeTransitionThatCanNotBeCoalesced() {
+        var updateTaskStatusDto = new UpdateTaskStatusDto();
+        updateTaskStatusDto.setStatus(DONE_TASK_STATUS);
+        runLockedActions();
+        when(taskStatusCoalescingService.getPendingState(ID_1)).thenReturn(Optional.of(taskState(PAUSED_TASK_STATUS)));
+        when(taskStatusCoalescingService.flushAssignee(ASSIGNEE_ID_1)).thenReturn(true);
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.of(taskState(PAUSED_TASK_STATUS)));
+        when(taskRepository.transitionStatus(eq(ID_1), eq(PAUSED_TASK_STATUS), eq(DONE_TASK_STATUS), any(Instant.class))).thenReturn(true);
+
+        testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
+
+        var inOrder = inOrder(taskStatusCoalescingService, taskRepository);
+        inOrder.verify(taskStatusCoalescingService).flushAssignee(ASSIGNEE_ID_1);
+        inOrder.verify(taskRepository).findStateById(ID_1);
+        inOrder.verify(taskRepository).transitionStatus(eq(ID_1), eq(PAUSED_TASK_STATUS), eq(DONE_TASK_STATUS), any(Instant.class));
+        verify(taskCacheService).evict(ID_1);
     }
 
     @Test
     public void shouldNotUpdateTaskStatusWhenTaskIsNotFound() {
-        var taskOptional = Optional.<Task>empty();
         var updateTaskStatusDto = new UpdateTaskStatusDto();
         updateTaskStatusDto.setStatus(IN_PROGRESS_TASK_STATUS);
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
+        when(taskRepository.findStateById(ID_1)).thenReturn(Optional.empty());
 
-        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);;
+        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTaskStatus(ID_1, updateTaskStatusDto);
 
         assertThatThrownBy(testingMethod)
                 .isInstanceOf(TaskNotFoundException.class)
@@ -209,15 +414,19 @@ class TaskServiceImplTest {
     }
 
     @Test
-    public void shouldUpdateTasksStatusFromInProgressToPausedInBatch() {
-        var tasks = List.of(task1, task2);
-        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
-        when(taskRepository.findTasksByStatusWithLimit(IN_PROGRESS_TASK_STATUS, pageable)).thenReturn(tasks).thenReturn(List.of());
+    public void shouldNotUpdateTaskWhenItWasChangedConcurrently() {
+        var updateTaskDto = new UpdateTaskDto();
+        updateTaskDto.setTitle(TITLE);
+        when(taskRepository.findById(ID_1)).thenReturn(Optional.of(task1));
+        when(taskRepository.saveAndFlush(task1)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, ID_1));
 
-        testingInstance.updateTasksStatusFromInProgressToPausedInBatch(BATCH_SIZE);
+        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTask(ID_1, updateTaskDto);
 
-        verify(taskRepository, times(2)).findTasksByStatusWithLimit(IN_PROGRESS_TASK_STATUS, pageable);
-        verify(taskBatchProcessorService).updateTasksStatusToPaused(tasks);
+        assertThatThrownBy(testingMethod)
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessage(TASK_CHANGED_CONCURRENTLY_MESSAGE);
+        verify(taskMapper).updateTask(task1, updateTaskDto);
+        verifyNoInteractions(taskCacheService, taskReplicationLogService);
     }
 
     @Test
@@ -230,15 +439,18 @@ class TaskServiceImplTest {
         updateTaskDto.setAssigneeId(ASSIGNEE_ID_1);
         when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
         when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_2);
-        when(taskRepository.findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS)).thenReturn(Optional.empty());
+        when(taskRepository.findInProgressTaskIdByAssigneeId(ASSIGNEE_ID_1)).thenReturn(Optional.empty());
 
         testingInstance.updateTask(ID_1, updateTaskDto);
 
         verify(taskRepository).findById(ID_1);
-        verify(task1, times(2)).getAssigneeId();
-        verify(taskRepository).findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS);
+        verify(task1, times(4)).getAssigneeId();
+        verify(taskRepository).findInProgressTaskIdByAssigneeId(ASSIGNEE_ID_1);
         verify(taskMapper).updateTask(task1, updateTaskDto);
-        verify(taskRepository).save(task1);
+        verify(taskRepository).saveAndFlush(task1);
+        verify(taskCacheService).evict(ID_1);
+        verify(taskReplicationLogService).recordChange(ID_1);
+        verify(assigneeSummaryService).recordChange(any(TaskState.class), any(TaskState.class));
     }
 
     @Test
@@ -255,10 +467,10 @@ class TaskServiceImplTest {
         testingInstance.updateTask(ID_1, updateTaskDto);
 
         verify(taskRepository).findById(ID_1);
-        verify(task1, times(2)).getAssigneeId();
-        verify(taskRepository).findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS);
+        verify(task1, times(4)).getAssigneeId();
+        verify(taskRepository).findInProgressTaskIdByAssigneeId(ASSIGNEE_ID_1);
         verify(taskMapper).updateTask(task1, updateTaskDto);
-        verify(taskRepository).save(task1);
+        verify(taskRepository).saveAndFlush(task1);
         verifyNoMoreInteractions(taskRepository);
     }
 
@@ -276,9 +488,9 @@ class TaskServiceImplTest {
         testingInstance.updateTask(ID_1, updateTaskDto);
 
         verify(taskRepository).findById(ID_1);
-        verify(task1).getAssigneeId();
+        verify(task1, times(3)).getAssigneeId();
         verify(taskMapper).updateTask(task1, updateTaskDto);
-        verify(taskRepository).save(task1);
+        verify(taskRepository).saveAndFlush(task1);
         verifyNoMoreInteractions(taskRepository);
     }
 
@@ -292,7 +504,7 @@ class TaskServiceImplTest {
         updateTaskDto.setAssigneeId(ASSIGNEE_ID_1);
         when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
         when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_2);
-        when(taskRepository.findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS)).thenReturn(Optional.of(task2));
+        when(taskRepository.findInProgressTaskIdByAssigneeId(ASSIGNEE_ID_1)).thenReturn(Optional.of(ID_2));
 
         final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTask(ID_1, updateTaskDto);;
 
@@ -312,8 +524,7 @@ class TaskServiceImplTest {
         when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
         when(task1.getId()).thenReturn(ID_1);
         when(task1.getAssigneeId()).thenReturn(ASSIGNEE_ID_1);
-        when(task2.getId()).thenReturn(ID_2);
-        when(taskRepository.findByAssigneeIdAndStatus(ASSIGNEE_ID_1, IN_PROGRESS_TASK_STATUS)).thenReturn(Optional.of(task2));
+        when(taskRepository.findInProgressTaskIdByAssigneeId(ASSIGNEE_ID_1)).thenReturn(Optional.of(ID_2));
 
         final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.updateTask(ID_1, updateTaskDto);
 
@@ -340,20 +551,61 @@ class TaskServiceImplTest {
     }
 
     @Test
-    public void shouldGetTask() {
-        var taskOptional = Optional.of(task1);
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
+    public void shouldGetTaskThroughCache() {
+        var taskDto = new TaskDto();
+        when(taskCacheService.getTask(eq(ID_1), any())).thenAnswer(invocation -> {
+            Function<Long, TaskView> loader = invocation.getArgument(1);
+            loader.apply(ID_1);
+            return taskDto;
+        });
+        when(taskRepository.findViewById(ID_1)).thenReturn(Optional.of(taskView1));
+
+        var result = testingInstance.getTask(ID_1);
+
+        assertThat(result, is(taskDto));
+        verify(taskRepository).findViewById(ID_1);
+        verify(taskRepository, never()).findById(any());
+        verify(taskStatusCoalescingService).applyPendingChange(taskDto);
+        verifyNoInteractions(taskMapper, hedgedReadService);
+    }
 
-        testingInstance.getTask(ID_1);
+    @Test
+    public void shouldGetTaskPastCacheWhenReadIsRoutedToReplica() {
+        runHedgedReads();
+        var taskDto = new TaskDto();
+        when(dataSourceRoutingService.routesToReplica()).thenReturn(true);
+        when(taskRepository.findViewById(ID_1)).thenReturn(Optional.of(taskView1));
+        when(taskMapper.fromTaskView(eq(taskView1), any(Instant.class))).thenReturn(taskDto);
+
+        var result = testingInstance.getTask(ID_1);
+
+        assertThat(result, is(taskDto));
+        verify(taskStatusCoalescingService).applyPendingChange(taskDto);
+        verify(dataSourceRoutingService, never()).recordWrite();
+        verifyNoInteractions(taskCacheService);
+    }
 
-        verify(taskRepository).findById(ID_1);
-        verify(taskMapper).fromTask(task1);
+    @Test
+    public void shouldGetTaskPastCacheWhenClientWroteRecently() {
+        runHedgedReads();
+        var taskDto = new TaskDto();
+        when(dataSourceRoutingService.wroteRecently()).thenReturn(true);
+        when(taskRepository.findViewById(ID_1)).thenReturn(Optional.of(taskView1));
+        when(taskMapper.fromTaskView(eq(taskView1), any(Instant.class))).thenReturn(taskDto);
+
+        var result = testingInstance.getTask(ID_1);
+
+        assertThat(result, is(taskDto));
+        verifyNoInteractions(taskCacheService);
     }
 
     @Test
     public void shouldNotGetTaskWhenTaskIsNotFound() {
-        var taskOptional = Optional.<Task>empty();
-        when(taskRepository.findById(ID_1)).thenReturn(taskOptional);
+        when(taskCacheService.getTask(eq(ID_1), any())).thenAnswer(invocation -> {
+            Function<Long, TaskView> loader = invocation.getArgument(1);
+            return loader.apply(ID_1);
+        });
+        when(taskRepository.findViewById(ID_1)).thenReturn(Optional.empty());
 
         final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.getTask(ID_1);
 
@@ -363,23 +615,251 @@ class TaskServiceImplTest {
     }
 
     @Test
-    public void shouldGetTasks() {
-        when(taskRepository.findAll()).thenReturn(List.of(task1, task2));
+    public void shouldGetTasksPageWithNextCursorWhenMoreTasksExist() {
+        runHedgedReads();
+        var filter = new TaskFilterDto();
+        filter.setStatus(IN_PROGRESS_TASK_STATUS);
+        filter.setAssigneeId(ASSIGNEE_ID_1);
+        var taskDto1 = new TaskDto();
+        taskDto1.setId(ID_1);
+        taskDto1.setStatus(IN_PROGRESS_TASK_STATUS);
+        var taskDto2 = new TaskDto();
+        taskDto2.setId(ID_2);
+        taskDto2.setStatus(IN_PROGRESS_TASK_STATUS);
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE + 1);
+        when(taskRepository.findTaskViewsPage(ID_1, IN_PROGRESS_TASK_STATUS, ASSIGNEE_ID_1, null, null, null, null, pageable))
+                .thenReturn(List.of(taskView1, taskView2, taskView1));
+        when(taskMapper.fromTaskView(eq(taskView1), any())).thenReturn(taskDto1);
+        when(taskMapper.fromTaskView(eq(taskView2), any())).thenReturn(taskDto2);
+        when(taskView2.getId()).thenReturn(ID_2);
+
+        var result = testingInstance.getTasks(filter, ID_1, PAGE_SIZE);
+
+        assertThat(result.getItems(), is(List.of(taskDto1, taskDto2)));
+        assertThat(result.getNextCursor(), is(ID_2));
+        verify(taskStatusCoalescingService).applyPendingChange(taskDto1);
+        verify(taskStatusCoalescingService).applyPendingChange(taskDto2);
+    }
+
+    @Test
+    public void shouldLeaveOutTaskMovedOutOfFilteredStatusByTransitionsNotWrittenYetWithoutWritingThem() {
+        runHedgedReads();
+        var filter = new TaskFilterDto();
+        filter.setStatus(IN_PROGRESS_TASK_STATUS);
+        var taskDto1 = new TaskDto();
+        taskDto1.setStatus(IN_PROGRESS_TASK_STATUS);
+        var taskDto2 = new TaskDto();
+        taskDto2.setStatus(IN_PROGRESS_TASK_STATUS);
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE + 1);
+        when(taskRepository.findTaskViewsPage(null, IN_PROGRESS_TASK_STATUS, null, null, null, null, null, pageable))
+                .thenReturn(List.of(taskView1, taskView2));
+        when(taskMapper.fromTaskView(eq(taskView1), any())).thenReturn(taskDto1);
+        when(taskMapper.fromTaskView(eq(taskView2), any())).thenReturn(taskDto2);
+        doAnswer(invocation -> {
+            taskDto1.setStatus(TaskStatus.PAUSED);
+            return null;
+        }).when(taskStatusCoalescingService).applyPendingChange(taskDto1);
+
+        var result = testingInstance.getTasks(filter, null, PAGE_SIZE);
+
+        assertThat(result.getItems(), is(List.of(taskDto2)));
+        assertThat(result.getNextCursor(), nullValue());
+        verify(taskStatusCoalescingService, never()).flush();
+    }
+
+    @Test
+    public void shouldGetLastTasksPageWithoutNextCursor() {
+        runHedgedReads();
+        var filter = new TaskFilterDto();
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE + 1);
+        when(taskRepository.findTaskViewsPage(null, null, null, null, null, null, null, pageable)).thenReturn(List.of(taskView1));
 
-        testingInstance.getTasks();
+        var result = testingInstance.getTasks(filter, null, PAGE_SIZE);
 
-        verify(taskRepository).findAll();
-        verify(taskMapper).fromTask(task1);
-        verify(taskMapper).fromTask(task2);
+        verify(taskMapper).fromTaskView(eq(taskView1), any());
+        assertThat(result.getItems().size(), is(1));
+        assertThat(result.getNextCursor(), nullValue());
     }
 
     @Test
-    public void shouldGetTasksWhenNoTasksFound() {
-        when(taskRepository.findAll()).thenReturn(List.of());
+    public void shouldLimitTasksPageSize() {
+        runHedgedReads();
+        var filter = new TaskFilterDto();
+        Pageable pageable = PageRequest.of(0, MAX_PAGE_SIZE + 1);
+        when(taskRepository.findTaskViewsPage(null, null, null, null, null, null, null, pageable)).thenReturn(List.of());
 
-        testingInstance.getTasks();
+        var result = testingInstance.getTasks(filter, null, Integer.MAX_VALUE);
 
-        verify(taskRepository).findAll();
+        verify(taskRepository).findTaskViewsPage(null, null, null, null, null, null, null, pageable);
         verifyNoInteractions(taskMapper);
+        assertThat(result.getItems().isEmpty(), is(true));
+        assertThat(result.getNextCursor(), nullValue());
+    }
+
+    @Test
+    public void shouldGetTaskVersionWithoutLoadingTask() {
+        runHedgedReads();
+        var taskVersion = new TaskVersion(TODO_TASK_STATUS, 1L, Instant.now());
+        when(taskRepository.findVersionById(ID_1)).thenReturn(Optional.of(taskVersion));
+
+        var result = testingInstance.getTaskVersion(ID_1);
+
+        assertThat(result, is(taskVersion));
+        verify(taskRepository, never()).findById(any());
+        verify(taskStatusCoalescingService).applyPendingChange(ID_1, taskVersion);
+        verifyNoInteractions(taskCacheService);
+    }
+
+    @Test
+    public void shouldNotGetTaskVersionWhenTaskIsNotFound() {
+        runHedgedReads();
+        when(taskRepository.findVersionById(ID_1)).thenReturn(Optional.empty());
+
+        final ThrowableAssert.ThrowingCallable testingMethod = () -> testingInstance.getTaskVersion(ID_1);
+
+        assertThatThrownBy(testingMethod)
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessage(TASK_NOT_FOUND_EXCEPTION_MESSAGE);
+    }
+
+    @Test
+    public void shouldGetVersionOfTasksMatchingFilterAfterCursor() {
+        runHedgedReads();
+        var filter = new TaskFilterDto();
+        filter.setStatus(IN_PROGRESS_TASK_STATUS);
+        filter.setAssigneeId(ASSIGNEE_ID_1);
+        var tasksVersion = new TaskCollectionVersion(2L, Instant.now());
+        when(taskRepository.findCollectionVersion(ID_1, IN_PROGRESS_TASK_STATUS, ASSIGNEE_ID_1, null, null, null, null))
+                .thenReturn(tasksVersion);
+
+        var result = testingInstance.getTasksVersion(filter, ID_1);
+
+        assertThat(result, is(tasksVersion));
+        verify(taskStatusCoalescingService).applyPendingChanges(ID_1, ASSIGNEE_ID_1, tasksVersion);
+        verify(taskStatusCoalescingService, never()).flush();
+    }
+
+    @Test
+    public void shouldStreamTasksAndDetachEveryStreamedTask() {
+        var filter = new TaskFilterDto();
+        filter.setStatus(TODO_TASK_STATUS);
+        var taskDto1 = new TaskDto();
+        taskDto1.setStatus(TODO_TASK_STATUS);
+        var taskDto2 = new TaskDto();
+        taskDto2.setStatus(TODO_TASK_STATUS);
+        var streamedTasks = new ArrayList<TaskDto>();
+        when(taskRepository.streamTasks(null, TODO_TASK_STATUS, null, null, null, null, null)).thenReturn(Stream.of(task1, task2));
+        when(taskMapper.fromTask(eq(task1), any())).thenReturn(taskDto1);
+        when(taskMapper.fromTask(eq(task2), any())).thenReturn(taskDto2);
+
+        testingInstance.streamTasks(filter, streamedTasks::add);
+
+        assertThat(streamedTasks, is(List.of(taskDto1, taskDto2)));
+        verify(entityManager).detach(task1);
+        verify(entityManager).detach(task2);
+        verify(taskMapper).fromTask(eq(task1), readAtCaptor.capture());
+        verify(taskMapper).fromTask(eq(task2), readAtCaptor.capture());
+        assertThat(readAtCaptor.getAllValues().get(1), sameInstance(readAtCaptor.getAllValues().get(0)));
+    }
+
+    @Test
+    public void shouldCreateValidTasksAndReportInvalidOnes() {
+        var createTaskDto1 = new CreateTaskDto(ASSIGNEE_ID_1, TITLE, DESCRIPTION);
+        var createTaskDto2 = new CreateTaskDto(ASSIGNEE_ID_1, "", DESCRIPTION);
+        when(validator.validate(createTaskDto1)).thenReturn(Set.of());
+        when(validator.validate(createTaskDto2)).thenReturn(REAL_VALIDATOR.validate(createTaskDto2));
+        when(taskMapper.fromCreateTaskDto(createTaskDto1)).thenReturn(task1);
+        when(taskRepository.save(task1)).thenReturn(task1);
+        when(task1.getId()).thenReturn(ID_1);
+
+        var result = testingInstance.createTasks(List.of(createTaskDto1, createTaskDto2));
+
+        assertThat(result, is(List.of(
+                new BulkItemResultDto(0, ID_1, BulkItemStatus.CREATED, null),
+                new BulkItemResultDto(1, null, BulkItemStatus.INVALID, BLANK_TITLE_MESSAGE))));
+        verify(outboxEventService).saveEvent(eq(OutboxEventType.TASK_CREATED), eq(ID_STRING), any(TaskCreatedEvent.class));
+        verify(taskReplicationLogService).recordChange(ID_1);
+        verify(taskMapper, never()).fromCreateTaskDto(createTaskDto2);
+    }
+
+    @Test
+    public void shouldUpdateTasksAndReportNotFoundAndConflictingOnes() {
+        var updateTaskDto1 = new UpdateTaskDto(null, TITLE, DESCRIPTION, null);
+        var updateTaskDto2 = new UpdateTaskDto(ASSIGNEE_ID_1, TITLE, DESCRIPTION, null);
+        var bulkUpdateTaskDto1 = new BulkUpdateTaskDto(ID_1, updateTaskDto1);
+        var bulkUpdateTaskDto2 = new BulkUpdateTaskDto(ID_2, updateTaskDto2);
+        var bulkUpdateTaskDto3 = new BulkUpdateTaskDto(MISSING_ID, updateTaskDto1);
+        when(taskRepository.findById(ID_1)).thenReturn(Optional.of(task1));
+        when(taskRepository.findById(ID_2)).thenReturn(Optional.of(task2));
+        when(taskRepository.findById(MISSING_ID)).thenReturn(Optional.empty());
+        when(task2.getAssigneeId()).thenReturn(ASSIGNEE_ID_2);
+        when(taskRepository.findInProgressTaskIdByAssigneeId(ASSIGNEE_ID_1)).thenReturn(Optional.of(ID_1));
+
+        var result = testingInstance.updateTasks(List.of(bulkUpdateTaskDto1, bulkUpdateTaskDto2, bulkUpdateTaskDto3));
+
+        assertThat(result, is(List.of(
+                new BulkItemResultDto(0, ID_1, BulkItemStatus.UPDATED, null),
+                new BulkItemResultDto(1, ID_2, BulkItemStatus.CONFLICT, NEW_USER_ALREADY_HAS_TASK_IN_PROGRESS),
+                new BulkItemResultDto(2, MISSING_ID, BulkItemStatus.NOT_FOUND, MISSING_TASK_NOT_FOUND_MESSAGE))));
+        verify(taskMapper).updateTask(task1, updateTaskDto1);
+        verify(taskMapper, never()).updateTask(task2, updateTaskDto2);
+        verify(taskCacheService).evict(ID_1);
+        verify(taskCacheService, never()).evict(ID_2);
+        verify(taskReplicationLogService).recordChange(ID_1);
+        verify(taskReplicationLogService, never()).recordChange(ID_2);
+    }
+
+    @Test
+    public void shouldRollBackOnlyItemsConflictingOnFlushOfMixedBatch() {
+        var updateTaskDto = new UpdateTaskDto(null, TITLE, DESCRIPTION, null);
+        when(taskRepository.findById(ID_1)).thenReturn(Optional.of(task1));
+        when(taskRepository.findById(ID_2)).thenReturn(Optional.of(task2));
+        when(taskRepository.saveAndFlush(task2)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, ID_2));
+        when(taskRepository.saveAndFlush(task1))
+                .thenReturn(task1)
+                .thenThrow(new DataIntegrityViolationException(UNIQUE_IN_PROGRESS_VIOLATION));
+
+        var result = testingInstance.updateTasks(List.of(new BulkUpdateTaskDto(ID_1, updateTaskDto),
+                new BulkUpdateTaskDto(ID_2, updateTaskDto), new BulkUpdateTaskDto(ID_1, updateTaskDto)));
+
+        assertThat(result, is(List.of(
+                new BulkItemResultDto(0, ID_1, BulkItemStatus.UPDATED, null),
+                new BulkItemResultDto(1, ID_2, BulkItemStatus.CONFLICT, "Task was changed concurrently, id: 2"),
+                new BulkItemResultDto(2, ID_1, BulkItemStatus.CONFLICT, ASSIGNEE_ALREADY_HAS_TASK_IN_PROGRESS))));
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(taskReplicationLogService, times(1)).recordChange(ID_1);
+        verify(taskReplicationLogService, never()).recordChange(ID_2);
+    }
+
+    @Test
+    public void shouldDeleteExistingTasksAndReportMissingOnes() {
+        when(taskRepository.findStatesByIdIn(Set.of(ID_1, MISSING_ID))).thenReturn(List.of(taskState(PAUSED_TASK_STATUS)));
+
+        var result = testingInstance.deleteTasks(List.of(ID_1, MISSING_ID));
+
+        verify(taskRepository).deleteAllByIdInBatch(Set.of(ID_1));
+        verify(taskCacheService).evictAll(Set.of(ID_1));
+        verify(taskReplicationLogService).recordChanges(Set.of(ID_1));
+        verify(assigneeSummaryService).recordChange(taskState(PAUSED_TASK_STATUS), null);
+        assertThat(result, is(List.of(
+                new BulkItemResultDto(0, ID_1, BulkItemStatus.DELETED, null),
+                new BulkItemResultDto(1, MISSING_ID, BulkItemStatus.NOT_FOUND, MISSING_TASK_NOT_FOUND_MESSAGE))));
+    }
+
+    private void runHedgedReads() {
+        when(hedgedReadService.read(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    private void runLockedActions() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(assigneeLockService).runLocked(eq(ASSIGNEE_ID_1), any(Runnable.class));
+    }
+
+    private static TaskState taskState(final TaskStatus status) {
+        return new TaskState(ID_1, ASSIGNEE_ID_1, status, Duration.ZERO, null);
     }
-}
\ No newline at end of file
+}
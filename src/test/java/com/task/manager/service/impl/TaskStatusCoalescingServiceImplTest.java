@@ -0,0 +1,270 @@
+package com.task.manager.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.task.manager.config.properties.TaskStatusCoalescingProperties;
+import com.task.manager.domain.CoalescedTransition;
+import com.task.manager.domain.TaskCollectionVersion;
+import com.task.manager.domain.TaskState;
+import com.task.manager.domain.TaskStatus;
+import com.task.manager.domain.TaskVersion;
+import com.task.manager.dto.TaskDto;
+import com.task.manager.repository.TaskRepository;
+import com.task.manager.service.AssigneeSummaryService;
+import com.task.manager.service.TaskCacheService;
+import com.task.manager.service.TaskChangeFeedService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatusCoalescingServiceImplTest {
+
+    private static final Long ID_1 = 1L;
+    private static final Long ID_2 = 2L;
+    private static final Long ASSIGNEE_ID_1 = 10L;
+    private static final Long ASSIGNEE_ID_2 = 20L;
+    private static final Long VERSION = 5L;
+    private static final Duration TIME_SPENT = Duration.ofHours(2);
+    private static final Duration ELAPSED = Duration.ofHours(1);
+    private static final String WRITES_COUNTER = "task.status.coalescing.writes";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCacheService taskCacheService;
+
+    @Mock
+    private AssigneeSummaryService assigneeSummaryService;
+
+    @Mock
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<CoalescedTransition>> transitionsCaptor;
+
+    private TaskStatusCoalescingProperties taskStatusCoalescingProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private TaskStatusCoalescingServiceImpl testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        taskStatusCoalescingProperties = new TaskStatusCoalescingProperties();
+        taskStatusCoalescingProperties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+
+        testingInstance = new TaskStatusCoalescingServiceImpl(taskStatusCoalescingProperties, taskRepository,
+                taskCacheService, assigneeSummaryService, taskChangeFeedService, transactionManager, meterRegistry);
+    }
+
+    @Test
+    public void shouldNotCoalesceWhenDisabled() {
+        taskStatusCoalescingProperties.setEnabled(false);
+
+        var result = testingInstance.coalesce(inProgressTask(ID_1, ASSIGNEE_ID_1), TaskStatus.PAUSED);
+
+        assertThat(result, is(false));
+        assertThat(testingInstance.getPendingState(ID_1).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldFoldPauseAndRestartOfTaskInProgressAddingTimeInProgress() {
+        var storedState = inProgressTask(ID_1, ASSIGNEE_ID_1);
+
+        var paused = testingInstance.coalesce(storedState, TaskStatus.PAUSED);
+        var pausedState = testingInstance.getPendingState(ID_1).orElseThrow();
+        var restarted = testingInstance.coalesce(pausedState, TaskStatus.IN_PROGRESS);
+        var restartedState = testingInstance.getPendingState(ID_1).orElseThrow();
+
+        assertThat(paused, is(true));
+        assertThat(restarted, is(true));
+        assertThat(pausedState.getStatus(), is(TaskStatus.PAUSED));
+        assertThat(pausedState.getTimeSpent(), greaterThanOrEqualTo(TIME_SPENT.plus(ELAPSED)));
+        assertThat(restartedState.getStatus(), is(TaskStatus.IN_PROGRESS));
+        assertThat(restartedState.getTimeSpent(), is(pausedState.getTimeSpent()));
+        assertThat(restartedState.getStartedAt(), greaterThanOrEqualTo(storedState.getStartedAt().plus(ELAPSED)));
+        verifyNoInteractions(taskRepository, taskCacheService);
+    }
+
+    @Test
+    public void shouldNotStartCoalescingWithRestartOfPausedTask() {
+        var taskState = new TaskState(ID_1, ASSIGNEE_ID_1, TaskStatus.PAUSED, TIME_SPENT, null);
+
+        var result = testingInstance.coalesce(taskState, TaskStatus.IN_PROGRESS);
+
+        assertThat(result, is(false));
+        assertThat(testingInstance.getPendingState(ID_1).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldNotCoalesceTransitionOtherThanPauseOrRestart() {
+        var taskState = inProgressTask(ID_1, ASSIGNEE_ID_1);
+        testingInstance.coalesce(taskState, TaskStatus.PAUSED);
+
+        var result = testingInstance.coalesce(testingInstance.getPendingState(ID_1).orElseThrow(), TaskStatus.DONE);
+
+        assertThat(result, is(false));
+        assertThat(testingInstance.getPendingState(ID_1).orElseThrow().getStatus(), is(TaskStatus.PAUSED));
+    }
+
+    @Test
+    public void shouldWriteNetResultOfCoalescedTransitionsInIdOrder() {
+        var storedState1 = inProgressTask(ID_1, ASSIGNEE_ID_1);
+        var storedState2 = inProgressTask(ID_2, ASSIGNEE_ID_2);
+        testingInstance.coalesce(storedState2, TaskStatus.PAUSED);
+        testingInstance.coalesce(storedState1, TaskStatus.PAUSED);
+        var pausedState1 = testingInstance.getPendingState(ID_1).orElseThrow();
+        testingInstance.coalesce(pausedState1, TaskStatus.IN_PROGRESS);
+        var restartedState1 = testingInstance.getPendingState(ID_1).orElseThrow();
+        var pausedState2 = testingInstance.getPendingState(ID_2).orElseThrow();
+        when(taskRepository.applyCoalescedTransitions(anyList())).thenReturn(List.of(ID_1, ID_2));
+
+        var result = testingInstance.flush();
+
+        assertThat(result, is(2));
+        verify(taskRepository).applyCoalescedTransitions(transitionsCaptor.capture());
+        var transitions = transitionsCaptor.getValue();
+        assertThat(transitions.size(), is(2));
+        assertThat(transitions.get(0).getStoredState(), is(storedState1));
+        assertThat(transitions.get(0).getState(), is(restartedState1));
+        assertThat(transitions.get(0).getTransitions(), is(2));
+        assertThat(transitions.get(1).getStoredState(), is(storedState2));
+        assertThat(transitions.get(1).getTransitions(), is(1));
+        verify(taskCacheService).evict(ID_1);
+        verify(taskCacheService).evict(ID_2);
+        verify(assigneeSummaryService).recordChange(storedState1, restartedState1);
+        verify(taskChangeFeedService).publishChange(storedState2, pausedState2);
+        assertThat(testingInstance.getPendingState(ID_1).isPresent(), is(false));
+        assertThat(testingInstance.getPendingState(ID_2).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldRecordWrittenChangesBeforeWriteTransactionCommits() {
+        var storedState = inProgressTask(ID_1, ASSIGNEE_ID_1);
+        testingInstance.coalesce(storedState, TaskStatus.PAUSED);
+        var pausedState = testingInstance.getPendingState(ID_1).orElseThrow();
+        when(taskRepository.applyCoalescedTransitions(anyList())).thenReturn(List.of(ID_1));
+
+        testingInstance.flush();
+
+        var inOrder = inOrder(taskRepository, assigneeSummaryService, taskChangeFeedService, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(taskRepository).applyCoalescedTransitions(anyList());
+        inOrder.verify(assigneeSummaryService).recordChange(storedState, pausedState);
+        inOrder.verify(taskChangeFeedService).publishChange(storedState, pausedState);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void shouldDropCoalescedTransitionsOfTaskChangedElsewhere() {
+        testingInstance.coalesce(inProgressTask(ID_1, ASSIGNEE_ID_1), TaskStatus.PAUSED);
+        when(taskRepository.applyCoalescedTransitions(anyList())).thenReturn(List.of());
+
+        var result = testingInstance.flush();
+
+        assertThat(result, is(0));
+        verify(taskCacheService).evict(ID_1);
+        verifyNoInteractions(assigneeSummaryService, taskChangeFeedService);
+        assertThat(testingInstance.getPendingState(ID_1).isPresent(), is(false));
+        assertThat(meterRegistry.counter(WRITES_COUNTER, "result", "conflict").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldKeepCoalescedTransitionsWhenWriteFails() {
+        testingInstance.coalesce(inProgressTask(ID_1, ASSIGNEE_ID_1), TaskStatus.PAUSED);
+        when(taskRepository.applyCoalescedTransitions(anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(() -> testingInstance.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(testingInstance.getPendingState(ID_1).orElseThrow().getStatus(), is(TaskStatus.PAUSED));
+        verify(taskCacheService, never()).evict(any());
+        assertThat(meterRegistry.counter(WRITES_COUNTER, "result", "failed").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldWriteOnlyCoalescedTransitionsOfAssignee() {
+        testingInstance.coalesce(inProgressTask(ID_1, ASSIGNEE_ID_1), TaskStatus.PAUSED);
+        testingInstance.coalesce(inProgressTask(ID_2, ASSIGNEE_ID_2), TaskStatus.PAUSED);
+        when(taskRepository.applyCoalescedTransitions(anyList())).thenReturn(List.of(ID_1));
+
+        var flushed = testingInstance.flushAssignee(ASSIGNEE_ID_1);
+        var flushedAgain = testingInstance.flushAssignee(ASSIGNEE_ID_1);
+
+        assertThat(flushed, is(true));
+        assertThat(flushedAgain, is(false));
+        verify(taskRepository).applyCoalescedTransitions(transitionsCaptor.capture());
+        assertThat(transitionsCaptor.getValue().size(), is(1));
+        assertThat(testingInstance.getPendingState(ID_1).isPresent(), is(false));
+        assertThat(testingInstance.getPendingState(ID_2).isPresent(), is(true));
+    }
+
+    @Test
+    public void shouldApplyCoalescedTransitionsToTaskAndVersionReadFromStore() {
+        testingInstance.coalesce(inProgressTask(ID_1, ASSIGNEE_ID_1), TaskStatus.PAUSED);
+        var pausedState = testingInstance.getPendingState(ID_1).orElseThrow();
+        var taskDto = new TaskDto();
+        taskDto.setId(ID_1);
+        taskDto.setStatus(TaskStatus.IN_PROGRESS);
+        var taskVersion = new TaskVersion(TaskStatus.IN_PROGRESS, VERSION, Instant.EPOCH);
+
+        testingInstance.applyPendingChange(taskDto);
+        testingInstance.applyPendingChange(ID_1, taskVersion);
+
+        assertThat(taskDto.getStatus(), is(TaskStatus.PAUSED));
+        assertThat(taskDto.getTimeSpentMillis(), is(pausedState.getTimeSpent().toMillis()));
+        assertThat(taskVersion.getStatus(), is(TaskStatus.PAUSED));
+        assertThat(taskVersion.getVersion(), is(VERSION + 1));
+        assertThat(taskDto.getUpdatedAt(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldMoveCollectionVersionToLatestTransitionNotWrittenYetOfTasksAfterCursorOfAssignee() {
+        var coalescedFrom = Instant.now();
+        testingInstance.coalesce(inProgressTask(ID_1, ASSIGNEE_ID_1), TaskStatus.PAUSED);
+        testingInstance.coalesce(inProgressTask(ID_2, ASSIGNEE_ID_2), TaskStatus.PAUSED);
+        var versionOfAssignee1AfterCursor = new TaskCollectionVersion(1L, Instant.EPOCH);
+        var versionOfAssignee2 = new TaskCollectionVersion(1L, Instant.EPOCH);
+        var versionOfAssignee2AfterCursor = new TaskCollectionVersion(1L, null);
+
+        testingInstance.applyPendingChanges(ID_1, ASSIGNEE_ID_1, versionOfAssignee1AfterCursor);
+        testingInstance.applyPendingChanges(null, ASSIGNEE_ID_2, versionOfAssignee2);
+        testingInstance.applyPendingChanges(ID_1, ASSIGNEE_ID_2, versionOfAssignee2AfterCursor);
+
+        assertThat(versionOfAssignee1AfterCursor.getLastUpdatedAt(), is(Instant.EPOCH));
+        assertThat(versionOfAssignee2.getLastUpdatedAt(), greaterThanOrEqualTo(coalescedFrom));
+        assertThat(versionOfAssignee2AfterCursor.getLastUpdatedAt(), is(versionOfAssignee2.getLastUpdatedAt()));
+    }
+
+    private static TaskState inProgressTask(final Long id, final Long assigneeId) {
+        return new TaskState(id, assigneeId, TaskStatus.IN_PROGRESS, TIME_SPENT, Instant.now().minus(ELAPSED));
+    }
+}
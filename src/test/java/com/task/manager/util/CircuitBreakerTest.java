@@ -0,0 +1,120 @@
+package com.task.manager.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import com.task.manager.config.properties.DataSourceCircuitBreakerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final int MINIMUM_CALLS = 4;
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(5);
+    private static final Duration MAX_OPEN_DURATION = Duration.ofSeconds(15);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private CircuitBreaker testingInstance;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new DataSourceCircuitBreakerProperties();
+        properties.setFailureRateThreshold(50);
+        properties.setMinimumCalls(MINIMUM_CALLS);
+        properties.setWindow(WINDOW);
+        properties.setWindowBuckets(10);
+        properties.setOpenDuration(OPEN_DURATION);
+        properties.setBackoffMultiplier(2.0);
+        properties.setMaxOpenDuration(MAX_OPEN_DURATION);
+
+        testingInstance = new CircuitBreaker(properties, nanoTime::get);
+    }
+
+    @Test
+    public void shouldNotOpenBeforeMinimumCalls() {
+        IntStream.range(0, MINIMUM_CALLS - 1).forEach(call -> testingInstance.recordFailure());
+
+        assertThat(testingInstance.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(testingInstance.isCallPermitted(), is(true));
+    }
+
+    @Test
+    public void shouldOpenWhenFailureRateReachesThreshold() {
+        testingInstance.recordSuccess();
+        testingInstance.recordSuccess();
+        testingInstance.recordFailure();
+
+        var opened = testingInstance.recordFailure();
+
+        assertThat(opened, is(true));
+        assertThat(testingInstance.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(testingInstance.isCallPermitted(), is(false));
+    }
+
+    @Test
+    public void shouldForgetCallsOlderThanWindow() {
+        IntStream.range(0, MINIMUM_CALLS - 1).forEach(call -> testingInstance.recordFailure());
+        nanoTime.addAndGet(WINDOW.toNanos());
+
+        var opened = testingInstance.recordFailure();
+
+        assertThat(opened, is(false));
+        assertThat(testingInstance.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void shouldProbeOnlyAfterOpenDuration() {
+        open();
+
+        assertThat(testingInstance.tryStartProbe(), is(false));
+
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThat(testingInstance.tryStartProbe(), is(true));
+        assertThat(testingInstance.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        assertThat(testingInstance.tryStartProbe(), is(false));
+    }
+
+    @Test
+    public void shouldCloseAfterSuccessfulProbe() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        testingInstance.tryStartProbe();
+
+        testingInstance.onProbeSuccess();
+
+        assertThat(testingInstance.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(testingInstance.recordFailure(), is(false));
+    }
+
+    @Test
+    public void shouldBackOffExponentiallyAfterFailedProbesUpToMaxOpenDuration() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        testingInstance.tryStartProbe();
+
+        testingInstance.onProbeFailure();
+        nanoTime.addAndGet(OPEN_DURATION.multipliedBy(2).toNanos() - 1);
+
+        assertThat(testingInstance.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(testingInstance.tryStartProbe(), is(false));
+
+        nanoTime.incrementAndGet();
+        assertThat(testingInstance.tryStartProbe(), is(true));
+
+        testingInstance.onProbeFailure();
+        nanoTime.addAndGet(MAX_OPEN_DURATION.toNanos());
+
+        assertThat(testingInstance.tryStartProbe(), is(true));
+    }
+
+    private void open() {
+        IntStream.range(0, MINIMUM_CALLS).forEach(call -> testingInstance.recordFailure());
+    }
+}
@@ -1,40 +1,88 @@
 package com.task.manager.util;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(MockitoExtension.class)
 class DataSourceContextTest {
 
     private static final String BACKUP = "backup";
-    private static final String MAIN = "main";
+    private static final String REPLICA_PREFIX = "replica-";
+    private static final int POOL_THREADS = 16;
+    private static final int TASKS = 1_000;
+
+    @AfterEach
+    void tearDown() {
+        DataSourceContext.clear();
+    }
+
+    @Test
+    void shouldNotPinDataSourceByDefault() {
+        assertThat(DataSourceContext.getCurrentDataSourceKey(), nullValue());
+    }
 
     @Test
-    void shouldSetGlobalAndLocalToBackupWhenSwitchDataSourceToBackup() {
-        DataSourceContext.switchDataSourceToBackup();
+    void shouldPinDataSourceToCurrentThread() throws InterruptedException {
+        DataSourceContext.setCurrentDataSourceKey(BACKUP);
+
+        var otherThreadKey = new String[1];
+        var otherThread = new Thread(() -> otherThreadKey[0] = DataSourceContext.getCurrentDataSourceKey());
+        otherThread.start();
+        otherThread.join();
 
-        assertThat(DataSourceContext.isGlobalDataSourceBackup(), is(true));
         assertThat(DataSourceContext.getCurrentDataSourceKey(), is(BACKUP));
+        assertThat(otherThreadKey[0], nullValue());
     }
 
     @Test
-    void shouldSetGlobalAndLocalToMainWhenSwitchDataSourceToMain() {
-        DataSourceContext.switchDataSourceToMain();
+    void shouldRemovePinnedDataSourceWhenClearIsCalled() {
+        DataSourceContext.setCurrentDataSourceKey(BACKUP);
+
+        DataSourceContext.clear();
 
-        assertThat(DataSourceContext.isGlobalDataSourceBackup(), is(false));
-        assertThat(DataSourceContext.getCurrentDataSourceKey(), is(MAIN));
+        assertThat(DataSourceContext.getCurrentDataSourceKey(), nullValue());
     }
 
+    /**
+     * Many more tasks than pool threads, so every thread runs tasks one after another and a key not cleared by one
+     * task would leak into the next.
+     */
     @Test
-    void shouldRemoveLocalDataSourceTypeButNotRemoveGlobalDataSourceTypeWhenClearIsCalled() {
-        DataSourceContext.switchDataSourceToBackup();
+    void shouldPinDataSourceToEachTaskOfPooledThreads() {
+        var executor = Executors.newFixedThreadPool(POOL_THREADS);
+        var leakedKeys = new AtomicInteger();
 
-        DataSourceContext.clear();
+        try {
+            var pinnedKeys = IntStream.range(0, TASKS)
+                    .mapToObj(index -> CompletableFuture.supplyAsync(() -> {
+                        if (DataSourceContext.getCurrentDataSourceKey() != null) {
+                            leakedKeys.incrementAndGet();
+                        }
+                        DataSourceContext.setCurrentDataSourceKey(REPLICA_PREFIX + index);
+                        Thread.yield();
+                        var pinnedKey = DataSourceContext.getCurrentDataSourceKey();
+                        DataSourceContext.clear();
+                        return pinnedKey;
+                    }, executor))
+                    .toList();
 
-        assertThat(DataSourceContext.getCurrentDataSourceKey(), is(BACKUP));
+            IntStream.range(0, TASKS)
+                    .forEach(index -> assertThat(pinnedKeys.get(index).join(), is(REPLICA_PREFIX + index)));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(leakedKeys.get(), is(0));
+        assertThat(DataSourceContext.getCurrentDataSourceKey(), nullValue());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.task.manager.util;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TimeSpentFormatterTest {
+
+    private static final String PATTERN = "HH:mm:ss";
+    private static final long[] TIME_SPENT_MILLIS = {0, 999, 1000, 59_999, 60_000, 3_599_999, 3_600_000, 35_999_999,
+            360_000_000, 3_600_000_000L};
+
+    @Test
+    public void shouldFormatSameAsDurationFormatUtils() {
+        for (long millis : TIME_SPENT_MILLIS) {
+            assertThat(TimeSpentFormatter.format(millis), is(DurationFormatUtils.formatDuration(millis, PATTERN)));
+        }
+    }
+
+    @Test
+    public void shouldFormatHoursMinutesAndSeconds() {
+        var millis = Duration.ofHours(123).plusMinutes(4).plusSeconds(5).plusMillis(678).toMillis();
+
+        assertThat(TimeSpentFormatter.format(millis), is("123:04:05"));
+    }
+
+    @Test
+    public void shouldFormatNegativeTimeSpentAsZero() {
+        assertThat(TimeSpentFormatter.format(-1000), is("00:00:00"));
+    }
+}